@@ -0,0 +1,261 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class io_jans_cedarling_bridge_Cedarling */
+
+#ifndef _Included_io_jans_cedarling_bridge_Cedarling
+#define _Included_io_jans_cedarling_bridge_Cedarling
+#ifdef __cplusplus
+extern "C" {
+#endif
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    initJniCache
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_initJniCache
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    createNativeCedarling
+ * Signature: (Lio/jans/cedarling/bridge/config/BootstrapConfiguration;ZIZ)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_createNativeCedarling
+  (JNIEnv *, jobject, jobject, jboolean, jint, jboolean);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeAuthorize
+ * Signature: (Lio/jans/cedarling/bridge/authz/AuthorizeRequest;)Lio/jans/cedarling/bridge/authz/AuthorizeResult;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorize
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeAuthorizeUnsigned
+ * Signature: (Lio/jans/cedarling/bridge/authz/AuthorizeRequestUnsigned;)Lio/jans/cedarling/bridge/authz/AuthorizeResult;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeUnsigned
+  (JNIEnv *, jobject, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeMemoryUsage
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeMemoryUsage
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    attachNativeShadow
+ * Signature: (Lio/jans/cedarling/bridge/config/BootstrapConfiguration;DII)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_attachNativeShadow
+  (JNIEnv *, jobject, jobject, jdouble, jint, jint);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeShadowReport
+ * Signature: ()Lio/jans/cedarling/bridge/shadow/ShadowReport;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeShadowReport
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    rotateNativeJwks
+ * Signature: (Ljava/lang/String;[Ljava/lang/String;)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_rotateNativeJwks
+  (JNIEnv *, jobject, jstring, jobjectArray);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    registerNativeTenant
+ * Signature: (Ljava/lang/String;Lio/jans/cedarling/bridge/config/BootstrapConfiguration;)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_registerNativeTenant
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    registerNativeTenants
+ * Signature: ([Ljava/lang/String;[Lio/jans/cedarling/bridge/config/BootstrapConfiguration;I)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_registerNativeTenants
+  (JNIEnv *, jobject, jobjectArray, jobjectArray, jint);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    unregisterNativeTenant
+ * Signature: (Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_jans_cedarling_bridge_Cedarling_unregisterNativeTenant
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeTenants
+ * Signature: ()[Ljava/lang/String;
+ */
+JNIEXPORT jobjectArray JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeTenants
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeTenantMemoryUsage
+ * Signature: (Ljava/lang/String;)Lio/jans/cedarling/bridge/stats/TenantMemoryUsage;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeTenantMemoryUsage
+  (JNIEnv *, jobject, jstring);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeTenantEngineCount
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeTenantEngineCount
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeAuthorizeTenant
+ * Signature: (Ljava/lang/String;Lio/jans/cedarling/bridge/authz/AuthorizeRequest;)Lio/jans/cedarling/bridge/authz/AuthorizeResult;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeTenant
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeAuthorizeTenantUnsigned
+ * Signature: (Ljava/lang/String;Lio/jans/cedarling/bridge/authz/AuthorizeRequestUnsigned;)Lio/jans/cedarling/bridge/authz/AuthorizeResult;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeTenantUnsigned
+  (JNIEnv *, jobject, jstring, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    configureNativeNegativeCache
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_configureNativeNegativeCache
+  (JNIEnv *, jobject, jlong, jint);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeNegativeCacheStatistics
+ * Signature: ()Lio/jans/cedarling/bridge/stats/NegativeCacheStatistics;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeNegativeCacheStatistics
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeLoadStatusList
+ * Signature: (Ljava/lang/String;Ljava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeLoadStatusList
+  (JNIEnv *, jobject, jstring, jstring);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeStatusListFetchFailed
+ * Signature: ()V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeStatusListFetchFailed
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeReleaseStatusList
+ * Signature: (Ljava/lang/String;J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeReleaseStatusList
+  (JNIEnv *, jobject, jstring, jlong);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativePendingStatusLists
+ * Signature: ()[Ljava/lang/String;
+ */
+JNIEXPORT jobjectArray JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativePendingStatusLists
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeStatusListStatistics
+ * Signature: ()Lio/jans/cedarling/bridge/stats/StatusListStatistics;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeStatusListStatistics
+  (JNIEnv *, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativePolicyStatistics
+ * Signature: (Z)Lio/jans/cedarling/bridge/stats/PolicyStatistics;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativePolicyStatistics
+  (JNIEnv *, jobject, jboolean);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeStartupTimings
+ * Signature: (J)Lio/jans/cedarling/bridge/stats/StartupTimings;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeStartupTimings
+  (JNIEnv *, jobject, jlong);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeTotalMemoryUsage
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeTotalMemoryUsage
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeMemoryAccounted
+ * Signature: ()Z
+ */
+JNIEXPORT jboolean JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeMemoryAccounted
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    releaseNativeCedarling
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_releaseNativeCedarling
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    openNativeSession
+ * Signature: (Lio/jans/cedarling/bridge/TokenSession;[Ljava/lang/String;[Ljava/lang/String;Lio/jans/cedarling/bridge/config/PolicyStoreConfiguration;)J
+ */
+JNIEXPORT jlong JNICALL Java_io_jans_cedarling_bridge_Cedarling_openNativeSession
+  (JNIEnv *, jobject, jobject, jobjectArray, jobjectArray, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    nativeAuthorizeSession
+ * Signature: (Lio/jans/cedarling/bridge/TokenSession;Lio/jans/cedarling/bridge/authz/AuthorizeRequestUnsigned;)Lio/jans/cedarling/bridge/authz/AuthorizeResult;
+ */
+JNIEXPORT jobject JNICALL Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeSession
+  (JNIEnv *, jobject, jobject, jobject);
+
+/*
+ * Class:     io_jans_cedarling_bridge_Cedarling
+ * Method:    releaseNativeSession
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_io_jans_cedarling_bridge_Cedarling_releaseNativeSession
+  (JNIEnv *, jclass, jlong);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
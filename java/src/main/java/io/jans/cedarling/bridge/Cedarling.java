@@ -8,14 +8,69 @@
 package io.jans.cedarling.bridge;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import io.jans.cedarling.bridge.config.BootstrapConfiguration;
+import io.jans.cedarling.bridge.config.CedarlingConfigurationError;
+import io.jans.cedarling.bridge.config.CoalescingConfiguration;
+import io.jans.cedarling.bridge.config.ConcurrencyLimitConfiguration;
+import io.jans.cedarling.bridge.config.EngineMode;
+import io.jans.cedarling.bridge.config.JwksRotationConfiguration;
+import io.jans.cedarling.bridge.config.JwtConfiguration;
+import io.jans.cedarling.bridge.config.NegativeCacheConfiguration;
+import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
+import io.jans.cedarling.bridge.config.PolicyStoreSource;
+import io.jans.cedarling.bridge.config.ShadowConfiguration;
+import io.jans.cedarling.bridge.config.SlowRequestCaptureConfiguration;
+import io.jans.cedarling.bridge.config.StatusListConfiguration;
+import io.jans.cedarling.bridge.config.TokenPreCheckConfiguration;
+import io.jans.cedarling.bridge.config.TrafficRecordingConfiguration;
+import io.jans.cedarling.bridge.capture.CapturedRequest;
+import io.jans.cedarling.bridge.capture.SlowRequestCapture;
+import io.jans.cedarling.bridge.capture.TrafficRecorder;
 import io.jans.cedarling.bridge.authz.*;
+import io.jans.cedarling.bridge.concurrency.AdaptiveConcurrencyLimiter;
+import io.jans.cedarling.bridge.concurrency.AuthorizationCall;
+import io.jans.cedarling.bridge.concurrency.ConcurrencyLimiterMetrics;
+import io.jans.cedarling.bridge.concurrency.RequestCoalescer;
+import io.jans.cedarling.bridge.concurrency.RequestKeys;
+import io.jans.cedarling.bridge.jwks.JwksRotation;
+import io.jans.cedarling.bridge.shadow.ShadowReport;
+import io.jans.cedarling.bridge.stats.NegativeCacheStatistics;
+import io.jans.cedarling.bridge.stats.PolicyStatistics;
+import io.jans.cedarling.bridge.stats.StartupTimings;
+import io.jans.cedarling.bridge.stats.StatusListStatistics;
+import io.jans.cedarling.bridge.stats.TenantMemoryUsage;
+import io.jans.cedarling.bridge.status.StatusListFetcher;
+import io.jans.cedarling.bridge.util.Constraints;
+import io.jans.cedarling.bridge.util.NativeLibraryLoader;
+import io.jans.cedarling.bridge.warmup.WarmUpResult;
+import io.jans.cedarling.bridge.warmup.WarmUpRunner;
+import io.jans.cedarling.bridge.warmup.WarmUpSpec;
 
 /**
  * Encapsulates the Cedarling engine and marshalls data between the Java and the Rust components of the library
  *  <p>
  *      This is the heart of the library. 
- *      <br/>Implicitly , this class loads the rust library by calling {@link java.lang.System#loadLibrary(String)}
+ *      <br/>Implicitly , this class loads the rust library using {@link io.jans.cedarling.bridge.util.NativeLibraryLoader#load(String)}
+ * </p>
+ * <p>
+ *      Native resources held by an instance are released by {@link io.jans.cedarling.bridge.Cedarling#close()}. 
+ *      <br/>Instances which are never closed have their native resources released once they become unreachable, 
+ *      through a {@link java.lang.ref.Cleaner} action. Relying on the latter is discouraged, as there is no guarantee 
+ *      as to when it will run.
  * </p>
  */
 public class Cedarling implements Closeable {
@@ -23,11 +78,28 @@ public class Cedarling implements Closeable {
     private static boolean initialized = false;
 
     private static final String LIBRARY_NAME = "cedarling4j";
+    private static final Cleaner CLEANER = Cleaner.create();
+
     private long cedarlingRef = 0;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private boolean closed = false;
+    private Cleaner.Cleanable cleanable;
+    private NativeResourceReleaser releaser;
+    private final RequestCoalescer<String,AuthorizeResult> coalescer;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Boolean fallbackDecision;
+    private final SlowRequestCapture slowRequests;
+    private final TrafficRecorder recorder;
+    private final TokenPreCheck tokenPreCheck;
+    private final BootstrapConfiguration bootstrapConfig;
+    private final JwksRotation jwksRotation;
+    private final StatusListFetcher statusLists;
+    private final int startupThreads;
+    private final long constructionNanos;
 
     static {
 
-        System.loadLibrary(LIBRARY_NAME);
+        NativeLibraryLoader.load(LIBRARY_NAME);
         initJniCache();
     }
 
@@ -38,16 +110,118 @@ public class Cedarling implements Closeable {
      */
     public Cedarling(final BootstrapConfiguration config) throws CedarlingError {
 
-        createNativeCedarling(config);
+        final long start = System.nanoTime();
+        final ConcurrencyLimitConfiguration limitconfig = (config == null ? null : config.getConcurrencyLimitConfiguration());
+        coalescer = newCoalescer(config == null ? null : config.getCoalescingConfiguration());
+        limiter = newLimiter(limitconfig);
+        fallbackDecision = (limitconfig == null ? null : limitconfig.getFallbackDecision());
+        slowRequests = newSlowRequestCapture(config == null ? null : config.getSlowRequestCaptureConfiguration());
+        tokenPreCheck = newTokenPreCheck(config == null ? null : config.getTokenPreCheckConfiguration());
+
+        final ShadowConfiguration shadowconfig = (config == null ? null : config.getShadowConfiguration());
+        validateShadowConfiguration(shadowconfig);
+        final NegativeCacheConfiguration negativecacheconfig = (config == null ? null : config.getNegativeCacheConfiguration());
+        validateNegativeCacheConfiguration(negativecacheconfig);
+        startupThreads = startupThreads(config);
+
+        bootstrapConfig = withWatchedJwks(config);
+        validateJwksRotation(bootstrapConfig);
+        createNativeCedarling(bootstrapConfig,config != null && config.getEngineMode() == EngineMode.NOOP,startupThreads,
+            bootstrapConfig != null && bootstrapConfig.getJwksRotationConfiguration() != null);
+        releaser = new NativeResourceReleaser(cedarlingRef);
+        cleanable = CLEANER.register(this,releaser);
+        if(shadowconfig != null) {
+            attachShadow(bootstrapConfig,shadowconfig);
+        }
+        if(negativecacheconfig != null && negativecacheconfig.isEnabled()) {
+            configureNegativeCache(negativecacheconfig);
+        }
+        try {
+            jwksRotation = newJwksRotation(bootstrapConfig,new WeakReference<>(this));
+            releaser.attach(jwksRotation);
+            statusLists = newStatusListFetcher(bootstrapConfig,new WeakReference<>(this));
+            releaser.attach(statusLists);
+            recorder = newRecorder(config.getTrafficRecordingConfiguration());
+            releaser.attach(recorder);
+        }catch(CedarlingConfigurationError e) {
+            close();
+            throw e;
+        }
+        constructionNanos = System.nanoTime() - start;
     }
 
     /**
-     * {@inheritDoc}
+     * Releases the native resources held by this instance
+     * <p>
+     *  This method waits for authorization calls in progress to complete and can safely be called
+     *  more than once. Any call made on the instance after it's closed fails with a {@link io.jans.cedarling.bridge.CedarlingError}.
+     * </p>
      */
     @Override
     public void close() {
         
-        cleanupCedarling();
+        lifecycleLock.writeLock().lock();
+        try {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            // the JWKS rotation, the status list fetcher and the traffic recorder are closed along with the native instance
+            cleanable.clean();
+            cedarlingRef = 0;
+        }finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of native memory held by this instance
+     * <p>
+     *  This is the number of bytes allocated by the rust library while building this instance or evaluating 
+     *  requests against it, and not released yet (engine, policy store, in memory logs). 
+     *  Allocations made by threads internal to the cedarling engine are not accounted for. 
+     *  Memory is only accounted for by rust libraries built with memory accounting (see {@link #isNativeMemoryAccounted()}).
+     * </p>
+     * @return the native memory held by this instance in bytes, or {@code 0} if the instance is closed 
+     *  or memory is not accounted for
+     * @throws io.jans.cedarling.bridge.CedarlingError if an error occurs in the Rust bridge
+     */
+    public long getNativeMemoryUsage() throws CedarlingError {
+
+        lifecycleLock.readLock().lock();
+        try {
+            if(closed) {
+                return 0;
+            }
+            return nativeMemoryUsage();
+        }finally {
+            lifecycleLock.readLock().unlock();
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * Gets the amount of native memory held by the rust library, across all instances
+     * @return the native memory held by the library in bytes, or {@code 0} if memory is not accounted for
+     */
+    public static long getTotalNativeMemoryUsage() {
+
+        return nativeTotalMemoryUsage();
+    }
+
+    /**
+     * Tells whether the rust library accounts for the native memory it holds
+     * <p>
+     *  Accounting counts every native allocation, which has a cost on every request. It's enabled by building 
+     *  the rust library with the {@code memory-accounting} cargo feature. Without it, the native memory usage 
+     *  reported by {@link #getNativeMemoryUsage()}, {@link #getTotalNativeMemoryUsage()}, 
+     *  {@link #getTenantMemoryUsage(String)} and {@link #startupTimings()} is always {@code 0}.
+     * </p>
+     * @return {@code true} if native memory is accounted for
+     */
+    public static boolean isNativeMemoryAccounted() {
+
+        return nativeMemoryAccounted();
     }
 
     private static native void initJniCache();
@@ -58,11 +232,45 @@ public class Cedarling implements Closeable {
      *  This is the standard (token-based) interface where the Principal is derived
      *  from a signed JWT.
      * </p>
+     * <p>
+     *  When request coalescing is enabled (see {@link io.jans.cedarling.bridge.config.CoalescingConfiguration}), 
+     *  identical concurrent requests share a single evaluation and the same result object.
+     *  <br/>When a concurrency limit is configured (see {@link io.jans.cedarling.bridge.config.ConcurrencyLimitConfiguration}),
+     *  requests exceeding it are rejected with a {@link io.jans.cedarling.bridge.authz.CedarlingOverloadError} or 
+     *  answered with a fallback result.
+     *  <br/>Requests with a deadline (see {@link io.jans.cedarling.bridge.authz.AuthorizeRequest.Builder#deadline(java.time.Instant)})
+     *  fail with a {@link io.jans.cedarling.bridge.authz.CedarlingTimeoutError} once the deadline passes.
+     *  <br/>When slow request capture is configured (see {@link io.jans.cedarling.bridge.config.SlowRequestCaptureConfiguration}),
+     *  requests exceeding the latency threshold are captured for offline replay (see {@link #getSlowRequests()}).
+     *  <br/>When traffic recording is configured (see {@link io.jans.cedarling.bridge.config.TrafficRecordingConfiguration}),
+     *  every request is appended to the instance's request log.
+     *  <br/>When the token pre-check is configured (see {@link io.jans.cedarling.bridge.config.TokenPreCheckConfiguration}),
+     *  requests with malformed, expired or not yet valid tokens fail with a {@link io.jans.cedarling.bridge.authz.CedarlingTokenRejectedError}
+     *  before anything else happens.
+     * </p>
      * @param request io.jans.cedarling.bridge.authz.AuthorizeRequest the authorization request with signed JWT tokens 
      * @return The authorization result containing details about the success or failure of the operation
      * @throws io.jans.cedarling.bridge.CedarlingError If the authorization request is null or invalid or an error occurs in the Rust bridge
      */
-    public native AuthorizeResult authorize(final AuthorizeRequest request) throws CedarlingError;
+    public AuthorizeResult authorize(final AuthorizeRequest request) throws CedarlingError {
+
+        if(tokenPreCheck != null && request != null) {
+            tokenPreCheck.check(request.getTokens(),System.currentTimeMillis() / 1000);
+        }
+        final AuthorizationCall<AuthorizeResult> call = () -> limited(() -> guarded(() -> {
+            Deadlines.ensureNotExpired(request == null ? null : request.getDeadline());
+            return nativeAuthorize(request);
+        }));
+        // a request with a deadline is evaluated on its own, it can't share the outcome of a call made with another deadline
+        final AuthorizationCall<AuthorizeResult> coalesced = (coalescer == null || request == null || request.getDeadline() != null) ? call 
+            : () -> coalescer.execute(RequestKeys.of(request),call);
+        final AuthorizationCall<AuthorizeResult> captured = (slowRequests == null || request == null) ? coalesced
+            : () -> slowRequests.execute(request,coalesced);
+        if(recorder == null || request == null) {
+            return captured.call();
+        }
+        return recorder.execute(request,captured);
+    }
 
     /**
      * Evaluates an authorization request with the principal specified as a key value pair (no signed JWT)
@@ -74,8 +282,812 @@ public class Cedarling implements Closeable {
      * @return The authorization result containing details about the success or failure of the operation
      * @throws io.jans.cedarling.bridge.CedarlingError If the authorization request is null or invalid or an error occurs in the Rust bridge 
      */
-    public native AuthorizeResult authorizeUnsigned(final AuthorizeRequestUnsigned request) throws CedarlingError;
+    public AuthorizeResult authorizeUnsigned(final AuthorizeRequestUnsigned request) throws CedarlingError {
+
+        final AuthorizationCall<AuthorizeResult> call = () -> limited(() -> guarded(() -> {
+            Deadlines.ensureNotExpired(request == null ? null : request.getDeadline());
+            return nativeAuthorizeUnsigned(request);
+        }));
+        // a request with a deadline is evaluated on its own, it can't share the outcome of a call made with another deadline
+        final AuthorizationCall<AuthorizeResult> coalesced = (coalescer == null || request == null || request.getDeadline() != null) ? call 
+            : () -> coalescer.execute(RequestKeys.of(request),call);
+        final AuthorizationCall<AuthorizeResult> captured = (slowRequests == null || request == null) ? coalesced
+            : () -> slowRequests.execute(request,coalesced);
+        if(recorder == null || request == null) {
+            return captured.call();
+        }
+        return recorder.execute(request,captured);
+    }
+
+    /**
+     * Opens a session on a set of signed tokens
+     * <p>
+     *  The tokens are decoded and validated once, with this instance's JWT configuration, and the principals 
+     *  derived from them are kept with the session: the workload from the {@code access_token} and the user from 
+     *  the {@code id_token} and {@code userinfo_token}, when the entity builder configuration builds them.
+     *  Signature validation requires the JWT configuration to hold the issuers' keys (see 
+     *  {@link io.jans.cedarling.bridge.config.JwtConfiguration#setJwks(String)}), as keys are not fetched for sessions.
+     *  With signature validation, each token must have an {@code exp} claim and be issued by one of the policy store's
+     *  trusted issuers, which rules out sessions on policy stores served by a Lock server. The trusted issuers are 
+     *  read from the policy store when the first session is opened, which reads a file backed policy store again.
+     * </p>
+     * <p>
+     *  Session principals are built by the bridge rather than by the engine's entity builder, and lack some of
+     *  what it derives from the tokens of a signed request:
+     * </p>
+     * <ul>
+     *  <li>no role entities are built from the role claims of the user's tokens,</li>
+     *  <li>no token entities are built, principals are not linked to the tokens they were derived from,</li>
+     *  <li>the policy store's claim mappings are not applied, principals hold the tokens' claims as they are.</li>
+     * </ul>
+     * <p>
+     *  Policies relying on any of these decide differently on a session than on the signed request it was
+     *  opened from.
+     * </p>
+     * @param tokens the tokens, keyed by name (e.g. {@code access_token})
+     * @return the session, which must be closed once no longer used
+     * @throws io.jans.cedarling.bridge.authz.CedarlingAuthorizationError if a token is invalid or expired
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public TokenSession openSession(final Map<String,String> tokens) throws CedarlingError {
+
+        Constraints.ensureNotNull(tokens,"Session tokens cannot be null");
+        if(tokens.isEmpty()) {
+            throw new IllegalArgumentException("At least one session token must be supplied");
+        }
+        final String [] names = tokens.keySet().toArray(new String[0]);
+        final String [] values = new String[names.length];
+        for(int i = 0; i < names.length; i++) {
+            values[i] = tokens.get(names[i]);
+            Constraints.ensureNotNull(values[i],"Session token `" + names[i] + "` cannot be null");
+        }
+        if(tokenPreCheck != null) {
+            tokenPreCheck.check(tokens,System.currentTimeMillis() / 1000);
+        }
+        final TokenSession session = new TokenSession();
+        final long expiresAt = guarded(() -> openNativeSession(session,names,values,
+            bootstrapConfig.getPolicyStoreConfiguration()));
+        session.opened(expiresAt,new NativeSessionReleaser(session.getSessionRef()));
+        return session;
+    }
+
+    /**
+     * Evaluates an authorization request on behalf of the principals of a token session
+     * <p>
+     *  The request is evaluated as an unsigned request (see {@link #authorizeUnsigned(AuthorizeRequestUnsigned)}) 
+     *  whose principals are the session's. It goes through the concurrency limiter, when configured, but is 
+     *  neither coalesced, captured nor recorded, as it carries no tokens.
+     * </p>
+     * @param session the token session
+     * @param action the action, e.g. Jans::Action::&quot;Update&quot;
+     * @param resource the resource
+     * @param context the request context
+     * @return the authorization result
+     * @throws io.jans.cedarling.bridge.authz.CedarlingAuthorizationError if the session expired or the evaluation fails
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance or the session is closed or an error occurs in the Rust bridge
+     */
+    public AuthorizeResult authorize(final TokenSession session, final String action, final EntityData resource,
+        final Context context) throws CedarlingError {
+
+        Constraints.ensureNotNull(session,"Token session cannot be null");
+        final AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+        request.setAction(action);
+        request.setResource(resource);
+        request.setContext(context);
+        return limited(() -> guarded(() -> session.guarded(() -> nativeAuthorizeSession(session,request))));
+    }
+
+    /**
+     * Registers a tenant, whose requests are evaluated against its own policy store
+     * <p>
+     *  The tenant's engine is built with this instance's bootstrap configuration, the policy store aside. 
+     *  When the JWKS rotates (see {@link io.jans.cedarling.bridge.config.JwksRotationConfiguration}), the tenants' 
+     *  token signatures are validated with the instance's current keys, so rotations and the end of their overlap 
+     *  window apply to every tenant, whenever it was registered. Their issuers must be trusted by the tenant's 
+     *  own policy store. Tenants registering policy stores of identical 
+     *  content share a single engine, so a policy store common to many tenants is parsed and held in memory once. 
+     *  Policy store files are read when the tenant is registered, and lock server policy stores are never shared. 
+     *  Each distinct policy store gets an engine of its own, with its own runtime, so hosting many small distinct 
+     *  policy stores costs as many engines. Registering a tenant again replaces its policy store, reading its file 
+     *  again. 
+     *  <br/>Tenants' requests are served by {@link #authorize(String,AuthorizeRequest)} and 
+     *  {@link #authorizeUnsigned(String,AuthorizeRequestUnsigned)}. Requests of tenants with distinct policy stores
+     *  are evaluated concurrently, requests of tenants sharing a policy store one at a time.
+     * </p>
+     * @param tenantId the tenant's identifier
+     * @param policyStore the tenant's policy store
+     * @throws io.jans.cedarling.bridge.config.CedarlingConfigurationError if the policy store is invalid
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public void registerTenant(final String tenantId, final PolicyStoreConfiguration policyStore) throws CedarlingError {
+
+        Constraints.ensureNotNull(tenantId,"Tenant id cannot be null");
+        Constraints.ensureNotNull(policyStore,"Tenant policy store configuration cannot be null");
+        final BootstrapConfiguration tenantconfig = bootstrapConfig.copy()
+            .setPolicyStoreConfiguration(policyStore)
+            .setShadowConfiguration(null);
+        validateJwksRotation(tenantconfig);
+        guarded(() -> {
+            registerNativeTenant(tenantId,tenantconfig);
+            return null;
+        });
+    }
+
+    /**
+     * Registers several tenants at once, e.g. when starting up
+     * <p>
+     *  Behaves as {@link #registerTenant(String,PolicyStoreConfiguration)} for each tenant, except that the engines
+     *  of distinct policy stores are built concurrently, on as many threads as
+     *  {@link io.jans.cedarling.bridge.config.BootstrapConfiguration#getStartupThreads()}. If a policy store is invalid,
+     *  none of the tenants is registered. 
+     *  <br/>Engines are not pooled: as many engines, each with its own runtime, are built and held as there are 
+     *  distinct policy stores, which {@link #getTenantEngineCount()} reports along with 
+     *  {@link #getTenantMemoryUsage(String)} for their memory. Tenants should share policy stores where they can.
+     * </p>
+     * @param policyStores the tenants' policy stores, by tenant identifier
+     * @throws io.jans.cedarling.bridge.config.CedarlingConfigurationError if a policy store is invalid
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public void registerTenants(final Map<String,PolicyStoreConfiguration> policyStores) throws CedarlingError {
+
+        Constraints.ensureNotNull(policyStores,"Tenant policy stores cannot be null");
+        final String [] tenantids = new String[policyStores.size()];
+        final BootstrapConfiguration [] tenantconfigs = new BootstrapConfiguration[policyStores.size()];
+        int i = 0;
+        for(Map.Entry<String,PolicyStoreConfiguration> entry : policyStores.entrySet()) {
+            Constraints.ensureNotNull(entry.getKey(),"Tenant id cannot be null");
+            Constraints.ensureNotNull(entry.getValue(),"Tenant policy store configuration cannot be null");
+            tenantids[i] = entry.getKey();
+            tenantconfigs[i] = bootstrapConfig.copy()
+                .setPolicyStoreConfiguration(entry.getValue())
+                .setShadowConfiguration(null);
+            validateJwksRotation(tenantconfigs[i]);
+            i++;
+        }
+        guarded(() -> {
+            registerNativeTenants(tenantids,tenantconfigs,startupThreads);
+            return null;
+        });
+    }
+
+    /**
+     * Unregisters a tenant. Its engine is released once no other tenant shares it
+     * @param tenantId the tenant's identifier
+     * @return {@code true} if the tenant was registered
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public boolean unregisterTenant(final String tenantId) throws CedarlingError {
+
+        Constraints.ensureNotNull(tenantId,"Tenant id cannot be null");
+        return guarded(() -> unregisterNativeTenant(tenantId));
+    }
+
+    /**
+     * Gets the tenants registered with this instance
+     * @return the tenants' identifiers
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public List<String> getTenants() throws CedarlingError {
+
+        return Arrays.asList(guarded(this::nativeTenants));
+    }
+
+    /**
+     * Evaluates an authorization request against a tenant's policy store
+     * <p>
+     *  The request goes through the token pre-check and the concurrency limiter, when configured, 
+     *  but is neither coalesced, captured nor recorded. 
+     * </p>
+     * @param tenantId the tenant's identifier (see {@link #registerTenant(String,PolicyStoreConfiguration)})
+     * @param request the authorization request with signed JWT tokens
+     * @return the authorization result
+     * @throws io.jans.cedarling.bridge.authz.CedarlingAuthorizationError if the tenant is not registered or the evaluation fails
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public AuthorizeResult authorize(final String tenantId, final AuthorizeRequest request) throws CedarlingError {
+
+        Constraints.ensureNotNull(tenantId,"Tenant id cannot be null");
+        if(tokenPreCheck != null && request != null) {
+            tokenPreCheck.check(request.getTokens(),System.currentTimeMillis() / 1000);
+        }
+        return limited(() -> guarded(() -> {
+            Deadlines.ensureNotExpired(request == null ? null : request.getDeadline());
+            return nativeAuthorizeTenant(tenantId,request);
+        }));
+    }
+
+    /**
+     * Evaluates an unsigned authorization request against a tenant's policy store
+     * <p>
+     *  The request goes through the concurrency limiter, when configured, but is neither coalesced, 
+     *  captured nor recorded. 
+     * </p>
+     * @param tenantId the tenant's identifier (see {@link #registerTenant(String,PolicyStoreConfiguration)})
+     * @param request the unsigned authorization request
+     * @return the authorization result
+     * @throws io.jans.cedarling.bridge.authz.CedarlingAuthorizationError if the tenant is not registered or the evaluation fails
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public AuthorizeResult authorizeUnsigned(final String tenantId, final AuthorizeRequestUnsigned request) throws CedarlingError {
+
+        Constraints.ensureNotNull(tenantId,"Tenant id cannot be null");
+        return limited(() -> guarded(() -> {
+            Deadlines.ensureNotExpired(request == null ? null : request.getDeadline());
+            return nativeAuthorizeTenantUnsigned(tenantId,request);
+        }));
+    }
+
+    /**
+     * Gets the native memory held for a tenant
+     * <p>
+     *  Tenants' engines are accounted for separately from this instance, whose {@link #getNativeMemoryUsage()} 
+     *  does not include them. Their memory is {@code 0} unless memory is accounted for (see {@link #isNativeMemoryAccounted()}).
+     * </p>
+     * @param tenantId the tenant's identifier
+     * @return the tenant's memory usage, or an empty optional if the tenant is not registered
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public Optional<TenantMemoryUsage> getTenantMemoryUsage(final String tenantId) throws CedarlingError {
+
+        Constraints.ensureNotNull(tenantId,"Tenant id cannot be null");
+        return Optional.ofNullable(guarded(() -> nativeTenantMemoryUsage(tenantId)));
+    }
+
+    /**
+     * Gets the number of engines serving this instance's tenants
+     * <p>
+     *  Tenants with identical policy stores share an engine, every other policy store has an engine of its own, 
+     *  with its own runtime. The instance's own engine is not counted.
+     * </p>
+     * @return the number of distinct tenant engines
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public int getTenantEngineCount() throws CedarlingError {
+
+        return guarded(this::nativeTenantEngineCount);
+    }
+
+    /**
+     * Gets a snapshot of this instance's concurrency limiter state
+     * @return the concurrency limiter metrics, or an empty optional if no concurrency limit is configured
+     */
+    public Optional<ConcurrencyLimiterMetrics> getConcurrencyLimiterMetrics() {
+
+        return limiter == null ? Optional.empty() : Optional.of(limiter.metrics());
+    }
+
+    /**
+     * Gets a snapshot of this instance's shadow evaluation results
+     * <p>
+     *  Shadow evaluations run asynchronously, so the report may not account yet for the most recent 
+     *  sampled requests.
+     * </p>
+     * @return the shadow report, or an empty optional if no shadow policy store is configured
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public Optional<ShadowReport> getShadowReport() throws CedarlingError {
+
+        return Optional.ofNullable(guarded(this::nativeShadowReport));
+    }
+
+    /**
+     * Gets a snapshot of this instance's per policy counters
+     * <p>
+     *  For every authorization request, the instance counts the policies which determined the decision 
+     *  (see {@link io.jans.cedarling.bridge.cedar.policy.Diagnostics#getReason()}) and the policies whose 
+     *  evaluation failed. Counting happens natively while the evaluation holds the instance, and costs a 
+     *  few map updates per request.
+     * </p>
+     * @return the policy statistics
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public PolicyStatistics policyStatistics() throws CedarlingError {
+
+        return guarded(() -> nativePolicyStatistics(false));
+    }
+
+    /**
+     * Resets this instance's per policy counters
+     * @return a snapshot of the counters, taken right before they were reset
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public PolicyStatistics resetPolicyStatistics() throws CedarlingError {
+
+        return guarded(() -> nativePolicyStatistics(true));
+    }
+
+    /**
+     * Gets the time and native memory this instance took to create
+     * <p>
+     *  Phases are timed natively when the instance is created, so this call only reads them back. 
+     *  Along with the first authorization's {@link io.jans.cedarling.bridge.authz.AuthorizeResult#getPhaseTimings()}, 
+     *  it gives the time to first decision.
+     * </p>
+     * @return the startup timings
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public StartupTimings startupTimings() throws CedarlingError {
+
+        return guarded(() -> nativeStartupTimings(constructionNanos));
+    }
+
+    /**
+     * Replaces the JWKS token signatures are validated with
+     * <p>
+     *  Requires a {@link io.jans.cedarling.bridge.config.JwksRotationConfiguration}. Token signatures of such an instance
+     *  are validated by the bridge rather than by the engine, which is built without keys, so a rotation only decodes
+     *  the new keys and swaps them in: neither the engine nor the policy store is touched, and requests are only held
+     *  for the duration of the swap. The keys of the replaced JWKS remain trusted for the rotation's overlap window.
+     *  Token sets held by the negative token cache are forgotten, since a key they were rejected for may now be trusted.
+     * </p>
+     * @param jwks the new JWKS
+     * @throws io.jans.cedarling.bridge.config.CedarlingConfigurationError if JWKS rotation is not configured
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or the JWKS can't be applied,
+     *         in which case the current JWKS remains in use
+     */
+    public void updateJwks(final String jwks) throws CedarlingError {
+
+        if(jwks == null) {
+            throw new CedarlingConfigurationError("JWKS cannot be null");
+        }
+        if(jwksRotation == null) {
+            throw new CedarlingConfigurationError("JWKS rotation is not configured for this instance");
+        }
+        jwksRotation.update(jwks);
+    }
+
+    /**
+     * Gets the last failure of a JWKS rotation made in the background, after a change of the watched JWKS file
+     * or at the end of an overlap window
+     * @return the failure, or an empty optional if the last rotation succeeded
+     */
+    public Optional<CedarlingError> getJwksRotationFailure() {
+
+        return jwksRotation == null ? Optional.empty() : jwksRotation.getLastFailure();
+    }
+
+    /**
+     * Gets this instance's negative token cache counters
+     * @return the counters, or an empty optional if the negative token cache is not configured
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public Optional<NegativeCacheStatistics> getNegativeCacheStatistics() throws CedarlingError {
+
+        return Optional.ofNullable(guarded(this::nativeNegativeCacheStatistics));
+    }
+
+    /**
+     * Gets this instance's token status list counters
+     * @return the counters, or an empty optional if status lists are not fetched
+     * @throws io.jans.cedarling.bridge.CedarlingError if the instance is closed or an error occurs in the Rust bridge
+     */
+    public Optional<StatusListStatistics> getStatusListStatistics() throws CedarlingError {
+
+        if(statusLists == null) {
+            return Optional.empty();
+        }
+        return Optional.of(guarded(this::nativeStatusListStatistics));
+    }
+
+    /**
+     * Gets the slow requests currently captured by this instance
+     * @return the captured requests, oldest first. Empty if slow request capture is not configured
+     */
+    public List<CapturedRequest> getSlowRequests() {
+
+        return slowRequests == null ? Collections.emptyList() : slowRequests.snapshot();
+    }
+
+    /**
+     * Writes the slow requests currently captured by this instance to a file
+     * <p>
+     *  The file can be read back with {@link io.jans.cedarling.bridge.capture.RequestCodec#readFile(Path)} and 
+     *  its requests replayed through {@link io.jans.cedarling.bridge.capture.CapturedRequest#toAuthorizeRequest()} 
+     *  or {@link io.jans.cedarling.bridge.capture.CapturedRequest#toAuthorizeRequestUnsigned()}.
+     * </p>
+     * @param file the file to write, replaced if it exists
+     * @return the number of requests written. Zero if slow request capture is not configured
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public int dumpSlowRequests(final Path file) throws IOException {
+
+        return slowRequests == null ? 0 : slowRequests.dump(file);
+    }
+
+    /**
+     * Warms up this instance by replaying authorization requests until latency stabilizes
+     * <p>
+     *  The first authorization calls made against a new instance are much slower than steady state
+     *  (cold JIT, first time allocations, cold policy data). Calling this method before reporting the
+     *  instance as ready keeps those calls off the request path. Errors returned by individual calls 
+     *  are counted in the result and do not abort the warm up.
+     * </p>
+     * @param spec the warm up specification
+     * @return the outcome of the warm up
+     */
+    public WarmUpResult warmUp(final WarmUpSpec spec) {
+
+        return new WarmUpRunner(spec).run(this);
+    }
+
+    private <T> T guarded(final AuthorizationCall<T> nativecall) throws CedarlingError {
+
+        lifecycleLock.readLock().lock();
+        try {
+            ensureNotClosed();
+            return nativecall.call();
+        }finally {
+            lifecycleLock.readLock().unlock();
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    private AuthorizeResult limited(final AuthorizationCall<AuthorizeResult> call) throws CedarlingError {
+
+        if(limiter == null) {
+            return call.call();
+        }
+        try {
+            return limiter.execute(call);
+        }catch(CedarlingOverloadError e) {
+            if(fallbackDecision == null) {
+                throw e;
+            }
+            return AuthorizeResult.fallback(fallbackDecision);
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(final ConcurrencyLimitConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null) {
+            return null;
+        }
+        try {
+            return new AdaptiveConcurrencyLimiter(config);
+        }catch(IllegalArgumentException e) {
+            throw new CedarlingConfigurationError("Invalid concurrency limit configuration. " + e.getMessage(),e);
+        }
+    }
+
+    private void attachShadow(final BootstrapConfiguration config, final ShadowConfiguration shadowconfig) throws CedarlingError {
+
+        final BootstrapConfiguration shadowbootstrap = config.copy()
+            .setPolicyStoreConfiguration(shadowconfig.getPolicyStoreConfiguration())
+            .setLockConfiguration(null)
+            .setShadowConfiguration(null);
+        try {
+            attachNativeShadow(shadowbootstrap,shadowconfig.getSampleRate(),
+                shadowconfig.getMaxSamples(),shadowconfig.getQueueCapacity());
+        }catch(CedarlingError e) {
+            close();
+            throw e;
+        }
+    }
+
+    private static BootstrapConfiguration withWatchedJwks(final BootstrapConfiguration config) throws CedarlingConfigurationError {
+
+        final JwksRotationConfiguration rotationconfig = (config == null ? null : config.getJwksRotationConfiguration());
+        if(rotationconfig == null || rotationconfig.getWatchedFile() == null) {
+            return config;
+        }
+        final String jwks;
+        try {
+            jwks = JwksRotation.readJwks(rotationconfig.getWatchedFile());
+        }catch(IOException e) {
+            throw new CedarlingConfigurationError("Could not read JWKS file " + rotationconfig.getWatchedFile() + ". " + e.getMessage(),e);
+        }
+        final JwtConfiguration jwtconfig = (config.getJwtConfiguration() == null ? new JwtConfiguration() : config.getJwtConfiguration().copy());
+        return config.copy().setJwtConfiguration(jwtconfig.setJwks(jwks));
+    }
+
+    /**
+     * Creates the instance's JWKS rotation, if configured. Its background threads reach the instance through
+     * a weak reference, so that an instance that isn't closed can still be released by the cleaner
+     */
+    private static JwksRotation newJwksRotation(final BootstrapConfiguration config, final WeakReference<Cedarling> instance) throws CedarlingConfigurationError {
+
+        final JwksRotationConfiguration rotationconfig = config.getJwksRotationConfiguration();
+        if(rotationconfig == null) {
+            return null;
+        }
+        final JwksRotation ret = new JwksRotation(config.getJwtConfiguration() == null ? null : config.getJwtConfiguration().getJwks(),
+            rotationconfig.getOverlap(),(jwks,retainedJwks) -> reachable(instance).applyJwks(jwks,retainedJwks));
+        if(rotationconfig.getWatchedFile() != null) {
+            try {
+                ret.watch(rotationconfig.getWatchedFile());
+            }catch(IOException e) {
+                ret.close();
+                throw new CedarlingConfigurationError("Could not watch JWKS file " + rotationconfig.getWatchedFile() + ". " + e.getMessage(),e);
+            }
+        }
+        return ret;
+    }
+
+    private void applyJwks(final String jwks, final List<String> retainedJwks) throws CedarlingError {
+
+        guarded(() -> {
+            rotateNativeJwks(jwks,retainedJwks.toArray(new String[0]));
+            return null;
+        });
+    }
+
+    /**
+     * Creates the instance's status list fetcher, if status lists are checked. As the JWKS rotation's, its
+     * background thread reaches the instance through a weak reference
+     */
+    private static StatusListFetcher newStatusListFetcher(final BootstrapConfiguration config, final WeakReference<Cedarling> instance) throws CedarlingConfigurationError {
+
+        final JwtConfiguration jwtconfig = (config == null ? null : config.getJwtConfiguration());
+        final StatusListConfiguration statusconfig = (config == null || config.getStatusListConfiguration() == null ?
+            new StatusListConfiguration() : config.getStatusListConfiguration());
+        if(jwtconfig == null || !jwtconfig.getJwtCheckStatusValidation() || !statusconfig.isEnabled()) {
+            return null;
+        }
+        validateStatusListConfiguration(statusconfig);
+        return new StatusListFetcher(statusconfig,new StatusListFetcher.Source() {
+
+            @Override
+            public List<String> pending() throws CedarlingError {
+
+                final Cedarling cedarling = reachable(instance);
+                return Arrays.asList(cedarling.guarded(cedarling::nativePendingStatusLists));
+            }
+
+            @Override
+            public Duration load(final String uri, final String token) throws CedarlingError {
+
+                final Cedarling cedarling = reachable(instance);
+                final long ttl = cedarling.guarded(() -> cedarling.nativeLoadStatusList(uri,token));
+                return ttl < 0 ? null : Duration.ofSeconds(ttl);
+            }
+
+            @Override
+            public void failed(final String uri) throws CedarlingError {
+
+                final Cedarling cedarling = reachable(instance);
+                cedarling.guarded(() -> {
+                    cedarling.nativeStatusListFetchFailed();
+                    return null;
+                });
+            }
+
+            @Override
+            public boolean release(final String uri, final Duration idle) throws CedarlingError {
+
+                final Cedarling cedarling = reachable(instance);
+                return cedarling.guarded(() -> cedarling.nativeReleaseStatusList(uri,idle.getSeconds()));
+            }
+        });
+    }
+
+    private static int startupThreads(final BootstrapConfiguration config) throws CedarlingConfigurationError {
+
+        final Integer threads = (config == null ? null : config.getStartupThreads());
+        if(threads == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        if(threads <= 0) {
+            throw new CedarlingConfigurationError("Invalid startup threads. The number of startup threads must be positive");
+        }
+        return threads;
+    }
+
+    /**
+     * Token signatures of an instance with a JWKS rotation are validated by the bridge, which only knows the 
+     * configured keys and the trusted issuers of policy stores it can read
+     */
+    private static void validateJwksRotation(final BootstrapConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null || config.getJwksRotationConfiguration() == null) {
+            return;
+        }
+        final JwtConfiguration jwtconfig = config.getJwtConfiguration();
+        if(jwtconfig == null || !jwtconfig.getJwtCheckSignValidation()) {
+            return;
+        }
+        if(jwtconfig.getJwks() == null || jwtconfig.getJwks().isEmpty()) {
+            throw new CedarlingConfigurationError("Invalid JWKS rotation configuration. A JWKS (or a watched JWKS file) is required, keys can't be fetched from the trusted issuers while the JWKS rotates");
+        }
+        final PolicyStoreConfiguration storeconfig = config.getPolicyStoreConfiguration();
+        if(storeconfig != null && storeconfig.getSource() == PolicyStoreSource.LOCKMASTER) {
+            throw new CedarlingConfigurationError("Invalid JWKS rotation configuration. The trusted issuers of a Lock server policy store are not known to the bridge validating the tokens");
+        }
+    }
+
+    private static void validateStatusListConfiguration(final StatusListConfiguration config) throws CedarlingConfigurationError {
+
+        for(Duration duration : new Duration [] {config.getDefaultRefresh(),config.getRetryDelay(),config.getDiscoveryInterval(),config.getRequestTimeout()}) {
+            if(duration == null || duration.isNegative() || duration.isZero()) {
+                throw new CedarlingConfigurationError("Invalid status list configuration. Refresh, retry, discovery and request durations must be positive");
+            }
+        }
+        if(config.getDiscoveredListIdleTimeout() == null || config.getDiscoveredListIdleTimeout().isNegative() || config.getDiscoveredListIdleTimeout().isZero()) {
+            throw new CedarlingConfigurationError("Invalid status list configuration. The discovered list idle timeout must be positive");
+        }
+        if(config.getMaxDiscoveredLists() < 0 || config.getMaxFetchAttempts() <= 0) {
+            throw new CedarlingConfigurationError("Invalid status list configuration. The maximum number of discovered lists can't be negative, and the maximum number of fetch attempts must be positive");
+        }
+    }
+
+    private void configureNegativeCache(final NegativeCacheConfiguration config) throws CedarlingError {
+
+        try {
+            configureNativeNegativeCache(config.getTtl().toMillis(),config.getMaxEntries());
+        }catch(CedarlingError e) {
+            close();
+            throw e;
+        }
+    }
+
+    private static void validateNegativeCacheConfiguration(final NegativeCacheConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null || !config.isEnabled()) {
+            return;
+        }
+        if(config.getTtl() == null || config.getTtl().isNegative() || config.getTtl().isZero()) {
+            throw new CedarlingConfigurationError("Invalid negative cache configuration. The ttl must be positive");
+        }
+        if(config.getMaxEntries() <= 0) {
+            throw new CedarlingConfigurationError("Invalid negative cache configuration. The maximum number of entries must be positive");
+        }
+    }
+
+    private static void validateShadowConfiguration(final ShadowConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null) {
+            return;
+        }
+        if(config.getPolicyStoreConfiguration() == null) {
+            throw new CedarlingConfigurationError("Invalid shadow configuration. Shadow policy store configuration cannot be null");
+        }
+        if(!(config.getSampleRate() >= 0 && config.getSampleRate() <= 1)) {
+            throw new CedarlingConfigurationError("Invalid shadow configuration. Sample rate must be between 0 and 1");
+        }
+        if(config.getMaxSamples() <= 0 || config.getQueueCapacity() <= 0) {
+            throw new CedarlingConfigurationError("Invalid shadow configuration. Max samples and queue capacity must be positive");
+        }
+    }
+
+    private static TrafficRecorder newRecorder(final TrafficRecordingConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null) {
+            return null;
+        }
+        try {
+            return new TrafficRecorder(config);
+        }catch(IllegalArgumentException | IOException e) {
+            throw new CedarlingConfigurationError("Invalid traffic recording configuration. " + e.getMessage(),e);
+        }
+    }
+
+    private static SlowRequestCapture newSlowRequestCapture(final SlowRequestCaptureConfiguration config) throws CedarlingConfigurationError {
+
+        if(config == null) {
+            return null;
+        }
+        try {
+            return new SlowRequestCapture(config);
+        }catch(IllegalArgumentException e) {
+            throw new CedarlingConfigurationError("Invalid slow request capture configuration. " + e.getMessage(),e);
+        }
+    }
 
-    private native void createNativeCedarling(final BootstrapConfiguration config) throws CedarlingError;
-    private native void cleanupCedarling();
-}
\ No newline at end of file
+    private static RequestCoalescer<String,AuthorizeResult> newCoalescer(final CoalescingConfiguration config) {
+
+        if(config == null || !config.isEnabled()) {
+            return null;
+        }
+        return new RequestCoalescer<>(config.getLockStripes(),config.getMaxWait());
+    }
+
+    private static TokenPreCheck newTokenPreCheck(final TokenPreCheckConfiguration config) {
+
+        if(config == null || !config.isEnabled()) {
+            return null;
+        }
+        return new TokenPreCheck(config.getLeeway());
+    }
+
+    private static Cedarling reachable(final WeakReference<Cedarling> instance) throws CedarlingError {
+
+        final Cedarling ret = instance.get();
+        if(ret == null) {
+            throw new CedarlingError("Cedarling instance is released");
+        }
+        return ret;
+    }
+
+    private void ensureNotClosed() throws CedarlingError {
+
+        if(closed) {
+            throw new CedarlingError("Cedarling instance is closed");
+        }
+    }
+
+    private native void createNativeCedarling(final BootstrapConfiguration config, boolean noopEngine, int startupThreads, boolean rotatingJwks) throws CedarlingError;
+    private native AuthorizeResult nativeAuthorize(final AuthorizeRequest request) throws CedarlingError;
+    private native AuthorizeResult nativeAuthorizeUnsigned(final AuthorizeRequestUnsigned request) throws CedarlingError;
+    private native long nativeMemoryUsage() throws CedarlingError;
+    private native void attachNativeShadow(final BootstrapConfiguration config, double sampleRate, int maxSamples, int queueCapacity) throws CedarlingError;
+    private native ShadowReport nativeShadowReport() throws CedarlingError;
+    private native void rotateNativeJwks(final String jwks, final String [] retainedJwks) throws CedarlingError;
+    private native void registerNativeTenant(final String tenantId, final BootstrapConfiguration config) throws CedarlingError;
+    private native void registerNativeTenants(final String [] tenantIds, final BootstrapConfiguration [] configs, int startupThreads) throws CedarlingError;
+    private native boolean unregisterNativeTenant(final String tenantId) throws CedarlingError;
+    private native String [] nativeTenants() throws CedarlingError;
+    private native TenantMemoryUsage nativeTenantMemoryUsage(final String tenantId) throws CedarlingError;
+    private native int nativeTenantEngineCount() throws CedarlingError;
+    private native AuthorizeResult nativeAuthorizeTenant(final String tenantId, final AuthorizeRequest request) throws CedarlingError;
+    private native AuthorizeResult nativeAuthorizeTenantUnsigned(final String tenantId, final AuthorizeRequestUnsigned request) throws CedarlingError;
+    private native void configureNativeNegativeCache(long ttlMillis, int maxEntries) throws CedarlingError;
+    private native NegativeCacheStatistics nativeNegativeCacheStatistics() throws CedarlingError;
+    private native long nativeLoadStatusList(final String uri, final String token) throws CedarlingError;
+    private native void nativeStatusListFetchFailed() throws CedarlingError;
+    private native boolean nativeReleaseStatusList(final String uri, final long idleSeconds) throws CedarlingError;
+    private native String [] nativePendingStatusLists() throws CedarlingError;
+    private native StatusListStatistics nativeStatusListStatistics() throws CedarlingError;
+    private native PolicyStatistics nativePolicyStatistics(boolean reset) throws CedarlingError;
+    private native StartupTimings nativeStartupTimings(long constructionNanos) throws CedarlingError;
+    private static native long nativeTotalMemoryUsage();
+
+    private static native boolean nativeMemoryAccounted();
+    private static native void releaseNativeCedarling(final long cedarlingRef);
+    private native long openNativeSession(final TokenSession session, final String [] tokenNames, final String [] tokens,
+        final PolicyStoreConfiguration policyStoreConfig) throws CedarlingError;
+    private native AuthorizeResult nativeAuthorizeSession(final TokenSession session, final AuthorizeRequestUnsigned request) throws CedarlingError;
+    private static native void releaseNativeSession(final long sessionRef);
+
+    /**
+     * Cleaner action releasing an instance's native resources, and closing the helpers running on its behalf. 
+     * Neither it nor the helpers may reference the {@code Cedarling} instance, otherwise the latter would never become unreachable
+     */
+    private static final class NativeResourceReleaser implements Runnable {
+
+        private final long cedarlingRef;
+        private final List<Closeable> helpers = new CopyOnWriteArrayList<>();
+
+        NativeResourceReleaser(final long cedarlingRef) {
+
+            this.cedarlingRef = cedarlingRef;
+        }
+
+        void attach(final Closeable helper) {
+
+            if(helper != null) {
+                helpers.add(helper);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            for(Closeable helper : helpers) {
+                try {
+                    helper.close();
+                }catch(IOException e) {
+                    // the instance is being released, losing the tail of a traffic log must not prevent it
+                }
+            }
+            releaseNativeCedarling(cedarlingRef);
+        }
+    }
+
+    /**
+     * Cleaner action releasing a token session's native resources
+     */
+    private static final class NativeSessionReleaser implements Runnable {
+
+        private final long sessionRef;
+
+        NativeSessionReleaser(final long sessionRef) {
+
+            this.sessionRef = sessionRef;
+        }
+
+        @Override
+        public void run() {
+
+            releaseNativeSession(sessionRef);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge;
+
+import io.jans.cedarling.bridge.authz.CedarlingAuthorizationError;
+import io.jans.cedarling.bridge.concurrency.AuthorizationCall;
+
+import java.io.Closeable;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Handle on a set of tokens validated once, and on the principals derived from them
+ * <p>
+ *  Sessions are opened with {@link io.jans.cedarling.bridge.Cedarling#openSession(java.util.Map)} and used with
+ *  {@link io.jans.cedarling.bridge.Cedarling#authorize(TokenSession, String, io.jans.cedarling.bridge.authz.EntityData, io.jans.cedarling.bridge.authz.Context)},
+ *  which evaluates requests against the prepared principals, without decoding or validating the tokens again.
+ *  A session can be used until its earliest token expires or it's closed, whichever comes first.
+ * </p>
+ * <p>
+ *  Sessions hold native resources, released by {@link #close()}, and may be shared between threads.
+ *  Like {@code Cedarling} instances, sessions which are never closed are released once they become unreachable.
+ * </p>
+ */
+public class TokenSession implements Closeable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private long sessionRef = 0;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private boolean closed = false;
+    private Instant expiresAt;
+    private Cleaner.Cleanable cleanable;
+
+    TokenSession() {
+
+    }
+
+    /**
+     * Gets the time the session's earliest token expires at
+     * @return the session's expiry, or an empty optional if none of its tokens expire
+     */
+    public Optional<Instant> getExpiresAt() {
+
+        return Optional.ofNullable(expiresAt);
+    }
+
+    /**
+     * Checks whether the session's earliest token has expired
+     * @return {@code true} if the session has expired
+     */
+    public boolean isExpired() {
+
+        return expiresAt != null && !Instant.now().isBefore(expiresAt);
+    }
+
+    /**
+     * Releases the native resources held by this session
+     * <p>
+     *  This method waits for authorization calls in progress to complete and can safely be called more than once.
+     * </p>
+     */
+    @Override
+    public void close() {
+
+        lifecycleLock.writeLock().lock();
+        try {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            if(cleanable != null) {
+                cleanable.clean();
+            }
+            sessionRef = 0;
+        }finally {
+            lifecycleLock.writeLock().unlock();
+        }
+    }
+
+    void opened(long expiresAtEpochSecond, final Runnable releaser) {
+
+        expiresAt = (expiresAtEpochSecond == Long.MAX_VALUE ? null : Instant.ofEpochSecond(expiresAtEpochSecond));
+        cleanable = CLEANER.register(this,releaser);
+    }
+
+    long getSessionRef() {
+
+        return sessionRef;
+    }
+
+    <T> T guarded(final AuthorizationCall<T> nativecall) throws CedarlingError {
+
+        lifecycleLock.readLock().lock();
+        try {
+            if(closed) {
+                throw new CedarlingError("Token session is closed");
+            }
+            if(isExpired()) {
+                throw new CedarlingAuthorizationError("Token session expired at " + expiresAt);
+            }
+            return nativecall.call();
+        }finally {
+            lifecycleLock.readLock().unlock();
+            Reference.reachabilityFence(this);
+        }
+    }
+}
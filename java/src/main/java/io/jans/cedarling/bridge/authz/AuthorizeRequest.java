@@ -7,9 +7,12 @@
 package io.jans.cedarling.bridge.authz;
 
 import io.jans.cedarling.bridge.util.Constraints;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 
 /**
@@ -54,6 +57,7 @@ public class AuthorizeRequest {
     private String action;
     private EntityData resource;
     private Context context;
+    private Instant deadline;
 
     private AuthorizeRequest() {
 
@@ -88,6 +92,25 @@ public class AuthorizeRequest {
     }
 
 
+    /**
+     * Gets the deadline past which the evaluation of this request is abandoned
+     * @return the request's deadline, or {@code null} if the request has no deadline
+     */
+    public Instant getDeadline() {
+
+        return deadline;
+    }
+
+    /**
+     * Specifies the deadline past which the evaluation of this request is abandoned.
+     * See {@link io.jans.cedarling.bridge.authz.AuthorizeRequest.Builder#deadline(Instant)}
+     * @param deadline the request's deadline, or {@code null} for no deadline
+     */
+    public void setDeadline(final Instant deadline) {
+
+        this.deadline = deadline;
+    }
+
     /**
      * 
      * @param name the token's name , e.g. &quot; access_token &quot;
@@ -108,6 +131,15 @@ public class AuthorizeRequest {
         return tokens.get(name);
     }
 
+    /**
+     * Gets all the tokens in the request
+     * @return an unmodifiable map where the key is the token's name and the value it's signed JWT value
+     */
+    public Map<String,String> getTokens() {
+
+        return Collections.unmodifiableMap(tokens);
+    }
+
     @SuppressWarnings("unused")
     private List<String> getTokenNames() {
 
@@ -116,6 +148,12 @@ public class AuthorizeRequest {
         return ret;
     }
     
+    @SuppressWarnings("unused")
+    private long getDeadlineBudgetNanos() {
+
+        return Deadlines.budgetNanos(deadline);
+    }
+
     /**
      * Creates an {@link io.jans.cedarling.bridge.authz.AuthorizeRequest} builder  
      * @return an instance of the builder
@@ -231,6 +269,36 @@ public class AuthorizeRequest {
             return this;
         }
 
+        /**
+         * Specify the deadline past which the evaluation of the request is abandoned
+         * <p>
+         *  The deadline is checked before the request is handed to the rust library, once the request is marshalled 
+         *  and once the cedarling instance is available to evaluate it. When it has passed, the authorization call 
+         *  fails with a {@link io.jans.cedarling.bridge.authz.CedarlingTimeoutError}. An evaluation can't be interrupted, 
+         *  so a request whose deadline passes while it's evaluated still gets its result. Requests with a deadline 
+         *  are not coalesced (see {@link io.jans.cedarling.bridge.config.CoalescingConfiguration}).
+         * </p>
+         * @param deadline the deadline
+         * @return the current builder instance
+         */
+        public Builder deadline(final Instant deadline) {
+
+            request_.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Specify the time budget of the request, starting now.
+         * This method is equivalent to {@code builder.deadline(Instant.now().plus(timeout))}
+         * @param timeout the time budget
+         * @return the current builder instance
+         */
+        public Builder timeout(final Duration timeout) {
+
+            request_.deadline = Instant.now().plus(timeout);
+            return this;
+        }
+
         /**
          * Builds the authorization request after performing basic health checks on the request's elements.
          * @return an instance of the authorization request built to the specifications of the caller 
@@ -6,6 +6,7 @@
 
 package io.jans.cedarling.bridge.authz;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,6 +27,7 @@ public class AuthorizeRequestUnsigned {
     private String action;
     private EntityData resource; 
     private Context context;
+    private Instant deadline;
 
     public AuthorizeRequestUnsigned() {
 
@@ -112,4 +114,29 @@ public class AuthorizeRequestUnsigned {
 
         return context;
     }
+
+    /**
+     * Obtain the deadline past which the evaluation of the request is abandoned
+     * @return the request's deadline, or {@code null} if the request has no deadline
+     */
+    public Instant getDeadline() {
+
+        return deadline;
+    }
+
+    /**
+     * Specify the deadline past which the evaluation of the request is abandoned.
+     * See {@link io.jans.cedarling.bridge.authz.AuthorizeRequest.Builder#deadline(Instant)}
+     * @param deadline the request's deadline, or {@code null} for no deadline
+     */
+    public void setDeadline(final Instant deadline) {
+
+        this.deadline = deadline;
+    }
+
+    @SuppressWarnings("unused")
+    private long getDeadlineBudgetNanos() {
+
+        return Deadlines.budgetNanos(deadline);
+    }
 }
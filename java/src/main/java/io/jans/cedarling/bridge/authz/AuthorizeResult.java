@@ -7,6 +7,7 @@
 package io.jans.cedarling.bridge.authz;
 
 import io.jans.cedarling.bridge.cedar.policy.*;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +23,8 @@ public class AuthorizeResult {
     private Map<String,PolicyResponse> principals;
     private boolean decision;
     private String requestId;
+    private boolean fallback;
+    private PhaseTimings phaseTimings;
 
     /**
      * Constructor 
@@ -33,6 +36,26 @@ public class AuthorizeResult {
         principals = new HashMap<>();
         decision = false;
         requestId = "";
+        fallback = false;
+        phaseTimings = null;
+    }
+
+    /**
+     * Creates a result which was not produced by policy evaluation
+     * <p>
+     *  Such results are returned in place of an evaluation when a request is shed, e.g. because
+     *  the instance's concurrency limit is reached and a fallback decision is configured. 
+     *  They carry no policy responses and no request id.
+     * </p>
+     * @param decision the decision carried by the result
+     * @return the fallback result
+     */
+    public static AuthorizeResult fallback(final boolean decision) {
+
+        AuthorizeResult ret = new AuthorizeResult();
+        ret.decision = decision;
+        ret.fallback = true;
+        return ret;
     }
 
     /**
@@ -81,6 +104,24 @@ public class AuthorizeResult {
         return requestId;
     }
 
+    /**
+     * Tells whether this result was produced without evaluating the request. See {@link #fallback(boolean)}
+     * @return {@code true} if this is a fallback result. {@code false} otherwise.
+     */
+    public boolean isFallback() {
+
+        return fallback;
+    }
+
+    /**
+     * Gets the time the request spent in each phase of its native processing
+     * @return the phase timings, or an empty optional for fallback results
+     */
+    public Optional<PhaseTimings> getPhaseTimings() {
+
+        return Optional.ofNullable(phaseTimings);
+    }
+
     @SuppressWarnings("unused")
     private void setWorkload(final PolicyResponse workload) {
 
@@ -110,4 +151,11 @@ public class AuthorizeResult {
         
         this.requestId = requestId;
     }
+
+    @SuppressWarnings("unused")
+    private void setPhaseTimings(long marshallingNanos, long waitingNanos, long evaluationNanos) {
+
+        this.phaseTimings = new PhaseTimings(Duration.ofNanos(marshallingNanos),Duration.ofNanos(waitingNanos),
+            Duration.ofNanos(evaluationNanos));
+    }
 }
@@ -0,0 +1,23 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+/**
+ * Cedarling overload error class.
+ * This exception is thrown when an authorization call is rejected because the instance's concurrency limit is reached.
+ * The request was not evaluated and can be retried.
+ */
+public class CedarlingOverloadError extends CedarlingAuthorizationError {
+
+    /**
+     * Constructor
+     * @param message error message
+     */
+    public CedarlingOverloadError(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+/**
+ * Cedarling timeout error class.
+ * This exception is thrown when an authorization request's deadline passes before its evaluation completes
+ */
+public class CedarlingTimeoutError extends CedarlingAuthorizationError {
+
+    /**
+     * Constructor
+     * @param message error message
+     */
+    public CedarlingTimeoutError(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+/**
+ * Cedarling token rejected error class.
+ * This exception is thrown when the token pre-check (see {@link io.jans.cedarling.bridge.config.TokenPreCheckConfiguration})
+ * rejects a request's token. The request was not evaluated. As rejections are expected under junk traffic,
+ * the exception carries no stack trace.
+ */
+public class CedarlingTokenRejectedError extends CedarlingAuthorizationError {
+
+    /**
+     * Why a token was rejected
+     */
+    public enum Reason {
+        /** The token is not a well formed JWT */
+        MALFORMED,
+        /** The token's {@code exp} claim is in the past */
+        EXPIRED,
+        /** The token's {@code nbf} claim is in the future */
+        NOT_YET_VALID
+    }
+
+    private final String tokenName;
+    private final Reason reason;
+
+    /**
+     * Constructor
+     * @param tokenName the name of the rejected token
+     * @param reason why the token was rejected
+     */
+    public CedarlingTokenRejectedError(final String tokenName, final Reason reason) {
+        super("Token `" + tokenName + "` rejected: " + reason);
+        this.tokenName = tokenName;
+        this.reason = reason;
+    }
+
+    /**
+     * Gets the name of the rejected token
+     * @return the token name, e.g. {@code access_token}
+     */
+    public String getTokenName() {
+
+        return tokenName;
+    }
+
+    /**
+     * Gets why the token was rejected
+     * @return the rejection reason
+     */
+    public Reason getReason() {
+
+        return reason;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+
+        return this;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Helpers for authorization request deadlines
+ * <p>
+ *  Deadlines are handed to the rust library as the time budget left, in nanoseconds, when the request
+ *  is marshalled. The library anchors the budget to its own monotonic clock, so wall clock adjustments
+ *  happening during the evaluation have no effect on it.
+ * </p>
+ */
+public final class Deadlines {
+
+    /**
+     * Budget value meaning the request has no deadline
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private Deadlines() {
+
+    }
+
+    /**
+     * Gets the time budget left before the specified deadline
+     * @param deadline the deadline, possibly {@code null}
+     * @return the budget left in nanoseconds (zero or negative if the deadline has passed),
+     *         or {@link #NO_DEADLINE} if there is no deadline
+     */
+    public static long budgetNanos(final Instant deadline) {
+
+        if(deadline == null) {
+            return NO_DEADLINE;
+        }
+        try {
+            return Math.min(Duration.between(Instant.now(),deadline).toNanos(),NO_DEADLINE - 1);
+        }catch(ArithmeticException e) {
+            // the deadline is centuries away (or ago)
+            return deadline.isAfter(Instant.now()) ? NO_DEADLINE - 1 : Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Ensures the specified deadline hasn't passed
+     * @param deadline the deadline, possibly {@code null}
+     * @throws io.jans.cedarling.bridge.authz.CedarlingTimeoutError if the deadline has passed
+     */
+    public static void ensureNotExpired(final Instant deadline) throws CedarlingTimeoutError {
+
+        if(deadline != null && !Instant.now().isBefore(deadline)) {
+            throw new CedarlingTimeoutError("Authorization request deadline exceeded before evaluation started");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+import java.time.Duration;
+
+/**
+ * Time spent by an authorization request in each phase of its native processing
+ */
+public class PhaseTimings {
+
+    private final Duration marshalling;
+    private final Duration waiting;
+    private final Duration evaluation;
+
+    /**
+     * Constructor
+     * @param marshalling time spent converting the java request into a cedarling request
+     * @param waiting time spent waiting for the cedarling instance
+     * @param evaluation time spent in the cedarling engine
+     */
+    public PhaseTimings(final Duration marshalling, final Duration waiting, final Duration evaluation) {
+
+        this.marshalling = marshalling;
+        this.waiting = waiting;
+        this.evaluation = evaluation;
+    }
+
+    /**
+     * Gets the time spent converting the java request into a cedarling request
+     * @return the marshalling time
+     */
+    public Duration getMarshalling() {
+
+        return marshalling;
+    }
+
+    /**
+     * Gets the time spent waiting for the cedarling instance, held by concurrent requests
+     * @return the waiting time
+     */
+    public Duration getWaiting() {
+
+        return waiting;
+    }
+
+    /**
+     * Gets the time spent in the cedarling engine, token validation and entity building included
+     * @return the evaluation time
+     */
+    public Duration getEvaluation() {
+
+        return evaluation;
+    }
+
+    /**
+     * Gets the total time spent in native processing
+     * @return the sum of all phases
+     */
+    public Duration getTotal() {
+
+        return marshalling.plus(waiting).plus(evaluation);
+    }
+
+    @Override
+    public String toString() {
+
+        return "marshalling=" + marshalling + ", waiting=" + waiting + ", evaluation=" + evaluation;
+    }
+}
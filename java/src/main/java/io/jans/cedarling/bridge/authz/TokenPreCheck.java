@@ -0,0 +1,401 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+import io.jans.cedarling.bridge.authz.CedarlingTokenRejectedError.Reason;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cheap structural and time validity check of signed tokens
+ * <p>
+ *  Segments are base64url decoded on the fly, one byte at a time, and the header and payload are scanned
+ *  rather than parsed: nothing is copied, and only the top level {@code exp} and {@code nbf} claims are read.
+ *  See {@link io.jans.cedarling.bridge.config.TokenPreCheckConfiguration} for what is rejected.
+ * </p>
+ */
+public class TokenPreCheck {
+
+    private static final int END = -1;
+    private static final String EXP_CLAIM = "exp";
+    private static final String NBF_CLAIM = "nbf";
+    private static final int MAX_INTEGER_DIGITS = 18;
+    private static final int MAX_NUMBER_LENGTH = 64;
+    private static final long MAX_CLAIM_VALUE = 999_999_999_999_999_999L;
+
+    private final long leewaySeconds;
+
+    /**
+     * Constructor
+     * @param leeway the clock skew allowed when checking the {@code exp} and {@code nbf} claims
+     */
+    public TokenPreCheck(final Duration leeway) {
+
+        // bounded as claims are, so that adding it to or subtracting it from a claim can't overflow
+        this.leewaySeconds = (leeway == null ? 0 : Math.min(Math.max(leeway.getSeconds(),0),MAX_CLAIM_VALUE));
+    }
+
+    /**
+     * Checks the tokens of a request
+     * @param tokens the tokens, keyed by name
+     * @param nowEpochSecond the current time, in seconds since the epoch
+     * @throws CedarlingTokenRejectedError if a token is rejected
+     */
+    public void check(final Map<String,String> tokens, long nowEpochSecond) throws CedarlingTokenRejectedError {
+
+        for(Map.Entry<String,String> token : tokens.entrySet()) {
+            final Reason reason = inspect(token.getValue(),nowEpochSecond);
+            if(reason != null) {
+                throw new CedarlingTokenRejectedError(token.getKey(),reason);
+            }
+        }
+    }
+
+    /**
+     * Inspects a single token
+     * @param token the token
+     * @param nowEpochSecond the current time, in seconds since the epoch
+     * @return why the token is rejected, or {@code null} if it passes the check
+     */
+    public Reason inspect(final String token, long nowEpochSecond) {
+
+        if(token == null) {
+            return Reason.MALFORMED;
+        }
+        final int firstDot = token.indexOf('.');
+        final int secondDot = (firstDot < 0 ? -1 : token.indexOf('.',firstDot + 1));
+        if(firstDot <= 0 || secondDot <= firstDot + 1 || token.indexOf('.',secondDot + 1) >= 0
+            || !isBase64Url(token,secondDot + 1,token.length())) {
+            return Reason.MALFORMED;
+        }
+
+        final Scanner header = new Scanner(token,0,firstDot);
+        if(!header.valid() || !header.skipValue(true) || header.skipWhitespace() != END) {
+            return Reason.MALFORMED;
+        }
+        final Scanner payload = new Scanner(token,firstDot + 1,secondDot);
+        if(!payload.valid() || !payload.scanClaims() || payload.skipWhitespace() != END) {
+            return Reason.MALFORMED;
+        }
+        if(payload.exp != null && payload.exp + leewaySeconds < nowEpochSecond) {
+            return Reason.EXPIRED;
+        }
+        if(payload.nbf != null && payload.nbf - leewaySeconds > nowEpochSecond) {
+            return Reason.NOT_YET_VALID;
+        }
+        return null;
+    }
+
+    private static boolean isBase64Url(final String s, int from, int to) {
+
+        if((to - from) % 4 == 1) {
+            return false;
+        }
+        for(int i = from; i < to; i++) {
+            if(sextet(s.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int sextet(char c) {
+
+        if(c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        if(c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        }
+        if(c >= '0' && c <= '9') {
+            return c - '0' + 52;
+        }
+        if(c == '-') {
+            return 62;
+        }
+        if(c == '_') {
+            return 63;
+        }
+        return -1;
+    }
+
+    /**
+     * Json scanner over a base64url encoded segment, decoding bytes as they're consumed
+     */
+    private static final class Scanner {
+
+        private final String source;
+        private final int end;
+        private final boolean valid;
+        private int pos;
+        private int bits;
+        private int bitCount;
+        private int peeked = Integer.MIN_VALUE;
+        private Long exp;
+        private Long nbf;
+
+        Scanner(final String source, int from, int to) {
+
+            this.source = source;
+            this.pos = from;
+            this.end = to;
+            this.valid = isBase64Url(source,from,to);
+        }
+
+        boolean valid() {
+
+            return valid;
+        }
+
+        int peek() {
+
+            if(peeked == Integer.MIN_VALUE) {
+                peeked = decode();
+            }
+            return peeked;
+        }
+
+        int next() {
+
+            final int ret = peek();
+            peeked = Integer.MIN_VALUE;
+            return ret;
+        }
+
+        private int decode() {
+
+            while(bitCount < 8) {
+                if(pos >= end) {
+                    return END;
+                }
+                bits = (bits << 6) | sextet(source.charAt(pos++));
+                bitCount += 6;
+            }
+            bitCount -= 8;
+            return (bits >> bitCount) & 0xff;
+        }
+
+        int skipWhitespace() {
+
+            int c;
+            while((c = peek()) == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                next();
+            }
+            return c;
+        }
+
+        /**
+         * Scans the payload's top level object, recording the numeric {@code exp} and {@code nbf} claims
+         */
+        boolean scanClaims() {
+
+            if(skipWhitespace() != '{') {
+                return false;
+            }
+            next();
+            if(skipWhitespace() == '}') {
+                next();
+                return true;
+            }
+            while(true) {
+                if(skipWhitespace() != '"') {
+                    return false;
+                }
+                next();
+                final int claim = readKey();
+                if(claim < 0 || skipWhitespace() != ':') {
+                    return false;
+                }
+                next();
+                final int c = skipWhitespace();
+                if(claim > 0 && (c == '-' || (c >= '0' && c <= '9'))) {
+                    final Long value = readNumber();
+                    if(value == null) {
+                        return false;
+                    }
+                    if(claim == 1) {
+                        exp = value;
+                    }else {
+                        nbf = value;
+                    }
+                }else if(!skipValue(false)) {
+                    return false;
+                }
+                final int sep = skipWhitespace();
+                next();
+                if(sep == '}') {
+                    return true;
+                }
+                if(sep != ',') {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Reads an object key, the opening quote consumed
+         * @return 1 for {@code exp}, 2 for {@code nbf}, 0 for any other key, -1 if the key is malformed
+         */
+        private int readKey() {
+
+            int length = 0;
+            boolean exp = true;
+            boolean nbf = true;
+            int c;
+            while((c = next()) != '"') {
+                if(c == END) {
+                    return -1;
+                }
+                if(c == '\\') {
+                    if(next() == END) {
+                        return -1;
+                    }
+                    exp = nbf = false;
+                }else {
+                    exp &= (length < EXP_CLAIM.length() && EXP_CLAIM.charAt(length) == c);
+                    nbf &= (length < NBF_CLAIM.length() && NBF_CLAIM.charAt(length) == c);
+                }
+                length++;
+            }
+            if(exp && length == EXP_CLAIM.length()) {
+                return 1;
+            }
+            if(nbf && length == NBF_CLAIM.length()) {
+                return 2;
+            }
+            return 0;
+        }
+
+        /**
+         * Reads a number, keeping its integer part
+         * @return the number, or {@code null} if it's malformed
+         */
+        private Long readNumber() {
+
+            boolean negative = false;
+            if(peek() == '-') {
+                negative = true;
+                next();
+            }
+            long value = 0;
+            int digits = 0;
+            int c;
+            while((c = peek()) >= '0' && c <= '9') {
+                if(digits == MAX_INTEGER_DIGITS) {
+                    return readRemainder(negative,value);
+                }
+                next();
+                digits++;
+                value = value * 10 + (c - '0');
+            }
+            if(digits == 0) {
+                return null;
+            }
+            if(c == '.' || c == 'e' || c == 'E') {
+                return readRemainder(negative,value);
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * Reads the rest of a number whose leading integer digits were already read: integer digits beyond <br/>
+         * those of integer claims, fraction and exponent
+         * <p>
+         *  The fraction is truncated as claims are whole seconds. Values beyond the range of integer claims <br/>
+         *  are clamped to it, which compares the same against any realistic time.
+         * </p>
+         * @return the number, or {@code null} if it's malformed or longer than {@value #MAX_NUMBER_LENGTH} characters
+         */
+        private Long readRemainder(boolean negative, long integerPart) {
+
+            final StringBuilder sb = new StringBuilder(32);
+            if(negative) {
+                sb.append('-');
+            }
+            sb.append(integerPart);
+            int c;
+            while((c = peek()) == '.' || c == 'e' || c == 'E' || c == '+' || c == '-' || (c >= '0' && c <= '9')) {
+                if(sb.length() >= MAX_NUMBER_LENGTH) {
+                    return null;
+                }
+                sb.append((char) next());
+            }
+            final BigDecimal number;
+            try {
+                number = new BigDecimal(sb.toString());
+            }catch(NumberFormatException e) {
+                return null;
+            }
+            // checked before scaling, which is as costly as the exponent is large
+            final int integerDigits = number.precision() - number.scale();
+            if(number.signum() == 0 || integerDigits <= 0) {
+                return 0L;
+            }
+            if(integerDigits > MAX_INTEGER_DIGITS) {
+                return number.signum() > 0 ? MAX_CLAIM_VALUE : -MAX_CLAIM_VALUE;
+            }
+            return number.setScale(0,RoundingMode.DOWN).longValueExact();
+        }
+
+        /**
+         * Skips a json value
+         * @param objectOnly whether the value must be an object
+         */
+        boolean skipValue(boolean objectOnly) {
+
+            int c = skipWhitespace();
+            if(objectOnly && c != '{') {
+                return false;
+            }
+            if(c == '"') {
+                next();
+                return skipString();
+            }
+            if(c != '{' && c != '[') {
+                // literal or number
+                int length = 0;
+                while((c = peek()) != END && c != ',' && c != '}' && c != ']' && c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    next();
+                    length++;
+                }
+                return length > 0;
+            }
+            int depth = 0;
+            while((c = next()) != END) {
+                if(c == '"') {
+                    if(!skipString()) {
+                        return false;
+                    }
+                }else if(c == '{' || c == '[') {
+                    depth++;
+                }else if(c == '}' || c == ']') {
+                    if(--depth == 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean skipString() {
+
+            int c;
+            while((c = next()) != '"') {
+                if(c == END) {
+                    return false;
+                }
+                if(c == '\\' && next() == END) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+import io.jans.cedarling.bridge.authz.PhaseTimings;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A captured authorization request, along with its outcome
+ * <p>
+ *  Captured requests are detached copies: later changes made to the original request don't affect them.
+ *  They are serialized with {@link io.jans.cedarling.bridge.capture.RequestCodec} and turned back into
+ *  requests for replay with {@link #toAuthorizeRequest()} or {@link #toAuthorizeRequestUnsigned()}.
+ * </p>
+ */
+public class CapturedRequest {
+
+    /**
+     * Kind of authorization request
+     */
+    public enum Kind {
+        /** Token based request, see {@link io.jans.cedarling.bridge.authz.AuthorizeRequest} */
+        SIGNED,
+        /** Unsigned request, see {@link io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned} */
+        UNSIGNED
+    }
+
+    private static final String REDACTED = "redacted";
+
+    private final Kind kind;
+    private final Instant capturedAt;
+    private final Duration latency;
+    private final PhaseTimings phaseTimings;
+    private final Map<String,String> tokens;
+    private final List<EntityData> principals;
+    private final String action;
+    private final EntityData resource;
+    private final String context;
+    private final Boolean decision;
+    private final String error;
+
+    CapturedRequest(final Kind kind, final Instant capturedAt, final Duration latency, final PhaseTimings phaseTimings,
+        final Map<String,String> tokens, final List<EntityData> principals, final String action, final EntityData resource,
+        final String context, final Boolean decision, final String error) {
+
+        this.kind = kind;
+        this.capturedAt = capturedAt;
+        this.latency = latency;
+        this.phaseTimings = phaseTimings;
+        this.tokens = tokens;
+        this.principals = principals;
+        this.action = action;
+        this.resource = resource;
+        this.context = context;
+        this.decision = decision;
+        this.error = error;
+    }
+
+    /**
+     * Captures a token based authorization request
+     * @param request the request
+     * @param redactTokens {@code true} to strip the signature of the request's tokens
+     * @param latency the time taken to process the request
+     * @param phaseTimings the native phase timings of the request, possibly {@code null}
+     * @param decision the decision, or {@code null} if the request failed
+     * @param error the error message, or {@code null} if the request succeeded
+     * @return the captured request
+     */
+    public static CapturedRequest of(final AuthorizeRequest request, boolean redactTokens, final Duration latency,
+        final PhaseTimings phaseTimings, final Boolean decision, final String error) {
+
+        final Map<String,String> tokens = new LinkedHashMap<>();
+        request.getTokens().forEach((name,value) -> tokens.put(name,redactTokens ? redact(value) : value));
+        return new CapturedRequest(Kind.SIGNED,Instant.now(),latency,phaseTimings,tokens,Collections.emptyList(),
+            request.getAction(),copy(request.getResource()),contextData(request.getContext()),decision,error);
+    }
+
+    /**
+     * Captures an unsigned authorization request
+     * @param request the request
+     * @param latency the time taken to process the request
+     * @param phaseTimings the native phase timings of the request, possibly {@code null}
+     * @param decision the decision, or {@code null} if the request failed
+     * @param error the error message, or {@code null} if the request succeeded
+     * @return the captured request
+     */
+    public static CapturedRequest of(final AuthorizeRequestUnsigned request, final Duration latency,
+        final PhaseTimings phaseTimings, final Boolean decision, final String error) {
+
+        final List<EntityData> principals = new ArrayList<>();
+        if(request.getPrincipals() != null) {
+            request.getPrincipals().forEach(p -> principals.add(copy(p)));
+        }
+        return new CapturedRequest(Kind.UNSIGNED,Instant.now(),latency,phaseTimings,Collections.emptyMap(),principals,
+            request.getAction(),copy(request.getResource()),contextData(request.getContext()),decision,error);
+    }
+
+    /**
+     * Gets the kind of the captured request
+     * @return the request kind
+     */
+    public Kind getKind() {
+
+        return kind;
+    }
+
+    /**
+     * Gets the time the request was captured
+     * @return the capture time
+     */
+    public Instant getCapturedAt() {
+
+        return capturedAt;
+    }
+
+    /**
+     * Gets the time processing of the request started, derived from the capture time and the latency
+     * @return the request start time
+     */
+    public Instant getStartedAt() {
+
+        return capturedAt.minus(latency);
+    }
+
+    /**
+     * Gets the time taken to process the request
+     * @return the request latency
+     */
+    public Duration getLatency() {
+
+        return latency;
+    }
+
+    /**
+     * Gets the native phase timings of the request
+     * @return the phase timings, or an empty optional if the request didn't complete natively
+     */
+    public Optional<PhaseTimings> getPhaseTimings() {
+
+        return Optional.ofNullable(phaseTimings);
+    }
+
+    /**
+     * Gets the tokens of a token based request, possibly redacted
+     * @return the tokens, keyed by name
+     */
+    public Map<String,String> getTokens() {
+
+        return Collections.unmodifiableMap(tokens);
+    }
+
+    /**
+     * Gets the principals of an unsigned request
+     * @return the principals
+     */
+    public List<EntityData> getPrincipals() {
+
+        return Collections.unmodifiableList(principals);
+    }
+
+    /**
+     * Gets the action of the request
+     * @return the action
+     */
+    public String getAction() {
+
+        return action;
+    }
+
+    /**
+     * Gets the resource of the request
+     * @return the resource
+     */
+    public EntityData getResource() {
+
+        return resource;
+    }
+
+    /**
+     * Gets the context of the request
+     * @return the context as a JSON string, possibly {@code null}
+     */
+    public String getContext() {
+
+        return context;
+    }
+
+    /**
+     * Gets the decision returned for the request
+     * @return the decision, or an empty optional if the request failed
+     */
+    public Optional<Boolean> getDecision() {
+
+        return Optional.ofNullable(decision);
+    }
+
+    /**
+     * Gets the error the request failed with
+     * @return the error message, or an empty optional if the request succeeded
+     */
+    public Optional<String> getError() {
+
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Rebuilds the token based request which was captured
+     * @return a new authorization request
+     * @throws java.lang.IllegalStateException if the captured request is not token based
+     */
+    public AuthorizeRequest toAuthorizeRequest() {
+
+        if(kind != Kind.SIGNED) {
+            throw new IllegalStateException("Captured request is not token based");
+        }
+        return AuthorizeRequest.builder()
+            .tokens(new LinkedHashMap<>(tokens))
+            .action(action)
+            .resource(copy(resource))
+            .context(context == null ? null : new Context(context))
+            .build();
+    }
+
+    /**
+     * Rebuilds the unsigned request which was captured
+     * @return a new unsigned authorization request
+     * @throws java.lang.IllegalStateException if the captured request is not unsigned
+     */
+    public AuthorizeRequestUnsigned toAuthorizeRequestUnsigned() {
+
+        if(kind != Kind.UNSIGNED) {
+            throw new IllegalStateException("Captured request is not unsigned");
+        }
+        final AuthorizeRequestUnsigned ret = new AuthorizeRequestUnsigned();
+        principals.forEach(p -> ret.addPrincipal(copy(p)));
+        ret.setAction(action);
+        ret.setResource(copy(resource));
+        ret.setContext(context == null ? null : new Context(context));
+        return ret;
+    }
+
+    static String redact(final String token) {
+
+        if(token == null) {
+            return null;
+        }
+        final int lastdot = token.lastIndexOf('.');
+        if(token.indexOf('.') == lastdot) {
+            // not a JWS, nothing to keep
+            return REDACTED;
+        }
+        return token.substring(0,lastdot + 1);
+    }
+
+    private static EntityData copy(final EntityData entity) {
+
+        if(entity == null) {
+            return null;
+        }
+        final CedarEntityMapping mapping = entity.getCedarMapping();
+        return new EntityData(mapping == null ? null : new CedarEntityMapping(mapping.getId(),mapping.getEntityType()),
+            entity.getAttributes());
+    }
+
+    private static String contextData(final Context context) {
+
+        return context == null ? null : context.getData();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.authz.PhaseTimings;
+import io.jans.cedarling.bridge.concurrency.AuthorizationCall;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Turns the outcome of an authorization call into a captured request
+ */
+@FunctionalInterface
+interface Capturer {
+
+    CapturedRequest capture(Duration latency, PhaseTimings timings, Boolean decision, String error);
+
+    /**
+     * Runs an authorization call and hands it to a sink, as a captured request, if it took longer than a threshold
+     */
+    static AuthorizeResult execute(final AuthorizationCall<AuthorizeResult> call, long thresholdNanos,
+        final Capturer capturer, final Consumer<CapturedRequest> sink) throws CedarlingError {
+
+        final long start = System.nanoTime();
+        final AuthorizeResult result;
+        try {
+            result = call.call();
+        }catch(CedarlingError e) {
+            final long elapsed = System.nanoTime() - start;
+            if(elapsed > thresholdNanos) {
+                sink.accept(capturer.capture(Duration.ofNanos(elapsed),null,null,e.getMessage()));
+            }
+            throw e;
+        }
+        final long elapsed = System.nanoTime() - start;
+        if(elapsed > thresholdNanos) {
+            sink.accept(capturer.capture(Duration.ofNanos(elapsed),result.getPhaseTimings().orElse(null),result.isAllowed(),null));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a request log through memory mapped I/O
+ * <p>
+ *  The log is mapped one window at a time, so logs larger than the address space a single mapping allows
+ *  can be read. A trailing record left incomplete (e.g. because the recording process crashed) is ignored.
+ *  {@link #next()} can be called from several threads.
+ * </p>
+ */
+public class ReplayReader implements Closeable {
+
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    /**
+     * Opens a request log
+     * @param file the log file
+     * @throws java.io.IOException if the log can't be opened or is not a request log
+     */
+    public ReplayReader(final Path file) throws IOException {
+
+        this(file,DEFAULT_WINDOW_SIZE);
+    }
+
+    ReplayReader(final Path file, long windowSize) throws IOException {
+
+        this.channel = FileChannel.open(file,StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        try {
+            if(size < RequestCodec.HEADER_LENGTH) {
+                throw new IOException("Not a cedarling request capture");
+            }
+            map(0,RequestCodec.HEADER_LENGTH);
+            RequestCodec.checkHeader(window.getInt(0),window.getShort(Integer.BYTES));
+        }catch(IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.position = RequestCodec.HEADER_LENGTH;
+    }
+
+    /**
+     * Reads the next request of the log
+     * @return the next request, or {@code null} once the end of the log is reached
+     * @throws java.io.IOException if an I/O error occurs or a record is malformed
+     */
+    public synchronized CapturedRequest next() throws IOException {
+
+        if(position + Integer.BYTES > size) {
+            return null;
+        }
+        map(position,Integer.BYTES);
+        final int length = window.getInt((int)(position - windowStart));
+        if(length < 0 || length > RequestCodec.MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid request capture record length " + length + " at offset " + position);
+        }
+        final long payloadStart = position + Integer.BYTES;
+        if(payloadStart + length > size) {
+            return null;
+        }
+        map(payloadStart,length);
+        final byte [] payload = new byte[length];
+        final ByteBuffer view = window.duplicate();
+        view.position((int)(payloadStart - windowStart));
+        view.get(payload);
+        position = payloadStart + length;
+        return RequestCodec.decode(payload);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        channel.close();
+    }
+
+    private void map(long start, int length) throws IOException {
+
+        if(window != null && start >= windowStart && start + length <= windowStart + window.limit()) {
+            return;
+        }
+        final long mapped = Math.min(size - start,Math.max(windowSize,length));
+        window = channel.map(FileChannel.MapMode.READ_ONLY,start,mapped);
+        windowStart = start;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a traffic replay
+ */
+public class ReplayResult {
+
+    private final long errors;
+    private final long mismatches;
+    private final Duration elapsed;
+    private final long [] sortedLatencies;
+
+    ReplayResult(long errors, long mismatches, final Duration elapsed, final long [] sortedLatencies) {
+
+        this.errors = errors;
+        this.mismatches = mismatches;
+        this.elapsed = elapsed;
+        this.sortedLatencies = sortedLatencies;
+    }
+
+    /**
+     * Gets the number of requests replayed
+     * @return the number of requests
+     */
+    public long getRequests() {
+
+        return sortedLatencies.length;
+    }
+
+    /**
+     * Gets the number of replayed requests which failed
+     * @return the number of errors
+     */
+    public long getErrors() {
+
+        return errors;
+    }
+
+    /**
+     * Gets the number of replayed requests whose decision differs from the recorded one. 
+     * Requests without a recorded decision are not compared
+     * @return the number of decision mismatches
+     */
+    public long getMismatches() {
+
+        return mismatches;
+    }
+
+    /**
+     * Gets the wall clock duration of the replay
+     * @return the replay duration
+     */
+    public Duration getElapsed() {
+
+        return elapsed;
+    }
+
+    /**
+     * Gets the replay throughput
+     * @return the number of requests replayed per second
+     */
+    public double getThroughput() {
+
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : sortedLatencies.length * 1e9 / nanos;
+    }
+
+    /**
+     * Gets a latency percentile
+     * <p>
+     *  At recorded speed, latencies are measured from the time each request was scheduled rather than the time 
+     *  it was sent, so requests delayed by slow predecessors are accounted for (no coordinated omission).
+     * </p>
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency percentile, or {@link java.time.Duration#ZERO} if no request was replayed
+     */
+    public Duration getLatencyPercentile(double percentile) {
+
+        if(sortedLatencies.length == 0) {
+            return Duration.ZERO;
+        }
+        final double clamped = Math.max(0,Math.min(100,percentile));
+        final int index = (int) Math.ceil(clamped / 100 * sortedLatencies.length) - 1;
+        return Duration.ofNanos(sortedLatencies[Math.max(0,index)]);
+    }
+
+    /**
+     * Gets the maximum latency
+     * @return the maximum latency
+     */
+    public Duration getMaxLatency() {
+
+        return getLatencyPercentile(100);
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("requests=%d, errors=%d, mismatches=%d, elapsed=%s, throughput=%.1f/s, p50=%s, p90=%s, p99=%s, p99.9=%s, max=%s",
+            getRequests(),errors,mismatches,elapsed,getThroughput(),getLatencyPercentile(50),getLatencyPercentile(90),
+            getLatencyPercentile(99),getLatencyPercentile(99.9),getMaxLatency());
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.EntityData;
+import io.jans.cedarling.bridge.authz.PhaseTimings;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of captured authorization requests
+ * <p>
+ *  A capture file starts with a header (magic number and format version), followed by any number of records. 
+ *  Each record is an {@code int} byte length followed by that many bytes of payload, so readers can skip records
+ *  and a truncated trailing record is detected rather than misread. Strings are length prefixed UTF-8, 
+ *  with a length of {@code -1} standing for {@code null}. All numbers are big endian.
+ * </p>
+ */
+public final class RequestCodec {
+
+    /**
+     * Magic number starting every capture file ("C4JR")
+     */
+    public static final int MAGIC = 0x43344A52;
+
+    /**
+     * Version of the capture format written by this codec
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Length of the capture file header in bytes
+     */
+    public static final int HEADER_LENGTH = Integer.BYTES + Short.BYTES;
+
+    static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    private RequestCodec() {
+
+    }
+
+    /**
+     * Writes a capture file header
+     * @param out the output to write to
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public static void writeHeader(final DataOutput out) throws IOException {
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+    }
+
+    /**
+     * Reads and checks a capture file header
+     * @param in the input to read from
+     * @throws java.io.IOException if an I/O error occurs or the input is not a capture file in a supported version
+     */
+    public static void readHeader(final DataInput in) throws IOException {
+
+        checkHeader(in.readInt(),in.readShort());
+    }
+
+    static void checkHeader(int magic, short version) throws IOException {
+
+        if(magic != MAGIC) {
+            throw new IOException("Not a cedarling request capture");
+        }
+        if(version != VERSION) {
+            throw new IOException("Unsupported request capture version " + version);
+        }
+    }
+
+    /**
+     * Encodes a captured request into a record payload
+     * @param request the captured request
+     * @return the record payload
+     */
+    public static byte[] encode(final CapturedRequest request) {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try(DataOutputStream out = new DataOutputStream(bytes)) {
+            writePayload(out,request);
+        }catch(IOException e) {
+            throw new IllegalStateException("In memory encoding failed",e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a captured request as a record
+     * @param out the output to write to
+     * @param request the captured request
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public static void write(final DataOutput out, final CapturedRequest request) throws IOException {
+
+        final byte [] payload = encode(request);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    /**
+     * Reads a record
+     * @param in the input to read from
+     * @return the captured request, or {@code null} if the input ended at a record boundary
+     * @throws java.io.IOException if an I/O error occurs or the record is malformed or truncated
+     */
+    public static CapturedRequest read(final DataInput in) throws IOException {
+
+        final int length;
+        try {
+            length = in.readInt();
+        }catch(EOFException e) {
+            return null;
+        }
+        if(length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid request capture record length " + length);
+        }
+        final byte [] payload = new byte[length];
+        in.readFully(payload);
+        return decode(payload);
+    }
+
+    /**
+     * Decodes a record payload
+     * @param payload the record payload
+     * @return the captured request
+     * @throws java.io.IOException if the payload is malformed
+     */
+    public static CapturedRequest decode(final byte [] payload) throws IOException {
+
+        try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return readPayload(in);
+        }catch(EOFException e) {
+            throw new IOException("Truncated request capture record",e);
+        }
+    }
+
+    /**
+     * Writes a complete capture file
+     * @param file the file to write, replaced if it exists
+     * @param requests the captured requests
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public static void writeFile(final Path file, final Collection<CapturedRequest> requests) throws IOException {
+
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            writeHeader(out);
+            for(CapturedRequest request : requests) {
+                write(out,request);
+            }
+        }
+    }
+
+    /**
+     * Reads a complete capture file
+     * @param file the file to read
+     * @return the captured requests, in file order
+     * @throws java.io.IOException if an I/O error occurs or the file is malformed
+     */
+    public static List<CapturedRequest> readFile(final Path file) throws IOException {
+
+        try(InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            return readAll(is);
+        }
+    }
+
+    /**
+     * Reads a complete capture stream
+     * @param is the stream to read, header included
+     * @return the captured requests, in stream order
+     * @throws java.io.IOException if an I/O error occurs or the stream is malformed
+     */
+    public static List<CapturedRequest> readAll(final InputStream is) throws IOException {
+
+        final DataInputStream in = new DataInputStream(is);
+        readHeader(in);
+        final List<CapturedRequest> ret = new ArrayList<>();
+        CapturedRequest request;
+        while((request = read(in)) != null) {
+            ret.add(request);
+        }
+        return ret;
+    }
+
+    private static void writePayload(final DataOutput out, final CapturedRequest request) throws IOException {
+
+        out.writeByte(request.getKind().ordinal());
+        out.writeLong(request.getCapturedAt().getEpochSecond());
+        out.writeInt(request.getCapturedAt().getNano());
+        out.writeLong(request.getLatency().toNanos());
+
+        final PhaseTimings timings = request.getPhaseTimings().orElse(null);
+        out.writeBoolean(timings != null);
+        if(timings != null) {
+            out.writeLong(timings.getMarshalling().toNanos());
+            out.writeLong(timings.getWaiting().toNanos());
+            out.writeLong(timings.getEvaluation().toNanos());
+        }
+
+        final Boolean decision = request.getDecision().orElse(null);
+        out.writeByte(decision == null ? -1 : (decision ? 1 : 0));
+        writeString(out,request.getError().orElse(null));
+
+        out.writeInt(request.getTokens().size());
+        for(Map.Entry<String,String> token : request.getTokens().entrySet()) {
+            writeString(out,token.getKey());
+            writeString(out,token.getValue());
+        }
+        out.writeInt(request.getPrincipals().size());
+        for(EntityData principal : request.getPrincipals()) {
+            writeEntity(out,principal);
+        }
+        writeString(out,request.getAction());
+        writeEntity(out,request.getResource());
+        writeString(out,request.getContext());
+    }
+
+    private static CapturedRequest readPayload(final DataInput in) throws IOException {
+
+        final int kindOrdinal = in.readByte();
+        if(kindOrdinal < 0 || kindOrdinal >= CapturedRequest.Kind.values().length) {
+            throw new IOException("Unknown captured request kind " + kindOrdinal);
+        }
+        final CapturedRequest.Kind kind = CapturedRequest.Kind.values()[kindOrdinal];
+        final Instant capturedAt = Instant.ofEpochSecond(in.readLong(),in.readInt());
+        final Duration latency = Duration.ofNanos(in.readLong());
+
+        PhaseTimings timings = null;
+        if(in.readBoolean()) {
+            timings = new PhaseTimings(Duration.ofNanos(in.readLong()),Duration.ofNanos(in.readLong()),
+                Duration.ofNanos(in.readLong()));
+        }
+
+        final byte decisionByte = in.readByte();
+        final Boolean decision = (decisionByte < 0 ? null : Boolean.valueOf(decisionByte == 1));
+        final String error = readString(in);
+
+        final int tokenCount = readCount(in);
+        final Map<String,String> tokens = new LinkedHashMap<>();
+        for(int i = 0; i < tokenCount; i++) {
+            tokens.put(readString(in),readString(in));
+        }
+        final int principalCount = readCount(in);
+        final List<EntityData> principals = new ArrayList<>(principalCount);
+        for(int i = 0; i < principalCount; i++) {
+            principals.add(readEntity(in));
+        }
+        final String action = readString(in);
+        final EntityData resource = readEntity(in);
+        final String context = readString(in);
+
+        return new CapturedRequest(kind,capturedAt,latency,timings,tokens,principals,action,resource,context,decision,error);
+    }
+
+    private static void writeEntity(final DataOutput out, final EntityData entity) throws IOException {
+
+        out.writeBoolean(entity != null);
+        if(entity == null) {
+            return;
+        }
+        final CedarEntityMapping mapping = entity.getCedarMapping();
+        writeString(out,mapping == null ? null : mapping.getId());
+        writeString(out,mapping == null ? null : mapping.getEntityType());
+        writeString(out,entity.getAttributes());
+    }
+
+    private static EntityData readEntity(final DataInput in) throws IOException {
+
+        if(!in.readBoolean()) {
+            return null;
+        }
+        final String id = readString(in);
+        final String entityType = readString(in);
+        final String attributes = readString(in);
+        final CedarEntityMapping mapping = (id == null && entityType == null ? null : new CedarEntityMapping(id,entityType));
+        return new EntityData(mapping,attributes);
+    }
+
+    private static void writeString(final DataOutput out, final String value) throws IOException {
+
+        if(value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte [] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInput in) throws IOException {
+
+        final int length = in.readInt();
+        if(length == -1) {
+            return null;
+        }
+        if(length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid string length " + length);
+        }
+        final byte [] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes,StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(final DataInput in) throws IOException {
+
+        final int count = in.readInt();
+        if(count < 0 || count > MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid element count " + count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.concurrency.AuthorizationCall;
+import io.jans.cedarling.bridge.config.SlowRequestCaptureConfiguration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded in-memory ring of authorization requests which exceeded a latency threshold
+ * <p>
+ *  Requests below the threshold only cost two {@link System#nanoTime()} calls. Requests above it are 
+ *  copied, with their outcome, into the ring, which discards the oldest capture when full.
+ * </p>
+ */
+public class SlowRequestCapture {
+
+    private final long thresholdNanos;
+    private final int capacity;
+    private final boolean redactTokens;
+    private final ArrayDeque<CapturedRequest> ring;
+    private long capturedCount;
+
+    /**
+     * Constructor
+     * @param config the slow request capture configuration
+     * @throws java.lang.IllegalArgumentException if the configuration is invalid
+     */
+    public SlowRequestCapture(final SlowRequestCaptureConfiguration config) {
+
+        if(config.getThreshold() == null || config.getThreshold().isNegative()) {
+            throw new IllegalArgumentException("Threshold cannot be null or negative");
+        }
+        if(config.getCapacity() <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.thresholdNanos = config.getThreshold().toNanos();
+        this.capacity = config.getCapacity();
+        this.redactTokens = config.isRedactTokens();
+        this.ring = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Runs a token based authorization call, capturing the request if it's slow
+     * @param request the request being authorized
+     * @param call the authorization call
+     * @return the result of the call
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    public AuthorizeResult execute(final AuthorizeRequest request, final AuthorizationCall<AuthorizeResult> call) throws CedarlingError {
+
+        return Capturer.execute(call,thresholdNanos,
+            (latency,timings,decision,error) -> CapturedRequest.of(request,redactTokens,latency,timings,decision,error),this::add);
+    }
+
+    /**
+     * Runs an unsigned authorization call, capturing the request if it's slow
+     * @param request the request being authorized
+     * @param call the authorization call
+     * @return the result of the call
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    public AuthorizeResult execute(final AuthorizeRequestUnsigned request, final AuthorizationCall<AuthorizeResult> call) throws CedarlingError {
+
+        return Capturer.execute(call,thresholdNanos,
+            (latency,timings,decision,error) -> CapturedRequest.of(request,latency,timings,decision,error),this::add);
+    }
+
+    /**
+     * Gets the requests currently held by the ring
+     * @return the captured requests, oldest first
+     */
+    public synchronized List<CapturedRequest> snapshot() {
+
+        return new ArrayList<>(ring);
+    }
+
+    /**
+     * Gets the number of requests captured since this ring was created, including those since discarded
+     * @return the number of captured requests
+     */
+    public synchronized long getCapturedCount() {
+
+        return capturedCount;
+    }
+
+    /**
+     * Writes the requests currently held by the ring to a capture file. See {@link io.jans.cedarling.bridge.capture.RequestCodec}
+     * @param file the file to write, replaced if it exists
+     * @return the number of requests written
+     * @throws java.io.IOException if an I/O error occurs
+     */
+    public int dump(final Path file) throws IOException {
+
+        final List<CapturedRequest> requests = snapshot();
+        RequestCodec.writeFile(file,requests);
+        return requests.size();
+    }
+
+    synchronized void add(final CapturedRequest request) {
+
+        if(ring.size() == capacity) {
+            ring.pollFirst();
+        }
+        ring.addLast(request);
+        capturedCount++;
+    }
+}
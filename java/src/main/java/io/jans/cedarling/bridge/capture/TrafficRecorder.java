@@ -0,0 +1,221 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.concurrency.AuthorizationCall;
+import io.jans.cedarling.bridge.config.TrafficRecordingConfiguration;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends every authorization request to a binary log, see {@link io.jans.cedarling.bridge.capture.RequestCodec}
+ * <p>
+ *  Callers only copy their request into a bounded queue. Encoding and writing happen on a background thread, 
+ *  which flushes the log whenever the queue runs empty. Requests are dropped, and counted, when the queue is full.
+ * </p>
+ */
+public class TrafficRecorder implements Closeable {
+
+    private static final String WRITER_THREAD_NAME = "cedarling4j-recorder";
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final boolean redactTokens;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final DataOutputStream out;
+    private final Thread writer;
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed = false;
+    private volatile IOException writeError;
+
+    /**
+     * Constructor. Opens the log, writing its header if it's new or empty
+     * @param config the traffic recording configuration
+     * @throws java.io.IOException if the log can't be opened or is not a request log
+     * @throws java.lang.IllegalArgumentException if the configuration is invalid
+     */
+    public TrafficRecorder(final TrafficRecordingConfiguration config) throws IOException {
+
+        if(config.getFile() == null) {
+            throw new IllegalArgumentException("Log file cannot be null");
+        }
+        if(config.getQueueCapacity() <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.redactTokens = config.isRedactTokens();
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.out = open(config.getFile());
+        this.writer = new Thread(this::drain,WRITER_THREAD_NAME);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Runs a token based authorization call and records it
+     * @param request the request being authorized
+     * @param call the authorization call
+     * @return the result of the call
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    public AuthorizeResult execute(final AuthorizeRequest request, final AuthorizationCall<AuthorizeResult> call) throws CedarlingError {
+
+        return Capturer.execute(call,-1,
+            (latency,timings,decision,error) -> CapturedRequest.of(request,redactTokens,latency,timings,decision,error),this::offer);
+    }
+
+    /**
+     * Runs an unsigned authorization call and records it
+     * @param request the request being authorized
+     * @param call the authorization call
+     * @return the result of the call
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    public AuthorizeResult execute(final AuthorizeRequestUnsigned request, final AuthorizationCall<AuthorizeResult> call) throws CedarlingError {
+
+        return Capturer.execute(call,-1,
+            (latency,timings,decision,error) -> CapturedRequest.of(request,latency,timings,decision,error),this::offer);
+    }
+
+    /**
+     * Gets the number of requests written to the log
+     * @return the number of recorded requests
+     */
+    public long getRecordedCount() {
+
+        return recorded.get();
+    }
+
+    /**
+     * Gets the number of requests which were not recorded, because the queue was full or writing failed
+     * @return the number of dropped requests
+     */
+    public long getDroppedCount() {
+
+        return dropped.get();
+    }
+
+    /**
+     * Writes the requests still queued and closes the log
+     * @throws java.io.IOException if the last writes fail, or an earlier write failed and stopped recording
+     */
+    @Override
+    public void close() throws IOException {
+
+        if(closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writer.join();
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        out.close();
+        if(writeError != null) {
+            throw writeError;
+        }
+    }
+
+    void offer(final CapturedRequest request) {
+
+        if(closed || writeError != null || !queue.offer(request)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+
+        try {
+            while(!closed || !queue.isEmpty()) {
+                CapturedRequest request = queue.poll();
+                if(request == null) {
+                    out.flush();
+                    request = queue.poll(IDLE_POLL_MILLIS,TimeUnit.MILLISECONDS);
+                    if(request == null) {
+                        continue;
+                    }
+                }
+                RequestCodec.write(out,request);
+                recorded.incrementAndGet();
+            }
+            out.flush();
+        }catch(IOException e) {
+            writeError = e;
+            dropped.addAndGet(queue.size());
+            queue.clear();
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static DataOutputStream open(final Path file) throws IOException {
+
+        final boolean empty = !Files.exists(file) || Files.size(file) == 0;
+        if(!empty) {
+            truncateIncompleteRecord(file);
+        }
+        final DataOutputStream ret = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+            StandardOpenOption.CREATE,StandardOpenOption.APPEND,StandardOpenOption.WRITE),WRITE_BUFFER_SIZE));
+        if(empty) {
+            RequestCodec.writeHeader(ret);
+            ret.flush();
+        }
+        return ret;
+    }
+
+    /**
+     * Checks the log header and cuts off a trailing record left incomplete by a crash,
+     * so appended records stay aligned. Only record lengths are read
+     */
+    private static void truncateIncompleteRecord(final Path file) throws IOException {
+
+        try(FileChannel channel = FileChannel.open(file,StandardOpenOption.READ,StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(RequestCodec.HEADER_LENGTH);
+            if(channel.read(header,0) != RequestCodec.HEADER_LENGTH) {
+                throw new IOException("Not a cedarling request capture");
+            }
+            header.flip();
+            RequestCodec.checkHeader(header.getInt(),header.getShort());
+
+            final long size = channel.size();
+            final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            long position = RequestCodec.HEADER_LENGTH;
+            while(position < size) {
+                length.clear();
+                if(channel.read(length,position) != Integer.BYTES) {
+                    break;
+                }
+                length.flip();
+                final long next = position + Integer.BYTES + length.getInt();
+                if(next > size || next <= position) {
+                    break;
+                }
+                position = next;
+            }
+            if(position < size) {
+                channel.truncate(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.Cedarling;
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a request log against a cedarling instance
+ * <p>
+ *  Requests are read from the log as they are sent, by a fixed number of threads. At {@link Speed#RECORDED} speed,
+ *  requests are sent with the same spacing they arrived with when recorded. At {@link Speed#MAXIMUM} speed, 
+ *  each thread sends its next request as soon as the previous one completes.
+ * </p>
+ */
+public class TrafficReplayer {
+
+    /**
+     * Replay speed
+     */
+    public enum Speed {
+        /** Requests are sent with their recorded spacing */
+        RECORDED,
+        /** Requests are sent back to back */
+        MAXIMUM
+    }
+
+    private final int threads;
+    private final Speed speed;
+
+    /**
+     * Constructor
+     * @param threads the number of threads sending requests
+     * @param speed the replay speed
+     */
+    public TrafficReplayer(int threads, final Speed speed) {
+
+        if(threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.threads = threads;
+        this.speed = speed;
+    }
+
+    /**
+     * Replays a request log
+     * @param log the request log
+     * @param cedarling the instance to replay requests against
+     * @return the outcome of the replay
+     * @throws java.io.IOException if the log can't be read
+     */
+    public ReplayResult replay(final Path log, final Cedarling cedarling) throws IOException {
+
+        try(ReplayReader reader = new ReplayReader(log)) {
+            return replay(reader,request -> request.getKind() == CapturedRequest.Kind.SIGNED 
+                ? cedarling.authorize(request.toAuthorizeRequest())
+                : cedarling.authorizeUnsigned(request.toAuthorizeRequestUnsigned()));
+        }
+    }
+
+    ReplayResult replay(final ReplayReader reader, final Target target) throws IOException {
+
+        final Schedule schedule = new Schedule();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong mismatches = new AtomicLong();
+        final List<Worker> workers = new ArrayList<>(threads);
+        for(int i = 0; i < threads; i++) {
+            workers.add(new Worker(reader,target,schedule,errors,mismatches));
+        }
+
+        final long start = System.nanoTime();
+        schedule.startNanos = start;
+        final List<Thread> running = new ArrayList<>(threads);
+        for(int i = 0; i < threads; i++) {
+            final Thread thread = new Thread(workers.get(i),"cedarling4j-replay-" + i);
+            running.add(thread);
+            thread.start();
+        }
+        for(Thread thread : running) {
+            try {
+                thread.join();
+            }catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Replay interrupted",e);
+            }
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        int total = 0;
+        for(Worker worker : workers) {
+            if(worker.failure != null) {
+                throw worker.failure;
+            }
+            total += worker.count;
+        }
+        final long [] latencies = new long[total];
+        int offset = 0;
+        for(Worker worker : workers) {
+            System.arraycopy(worker.latencies,0,latencies,offset,worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+        return new ReplayResult(errors.get(),mismatches.get(),elapsed,latencies);
+    }
+
+    @FunctionalInterface
+    interface Target {
+
+        AuthorizeResult authorize(CapturedRequest request) throws CedarlingError;
+    }
+
+    private static final class Schedule {
+
+        volatile long startNanos;
+        private Instant origin;
+
+        synchronized Instant origin(final Instant first) {
+
+            if(origin == null) {
+                origin = first;
+            }
+            return origin;
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private final ReplayReader reader;
+        private final Target target;
+        private final Schedule schedule;
+        private final AtomicLong errors;
+        private final AtomicLong mismatches;
+        private long [] latencies = new long[1024];
+        private int count = 0;
+        private IOException failure;
+
+        Worker(final ReplayReader reader, final Target target, final Schedule schedule, final AtomicLong errors, final AtomicLong mismatches) {
+
+            this.reader = reader;
+            this.target = target;
+            this.schedule = schedule;
+            this.errors = errors;
+            this.mismatches = mismatches;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+                CapturedRequest request;
+                while((request = reader.next()) != null) {
+                    final long sendAt = (speed == Speed.RECORDED ? scheduledNanos(request) : System.nanoTime());
+                    waitUntil(sendAt);
+                    try {
+                        final AuthorizeResult result = target.authorize(request);
+                        if(request.getDecision().isPresent() && request.getDecision().get() != result.isAllowed()) {
+                            mismatches.incrementAndGet();
+                        }
+                    }catch(CedarlingError | RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    record(System.nanoTime() - sendAt);
+                }
+            }catch(IOException e) {
+                failure = e;
+            }
+        }
+
+        private long scheduledNanos(final CapturedRequest request) {
+
+            final Instant origin = schedule.origin(request.getStartedAt());
+            // requests recorded before the origin (threads racing on the first reads) are sent right away
+            final long offset = Math.max(0,Duration.between(origin,request.getStartedAt()).toNanos());
+            return schedule.startNanos + offset;
+        }
+
+        private void waitUntil(long nanos) {
+
+            long remaining;
+            while((remaining = nanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+
+        private void record(long latency) {
+
+            if(count == latencies.length) {
+                latencies = Arrays.copyOf(latencies,count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
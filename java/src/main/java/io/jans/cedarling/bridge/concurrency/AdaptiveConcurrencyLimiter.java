@@ -0,0 +1,181 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.CedarlingOverloadError;
+import io.jans.cedarling.bridge.config.ConcurrencyLimitConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission controller limiting the number of concurrent calls with an AIMD adjusted limit
+ * <p>
+ *  A call is admitted only while the number of in-flight calls is below the current limit. <br/>
+ *  Once a call completes, its latency is fed back to the limiter:
+ * </p>
+ * <ul>
+ *  <li>
+ *      If it exceeds the latency threshold, the limit is multiplied by the backoff ratio. <br/>
+ *      The limit is decreased at most once per round trip: calls started before the last decrease ran under <br/>
+ *      the previous limit, so their latency is not held against the new one and a burst of slow calls backs off once.
+ *  </li>
+ *  <li>
+ *      Otherwise, if at least half of the limit was in use when the call completed, the limit is increased by one. <br/>
+ *      The limit is not increased while the instance is mostly idle, as the observed latency says nothing about <br/>
+ *      how the instance would behave with more concurrent calls.
+ *  </li>
+ * </ul>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LATENCY_SMOOTHING = 0.125;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight;
+    private final AtomicInteger peakInFlight;
+    private final LongAdder accepted;
+    private final LongAdder rejected;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double averageLatencyNanos;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    /**
+     * Creates a limiter with the specified configuration
+     * @param config the concurrency limit configuration
+     */
+    public AdaptiveConcurrencyLimiter(final ConcurrencyLimitConfiguration config) {
+
+        this(config.getInitialLimit(),config.getMinLimit(),config.getMaxLimit(),
+            config.getLatencyThreshold(),config.getBackoffRatio());
+    }
+
+    /**
+     * Constructor
+     * @param initialLimit the initial concurrency limit
+     * @param minLimit the minimum concurrency limit
+     * @param maxLimit the maximum concurrency limit
+     * @param latencyThreshold the call latency above which the limit is decreased
+     * @param backoffRatio the factor the limit is multiplied by when decreased
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, final Duration latencyThreshold, double backoffRatio) {
+
+        if(minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds [" + minLimit + "," + maxLimit + "]");
+        }
+        if(backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        if(latencyThreshold == null) {
+            throw new IllegalArgumentException("Latency threshold cannot be null");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = Math.max(minLimit,Math.min(maxLimit,initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.inFlight = new AtomicInteger();
+        this.peakInFlight = new AtomicInteger();
+        this.accepted = new LongAdder();
+        this.rejected = new LongAdder();
+    }
+
+    /**
+     * Performs the call if the concurrency limit allows it
+     * @param call the call to perform
+     * @param <T> the call's result type
+     * @return the call's result
+     * @throws io.jans.cedarling.bridge.authz.CedarlingOverloadError if the concurrency limit is reached
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    public <T> T execute(final AuthorizationCall<T> call) throws CedarlingError {
+
+        if(!tryAcquire()) {
+            throw new CedarlingOverloadError("Authorization rejected. Concurrency limit (" + limit + ") reached");
+        }
+        final long start = System.nanoTime();
+        try {
+            return call.call();
+        }finally {
+            release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the limiter's state
+     * @return the limiter's metrics
+     */
+    public ConcurrencyLimiterMetrics metrics() {
+
+        final double latency;
+        synchronized(this) {
+            latency = averageLatencyNanos;
+        }
+        return new ConcurrencyLimiterMetrics(limit,inFlight.get(),peakInFlight.get(),
+            accepted.sum(),rejected.sum(),Duration.ofNanos((long) latency));
+    }
+
+    boolean tryAcquire() {
+
+        for(;;) {
+            final int current = inFlight.get();
+            if(current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if(inFlight.compareAndSet(current,current + 1)) {
+                accepted.increment();
+                if(current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1,Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    void release(final long latencyNanos) {
+
+        release(latencyNanos,System.nanoTime());
+    }
+
+    void release(final long latencyNanos, final long nowNanos) {
+
+        final int inflight = inFlight.getAndDecrement();
+        onSample(latencyNanos,nowNanos,inflight);
+    }
+
+    private synchronized void onSample(final long latencyNanos, final long nowNanos, final int inflight) {
+
+        if(averageLatencyNanos == 0) {
+            averageLatencyNanos = latencyNanos;
+        }else {
+            averageLatencyNanos += LATENCY_SMOOTHING * (latencyNanos - averageLatencyNanos);
+        }
+
+        if(latencyNanos > latencyThresholdNanos) {
+            final long startNanos = nowNanos - latencyNanos;
+            if(!decreased || startNanos - lastDecreaseNanos >= 0) {
+                estimatedLimit = Math.max(minLimit,estimatedLimit * backoffRatio);
+                decreased = true;
+                lastDecreaseNanos = nowNanos;
+            }
+        }else if(inflight * 2 >= limit) {
+            estimatedLimit = Math.min(maxLimit,estimatedLimit + 1);
+        }
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.CedarlingError;
+
+/**
+ * An authorization call wrapped by the concurrency controls in this package
+ * @param <T> the call's result type
+ */
+@FunctionalInterface
+public interface AuthorizationCall<T> {
+
+    /**
+     * Performs the call
+     * @return the call's result
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails
+     */
+    T call() throws CedarlingError;
+}
@@ -0,0 +1,86 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import java.time.Duration;
+
+/**
+ * Point in time snapshot of an {@link AdaptiveConcurrencyLimiter}'s state
+ */
+public class ConcurrencyLimiterMetrics {
+
+    private final int limit;
+    private final int inFlight;
+    private final int peakInFlight;
+    private final long accepted;
+    private final long rejected;
+    private final Duration averageLatency;
+
+    ConcurrencyLimiterMetrics(int limit, int inFlight, int peakInFlight, long accepted, long rejected, Duration averageLatency) {
+
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.peakInFlight = peakInFlight;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.averageLatency = averageLatency;
+    }
+
+    /**
+     * Gets the current concurrency limit
+     * @return the concurrency limit
+     */
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Gets the number of calls currently being evaluated
+     * @return the number of in-flight calls
+     */
+    public int getInFlight() {
+
+        return inFlight;
+    }
+
+    /**
+     * Gets the highest number of calls evaluated concurrently since the limiter was created
+     * @return the peak number of in-flight calls
+     */
+    public int getPeakInFlight() {
+
+        return peakInFlight;
+    }
+
+    /**
+     * Gets the number of calls admitted since the limiter was created
+     * @return the number of admitted calls
+     */
+    public long getAccepted() {
+
+        return accepted;
+    }
+
+    /**
+     * Gets the number of calls rejected since the limiter was created
+     * @return the number of rejected calls
+     */
+    public long getRejected() {
+
+        return rejected;
+    }
+
+    /**
+     * Gets the exponentially weighted moving average of the call latency
+     * @return the average latency
+     */
+    public Duration getAverageLatency() {
+
+        return averageLatency;
+    }
+}
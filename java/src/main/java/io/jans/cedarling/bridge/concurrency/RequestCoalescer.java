@@ -0,0 +1,171 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.CedarlingTimeoutError;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight execution of identical concurrent calls
+ * <p>
+ *  The first caller for a given key performs the call. Callers arriving with the same key while the call <br/>
+ *  is in progress wait for its outcome (result or error) instead of performing the call again. <br/>
+ *  A waiting caller gives up after the configured maximum wait and performs the call itself, as it does <br/>
+ *  when the call times out, the timeout being the first caller's own. <br/>
+ *  In-flight calls are tracked in per-stripe maps, each guarded by its own lock, so that unrelated keys <br/>
+ *  rarely contend. Entries are removed as soon as the call completes.
+ * </p>
+ * @param <K> the key type
+ * @param <V> the result type. Results are shared between the coalesced callers
+ */
+public class RequestCoalescer<K,V> {
+
+    private final Object [] locks;
+    private final Map<K,CompletableFuture<V>> [] inflight;
+    private final int mask;
+    private final long maxWaitNanos;
+    private final LongAdder coalesced;
+    private final LongAdder waitTimeouts;
+
+    /**
+     * Constructor
+     * @param lockStripes the number of lock stripes, rounded up to the next power of two
+     * @param maxWait how long duplicate callers wait for the in-flight call
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public RequestCoalescer(final int lockStripes, final Duration maxWait) {
+
+        final int stripes = stripeCount(lockStripes);
+        locks = new Object[stripes];
+        inflight = new Map[stripes];
+        for(int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+            inflight[i] = new HashMap<>();
+        }
+        mask = stripes - 1;
+        maxWaitNanos = maxWait.toNanos();
+        coalesced = new LongAdder();
+        waitTimeouts = new LongAdder();
+    }
+
+    /**
+     * Performs the call, or waits for an identical in-flight call to complete
+     * @param key the key identifying identical calls
+     * @param call the call to perform
+     * @return the call's result
+     * @throws io.jans.cedarling.bridge.CedarlingError if the call fails or the caller is interrupted while waiting
+     */
+    public V execute(final K key, final AuthorizationCall<V> call) throws CedarlingError {
+
+        final int stripe = stripe(key);
+        final CompletableFuture<V> existing;
+        final CompletableFuture<V> mine = new CompletableFuture<>();
+        synchronized(locks[stripe]) {
+            existing = inflight[stripe].putIfAbsent(key,mine);
+        }
+
+        if(existing == null) {
+            return lead(stripe,key,mine,call);
+        }
+        coalesced.increment();
+        return await(existing,call);
+    }
+
+    /**
+     * Gets the number of calls which were coalesced with an in-flight call
+     * @return the number of coalesced calls
+     */
+    public long getCoalescedCount() {
+
+        return coalesced.sum();
+    }
+
+    /**
+     * Gets the number of coalesced calls which gave up waiting and performed the call themselves
+     * @return the number of wait timeouts
+     */
+    public long getWaitTimeoutCount() {
+
+        return waitTimeouts.sum();
+    }
+
+    int inflightCount() {
+
+        int ret = 0;
+        for(int i = 0; i < locks.length; i++) {
+            synchronized(locks[i]) {
+                ret += inflight[i].size();
+            }
+        }
+        return ret;
+    }
+
+    private V lead(final int stripe, final K key, final CompletableFuture<V> future, final AuthorizationCall<V> call) throws CedarlingError {
+
+        try {
+            final V result = call.call();
+            future.complete(result);
+            return result;
+        }catch(CedarlingError | RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        }finally {
+            synchronized(locks[stripe]) {
+                inflight[stripe].remove(key,future);
+            }
+        }
+    }
+
+    private V await(final CompletableFuture<V> future, final AuthorizationCall<V> call) throws CedarlingError {
+
+        try {
+            return future.get(maxWaitNanos,TimeUnit.NANOSECONDS);
+        }catch(TimeoutException e) {
+            waitTimeouts.increment();
+            return call.call();
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CedarlingError("Interrupted while waiting for a coalesced authorization request",e);
+        }catch(ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof CedarlingTimeoutError) {
+                return call.call();
+            }else if(cause instanceof CedarlingError) {
+                throw (CedarlingError) cause;
+            }else if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CedarlingError("Coalesced authorization request failed",cause);
+        }
+    }
+
+    private int stripe(final K key) {
+
+        final int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int stripeCount(final int requested) {
+
+        int ret = 1;
+        while(ret < requested && ret < (1 << 16)) {
+            ret <<= 1;
+        }
+        return ret;
+    }
+}
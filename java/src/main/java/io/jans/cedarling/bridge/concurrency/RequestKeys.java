@@ -0,0 +1,112 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds canonical keys identifying authorization requests
+ * <p>
+ *  Two requests get the same key if and only if they have the same tokens or principals (regardless of <br/>
+ *  insertion order), action, resource and context. Every component is length-prefixed so distinct requests <br/>
+ *  can never produce the same key by concatenation. JSON attributes and context are compared as-is, <br/>
+ *  so semantically identical but differently serialized JSON yields different keys.
+ * </p>
+ */
+public final class RequestKeys {
+
+    private static final char SIGNED_PREFIX = 'S';
+    private static final char UNSIGNED_PREFIX = 'U';
+
+    private RequestKeys() {
+
+    }
+
+    /**
+     * Gets the canonical key of a signed authorization request
+     * @param request the request
+     * @return the request's key
+     */
+    public static String of(final AuthorizeRequest request) {
+
+        final StringBuilder sb = new StringBuilder(256);
+        sb.append(SIGNED_PREFIX);
+        final Map<String,String> tokens = new TreeMap<>(request.getTokens());
+        append(sb,Integer.toString(tokens.size()));
+        for(Map.Entry<String,String> token : tokens.entrySet()) {
+            append(sb,token.getKey());
+            append(sb,token.getValue());
+        }
+        append(sb,request.getAction());
+        append(sb,request.getResource());
+        append(sb,request.getContext());
+        return sb.toString();
+    }
+
+    /**
+     * Gets the canonical key of an unsigned authorization request
+     * @param request the request
+     * @return the request's key
+     */
+    public static String of(final AuthorizeRequestUnsigned request) {
+
+        final StringBuilder sb = new StringBuilder(256);
+        sb.append(UNSIGNED_PREFIX);
+        // each principal is self-delimiting once encoded, so sorting the encodings is canonical
+        final List<String> principals = new ArrayList<>(request.getPrincipals().size());
+        for(EntityData principal : request.getPrincipals()) {
+            final StringBuilder encoded = new StringBuilder(64);
+            append(encoded,principal);
+            principals.add(encoded.toString());
+        }
+        Collections.sort(principals);
+        append(sb,Integer.toString(principals.size()));
+        for(String principal : principals) {
+            sb.append(principal);
+        }
+        append(sb,request.getAction());
+        append(sb,request.getResource());
+        append(sb,request.getContext());
+        return sb.toString();
+    }
+
+    private static void append(final StringBuilder sb, final EntityData entity) {
+
+        if(entity == null) {
+            append(sb,(String) null);
+            return;
+        }
+        final CedarEntityMapping mapping = entity.getCedarMapping();
+        append(sb,mapping == null ? null : mapping.getEntityType());
+        append(sb,mapping == null ? null : mapping.getId());
+        append(sb,entity.getAttributes());
+    }
+
+    private static void append(final StringBuilder sb, final Context context) {
+
+        append(sb,context == null ? null : context.getData());
+    }
+
+    private static void append(final StringBuilder sb, final String value) {
+
+        if(value == null) {
+            sb.append("-1:");
+            return;
+        }
+        sb.append(value.length()).append(':').append(value);
+    }
+}
@@ -36,6 +36,17 @@ public class BootstrapConfiguration {
     private LockServiceConfiguration lockConfiguration;
     private Long maxDefaultEntities;
     private Long maxBase64Size;
+    private CoalescingConfiguration coalescingConfiguration;
+    private ConcurrencyLimitConfiguration concurrencyLimitConfiguration;
+    private ShadowConfiguration shadowConfiguration;
+    private SlowRequestCaptureConfiguration slowRequestCaptureConfiguration;
+    private TrafficRecordingConfiguration trafficRecordingConfiguration;
+    private EngineMode engineMode;
+    private TokenPreCheckConfiguration tokenPreCheckConfiguration;
+    private NegativeCacheConfiguration negativeCacheConfiguration;
+    private JwksRotationConfiguration jwksRotationConfiguration;
+    private StatusListConfiguration statusListConfiguration;
+    private Integer startupThreads;
 
     /**
      * Constructor
@@ -228,6 +239,261 @@ public class BootstrapConfiguration {
         return this;
     }
 
+    /**
+     * Gets the request coalescing settings to be used in this configuration
+     * @return the instance's request coalescing configuration, or {@code null} if coalescing is disabled
+     */
+    public CoalescingConfiguration getCoalescingConfiguration() {
+
+        return coalescingConfiguration;
+    }
+
+    /**
+     * Specifies the request coalescing settings to be used in this configuration 
+     * @param coalescingConfiguration the request coalescing configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setCoalescingConfiguration(CoalescingConfiguration coalescingConfiguration) {
+
+        this.coalescingConfiguration = coalescingConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the concurrency limit settings to be used in this configuration
+     * @return the instance's concurrency limit configuration, or {@code null} if concurrency isn't limited
+     */
+    public ConcurrencyLimitConfiguration getConcurrencyLimitConfiguration() {
+
+        return concurrencyLimitConfiguration;
+    }
+
+    /**
+     * Specifies the concurrency limit settings to be used in this configuration
+     * @param concurrencyLimitConfiguration the concurrency limit configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setConcurrencyLimitConfiguration(ConcurrencyLimitConfiguration concurrencyLimitConfiguration) {
+
+        this.concurrencyLimitConfiguration = concurrencyLimitConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the shadow evaluation settings to be used in this configuration
+     * @return the instance's shadow configuration, or {@code null} if there is no shadow policy store
+     */
+    public ShadowConfiguration getShadowConfiguration() {
+
+        return shadowConfiguration;
+    }
+
+    /**
+     * Specifies the shadow evaluation settings to be used in this configuration
+     * @param shadowConfiguration the shadow configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setShadowConfiguration(ShadowConfiguration shadowConfiguration) {
+
+        this.shadowConfiguration = shadowConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the slow request capture settings to be used in this configuration
+     * @return the instance's slow request capture configuration, or {@code null} if slow requests aren't captured
+     */
+    public SlowRequestCaptureConfiguration getSlowRequestCaptureConfiguration() {
+
+        return slowRequestCaptureConfiguration;
+    }
+
+    /**
+     * Specifies the slow request capture settings to be used in this configuration
+     * @param slowRequestCaptureConfiguration the slow request capture configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setSlowRequestCaptureConfiguration(SlowRequestCaptureConfiguration slowRequestCaptureConfiguration) {
+
+        this.slowRequestCaptureConfiguration = slowRequestCaptureConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the traffic recording settings to be used in this configuration
+     * @return the instance's traffic recording configuration, or {@code null} if traffic isn't recorded
+     */
+    public TrafficRecordingConfiguration getTrafficRecordingConfiguration() {
+
+        return trafficRecordingConfiguration;
+    }
+
+    /**
+     * Specifies the traffic recording settings to be used in this configuration
+     * @param trafficRecordingConfiguration the traffic recording configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setTrafficRecordingConfiguration(TrafficRecordingConfiguration trafficRecordingConfiguration) {
+
+        this.trafficRecordingConfiguration = trafficRecordingConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the engine mode to be used in this configuration
+     * @return the instance's engine mode, or {@code null} for the default {@link EngineMode#CEDAR} mode
+     */
+    public EngineMode getEngineMode() {
+
+        return engineMode;
+    }
+
+    /**
+     * Specifies the engine mode to be used in this configuration
+     * @param engineMode the engine mode
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setEngineMode(EngineMode engineMode) {
+
+        this.engineMode = engineMode;
+        return this;
+    }
+
+    /**
+     * Gets the token pre-check settings to be used in this configuration
+     * @return the instance's token pre-check configuration, or {@code null} if tokens are not pre-checked
+     */
+    public TokenPreCheckConfiguration getTokenPreCheckConfiguration() {
+
+        return tokenPreCheckConfiguration;
+    }
+
+    /**
+     * Specifies the token pre-check settings to be used in this configuration
+     * @param tokenPreCheckConfiguration the token pre-check configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setTokenPreCheckConfiguration(TokenPreCheckConfiguration tokenPreCheckConfiguration) {
+
+        this.tokenPreCheckConfiguration = tokenPreCheckConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the negative token cache settings to be used in this configuration
+     * @return the instance's negative token cache configuration, or {@code null} if rejected tokens are not cached
+     */
+    public NegativeCacheConfiguration getNegativeCacheConfiguration() {
+
+        return negativeCacheConfiguration;
+    }
+
+    /**
+     * Specifies the negative token cache settings to be used in this configuration
+     * @param negativeCacheConfiguration the negative token cache configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setNegativeCacheConfiguration(NegativeCacheConfiguration negativeCacheConfiguration) {
+
+        this.negativeCacheConfiguration = negativeCacheConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the JWKS rotation settings to be used in this configuration
+     * @return the instance's JWKS rotation configuration, or {@code null} if the instance's JWKS doesn't rotate
+     */
+    public JwksRotationConfiguration getJwksRotationConfiguration() {
+
+        return jwksRotationConfiguration;
+    }
+
+    /**
+     * Specifies the JWKS rotation settings to be used in this configuration
+     * @param jwksRotationConfiguration the JWKS rotation configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setJwksRotationConfiguration(JwksRotationConfiguration jwksRotationConfiguration) {
+
+        this.jwksRotationConfiguration = jwksRotationConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the token status list settings to be used in this configuration
+     * @return the instance's status list configuration, or {@code null} if the defaults apply
+     */
+    public StatusListConfiguration getStatusListConfiguration() {
+
+        return statusListConfiguration;
+    }
+
+    /**
+     * Specifies the token status list settings to be used in this configuration
+     * @param statusListConfiguration the status list configuration
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setStatusListConfiguration(StatusListConfiguration statusListConfiguration) {
+
+        this.statusListConfiguration = statusListConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the number of threads building engines when the instance is created and when tenants are registered in bulk
+     * <p>
+     *   This is a Java side setting and has no equivalent in the cedarling properties.
+     * </p>
+     * @return the number of startup threads, or {@code null} to use as many threads as there are available processors
+     */
+    public Integer getStartupThreads() {
+
+        return startupThreads;
+    }
+
+    /**
+     * Specifies the number of threads building engines when the instance is created and when tenants are registered in bulk
+     * (see {@link io.jans.cedarling.bridge.Cedarling#registerTenants(java.util.Map)}). {@code 1} builds them one at a time
+     * @param startupThreads the number of startup threads, or {@code null} to use as many threads as there are available processors
+     * @return the current instance of the bootstrap configuration
+     */
+    public BootstrapConfiguration setStartupThreads(Integer startupThreads) {
+
+        this.startupThreads = startupThreads;
+        return this;
+    }
+
+    /**
+     * Creates a shallow copy of this configuration.
+     * The sub configurations are shared between this configuration and the copy
+     * @return a copy of this bootstrap configuration
+     */
+    public BootstrapConfiguration copy() {
+
+        BootstrapConfiguration ret = new BootstrapConfiguration();
+        ret.applicationName = applicationName;
+        ret.logConfiguration = logConfiguration;
+        ret.policyStoreConfiguration = policyStoreConfiguration;
+        ret.jwtConfiguration = jwtConfiguration;
+        ret.authzConfiguration = authzConfiguration;
+        ret.entityBuilderConfiguration = entityBuilderConfiguration;
+        ret.lockConfiguration = lockConfiguration;
+        ret.maxDefaultEntities = maxDefaultEntities;
+        ret.maxBase64Size = maxBase64Size;
+        ret.coalescingConfiguration = coalescingConfiguration;
+        ret.concurrencyLimitConfiguration = concurrencyLimitConfiguration;
+        ret.shadowConfiguration = shadowConfiguration;
+        ret.slowRequestCaptureConfiguration = slowRequestCaptureConfiguration;
+        ret.trafficRecordingConfiguration = trafficRecordingConfiguration;
+        ret.engineMode = engineMode;
+        ret.tokenPreCheckConfiguration = tokenPreCheckConfiguration;
+        ret.negativeCacheConfiguration = negativeCacheConfiguration;
+        ret.jwksRotationConfiguration = jwksRotationConfiguration;
+        ret.statusListConfiguration = statusListConfiguration;
+        ret.startupThreads = startupThreads;
+        return ret;
+    }
+
     /**
      * Gets an instance of a BootstrapConfiguration builder 
      * @return a new instance of the builder
@@ -351,6 +617,127 @@ public class BootstrapConfiguration {
             return this;
         }
 
+        /**
+         * Specifies the request coalescing settings for the configuration being built
+         * @param config the request coalescing configuration to set
+         * @return the current builder's instance
+         */
+        public Builder coalescingConfiguration(final CoalescingConfiguration config) {
+
+            config_.coalescingConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the concurrency limit settings for the configuration being built
+         * @param config the concurrency limit configuration to set
+         * @return the current builder's instance
+         */
+        public Builder concurrencyLimitConfiguration(final ConcurrencyLimitConfiguration config) {
+
+            config_.concurrencyLimitConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the shadow evaluation settings for the configuration being built
+         * @param config the shadow configuration to set
+         * @return the current builder's instance
+         */
+        public Builder shadowConfiguration(final ShadowConfiguration config) {
+
+            config_.shadowConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the slow request capture settings for the configuration being built
+         * @param config the slow request capture configuration to set
+         * @return the current builder's instance
+         */
+        public Builder slowRequestCaptureConfiguration(final SlowRequestCaptureConfiguration config) {
+
+            config_.slowRequestCaptureConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the traffic recording settings for the configuration being built
+         * @param config the traffic recording configuration to set
+         * @return the current builder's instance
+         */
+        public Builder trafficRecordingConfiguration(final TrafficRecordingConfiguration config) {
+
+            config_.trafficRecordingConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the engine mode for the configuration being built
+         * @param engineMode the engine mode to set
+         * @return the current builder's instance
+         */
+        public Builder engineMode(final EngineMode engineMode) {
+
+            config_.engineMode = engineMode;
+            return this;
+        }
+
+        /**
+         * Specifies the number of threads building engines for the configuration being built
+         * @param startupThreads the number of startup threads, or {@code null} for as many as there are available processors
+         * @return the current builder's instance
+         */
+        public Builder startupThreads(final Integer startupThreads) {
+
+            config_.startupThreads = startupThreads;
+            return this;
+        }
+
+        /**
+         * Specifies the token pre-check settings for the configuration being built
+         * @param config the token pre-check configuration to set
+         * @return the current builder's instance
+         */
+        public Builder tokenPreCheckConfiguration(final TokenPreCheckConfiguration config) {
+
+            config_.tokenPreCheckConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the negative token cache settings for the configuration being built
+         * @param config the negative token cache configuration to set
+         * @return the current builder's instance
+         */
+        public Builder negativeCacheConfiguration(final NegativeCacheConfiguration config) {
+
+            config_.negativeCacheConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the JWKS rotation settings for the configuration being built
+         * @param config the JWKS rotation configuration to set
+         * @return the current builder's instance
+         */
+        public Builder jwksRotationConfiguration(final JwksRotationConfiguration config) {
+
+            config_.jwksRotationConfiguration = config;
+            return this;
+        }
+
+        /**
+         * Specifies the token status list settings for the configuration being built
+         * @param config the status list configuration to set
+         * @return the current builder's instance
+         */
+        public Builder statusListConfiguration(final StatusListConfiguration config) {
+
+            config_.statusListConfiguration = config;
+            return this;
+        }
+
         /**
          * Builds an instance of the BoostrapConfiguration
          * <p>
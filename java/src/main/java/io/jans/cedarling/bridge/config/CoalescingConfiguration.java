@@ -0,0 +1,101 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+
+/**
+ * Request coalescing configuration
+ * <p>
+ *   When coalescing is enabled, concurrent authorization requests which are identical (same tokens or principals, <br/>
+ *   action, resource and context) are evaluated once. The first caller evaluates the request and the others wait <br/>
+ *   for its result, for at most {@link #getMaxWait()}, after which they evaluate the request themselves. <br/>
+ *   Requests with a deadline are never coalesced, as the outcome of a call depends on its deadline. <br/>
+ *   Results are not retained once the evaluation completes, so this is not a decision cache. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class CoalescingConfiguration {
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(50);
+    private static final int DEFAULT_LOCK_STRIPES = 64;
+
+    private boolean enabled;
+    private Duration maxWait;
+    private int lockStripes;
+
+    /**
+     * Default constructor
+     */
+    public CoalescingConfiguration() {
+
+        enabled = true;
+        maxWait = DEFAULT_MAX_WAIT;
+        lockStripes = DEFAULT_LOCK_STRIPES;
+    }
+
+    /**
+     * Specifies whether request coalescing is enabled
+     * @param enabled {@code true} to enable request coalescing
+     * @return the current instance of this configuration
+     */
+    public CoalescingConfiguration setEnabled(boolean enabled) {
+
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Tells whether request coalescing is enabled
+     * @return {@code true} if request coalescing is enabled
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Specifies how long a duplicate request waits for the result of the request being evaluated
+     * @param maxWait the maximum wait time
+     * @return the current instance of this configuration
+     */
+    public CoalescingConfiguration setMaxWait(final Duration maxWait) {
+
+        this.maxWait = maxWait;
+        return this;
+    }
+
+    /**
+     * Gets how long a duplicate request waits for the result of the request being evaluated
+     * @return the maximum wait time
+     */
+    public Duration getMaxWait() {
+
+        return maxWait;
+    }
+
+    /**
+     * Specifies the number of locks in-flight requests are striped across.
+     * The value is rounded up to the next power of two
+     * @param lockStripes the number of lock stripes
+     * @return the current instance of this configuration
+     */
+    public CoalescingConfiguration setLockStripes(int lockStripes) {
+
+        this.lockStripes = lockStripes;
+        return this;
+    }
+
+    /**
+     * Gets the number of locks in-flight requests are striped across
+     * @return the number of lock stripes
+     */
+    public int getLockStripes() {
+
+        return lockStripes;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit configuration
+ * <p>
+ *   When set, the number of authorization calls allowed to be evaluated concurrently by a cedarling instance <br/>
+ *   is limited. The limit adapts to the observed latency using an AIMD (additive increase, multiplicative decrease) <br/>
+ *   scheme: it grows by one for every call completing within {@link #getLatencyThreshold()} while the instance is busy, <br/>
+ *   and is multiplied by {@link #getBackoffRatio()} when calls exceed it, at most once per round trip: calls started <br/>
+ *   before the last decrease don't decrease it again. <br/>
+ *   Calls arriving while the limit is reached are rejected immediately, either with an
+ *   {@link io.jans.cedarling.bridge.authz.CedarlingOverloadError} or, if a fallback decision is configured,
+ *   with a fallback {@link io.jans.cedarling.bridge.authz.AuthorizeResult}. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class ConcurrencyLimitConfiguration {
+
+    private static final int DEFAULT_INITIAL_LIMIT = 16;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 512;
+    private static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(20);
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    private Duration latencyThreshold;
+    private double backoffRatio;
+    private Boolean fallbackDecision;
+
+    /**
+     * Default constructor
+     */
+    public ConcurrencyLimitConfiguration() {
+
+        initialLimit = DEFAULT_INITIAL_LIMIT;
+        minLimit = DEFAULT_MIN_LIMIT;
+        maxLimit = DEFAULT_MAX_LIMIT;
+        latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+        backoffRatio = DEFAULT_BACKOFF_RATIO;
+        fallbackDecision = null;
+    }
+
+    /**
+     * Specifies the concurrency limit in effect when the instance is created
+     * @param initialLimit the initial concurrency limit
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setInitialLimit(int initialLimit) {
+
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Gets the concurrency limit in effect when the instance is created
+     * @return the initial concurrency limit
+     */
+    public int getInitialLimit() {
+
+        return initialLimit;
+    }
+
+    /**
+     * Specifies the value under which the concurrency limit never goes
+     * @param minLimit the minimum concurrency limit
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setMinLimit(int minLimit) {
+
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * Gets the value under which the concurrency limit never goes
+     * @return the minimum concurrency limit
+     */
+    public int getMinLimit() {
+
+        return minLimit;
+    }
+
+    /**
+     * Specifies the value above which the concurrency limit never goes
+     * @param maxLimit the maximum concurrency limit
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setMaxLimit(int maxLimit) {
+
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Gets the value above which the concurrency limit never goes
+     * @return the maximum concurrency limit
+     */
+    public int getMaxLimit() {
+
+        return maxLimit;
+    }
+
+    /**
+     * Specifies the call latency above which the concurrency limit is decreased
+     * @param latencyThreshold the latency threshold
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setLatencyThreshold(final Duration latencyThreshold) {
+
+        this.latencyThreshold = latencyThreshold;
+        return this;
+    }
+
+    /**
+     * Gets the call latency above which the concurrency limit is decreased
+     * @return the latency threshold
+     */
+    public Duration getLatencyThreshold() {
+
+        return latencyThreshold;
+    }
+
+    /**
+     * Specifies the factor the concurrency limit is multiplied by when a call exceeds the latency threshold
+     * @param backoffRatio the backoff ratio, between 0 and 1 (exclusive)
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setBackoffRatio(double backoffRatio) {
+
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Gets the factor the concurrency limit is multiplied by when a call exceeds the latency threshold
+     * @return the backoff ratio
+     */
+    public double getBackoffRatio() {
+
+        return backoffRatio;
+    }
+
+    /**
+     * Specifies the decision returned for rejected calls.
+     * When {@code null}, rejected calls fail with an {@link io.jans.cedarling.bridge.authz.CedarlingOverloadError}
+     * @param fallbackDecision the fallback decision, or {@code null}
+     * @return the current instance of this configuration
+     */
+    public ConcurrencyLimitConfiguration setFallbackDecision(final Boolean fallbackDecision) {
+
+        this.fallbackDecision = fallbackDecision;
+        return this;
+    }
+
+    /**
+     * Gets the decision returned for rejected calls
+     * @return the fallback decision, or {@code null} if rejected calls fail with an error
+     */
+    public Boolean getFallbackDecision() {
+
+        return fallbackDecision;
+    }
+}
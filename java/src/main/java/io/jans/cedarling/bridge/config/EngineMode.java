@@ -0,0 +1,23 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+/**
+ * Enum specifying how a cedarling instance evaluates authorization requests
+ */
+public enum EngineMode {
+    /**
+     * Requests are validated and evaluated by the cedar engine. This is the default
+     */
+    CEDAR,
+    /**
+     * Diagnostic mode. Requests are fully marshalled to the rust library, which then skips token validation
+     * and policy evaluation and returns a synthetic deny result. The measured latency is then the bridge's own
+     * overhead. Never use this mode to protect actual resources
+     */
+    NOOP
+}
@@ -0,0 +1,105 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JWKS rotation configuration
+ * <p>
+ *   A cedarling instance's JWKS can be replaced while it serves requests, with {@link io.jans.cedarling.bridge.Cedarling#updateJwks(String)} <br/>
+ *   or by watching a JWKS file. After a rotation, the keys of the previous JWKS are still trusted for {@link #getOverlap()}, <br/>
+ *   so that tokens signed shortly before the rotation remain valid. Keys of the new JWKS take precedence over previous <br/>
+ *   keys with the same {@code kid}. <br/>
+ *   The JWKS of an instance can only be replaced when this configuration is set. Token signatures are then validated <br/>
+ *   by the bridge, and the engine is built without keys, so that a rotation swaps keys without rebuilding the engine. <br/>
+ *   When a watched file is set, the instance's initial JWKS is read from it, in place of {@link io.jans.cedarling.bridge.config.JwtConfiguration#getJwks()}, <br/>
+ *   and the JWKS is rotated whenever the file changes. Files should be replaced atomically (written aside, then moved), <br/>
+ *   a partially written file fails to parse and is picked up again on its next change. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ * <p>
+ *   With signature validation on, tokens are validated differently than by an instance whose JWKS does not rotate:
+ * </p>
+ * <ul>
+ *   <li>
+ *     Only the configured JWKS (and the keys retained for the overlap window) is trusted. Keys are never fetched from 
+ *     the {@code jwks_uri} of the trusted issuers, so an instance without a JWKS or a watched file fails to be created.
+ *   </li>
+ *   <li>
+ *     Policy stores served by a Lock server are refused, for the instance and its tenants, as their trusted issuers 
+ *     are not known to the bridge.
+ *   </li>
+ *   <li>
+ *     A token is accepted when its algorithm is a supported one, its signature matches a trusted key, it has 
+ *     {@code exp} and {@code iss} claims, {@code exp} and {@code nbf} hold with a leeway of 60 seconds and {@code iss} 
+ *     is a trusted issuer of the policy store the request is evaluated against, the tenant's one for tenants. 
+ *     The audience is not checked.
+ *   </li>
+ *   <li>
+ *     The engine's own token validation is off, so checks the engine would apply on top of these are skipped. 
+ *     The token status is still checked by the engine when status validation is on.
+ *   </li>
+ * </ul>
+ */
+public class JwksRotationConfiguration {
+
+    private static final Duration DEFAULT_OVERLAP = Duration.ofHours(1);
+
+    private Duration overlap;
+    private Path watchedFile;
+
+    /**
+     * Default constructor
+     */
+    public JwksRotationConfiguration() {
+
+        overlap = DEFAULT_OVERLAP;
+        watchedFile = null;
+    }
+
+    /**
+     * Specifies how long the keys of a replaced JWKS are still trusted for
+     * @param overlap the overlap window, {@link java.time.Duration#ZERO} to drop previous keys right away
+     * @return the current instance of this configuration
+     */
+    public JwksRotationConfiguration setOverlap(final Duration overlap) {
+
+        this.overlap = overlap;
+        return this;
+    }
+
+    /**
+     * Gets how long the keys of a replaced JWKS are still trusted for
+     * @return the overlap window
+     */
+    public Duration getOverlap() {
+
+        return overlap;
+    }
+
+    /**
+     * Specifies the JWKS file to watch
+     * @param watchedFile the JWKS file, or {@code null} to not watch any file
+     * @return the current instance of this configuration
+     */
+    public JwksRotationConfiguration setWatchedFile(final Path watchedFile) {
+
+        this.watchedFile = watchedFile;
+        return this;
+    }
+
+    /**
+     * Gets the JWKS file to watch
+     * @return the JWKS file, or {@code null} if no file is watched
+     */
+    public Path getWatchedFile() {
+
+        return watchedFile;
+    }
+}
@@ -184,6 +184,18 @@ public class JwtConfiguration {
         return this;
     }
 
-    
+    /**
+     * Creates a copy of this configuration
+     * @return the copy
+     */
+    public JwtConfiguration copy() {
+
+        JwtConfiguration ret = new JwtConfiguration();
+        ret.jwks = jwks;
+        ret.jwtCheckSignValidation = jwtCheckSignValidation;
+        ret.jwtCheckStatusValidation = jwtCheckStatusValidation;
+        ret.supportedSignatureAlgorithms = new ArrayList<>(supportedSignatureAlgorithms);
+        return ret;
+    }
 
 }
\ No newline at end of file
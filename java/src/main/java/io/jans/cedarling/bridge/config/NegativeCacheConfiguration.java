@@ -0,0 +1,102 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+
+/**
+ * Negative token cache configuration
+ * <p>
+ *   When the cache is enabled, the native library remembers, for {@link #getTtl()}, the token sets of signed <br/>
+ *   authorization requests the engine rejected because of their tokens (invalid signature, untrusted issuer, <br/>
+ *   expired token ...), along with the reason they were rejected for. Requests carrying a remembered token set <br/>
+ *   fail right away with a {@link io.jans.cedarling.bridge.authz.CedarlingAuthorizationError}, before any signature <br/>
+ *   is verified, which keeps clients retrying with bad tokens from consuming the engine's CPU. <br/>
+ *   Token sets are remembered by a keyed digest, and at most {@link #getMaxEntries()} of them are kept: the oldest <br/>
+ *   entries are evicted first. Hits are reported by {@link io.jans.cedarling.bridge.Cedarling#getNegativeCacheStatistics()}. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class NegativeCacheConfiguration {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private boolean enabled;
+    private Duration ttl;
+    private int maxEntries;
+
+    /**
+     * Default constructor
+     */
+    public NegativeCacheConfiguration() {
+
+        enabled = true;
+        ttl = DEFAULT_TTL;
+        maxEntries = DEFAULT_MAX_ENTRIES;
+    }
+
+    /**
+     * Specifies whether the negative token cache is enabled
+     * @param enabled {@code true} to enable the negative token cache
+     * @return the current instance of this configuration
+     */
+    public NegativeCacheConfiguration setEnabled(boolean enabled) {
+
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Tells whether the negative token cache is enabled
+     * @return {@code true} if the negative token cache is enabled
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Specifies how long a rejected token set is remembered for
+     * @param ttl the time a rejected token set is remembered for
+     * @return the current instance of this configuration
+     */
+    public NegativeCacheConfiguration setTtl(final Duration ttl) {
+
+        this.ttl = ttl;
+        return this;
+    }
+
+    /**
+     * Gets how long a rejected token set is remembered for
+     * @return the time a rejected token set is remembered for
+     */
+    public Duration getTtl() {
+
+        return ttl;
+    }
+
+    /**
+     * Specifies the maximum number of rejected token sets remembered at once
+     * @param maxEntries the maximum number of entries
+     * @return the current instance of this configuration
+     */
+    public NegativeCacheConfiguration setMaxEntries(int maxEntries) {
+
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of rejected token sets remembered at once
+     * @return the maximum number of entries
+     */
+    public int getMaxEntries() {
+
+        return maxEntries;
+    }
+}
@@ -7,6 +7,20 @@
 package io.jans.cedarling.bridge.config;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.jans.cedarling.bridge.config.PolicyStoreSource;
 import io.jans.cedarling.bridge.util.Constraints;
@@ -15,14 +29,23 @@ import io.jans.cedarling.bridge.util.Constraints;
  * Policy store configuration
  * <p>
  *   Configure the cedarling policy store, mostly it's source which can be 
- *   either json or yaml provided in either a file or raw string data
+ *   either json or yaml provided in either a file, raw string data or a buffer
+ * </p>
+ * <p>
+ *   Buffer backed stores (see {@link #fromJsonBuffer(ByteBuffer)}) are read natively straight from the buffer, 
+ *   without the UTF-16 copy a {@code String} holds on the heap nor the conversion of that string. 
+ *   They are used for streams and classpath resources, classpath resources in the file system being memory mapped.
  * </p>
  */
 public class PolicyStoreConfiguration {
     
+    private static final int INITIAL_STREAM_CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_STREAM_CHUNK_SIZE = 4 * 1024 * 1024;
+
     private final PolicyStoreSource source;
     private final String data;
     private final File dataPath;
+    private final ByteBuffer dataBuffer;
 
     /**
      * Constructor
@@ -38,6 +61,7 @@ public class PolicyStoreConfiguration {
         this.source = source; 
         this.data = data;
         this.dataPath = null;
+        this.dataBuffer = null;
     }
 
     /**
@@ -54,6 +78,25 @@ public class PolicyStoreConfiguration {
         this.source = source;
         this.data = null;
         this.dataPath = dataPath;
+        this.dataBuffer = null;
+    }
+
+    /**
+     * Constructor
+     * <p>
+     *   This constructor should be used to create a policy store configuration 
+     *   with the source being UTF-8 encoded data held in a buffer. The data is read from the buffer's 
+     *   position to its limit. Buffers which are not direct are copied to a direct buffer
+     * </p>
+     * @param source
+     * @param dataBuffer
+     */
+    public PolicyStoreConfiguration(final PolicyStoreSource source, final ByteBuffer dataBuffer) {
+
+        this.source = source;
+        this.data = null;
+        this.dataPath = null;
+        this.dataBuffer = (dataBuffer == null ? null : toDirect(dataBuffer));
     }
 
     /**
@@ -83,6 +126,15 @@ public class PolicyStoreConfiguration {
         return dataPath;
     }
 
+    /**
+     * Get the buffer containing policy store data
+     * @return the policy store data as a direct buffer, from its start to its capacity
+     */
+    public ByteBuffer getDataBuffer() {
+
+        return dataBuffer;
+    }
+
     /**
      * Creates a policy store configuration from a json string
      * @param json the policy store data in json format
@@ -127,6 +179,96 @@ public class PolicyStoreConfiguration {
         return new PolicyStoreConfiguration(PolicyStoreSource.FILEYAML, yamlfile);
     }
 
+    /**
+     * Creates a policy store configuration from UTF-8 encoded json held in a buffer
+     * <p>
+     *   Direct buffers, memory mapped files included, are read natively without being copied on the java side
+     * </p>
+     * @param json the policy store data in json format, from the buffer's position to its limit
+     * @return an instance of the policy store configuration
+     */
+    public static PolicyStoreConfiguration fromJsonBuffer(final ByteBuffer json) {
+
+        Constraints.ensureNotNull(json,"Json buffer cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.JSON,json);
+    }
+
+    /**
+     * Creates a policy store configuration from UTF-8 encoded yaml held in a buffer
+     * <p>
+     *   Direct buffers, memory mapped files included, are read natively without being copied on the java side
+     * </p>
+     * @param yaml the policy store data in yaml format, from the buffer's position to its limit
+     * @return an instance of the policy store configuration
+     */
+    public static PolicyStoreConfiguration fromYamlBuffer(final ByteBuffer yaml) {
+
+        Constraints.ensureNotNull(yaml,"Yaml buffer cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.YAML,yaml);
+    }
+
+    /**
+     * Creates a policy store configuration from a stream of UTF-8 encoded json
+     * <p>
+     *   The stream is read to its end into a direct buffer, and is not closed
+     * </p>
+     * @param json the stream of policy store data in json format
+     * @return an instance of the policy store configuration
+     * @throws java.io.IOException if an I/O error occurs reading the stream
+     */
+    public static PolicyStoreConfiguration fromJsonStream(final InputStream json) throws IOException {
+
+        Constraints.ensureNotNull(json,"Json stream cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.JSON,readFully(json,json.available()));
+    }
+
+    /**
+     * Creates a policy store configuration from a stream of UTF-8 encoded yaml
+     * <p>
+     *   The stream is read to its end into a direct buffer, and is not closed
+     * </p>
+     * @param yaml the stream of policy store data in yaml format
+     * @return an instance of the policy store configuration
+     * @throws java.io.IOException if an I/O error occurs reading the stream
+     */
+    public static PolicyStoreConfiguration fromYamlStream(final InputStream yaml) throws IOException {
+
+        Constraints.ensureNotNull(yaml,"Yaml stream cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.YAML,readFully(yaml,yaml.available()));
+    }
+
+    /**
+     * Creates a policy store configuration from a classpath resource holding UTF-8 encoded json
+     * <p>
+     *   The resource is looked up with the context class loader. It's memory mapped when in the file system,
+     *   read into a direct buffer otherwise (e.g. when packaged in a jar)
+     * </p>
+     * @param resource the name of the resource, e.g. {@code policy-store/store.json}
+     * @return an instance of the policy store configuration
+     * @throws java.io.IOException if the resource is not found or an I/O error occurs reading it
+     */
+    public static PolicyStoreConfiguration fromJsonResource(final String resource) throws IOException {
+
+        Constraints.ensureNotNull(resource,"Json resource cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.JSON,readResource(resource));
+    }
+
+    /**
+     * Creates a policy store configuration from a classpath resource holding UTF-8 encoded yaml
+     * <p>
+     *   The resource is looked up with the context class loader. It's memory mapped when in the file system,
+     *   read into a direct buffer otherwise (e.g. when packaged in a jar)
+     * </p>
+     * @param resource the name of the resource, e.g. {@code policy-store/store.yaml}
+     * @return an instance of the policy store configuration
+     * @throws java.io.IOException if the resource is not found or an I/O error occurs reading it
+     */
+    public static PolicyStoreConfiguration fromYamlResource(final String resource) throws IOException {
+
+        Constraints.ensureNotNull(resource,"Yaml resource cannot be null");
+        return new PolicyStoreConfiguration(PolicyStoreSource.YAML,readResource(resource));
+    }
+
     /**
      * Creates a policy store configuration from Jans lock using a Lockmaster store id
      * @param storeid the store id of the policy store in jans lock 
@@ -137,4 +279,104 @@ public class PolicyStoreConfiguration {
         Constraints.ensureNotNull(storeid,"Lockmaster policy storeid cannot be null");
         return new PolicyStoreConfiguration(PolicyStoreSource.LOCKMASTER,storeid);
     }
+
+    private static ByteBuffer toDirect(final ByteBuffer buffer) {
+
+        if(buffer.isDirect()) {
+            return buffer.slice();
+        }
+        final ByteBuffer ret = ByteBuffer.allocateDirect(buffer.remaining());
+        ret.put(buffer.duplicate());
+        ret.flip();
+        return ret;
+    }
+
+    /**
+     * Reads a stream to its end into a direct buffer of the data's size. When the stream's length is known, the data
+     * is read straight into the buffer. Otherwise, or if the stream turns out longer, the data is read in heap chunks
+     * copied once into the buffer, so that the data is held at most twice while it's read
+     */
+    private static ByteBuffer readFully(final InputStream in, final long expectedLength) throws IOException {
+
+        final ReadableByteChannel channel = Channels.newChannel(in);
+        final List<ByteBuffer> chunks = new ArrayList<>();
+        long length = 0;
+        if(expectedLength > 0 && expectedLength <= Integer.MAX_VALUE) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect((int) expectedLength);
+            final boolean ended = fill(channel,buffer);
+            buffer.flip();
+            if(ended) {
+                return buffer.slice();
+            }
+            chunks.add(buffer);
+            length = buffer.remaining();
+        }
+        int chunksize = INITIAL_STREAM_CHUNK_SIZE;
+        boolean ended = false;
+        while(!ended) {
+            final ByteBuffer chunk = ByteBuffer.allocate(chunksize);
+            ended = fill(channel,chunk);
+            chunk.flip();
+            if(chunk.hasRemaining()) {
+                chunks.add(chunk);
+                length += chunk.remaining();
+            }
+            chunksize = Math.min(chunksize * 2,MAX_STREAM_CHUNK_SIZE);
+        }
+        if(chunks.size() == 1 && chunks.get(0).isDirect()) {
+            // the expected length was right
+            return chunks.get(0).slice();
+        }
+        if(length > Integer.MAX_VALUE) {
+            throw new IOException("Policy store stream is too large for a buffer");
+        }
+        final ByteBuffer ret = ByteBuffer.allocateDirect((int) length);
+        for(ByteBuffer chunk : chunks) {
+            ret.put(chunk);
+        }
+        ret.flip();
+        return ret;
+    }
+
+    /**
+     * Reads from a channel until the buffer is full or the channel ends
+     * @return {@code true} if the channel ended
+     */
+    private static boolean fill(final ReadableByteChannel channel, final ByteBuffer buffer) throws IOException {
+
+        while(buffer.hasRemaining()) {
+            if(channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ByteBuffer readResource(final String resource) throws IOException {
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if(loader == null) {
+            loader = PolicyStoreConfiguration.class.getClassLoader();
+        }
+        final URL url = loader.getResource(resource);
+        if(url == null) {
+            throw new FileNotFoundException("Policy store resource `" + resource + "` not found");
+        }
+        if("file".equals(url.getProtocol())) {
+            final Path path;
+            try {
+                path = Path.of(url.toURI());
+            }catch(URISyntaxException e) {
+                throw new IOException("Invalid policy store resource location " + url,e);
+            }
+            try(FileChannel channel = FileChannel.open(path,StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY,0,channel.size());
+            }
+        }
+        final URLConnection connection = url.openConnection();
+        try(InputStream in = connection.getInputStream()) {
+            // the size of a jar entry, or -1 if unknown
+            return readFully(in,connection.getContentLengthLong());
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+/**
+ * Shadow evaluation configuration
+ * <p>
+ *   A shadow is a second policy store loaded in the same cedarling instance. A fraction of the authorization <br/>
+ *   requests evaluated by the instance (see {@link #getSampleRate()}) is evaluated a second time against the shadow, <br/>
+ *   asynchronously and off the caller's thread. The caller always gets the primary store's decision. <br/>
+ *   Decision mismatches and latencies of both stores are reported through
+ *   {@link io.jans.cedarling.bridge.Cedarling#getShadowReport()}. <br/>
+ *   All the other settings of the shadow are taken from the instance's bootstrap configuration, except for the <br/>
+ *   lock service which is never enabled for the shadow.
+ * </p>
+ */
+public class ShadowConfiguration {
+
+    private static final double DEFAULT_SAMPLE_RATE = 0.01;
+    private static final int DEFAULT_MAX_SAMPLES = 1024;
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private PolicyStoreConfiguration policyStoreConfiguration;
+    private double sampleRate;
+    private int maxSamples;
+    private int queueCapacity;
+
+    /**
+     * Constructor
+     * @param policyStoreConfiguration the shadow policy store
+     */
+    public ShadowConfiguration(final PolicyStoreConfiguration policyStoreConfiguration) {
+
+        this.policyStoreConfiguration = policyStoreConfiguration;
+        this.sampleRate = DEFAULT_SAMPLE_RATE;
+        this.maxSamples = DEFAULT_MAX_SAMPLES;
+        this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * Gets the shadow policy store
+     * @return the shadow policy store configuration
+     */
+    public PolicyStoreConfiguration getPolicyStoreConfiguration() {
+
+        return policyStoreConfiguration;
+    }
+
+    /**
+     * Specifies the shadow policy store
+     * @param policyStoreConfiguration the shadow policy store configuration
+     * @return the current instance of this configuration
+     */
+    public ShadowConfiguration setPolicyStoreConfiguration(final PolicyStoreConfiguration policyStoreConfiguration) {
+
+        this.policyStoreConfiguration = policyStoreConfiguration;
+        return this;
+    }
+
+    /**
+     * Gets the fraction of authorization requests evaluated against the shadow
+     * @return the sample rate, between 0 and 1
+     */
+    public double getSampleRate() {
+
+        return sampleRate;
+    }
+
+    /**
+     * Specifies the fraction of authorization requests evaluated against the shadow
+     * @param sampleRate the sample rate, between 0 and 1
+     * @return the current instance of this configuration
+     */
+    public ShadowConfiguration setSampleRate(double sampleRate) {
+
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of shadow evaluation samples kept for reporting
+     * @return the maximum number of samples
+     */
+    public int getMaxSamples() {
+
+        return maxSamples;
+    }
+
+    /**
+     * Specifies the maximum number of shadow evaluation samples kept for reporting.
+     * Older samples are discarded first
+     * @param maxSamples the maximum number of samples
+     * @return the current instance of this configuration
+     */
+    public ShadowConfiguration setMaxSamples(int maxSamples) {
+
+        this.maxSamples = maxSamples;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of requests waiting for shadow evaluation
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    /**
+     * Specifies the maximum number of requests waiting for shadow evaluation.
+     * Sampled requests arriving while the queue is full are dropped
+     * @param queueCapacity the queue capacity
+     * @return the current instance of this configuration
+     */
+    public ShadowConfiguration setQueueCapacity(int queueCapacity) {
+
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+}
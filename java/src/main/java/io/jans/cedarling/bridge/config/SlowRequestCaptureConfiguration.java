@@ -0,0 +1,102 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+
+/**
+ * Slow request capture configuration
+ * <p>
+ *   Authorization requests taking longer than {@link #getThreshold()} (as seen by the caller, waits included) <br/>
+ *   are captured in full, along with their outcome and phase timings, into a ring holding at most <br/>
+ *   {@link #getCapacity()} requests. The ring can be dumped to a file and replayed later, see <br/>
+ *   {@link io.jans.cedarling.bridge.Cedarling#dumpSlowRequests(java.nio.file.Path)}. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class SlowRequestCaptureConfiguration {
+
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(100);
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private Duration threshold;
+    private int capacity;
+    private boolean redactTokens;
+
+    /**
+     * Default constructor
+     */
+    public SlowRequestCaptureConfiguration() {
+
+        threshold = DEFAULT_THRESHOLD;
+        capacity = DEFAULT_CAPACITY;
+        redactTokens = true;
+    }
+
+    /**
+     * Gets the latency above which requests are captured
+     * @return the latency threshold
+     */
+    public Duration getThreshold() {
+
+        return threshold;
+    }
+
+    /**
+     * Specifies the latency above which requests are captured
+     * @param threshold the latency threshold
+     * @return the current instance of this configuration
+     */
+    public SlowRequestCaptureConfiguration setThreshold(final Duration threshold) {
+
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of captured requests retained
+     * @return the capture ring capacity
+     */
+    public int getCapacity() {
+
+        return capacity;
+    }
+
+    /**
+     * Specifies the maximum number of captured requests retained. 
+     * Older requests are discarded first
+     * @param capacity the capture ring capacity
+     * @return the current instance of this configuration
+     */
+    public SlowRequestCaptureConfiguration setCapacity(int capacity) {
+
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Tells whether the tokens of captured requests are redacted
+     * @return {@code true} if tokens are redacted
+     */
+    public boolean isRedactTokens() {
+
+        return redactTokens;
+    }
+
+    /**
+     * Specifies whether the tokens of captured requests are redacted. 
+     * Redacted JWTs keep their header and claims but lose their signature, so they can't be used as 
+     * credentials. Replaying them requires an instance with JWT signature validation disabled
+     * @param redactTokens {@code true} to redact tokens
+     * @return the current instance of this configuration
+     */
+    public SlowRequestCaptureConfiguration setRedactTokens(boolean redactTokens) {
+
+        this.redactTokens = redactTokens;
+        return this;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token status list configuration
+ * <p>
+ *   When {@link io.jans.cedarling.bridge.config.JwtConfiguration#getJwtCheckStatusValidation()} is enabled, tokens of <br/>
+ *   {@link io.jans.cedarling.bridge.TokenSession}s referencing a status list (a {@code status.status_list} claim) are checked <br/>
+ *   against lists held natively. Lists are fetched in the background: the configured lists when the instance is created, <br/>
+ *   and lists referenced by tokens as they're first seen. A token whose list is not fetched yet is rejected. <br/>
+ *   As the list a token references comes from the token, lists referenced by tokens are only fetched when served <br/>
+ *   from the origin of one of the policy store's trusted issuers, and redirects are not followed. At most <br/>
+ *   {@link #getMaxDiscoveredLists()} such lists are held at once. <br/>
+ *   Lists are refreshed on their {@code ttl} claim, or every {@link #getDefaultRefresh()} if they have none. <br/>
+ *   Failed fetches are retried every {@link #getRetryDelay()}, the previous list staying in use meanwhile. A list <br/>
+ *   referenced by tokens is given up after {@link #getMaxFetchAttempts()} failed fetches in a row, and dropped once <br/>
+ *   no token referenced it for {@link #getDiscoveredListIdleTimeout()}. Configured lists are kept and retried for <br/>
+ *   as long as the instance is open. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class StatusListConfiguration {
+
+    private static final Duration DEFAULT_REFRESH = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_DISCOVERY_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_DISCOVERED_LISTS = 100;
+    private static final int DEFAULT_MAX_FETCH_ATTEMPTS = 5;
+    private static final Duration DEFAULT_DISCOVERED_LIST_IDLE_TIMEOUT = Duration.ofHours(1);
+
+    private boolean enabled;
+    private List<String> statusListUris;
+    private Duration defaultRefresh;
+    private Duration retryDelay;
+    private Duration discoveryInterval;
+    private Duration requestTimeout;
+    private int maxDiscoveredLists;
+    private int maxFetchAttempts;
+    private Duration discoveredListIdleTimeout;
+
+    /**
+     * Default constructor
+     */
+    public StatusListConfiguration() {
+
+        enabled = true;
+        statusListUris = new ArrayList<>();
+        defaultRefresh = DEFAULT_REFRESH;
+        retryDelay = DEFAULT_RETRY_DELAY;
+        discoveryInterval = DEFAULT_DISCOVERY_INTERVAL;
+        requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        maxDiscoveredLists = DEFAULT_MAX_DISCOVERED_LISTS;
+        maxFetchAttempts = DEFAULT_MAX_FETCH_ATTEMPTS;
+        discoveredListIdleTimeout = DEFAULT_DISCOVERED_LIST_IDLE_TIMEOUT;
+    }
+
+    /**
+     * Specifies whether status lists are fetched
+     * @param enabled {@code true} to fetch status lists
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setEnabled(boolean enabled) {
+
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Tells whether status lists are fetched
+     * @return {@code true} if status lists are fetched
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Adds a status list to fetch when the instance is created
+     * @param uri the status list's uri
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration addStatusListUri(final String uri) {
+
+        this.statusListUris.add(uri);
+        return this;
+    }
+
+    /**
+     * Gets the status lists fetched when the instance is created
+     * @return the status lists' uris
+     */
+    public List<String> getStatusListUris() {
+
+        return statusListUris;
+    }
+
+    /**
+     * Specifies how often status lists without a {@code ttl} claim are refreshed
+     * @param defaultRefresh the refresh interval
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setDefaultRefresh(final Duration defaultRefresh) {
+
+        this.defaultRefresh = defaultRefresh;
+        return this;
+    }
+
+    /**
+     * Gets how often status lists without a {@code ttl} claim are refreshed
+     * @return the refresh interval
+     */
+    public Duration getDefaultRefresh() {
+
+        return defaultRefresh;
+    }
+
+    /**
+     * Specifies the delay before a failed fetch is retried
+     * @param retryDelay the retry delay
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setRetryDelay(final Duration retryDelay) {
+
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    /**
+     * Gets the delay before a failed fetch is retried
+     * @return the retry delay
+     */
+    public Duration getRetryDelay() {
+
+        return retryDelay;
+    }
+
+    /**
+     * Specifies how often the instance is polled for status lists referenced by tokens and not fetched yet
+     * @param discoveryInterval the polling interval
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setDiscoveryInterval(final Duration discoveryInterval) {
+
+        this.discoveryInterval = discoveryInterval;
+        return this;
+    }
+
+    /**
+     * Gets how often the instance is polled for status lists referenced by tokens and not fetched yet
+     * @return the polling interval
+     */
+    public Duration getDiscoveryInterval() {
+
+        return discoveryInterval;
+    }
+
+    /**
+     * Specifies the timeout of status list requests
+     * @param requestTimeout the request timeout
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setRequestTimeout(final Duration requestTimeout) {
+
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    /**
+     * Gets the timeout of status list requests
+     * @return the request timeout
+     */
+    public Duration getRequestTimeout() {
+
+        return requestTimeout;
+    }
+
+    /**
+     * Specifies how many status lists referenced by tokens, and not configured, are held at once
+     * @param maxDiscoveredLists the maximum number of lists. {@code 0} only fetches the configured lists
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setMaxDiscoveredLists(final int maxDiscoveredLists) {
+
+        this.maxDiscoveredLists = maxDiscoveredLists;
+        return this;
+    }
+
+    /**
+     * Gets how many status lists referenced by tokens, and not configured, are held at once
+     * @return the maximum number of lists
+     */
+    public int getMaxDiscoveredLists() {
+
+        return maxDiscoveredLists;
+    }
+
+    /**
+     * Specifies after how many failed fetches in a row a status list referenced by tokens is given up
+     * @param maxFetchAttempts the number of attempts
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setMaxFetchAttempts(final int maxFetchAttempts) {
+
+        this.maxFetchAttempts = maxFetchAttempts;
+        return this;
+    }
+
+    /**
+     * Gets after how many failed fetches in a row a status list referenced by tokens is given up
+     * @return the number of attempts
+     */
+    public int getMaxFetchAttempts() {
+
+        return maxFetchAttempts;
+    }
+
+    /**
+     * Specifies how long a status list referenced by tokens is kept once no token references it. A list
+     * given up is not fetched again for as long either
+     * @param discoveredListIdleTimeout the idle timeout
+     * @return the current instance of this configuration
+     */
+    public StatusListConfiguration setDiscoveredListIdleTimeout(final Duration discoveredListIdleTimeout) {
+
+        this.discoveredListIdleTimeout = discoveredListIdleTimeout;
+        return this;
+    }
+
+    /**
+     * Gets how long a status list referenced by tokens is kept once no token references it
+     * @return the idle timeout
+     */
+    public Duration getDiscoveredListIdleTimeout() {
+
+        return discoveredListIdleTimeout;
+    }
+}
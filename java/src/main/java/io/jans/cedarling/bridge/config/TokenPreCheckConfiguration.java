@@ -0,0 +1,79 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.time.Duration;
+
+/**
+ * Token pre-check configuration
+ * <p>
+ *   When the pre-check is enabled, the tokens of signed authorization requests are inspected before they <br/>
+ *   are handed to the native engine. Tokens which are not three base64url segments, whose header or payload <br/>
+ *   is not a json object, which expired or which are not valid yet are rejected with a <br/>
+ *   {@link io.jans.cedarling.bridge.authz.CedarlingTokenRejectedError}, without any native call. <br/>
+ *   Only the header's shape and the payload's {@code exp} and {@code nbf} claims are inspected: signatures and <br/>
+ *   other claims are still validated by the engine. Expiry checks allow for clock skew by {@link #getLeeway()}, <br/>
+ *   so the pre-check never rejects a token the engine would have accepted. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class TokenPreCheckConfiguration {
+
+    private static final Duration DEFAULT_LEEWAY = Duration.ofSeconds(60);
+
+    private boolean enabled;
+    private Duration leeway;
+
+    /**
+     * Default constructor
+     */
+    public TokenPreCheckConfiguration() {
+
+        enabled = true;
+        leeway = DEFAULT_LEEWAY;
+    }
+
+    /**
+     * Specifies whether the token pre-check is enabled
+     * @param enabled {@code true} to enable the token pre-check
+     * @return the current instance of this configuration
+     */
+    public TokenPreCheckConfiguration setEnabled(boolean enabled) {
+
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Tells whether the token pre-check is enabled
+     * @return {@code true} if the token pre-check is enabled
+     */
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Specifies the clock skew allowed when checking the {@code exp} and {@code nbf} claims
+     * @param leeway the allowed clock skew
+     * @return the current instance of this configuration
+     */
+    public TokenPreCheckConfiguration setLeeway(final Duration leeway) {
+
+        this.leeway = leeway;
+        return this;
+    }
+
+    /**
+     * Gets the clock skew allowed when checking the {@code exp} and {@code nbf} claims
+     * @return the allowed clock skew
+     */
+    public Duration getLeeway() {
+
+        return leeway;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import java.nio.file.Path;
+
+/**
+ * Traffic recording configuration
+ * <p>
+ *   When traffic recording is configured, every authorization request evaluated by the instance is appended, <br/>
+ *   with its timing and outcome, to a binary log (see {@link io.jans.cedarling.bridge.capture.RequestCodec}). <br/>
+ *   Requests are written by a background thread. Requests arriving while {@link #getQueueCapacity()} requests <br/>
+ *   are already waiting to be written are not recorded, so recording never blocks callers. <br/>
+ *   Logs are replayed with {@link io.jans.cedarling.bridge.capture.TrafficReplayer}. <br/>
+ *   This is a Java side setting and has no equivalent in the cedarling properties.
+ * </p>
+ */
+public class TrafficRecordingConfiguration {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    private Path file;
+    private boolean redactTokens;
+    private int queueCapacity;
+
+    /**
+     * Constructor
+     * @param file the log file. Records are appended to it if it exists
+     */
+    public TrafficRecordingConfiguration(final Path file) {
+
+        this.file = file;
+        this.redactTokens = true;
+        this.queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * Gets the log file
+     * @return the log file
+     */
+    public Path getFile() {
+
+        return file;
+    }
+
+    /**
+     * Specifies the log file
+     * @param file the log file
+     * @return the current instance of this configuration
+     */
+    public TrafficRecordingConfiguration setFile(final Path file) {
+
+        this.file = file;
+        return this;
+    }
+
+    /**
+     * Tells whether the tokens of recorded requests are redacted
+     * @return {@code true} if tokens are redacted
+     */
+    public boolean isRedactTokens() {
+
+        return redactTokens;
+    }
+
+    /**
+     * Specifies whether the tokens of recorded requests are redacted.
+     * See {@link io.jans.cedarling.bridge.config.SlowRequestCaptureConfiguration#setRedactTokens(boolean)}
+     * @param redactTokens {@code true} to redact tokens
+     * @return the current instance of this configuration
+     */
+    public TrafficRecordingConfiguration setRedactTokens(boolean redactTokens) {
+
+        this.redactTokens = redactTokens;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of requests waiting to be written
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    /**
+     * Specifies the maximum number of requests waiting to be written
+     * @param queueCapacity the queue capacity
+     * @return the current instance of this configuration
+     */
+    public TrafficRecordingConfiguration setQueueCapacity(int queueCapacity) {
+
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+}
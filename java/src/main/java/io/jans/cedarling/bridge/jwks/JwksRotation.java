@@ -0,0 +1,277 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.jwks;
+
+import io.jans.cedarling.bridge.CedarlingError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the JWKS trusted by a cedarling instance while it rotates
+ * <p>
+ *  Every rotation hands the new JWKS, along with the previous JWKS still within their overlap window, to an
+ *  {@link Applier}, which builds and swaps in the key set. Previous JWKS are dropped, and the key set applied again,
+ *  once their overlap window ends. Rotations are serialized, and an applier failure leaves the current key set in place.
+ *  Expiries and file changes are handled on background daemon threads.
+ * </p>
+ */
+public class JwksRotation implements Closeable {
+
+    private static final String EXPIRER_THREAD_NAME = "cedarling4j-jwks";
+    private static final String WATCHER_THREAD_NAME = "cedarling4j-jwks-watcher";
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    /**
+     * Applies a key set
+     */
+    @FunctionalInterface
+    public interface Applier {
+
+        /**
+         * Applies a key set
+         * @param jwks the new JWKS
+         * @param retainedJwks the previous JWKS still trusted, most recent first
+         * @throws io.jans.cedarling.bridge.CedarlingError if the key set can't be applied
+         */
+        void apply(final String jwks, final List<String> retainedJwks) throws CedarlingError;
+    }
+
+    private final Duration overlap;
+    private final Applier applier;
+    private final ScheduledExecutorService expirer;
+    private final Deque<Retained> retained = new ArrayDeque<>();
+    private final AtomicLong rotations = new AtomicLong();
+    private String current;
+    private WatchService watchService;
+    private volatile CedarlingError lastFailure;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor
+     * @param initialJwks the JWKS the instance was created with, may be {@code null}
+     * @param overlap how long the previous JWKS are trusted for after a rotation
+     * @param applier applies key sets to the instance
+     */
+    public JwksRotation(final String initialJwks, final Duration overlap, final Applier applier) {
+
+        this.current = initialJwks;
+        this.overlap = (overlap == null || overlap.isNegative() ? Duration.ZERO : overlap);
+        this.applier = applier;
+        this.expirer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable,EXPIRER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rotates to a new JWKS. Does nothing if the JWKS is the current one
+     * @param jwks the new JWKS
+     * @throws io.jans.cedarling.bridge.CedarlingError if the key set can't be applied, or this rotation is closed
+     */
+    public synchronized void update(final String jwks) throws CedarlingError {
+
+        if(closed) {
+            throw new CedarlingError("Cedarling instance is closed");
+        }
+        if(jwks.equals(current)) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final Deque<Retained> next = new ArrayDeque<>();
+        if(current != null && !overlap.isZero()) {
+            next.add(new Retained(current,now + overlap.toNanos()));
+        }
+        for(Retained previous : retained) {
+            if(previous.expiresAt - now > 0 && !previous.jwks.equals(jwks)) {
+                next.add(previous);
+            }
+        }
+        applier.apply(jwks,jwksOf(next));
+        current = jwks;
+        retained.clear();
+        retained.addAll(next);
+        rotations.incrementAndGet();
+        lastFailure = null;
+        if(!overlap.isZero() && next.size() > 0) {
+            schedule(overlap);
+        }
+    }
+
+    /**
+     * Watches a JWKS file, rotating to its content whenever it changes
+     * @param file the JWKS file
+     * @throws java.io.IOException if the file's directory can't be watched
+     */
+    public synchronized void watch(final Path file) throws IOException {
+
+        final Path absolute = file.toAbsolutePath();
+        final Path directory = absolute.getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,StandardWatchEventKinds.ENTRY_CREATE,StandardWatchEventKinds.ENTRY_MODIFY);
+        final WatchService service = watchService;
+        final Thread watcher = new Thread(() -> watchLoop(service,absolute),WATCHER_THREAD_NAME);
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Gets the number of rotations applied, initial key set excluded
+     * @return the number of rotations
+     */
+    public long getRotationCount() {
+
+        return rotations.get();
+    }
+
+    /**
+     * Gets the last failure of a background rotation (watched file change or overlap expiry)
+     * @return the failure, or an empty optional if the last rotation succeeded
+     */
+    public Optional<CedarlingError> getLastFailure() {
+
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * Stops watching and expiring key sets. Does not wait for a rotation in progress
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        expirer.shutdownNow();
+        final WatchService service = watchService;
+        if(service != null) {
+            try {
+                service.close();
+            }catch(IOException e) {
+                // the watcher stops either way
+            }
+        }
+    }
+
+    /**
+     * Reads a JWKS file
+     * @param file the JWKS file
+     * @return the file's content
+     * @throws java.io.IOException if the file can't be read
+     */
+    public static String readJwks(final Path file) throws IOException {
+
+        return new String(Files.readAllBytes(file),StandardCharsets.UTF_8);
+    }
+
+    private synchronized void expire() {
+
+        if(closed) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final Deque<Retained> next = new ArrayDeque<>();
+        for(Retained previous : retained) {
+            if(previous.expiresAt - now > 0) {
+                next.add(previous);
+            }
+        }
+        if(next.size() == retained.size()) {
+            return;
+        }
+        try {
+            applier.apply(current,jwksOf(next));
+            retained.clear();
+            retained.addAll(next);
+            lastFailure = null;
+        }catch(CedarlingError e) {
+            lastFailure = e;
+            schedule(RETRY_DELAY);
+        }
+    }
+
+    private void schedule(final Duration delay) {
+
+        if(!closed) {
+            expirer.schedule(this::expire,delay.toNanos(),TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void watchLoop(final WatchService service, final Path file) {
+
+        try {
+            while(!closed) {
+                final WatchKey key = service.take();
+                boolean changed = false;
+                for(WatchEvent<?> event : key.pollEvents()) {
+                    changed |= (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context()));
+                }
+                key.reset();
+                if(changed) {
+                    reload(file);
+                }
+            }
+        }catch(ClosedWatchServiceException e) {
+            // closed
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(final Path file) {
+
+        try {
+            final String jwks = readJwks(file);
+            // a file being truncated before it's written again
+            if(!jwks.isBlank()) {
+                update(jwks);
+            }
+        }catch(IOException e) {
+            lastFailure = new CedarlingError("Could not read JWKS file " + file + ". " + e.getMessage(),e);
+        }catch(CedarlingError e) {
+            lastFailure = e;
+        }
+    }
+
+    private static List<String> jwksOf(final Deque<Retained> retained) {
+
+        final List<String> ret = new ArrayList<>(retained.size());
+        for(Retained previous : retained) {
+            ret.add(previous.jwks);
+        }
+        return ret;
+    }
+
+    private static class Retained {
+
+        private final String jwks;
+        private final long expiresAt;
+
+        Retained(final String jwks, long expiresAt) {
+
+            this.jwks = jwks;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
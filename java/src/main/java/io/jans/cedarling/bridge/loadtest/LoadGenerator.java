@@ -0,0 +1,267 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.loadtest;
+
+import io.jans.cedarling.bridge.CedarlingError;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Open loop load generator
+ * <p>
+ *  Requests are sent on a fixed schedule, at a constant rate or following a poisson process, whatever the target's
+ *  response times. Each sender thread owns an equal share of the schedule. When the target falls behind, requests
+ *  are sent late, and their latency is measured from the time they were scheduled, so the time spent waiting is
+ *  accounted for instead of being omitted (coordinated omission). The schedule of a run is only determined by the
+ *  generator's settings and seed.
+ * </p>
+ * <p>
+ *  Requests still unsent once the run has lasted twice its scheduled duration are abandoned, and reported as such.
+ * </p>
+ * <p>
+ *  This package depends on <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>, an optional
+ *  dependency of this library, which must be added to the class path to use it.
+ * </p>
+ */
+public class LoadGenerator {
+
+    /**
+     * How request start times are spread over a run
+     */
+    public enum Arrivals {
+        /** Requests are evenly spaced */
+        CONSTANT,
+        /** Requests follow a poisson process, with exponentially distributed inter arrival times */
+        POISSON
+    }
+
+    private static final long HIGHEST_TRACKABLE_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final int threads;
+    private final Arrivals arrivals;
+    private final long seed;
+
+    /**
+     * Constructor
+     * @param threads the number of sender threads, which bounds the number of requests in flight
+     * @param arrivals how request start times are spread
+     * @param seed the seed of the schedule's random number generators
+     */
+    public LoadGenerator(int threads, final Arrivals arrivals, long seed) {
+
+        if(threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if(arrivals == null) {
+            throw new IllegalArgumentException("Arrivals cannot be null");
+        }
+        this.threads = threads;
+        this.arrivals = arrivals;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs load at a fixed rate
+     * @param target the target to send requests to
+     * @param rate the request rate, in requests per second
+     * @param duration the duration over which requests are scheduled
+     * @return the outcome of the run
+     */
+    public LoadResult run(final LoadTarget target, double rate, final Duration duration) {
+
+        if(!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        if(duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+
+        final long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        final long end = start + duration.toNanos();
+        final long stop = end + duration.toNanos();
+        final List<Sender> senders = new ArrayList<>(threads);
+        final List<Thread> running = new ArrayList<>(threads);
+        for(int i = 0; i < threads; i++) {
+            final Sender sender = new Sender(target,i,rate,start,end,stop);
+            final Thread thread = new Thread(sender,"cedarling4j-load-" + i);
+            senders.add(sender);
+            running.add(thread);
+            thread.start();
+        }
+        for(Thread thread : running) {
+            joinUninterruptibly(thread);
+        }
+
+        final Histogram latency = newHistogram();
+        final Histogram serviceTime = newHistogram();
+        long completed = 0;
+        long errors = 0;
+        long unsent = 0;
+        long finished = start;
+        for(Sender sender : senders) {
+            latency.add(sender.latency);
+            serviceTime.add(sender.serviceTime);
+            completed += sender.completed;
+            errors += sender.errors;
+            unsent += sender.unsent;
+            finished = Math.max(finished,sender.finished);
+        }
+        return new LoadResult(rate,duration,Duration.ofNanos(finished - start),completed,errors,unsent,latency,serviceTime);
+    }
+
+    /**
+     * Runs load at increasing rates until the target saturates (see {@link LoadSweep})
+     * @param target the target to send requests to
+     * @param rates the request rates to run, in increasing order
+     * @param stepDuration the duration of each step
+     * @return the outcome of the sweep
+     */
+    public LoadSweep sweep(final LoadTarget target, final List<Double> rates, final Duration stepDuration) {
+
+        if(rates == null || rates.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate must be supplied");
+        }
+        final List<LoadResult> steps = new ArrayList<>();
+        for(double rate : rates) {
+            final LoadResult step = run(target,rate,stepDuration);
+            steps.add(step);
+            if(LoadSweep.isSaturated(steps.get(0),step)) {
+                return new LoadSweep(steps,true);
+            }
+        }
+        return new LoadSweep(steps,false);
+    }
+
+    /**
+     * Gets geometrically increasing rates, convenient for sweeps
+     * @param from the first rate
+     * @param factor the ratio between consecutive rates, greater than 1
+     * @param steps the number of rates
+     * @return the rates
+     */
+    public static List<Double> geometricRates(double from, double factor, int steps) {
+
+        if(!(from > 0) || !(factor > 1) || steps <= 0) {
+            throw new IllegalArgumentException("Invalid rate progression");
+        }
+        final List<Double> rates = new ArrayList<>(steps);
+        double rate = from;
+        for(int i = 0; i < steps; i++) {
+            rates.add(rate);
+            rate *= factor;
+        }
+        return rates;
+    }
+
+    private static Histogram newHistogram() {
+
+        return new Histogram(HIGHEST_TRACKABLE_LATENCY_NANOS,SIGNIFICANT_DIGITS);
+    }
+
+    private static void joinUninterruptibly(final Thread thread) {
+
+        boolean interrupted = false;
+        while(true) {
+            try {
+                thread.join();
+                break;
+            }catch(InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class Sender implements Runnable {
+
+        private final LoadTarget target;
+        private final int index;
+        private final double meanIntervalNanos;
+        private final long start;
+        private final long end;
+        private final long stop;
+        private final Random random;
+        private final Histogram latency = newHistogram();
+        private final Histogram serviceTime = newHistogram();
+        private long completed;
+        private long errors;
+        private long unsent;
+        private long finished;
+
+        Sender(final LoadTarget target, int index, double rate, long start, long end, long stop) {
+
+            this.target = target;
+            this.index = index;
+            this.meanIntervalNanos = 1e9 * threads / rate;
+            this.start = start;
+            this.end = end;
+            this.stop = stop;
+            this.random = new Random(seed + index);
+        }
+
+        @Override
+        public void run() {
+
+            // senders are staggered so that, at a constant rate, the whole schedule is evenly spaced
+            double scheduled = start + (arrivals == Arrivals.CONSTANT ? index * meanIntervalNanos / threads : nextInterval());
+            long sequence = index;
+            while((long) scheduled < end) {
+                final long intended = (long) scheduled;
+                if(System.nanoTime() >= stop) {
+                    unsent++;
+                    record(latency,stop - intended);
+                }else {
+                    waitUntil(intended);
+                    final long sent = System.nanoTime();
+                    try {
+                        target.send(sequence);
+                    }catch(CedarlingError | RuntimeException e) {
+                        errors++;
+                    }
+                    final long done = System.nanoTime();
+                    record(latency,done - intended);
+                    record(serviceTime,done - sent);
+                    completed++;
+                    finished = done;
+                }
+                scheduled += nextInterval();
+                sequence += threads;
+            }
+        }
+
+        private double nextInterval() {
+
+            if(arrivals == Arrivals.CONSTANT) {
+                return meanIntervalNanos;
+            }
+            return -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos;
+        }
+
+        private void waitUntil(long nanos) {
+
+            long remaining;
+            while((remaining = nanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+
+        private void record(final Histogram histogram, long nanos) {
+
+            histogram.recordValue(Math.min(Math.max(nanos,0),HIGHEST_TRACKABLE_LATENCY_NANOS));
+        }
+    }
+}
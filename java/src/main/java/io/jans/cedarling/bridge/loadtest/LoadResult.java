@@ -0,0 +1,159 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.loadtest;
+
+import java.time.Duration;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of a load run at a fixed request rate
+ * <p>
+ *  Two latency distributions are recorded for each request. The latency ({@link #getLatencyPercentile(double)}) is
+ *  measured from the time the request was scheduled to be sent until it completed, and includes the time it spent
+ *  waiting for a sender thread when the target can't keep up. The service time ({@link #getServiceTimePercentile(double)})
+ *  is measured from the time the request was actually sent, which is what a closed loop benchmark reports.
+ *  The gap between both is the queueing a closed loop benchmark hides.
+ * </p>
+ */
+public class LoadResult {
+
+    private final double targetRate;
+    private final Duration duration;
+    private final Duration elapsed;
+    private final long completed;
+    private final long errors;
+    private final long unsent;
+    private final Histogram latency;
+    private final Histogram serviceTime;
+
+    LoadResult(double targetRate, final Duration duration, final Duration elapsed, long completed, long errors,
+        long unsent, final Histogram latency, final Histogram serviceTime) {
+
+        this.targetRate = targetRate;
+        this.duration = duration;
+        this.elapsed = elapsed;
+        this.completed = completed;
+        this.errors = errors;
+        this.unsent = unsent;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+    }
+
+    /**
+     * Gets the request rate the run was scheduled at
+     * @return the target rate, in requests per second
+     */
+    public double getTargetRate() {
+
+        return targetRate;
+    }
+
+    /**
+     * Gets the rate requests were completed at
+     * @return the achieved rate, in requests per second
+     */
+    public double getAchievedRate() {
+
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : completed * 1e9 / nanos;
+    }
+
+    /**
+     * Gets the duration requests were scheduled over
+     * @return the run's scheduled duration
+     */
+    public Duration getDuration() {
+
+        return duration;
+    }
+
+    /**
+     * Gets the time taken to complete the run, which exceeds the scheduled duration when the target falls behind
+     * @return the run's elapsed time
+     */
+    public Duration getElapsed() {
+
+        return elapsed;
+    }
+
+    /**
+     * Gets the number of requests sent and completed, successfully or not
+     * @return the number of completed requests
+     */
+    public long getCompleted() {
+
+        return completed;
+    }
+
+    /**
+     * Gets the number of completed requests which failed
+     * @return the number of errors
+     */
+    public long getErrors() {
+
+        return errors;
+    }
+
+    /**
+     * Gets the number of scheduled requests which were never sent, because the target fell too far behind
+     * for the run to complete in time. Their latency is recorded as the time they had been waiting when the run
+     * was stopped, which is a lower bound
+     * @return the number of unsent requests
+     */
+    public long getUnsent() {
+
+        return unsent;
+    }
+
+    /**
+     * Gets a latency percentile, measured from each request's scheduled start
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency at the specified percentile
+     */
+    public Duration getLatencyPercentile(double percentile) {
+
+        return Duration.ofNanos(latency.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Gets the maximum latency, measured from each request's scheduled start
+     * @return the maximum latency
+     */
+    public Duration getMaxLatency() {
+
+        return Duration.ofNanos(latency.getMaxValue());
+    }
+
+    /**
+     * Gets a service time percentile, measured from each request's actual start
+     * @param percentile the percentile, between 0 and 100
+     * @return the service time at the specified percentile
+     */
+    public Duration getServiceTimePercentile(double percentile) {
+
+        return Duration.ofNanos(serviceTime.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Gets a copy of the latency histogram, in nanoseconds
+     * @return the latency histogram
+     */
+    public Histogram getLatencyHistogram() {
+
+        return latency.copy();
+    }
+
+    /**
+     * Gets a copy of the service time histogram, in nanoseconds
+     * @return the service time histogram
+     */
+    public Histogram getServiceTimeHistogram() {
+
+        return serviceTime.copy();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Outcome of a request rate sweep
+ * <p>
+ *  A step is saturated when the target completed less than {@link #MIN_ACHIEVED_RATIO} of the scheduled rate,
+ *  left scheduled requests unsent, or its p99 latency grew beyond {@link #MAX_P99_GROWTH} times the p99 latency of
+ *  the first step (floored at one millisecond). The first saturated step is the knee. The sweep stops there,
+ *  so it's always the last step.
+ * </p>
+ */
+public class LoadSweep {
+
+    /**
+     * Minimum fraction of the target rate a step must achieve not to be considered saturated
+     */
+    public static final double MIN_ACHIEVED_RATIO = 0.95;
+
+    /**
+     * Maximum growth of the p99 latency, relative to the first step, for a step not to be considered saturated
+     */
+    public static final double MAX_P99_GROWTH = 10.0;
+
+    private static final Duration MIN_BASELINE_P99 = Duration.ofMillis(1);
+
+    private final List<LoadResult> steps;
+    private final boolean saturated;
+
+    LoadSweep(final List<LoadResult> steps, boolean saturated) {
+
+        this.steps = Collections.unmodifiableList(steps);
+        this.saturated = saturated;
+    }
+
+    /**
+     * Gets the result of each step of the sweep, in the order they were run
+     * @return the sweep's steps
+     */
+    public List<LoadResult> getSteps() {
+
+        return steps;
+    }
+
+    /**
+     * Gets the first saturated step
+     * @return the knee, or an empty optional if no step saturated the target
+     */
+    public Optional<LoadResult> getKnee() {
+
+        return saturated ? Optional.of(steps.get(steps.size() - 1)) : Optional.empty();
+    }
+
+    /**
+     * Gets the highest rate the target sustained before the knee
+     * @return the highest sustained rate in requests per second, or an empty optional if the first step saturated the target
+     */
+    public OptionalDouble getSustainedRate() {
+
+        final int sustained = saturated ? steps.size() - 1 : steps.size();
+        return sustained == 0 ? OptionalDouble.empty() : OptionalDouble.of(steps.get(sustained - 1).getTargetRate());
+    }
+
+    static boolean isSaturated(final LoadResult baseline, final LoadResult step) {
+
+        if(step.getUnsent() > 0 || step.getAchievedRate() < step.getTargetRate() * MIN_ACHIEVED_RATIO) {
+            return true;
+        }
+        final long baselineP99 = Math.max(baseline.getLatencyPercentile(99).toNanos(),MIN_BASELINE_P99.toNanos());
+        return step.getLatencyPercentile(99).toNanos() > baselineP99 * MAX_P99_GROWTH;
+    }
+}
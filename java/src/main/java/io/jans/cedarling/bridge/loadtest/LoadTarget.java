@@ -0,0 +1,63 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.loadtest;
+
+import io.jans.cedarling.bridge.Cedarling;
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The system a {@link LoadGenerator} sends requests to
+ */
+@FunctionalInterface
+public interface LoadTarget {
+
+    /**
+     * Sends a single request
+     * @param sequence the request's sequence number, unique within a load run
+     * @return the request's result
+     * @throws io.jans.cedarling.bridge.CedarlingError if the request fails
+     */
+    AuthorizeResult send(long sequence) throws CedarlingError;
+
+    /**
+     * Creates a target sending signed requests to a cedarling instance, cycling through the specified requests
+     * @param cedarling the cedarling instance
+     * @param requests the requests to send
+     * @return the load target
+     */
+    static LoadTarget signed(final Cedarling cedarling, final List<AuthorizeRequest> requests) {
+
+        final List<AuthorizeRequest> corpus = nonEmptyCopy(requests);
+        return sequence -> cedarling.authorize(corpus.get((int) (sequence % corpus.size())));
+    }
+
+    /**
+     * Creates a target sending unsigned requests to a cedarling instance, cycling through the specified requests
+     * @param cedarling the cedarling instance
+     * @param requests the requests to send
+     * @return the load target
+     */
+    static LoadTarget unsigned(final Cedarling cedarling, final List<AuthorizeRequestUnsigned> requests) {
+
+        final List<AuthorizeRequestUnsigned> corpus = nonEmptyCopy(requests);
+        return sequence -> cedarling.authorizeUnsigned(corpus.get((int) (sequence % corpus.size())));
+    }
+
+    private static <T> List<T> nonEmptyCopy(final List<T> requests) {
+
+        if(requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one request must be supplied");
+        }
+        return new ArrayList<>(requests);
+    }
+}
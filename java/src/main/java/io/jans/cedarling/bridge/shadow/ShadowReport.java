@@ -0,0 +1,129 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.shadow;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of a cedarling instance's shadow evaluation results
+ * <p>
+ *  Counters cover the whole life of the instance, while {@link #getSamples()} only holds
+ *  the most recent shadow evaluations, oldest first.
+ * </p>
+ */
+public class ShadowReport {
+
+    private long sampled;
+    private long evaluated;
+    private long dropped;
+    private long mismatches;
+    private long errors;
+    private long primaryLatencyTotalNanos;
+    private long shadowLatencyTotalNanos;
+    private final List<ShadowSample> samples;
+
+    private ShadowReport() {
+
+        samples = new ArrayList<>();
+    }
+
+    /**
+     * Gets the number of requests selected for shadow evaluation
+     * @return the number of sampled requests
+     */
+    public long getSampled() {
+
+        return sampled;
+    }
+
+    /**
+     * Gets the number of requests evaluated against the shadow
+     * @return the number of evaluated requests
+     */
+    public long getEvaluated() {
+
+        return evaluated;
+    }
+
+    /**
+     * Gets the number of sampled requests dropped because the shadow evaluation queue was full
+     * @return the number of dropped requests
+     */
+    public long getDropped() {
+
+        return dropped;
+    }
+
+    /**
+     * Gets the number of shadow evaluations which reached a different decision than the primary one, errors excluded
+     * @return the number of mismatches
+     */
+    public long getMismatches() {
+
+        return mismatches;
+    }
+
+    /**
+     * Gets the number of shadow evaluations which failed
+     * @return the number of errors
+     */
+    public long getErrors() {
+
+        return errors;
+    }
+
+    /**
+     * Gets the average primary evaluation latency of the requests evaluated against the shadow
+     * @return the average primary latency
+     */
+    public Duration getAveragePrimaryLatency() {
+
+        return evaluated == 0 ? Duration.ZERO : Duration.ofNanos(primaryLatencyTotalNanos / evaluated);
+    }
+
+    /**
+     * Gets the average shadow evaluation latency
+     * @return the average shadow latency
+     */
+    public Duration getAverageShadowLatency() {
+
+        return evaluated == 0 ? Duration.ZERO : Duration.ofNanos(shadowLatencyTotalNanos / evaluated);
+    }
+
+    /**
+     * Gets the most recent shadow evaluations
+     * @return the samples, oldest first
+     */
+    public List<ShadowSample> getSamples() {
+
+        return Collections.unmodifiableList(samples);
+    }
+
+    @SuppressWarnings("unused")
+    private void setCounters(long sampled, long evaluated, long dropped, long mismatches, long errors,
+        long primaryLatencyTotalNanos, long shadowLatencyTotalNanos) {
+
+        this.sampled = sampled;
+        this.evaluated = evaluated;
+        this.dropped = dropped;
+        this.mismatches = mismatches;
+        this.errors = errors;
+        this.primaryLatencyTotalNanos = primaryLatencyTotalNanos;
+        this.shadowLatencyTotalNanos = shadowLatencyTotalNanos;
+    }
+
+    @SuppressWarnings("unused")
+    private void addSample(final String requestId, boolean primaryDecision, boolean shadowEvaluated, boolean shadowDecision,
+        long primaryLatencyNanos, long shadowLatencyNanos, final String shadowError) {
+
+        samples.add(new ShadowSample(requestId,primaryDecision,shadowEvaluated ? Boolean.valueOf(shadowDecision) : null,
+            Duration.ofNanos(primaryLatencyNanos),Duration.ofNanos(shadowLatencyNanos),shadowError));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.shadow;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Outcome of the shadow evaluation of a single authorization request
+ */
+public class ShadowSample {
+
+    private final String requestId;
+    private final boolean primaryDecision;
+    private final Optional<Boolean> shadowDecision;
+    private final Duration primaryLatency;
+    private final Duration shadowLatency;
+    private final Optional<String> shadowError;
+
+    ShadowSample(final String requestId, boolean primaryDecision, final Boolean shadowDecision,
+        final Duration primaryLatency, final Duration shadowLatency, final String shadowError) {
+
+        this.requestId = requestId;
+        this.primaryDecision = primaryDecision;
+        this.shadowDecision = Optional.ofNullable(shadowDecision);
+        this.primaryLatency = primaryLatency;
+        this.shadowLatency = shadowLatency;
+        this.shadowError = Optional.ofNullable(shadowError);
+    }
+
+    /**
+     * Gets the request id of the primary evaluation
+     * @return the request id
+     */
+    public String getRequestId() {
+
+        return requestId;
+    }
+
+    /**
+     * Gets the decision of the primary policy store
+     * @return the primary decision
+     */
+    public boolean getPrimaryDecision() {
+
+        return primaryDecision;
+    }
+
+    /**
+     * Gets the decision of the shadow policy store
+     * @return the shadow decision, or an empty optional if the shadow evaluation failed
+     */
+    public Optional<Boolean> getShadowDecision() {
+
+        return shadowDecision;
+    }
+
+    /**
+     * Tells whether the shadow policy store reached a different outcome than the primary one
+     * @return {@code true} if the decisions differ, {@code false} if they match or the shadow evaluation failed
+     */
+    public boolean isMismatch() {
+
+        return shadowDecision.map(d -> d != primaryDecision).orElse(false);
+    }
+
+    /**
+     * Gets the time taken by the primary evaluation
+     * @return the primary evaluation latency
+     */
+    public Duration getPrimaryLatency() {
+
+        return primaryLatency;
+    }
+
+    /**
+     * Gets the time taken by the shadow evaluation
+     * @return the shadow evaluation latency
+     */
+    public Duration getShadowLatency() {
+
+        return shadowLatency;
+    }
+
+    /**
+     * Gets the error the shadow evaluation failed with
+     * @return the error message, or an empty optional if the shadow evaluation succeeded
+     */
+    public Optional<String> getShadowError() {
+
+        return shadowError;
+    }
+}
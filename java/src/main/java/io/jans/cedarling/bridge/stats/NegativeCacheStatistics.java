@@ -0,0 +1,71 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+/**
+ * Counters of a cedarling instance's negative token cache
+ * <p>
+ *  Counters are cumulative since the instance was created. A sudden rise of the hit count usually means
+ *  a misconfigured client, or someone, is retrying with tokens the engine already rejected.
+ * </p>
+ */
+public class NegativeCacheStatistics {
+
+    private long hits;
+    private long insertions;
+    private long evictions;
+    private long size;
+
+    private NegativeCacheStatistics() {
+
+    }
+
+    /**
+     * Gets the number of requests rejected by the cache, without being evaluated
+     * @return the number of cache hits
+     */
+    public long getHits() {
+
+        return hits;
+    }
+
+    /**
+     * Gets the number of rejected token sets added to the cache
+     * @return the number of insertions
+     */
+    public long getInsertions() {
+
+        return insertions;
+    }
+
+    /**
+     * Gets the number of token sets evicted from the cache before they expired, to make room for new ones
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+
+        return evictions;
+    }
+
+    /**
+     * Gets the number of token sets currently held by the cache, expired ones not purged yet included
+     * @return the cache size
+     */
+    public long getSize() {
+
+        return size;
+    }
+
+    @SuppressWarnings("unused")
+    private void setCounters(long hits, long insertions, long evictions, long size) {
+
+        this.hits = hits;
+        this.insertions = insertions;
+        this.evictions = evictions;
+        this.size = size;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+import java.time.Duration;
+
+/**
+ * Hit counters of a single policy
+ * <p>
+ *  The cedar engine doesn't time policies individually. The time attributed to a policy is the 
+ *  total evaluation time of the requests it determined, so policies determining the same requests 
+ *  share the same time. It is meant to compare policies with one another, not to be summed up.
+ * </p>
+ */
+public class PolicyCounters {
+
+    private final String policyId;
+    private final long determiningCount;
+    private final long errorCount;
+    private final Duration attributedTime;
+
+    PolicyCounters(final String policyId, long determiningCount, long errorCount, final Duration attributedTime) {
+
+        this.policyId = policyId;
+        this.determiningCount = determiningCount;
+        this.errorCount = errorCount;
+        this.attributedTime = attributedTime;
+    }
+
+    /**
+     * Gets the id of the policy
+     * @return the policy id
+     */
+    public String getPolicyId() {
+
+        return policyId;
+    }
+
+    /**
+     * Gets the number of requests this policy took part in determining
+     * @return the number of requests determined
+     */
+    public long getDeterminingCount() {
+
+        return determiningCount;
+    }
+
+    /**
+     * Gets the number of requests for which the evaluation of this policy failed
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+
+        return errorCount;
+    }
+
+    /**
+     * Gets the total evaluation time of the requests this policy determined
+     * @return the time attributed to this policy
+     */
+    public Duration getAttributedTime() {
+
+        return attributedTime;
+    }
+}
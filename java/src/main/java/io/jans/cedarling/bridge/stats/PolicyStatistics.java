@@ -0,0 +1,72 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of a cedarling instance's per policy counters
+ * <p>
+ *  Counters are kept natively and cover the requests evaluated since the instance was created or 
+ *  its statistics were last reset. Only policies which determined at least one request or failed at 
+ *  least once are listed: policies of the store missing from {@link #getPolicies()} were never hit.
+ * </p>
+ */
+public class PolicyStatistics {
+
+    private long evaluatedRequests;
+    private final Map<String,PolicyCounters> policies;
+
+    private PolicyStatistics() {
+
+        policies = new HashMap<>();
+    }
+
+    /**
+     * Gets the number of authorization requests the counters cover
+     * @return the number of evaluated requests
+     */
+    public long getEvaluatedRequests() {
+
+        return evaluatedRequests;
+    }
+
+    /**
+     * Gets the counters of all the policies hit
+     * @return the counters, keyed by policy id
+     */
+    public Map<String,PolicyCounters> getPolicies() {
+
+        return Collections.unmodifiableMap(policies);
+    }
+
+    /**
+     * Gets the counters of a single policy
+     * @param policyId the policy id
+     * @return the policy's counters, or an empty optional if the policy was never hit
+     */
+    public Optional<PolicyCounters> getPolicy(final String policyId) {
+
+        return Optional.ofNullable(policies.get(policyId));
+    }
+
+    @SuppressWarnings("unused")
+    private void setEvaluatedRequests(long evaluatedRequests) {
+
+        this.evaluatedRequests = evaluatedRequests;
+    }
+
+    @SuppressWarnings("unused")
+    private void addPolicy(final String policyId, long determiningCount, long errorCount, long attributedNanos) {
+
+        policies.put(policyId,new PolicyCounters(policyId,determiningCount,errorCount,Duration.ofNanos(attributedNanos)));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+import java.time.Duration;
+
+/**
+ * Time and native memory a cedarling instance took to create
+ * <p>
+ *  The cedarling engine loads the policy store, parses its policies and validates them against its schema 
+ *  in a single step, which is reported as the engine initialization. For stores fetched from a lock server or 
+ *  read from a file, it includes the time spent retrieving the store.
+ * </p>
+ */
+public class StartupTimings {
+
+    private Duration marshalling = Duration.ZERO;
+    private Duration initialization = Duration.ZERO;
+    private Duration construction = Duration.ZERO;
+    private long engineMemory;
+
+    private StartupTimings() {
+
+    }
+
+    /**
+     * Gets the time spent converting the java bootstrap configuration into a cedarling configuration
+     * @return the marshalling time
+     */
+    public Duration getMarshalling() {
+
+        return marshalling;
+    }
+
+    /**
+     * Gets the time spent creating the cedarling engine: loading the policy store, parsing it and validating it
+     * @return the engine initialization time
+     */
+    public Duration getInitialization() {
+
+        return initialization;
+    }
+
+    /**
+     * Gets the time the {@code Cedarling} constructor took, marshalling and engine initialization included
+     * @return the construction time
+     */
+    public Duration getConstruction() {
+
+        return construction;
+    }
+
+    /**
+     * Gets the native memory the engine held once created
+     * @return the engine's memory, in bytes, or {@code 0} if memory is not accounted for 
+     *  (see {@link io.jans.cedarling.bridge.Cedarling#isNativeMemoryAccounted()})
+     */
+    public long getEngineMemory() {
+
+        return engineMemory;
+    }
+
+    @SuppressWarnings("unused")
+    private void setTimings(long marshallingNanos, long initializationNanos, long constructionNanos, long engineMemory) {
+
+        this.marshalling = Duration.ofNanos(marshallingNanos);
+        this.initialization = Duration.ofNanos(initializationNanos);
+        this.construction = Duration.ofNanos(constructionNanos);
+        this.engineMemory = engineMemory;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+import java.time.Duration;
+
+/**
+ * Freshness and lookup counters of a cedarling instance's token status lists
+ * <p>
+ *  Lookup counters are cumulative since the instance was created. Stale lists are lists whose {@code ttl}
+ *  elapsed without a successful refresh: they are still used, so a growing number of stale lists or of
+ *  fetch failures means revocations may not be seen.
+ * </p>
+ */
+public class StatusListStatistics {
+
+    private long lists;
+    private long staleLists;
+    private Duration oldestListAge = Duration.ZERO;
+    private long lookups;
+    private long rejections;
+    private long misses;
+    private long loads;
+    private long fetchFailures;
+
+    private StatusListStatistics() {
+
+    }
+
+    /**
+     * Gets the number of status lists held
+     * @return the number of lists
+     */
+    public long getLists() {
+
+        return lists;
+    }
+
+    /**
+     * Gets the number of status lists whose ttl elapsed without a successful refresh
+     * @return the number of stale lists
+     */
+    public long getStaleLists() {
+
+        return staleLists;
+    }
+
+    /**
+     * Gets the time since the least recently fetched list was fetched
+     * @return the age of the oldest list
+     */
+    public Duration getOldestListAge() {
+
+        return oldestListAge;
+    }
+
+    /**
+     * Gets the number of token statuses looked up
+     * @return the number of lookups
+     */
+    public long getLookups() {
+
+        return lookups;
+    }
+
+    /**
+     * Gets the number of tokens rejected because of their status
+     * @return the number of rejections
+     */
+    public long getRejections() {
+
+        return rejections;
+    }
+
+    /**
+     * Gets the number of tokens rejected because their status list was not fetched yet, or had expired
+     * @return the number of misses
+     */
+    public long getMisses() {
+
+        return misses;
+    }
+
+    /**
+     * Gets the number of status lists fetched and loaded, refreshes included
+     * @return the number of loads
+     */
+    public long getLoads() {
+
+        return loads;
+    }
+
+    /**
+     * Gets the number of status list fetches which failed, or returned a list which couldn't be loaded
+     * @return the number of fetch failures
+     */
+    public long getFetchFailures() {
+
+        return fetchFailures;
+    }
+
+    @SuppressWarnings("unused")
+    private void setCounters(long lists, long staleLists, long oldestListAgeMillis, long lookups, long rejections,
+        long misses, long loads, long fetchFailures) {
+
+        this.lists = lists;
+        this.staleLists = staleLists;
+        this.oldestListAge = Duration.ofMillis(oldestListAgeMillis);
+        this.lookups = lookups;
+        this.rejections = rejections;
+        this.misses = misses;
+        this.loads = loads;
+        this.fetchFailures = fetchFailures;
+    }
+}
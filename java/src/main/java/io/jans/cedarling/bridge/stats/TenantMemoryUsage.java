@@ -0,0 +1,59 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.stats;
+
+/**
+ * Native memory held for a tenant of a cedarling instance
+ * <p>
+ *  Tenants registering identical policy stores share a single engine. The memory held by the engine is
+ *  reported for each of them, along with the number of tenants sharing it. Other tenants get an engine each,
+ *  see {@link io.jans.cedarling.bridge.Cedarling#getTenantEngineCount()}.
+ * </p>
+ */
+public class TenantMemoryUsage {
+
+    private long engineMemory;
+    private long sharingTenants;
+
+    private TenantMemoryUsage() {
+
+    }
+
+    /**
+     * Gets the native memory held by the tenant's engine (policy store, schema, in memory logs)
+     * @return the memory held by the engine in bytes
+     */
+    public long getEngineMemory() {
+
+        return engineMemory;
+    }
+
+    /**
+     * Gets the number of tenants served by the tenant's engine, the tenant included
+     * @return the number of tenants sharing the engine
+     */
+    public long getSharingTenants() {
+
+        return sharingTenants;
+    }
+
+    /**
+     * Gets the tenant's share of its engine's memory
+     * @return the engine's memory divided by the number of tenants sharing it, in bytes
+     */
+    public long getAttributedMemory() {
+
+        return sharingTenants == 0 ? engineMemory : engineMemory / sharingTenants;
+    }
+
+    @SuppressWarnings("unused")
+    private void setCounters(long engineMemory, long sharingTenants) {
+
+        this.engineMemory = engineMemory;
+        this.sharingTenants = sharingTenants;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.status;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.config.StatusListConfiguration;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches token status lists in the background, and hands them to the instance holding them
+ * <p>
+ *  Every list is fetched on its own schedule: again after its ttl once loaded, after the retry delay if the fetch
+ *  or the load failed. Lists are fetched one at a time on a single daemon thread, which also polls the instance
+ *  for lists referenced by tokens and not fetched yet. Lists discovered that way are bounded in number, given up
+ *  after too many failed fetches in a row, and dropped once no token references them. Redirects are not followed.
+ * </p>
+ */
+public class StatusListFetcher implements Closeable {
+
+    private static final String THREAD_NAME = "cedarling4j-status-lists";
+    private static final String STATUS_LIST_MEDIA_TYPE = "application/statuslist+jwt";
+
+    /**
+     * The instance status lists are fetched for
+     */
+    public interface Source {
+
+        /**
+         * Takes the status lists referenced by tokens and not fetched yet
+         * @return the lists' uris
+         * @throws io.jans.cedarling.bridge.CedarlingError if the lists can't be retrieved
+         */
+        List<String> pending() throws CedarlingError;
+
+        /**
+         * Validates a status list token and loads its list
+         * @param uri the uri the token was fetched from
+         * @param token the status list token
+         * @return the list's ttl, or {@code null} if it has none
+         * @throws io.jans.cedarling.bridge.CedarlingError if the token is invalid
+         */
+        Duration load(final String uri, final String token) throws CedarlingError;
+
+        /**
+         * Records a failed fetch
+         * @param uri the status list's uri
+         * @throws io.jans.cedarling.bridge.CedarlingError if the failure can't be recorded
+         */
+        void failed(final String uri) throws CedarlingError;
+
+        /**
+         * Drops a list no token was checked against for a while
+         * @param uri the status list's uri
+         * @param idle how long the list must have been unused for
+         * @return {@code true} if the list was dropped
+         * @throws io.jans.cedarling.bridge.CedarlingError if the list can't be dropped
+         */
+        boolean release(final String uri, final Duration idle) throws CedarlingError;
+    }
+
+    private final Source source;
+    private final Duration defaultRefresh;
+    private final Duration retryDelay;
+    private final Duration requestTimeout;
+    private final int maxDiscoveredLists;
+    private final int maxFetchAttempts;
+    private final Duration discoveredListIdleTimeout;
+    private final HttpClient client;
+    private final ScheduledExecutorService scheduler;
+    private final Set<String> configured;
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+    /** failed fetches in a row, by discovered list */
+    private final Map<String,Integer> failures = new ConcurrentHashMap<>();
+    /** discovered lists given up, until they may be fetched again */
+    private final Map<String,Instant> givenUp = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor. Schedules the configured lists' first fetch
+     * @param config the status list configuration
+     * @param source the instance status lists are fetched for
+     */
+    public StatusListFetcher(final StatusListConfiguration config, final Source source) {
+
+        this.source = source;
+        this.defaultRefresh = config.getDefaultRefresh();
+        this.retryDelay = config.getRetryDelay();
+        this.requestTimeout = config.getRequestTimeout();
+        this.maxDiscoveredLists = config.getMaxDiscoveredLists();
+        this.maxFetchAttempts = config.getMaxFetchAttempts();
+        this.discoveredListIdleTimeout = config.getDiscoveredListIdleTimeout();
+        this.configured = Set.copyOf(config.getStatusListUris());
+        // a redirect could lead a discovered list's fetch away from the trusted origin it was checked against
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable,THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        for(String uri : configured) {
+            schedule(uri,Duration.ZERO);
+        }
+        final long interval = config.getDiscoveryInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::discover,interval,interval,TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops fetching. Does not wait for a fetch in progress
+     */
+    @Override
+    public void close() {
+
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+    private void discover() {
+
+        final Instant now = Instant.now();
+        givenUp.values().removeIf(until -> !until.isAfter(now));
+        try {
+            for(String uri : source.pending()) {
+                if(!scheduled.contains(uri) && !givenUp.containsKey(uri) && scheduled.size() - configured.size() < maxDiscoveredLists) {
+                    schedule(uri,Duration.ZERO);
+                }
+            }
+        }catch(CedarlingError e) {
+            // the instance is closing, or the next poll succeeds
+        }
+    }
+
+    private void schedule(final String uri, final Duration delay) {
+
+        if(closed || (delay.isZero() && !scheduled.add(uri))) {
+            // lists are fetched on a single schedule, and refreshed by it
+            return;
+        }
+        try {
+            scheduler.schedule(() -> fetch(uri),delay.toMillis(),TimeUnit.MILLISECONDS);
+        }catch(RejectedExecutionException e) {
+            // closed
+        }
+    }
+
+    private void fetch(final String uri) {
+
+        final boolean discovered = !configured.contains(uri);
+        if(discovered && release(uri,discoveredListIdleTimeout)) {
+            // no token referenced the list for the idle timeout
+            scheduled.remove(uri);
+            return;
+        }
+        Duration next;
+        try {
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .header("Accept",STATUS_LIST_MEDIA_TYPE)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+            final HttpResponse<String> response = client.send(request,HttpResponse.BodyHandlers.ofString());
+            if(response.statusCode() != 200) {
+                throw new IOException("Status list endpoint returned HTTP " + response.statusCode());
+            }
+            final Duration ttl = source.load(uri,response.body().trim());
+            next = (ttl == null || ttl.isZero() || ttl.isNegative() ? defaultRefresh : ttl);
+            failures.remove(uri);
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }catch(IOException | CedarlingError | IllegalArgumentException e) {
+            recordFailure(uri);
+            if(discovered && failures.merge(uri,1,Integer::sum) >= maxFetchAttempts) {
+                giveUp(uri);
+                return;
+            }
+            next = retryDelay;
+        }
+        schedule(uri,next);
+    }
+
+    private boolean release(final String uri, final Duration idle) {
+
+        try {
+            return source.release(uri,idle);
+        }catch(CedarlingError e) {
+            // the instance is closing
+            return false;
+        }
+    }
+
+    private void giveUp(final String uri) {
+
+        // the list held so far can't be refreshed anymore
+        release(uri,Duration.ZERO);
+        failures.remove(uri);
+        givenUp.put(uri,Instant.now().plus(discoveredListIdleTimeout));
+        scheduled.remove(uri);
+    }
+
+    private void recordFailure(final String uri) {
+
+        try {
+            source.failed(uri);
+        }catch(CedarlingError e) {
+            // the instance is closing
+        }
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Loads the cedarling rust JNI library
+ * <p>
+ *   The library is looked up in the following order:
+ * </p>
+ * <ul>
+ *   <li>
+ *     An explicit file specified using the {@code cedarling4j.library.file} system property.
+ *   </li>
+ *   <li>
+ *     A platform specific copy bundled on the classpath under {@code native/<os>-<arch>/}, as packaged
+ *     by the {@code native-classifier} maven profile. The bundled library is extracted once into a directory
+ *     named after its SHA-256 digest (under {@code cedarling4j.native.cache}, which defaults to the per-user
+ *     {@code <java.io.tmpdir>/cedarling4j-native-<user.name>}) and reused by every subsequent JVM of that user,
+ *     as long as its content still matches the digest.
+ *   </li>
+ *   <li>
+ *     The {@code java.library.path}, through {@link java.lang.System#loadLibrary(String)}
+ *   </li>
+ * </ul>
+ */
+public final class NativeLibraryLoader {
+
+    /**
+     * System property pointing to the native library file to load
+     */
+    public static final String LIBRARY_FILE_PROPERTY = "cedarling4j.library.file";
+
+    /**
+     * System property specifying the directory bundled native libraries are extracted to
+     */
+    public static final String CACHE_DIR_PROPERTY = "cedarling4j.native.cache";
+
+    private static final String NATIVE_RESOURCE_ROOT = "native";
+    private static final String CHECKSUM_EXTENSION = ".sha256";
+    private static final String DEFAULT_CACHE_DIR_NAME = "cedarling4j-native";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64*1024;
+    private static final Set<PosixFilePermission> OWNER_ONLY = EnumSet.of(
+        PosixFilePermission.OWNER_READ,PosixFilePermission.OWNER_WRITE,PosixFilePermission.OWNER_EXECUTE);
+
+    private NativeLibraryLoader() {
+
+    }
+
+    /**
+     * Loads the native library with the specified name
+     * @param name the name of the library, as passed to {@link java.lang.System#loadLibrary(String)}
+     * @throws UnsatisfiedLinkError if the library could not be found or loaded
+     */
+    public static void load(final String name) {
+
+        final String explicitFile = System.getProperty(LIBRARY_FILE_PROPERTY);
+        if(explicitFile != null && !explicitFile.isEmpty()) {
+            System.load(Paths.get(explicitFile).toAbsolutePath().toString());
+            return;
+        }
+
+        Throwable bundledError = null;
+        final String resource = bundledLibraryResource(name);
+        if(NativeLibraryLoader.class.getClassLoader().getResource(resource) != null) {
+            try {
+                final Path library = extractLibrary(resource,cacheDirectory());
+                System.load(library.toAbsolutePath().toString());
+                return;
+            }catch(IOException | UnsatisfiedLinkError e) {
+                bundledError = e;
+            }
+        }
+
+        try {
+            System.loadLibrary(name);
+        }catch(UnsatisfiedLinkError e) {
+            if(bundledError != null) {
+                e.addSuppressed(bundledError);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the platform identifier used to locate bundled native libraries, e.g. {@code linux-x86_64}
+     * @return the platform identifier
+     */
+    public static String platform() {
+
+        return os() + "-" + arch();
+    }
+
+    static String bundledLibraryResource(final String name) {
+
+        return NATIVE_RESOURCE_ROOT + "/" + platform() + "/" + System.mapLibraryName(name);
+    }
+
+    static Path cacheDirectory() {
+
+        final String configured = System.getProperty(CACHE_DIR_PROPERTY);
+        if(configured != null && !configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        final String user = System.getProperty("user.name","").replaceAll("[^A-Za-z0-9._-]+","_");
+        return Paths.get(System.getProperty("java.io.tmpdir"),DEFAULT_CACHE_DIR_NAME + "-" + user);
+    }
+
+    /**
+     * Extracts a library bundled as a classpath resource into a content-addressed directory
+     * <p>
+     *   If a checksum resource (the library's resource name suffixed with {@code .sha256}) is
+     *   present, it is used to locate an already extracted copy without copying the library again.
+     *   An extracted copy is only reused after its own SHA-256 digest has been checked, and is
+     *   replaced otherwise. Extraction goes through a temporary file followed by an atomic rename,
+     *   so concurrent JVMs sharing the cache directory never observe a partially written library.
+     * </p>
+     * <p>
+     *   The cache directory must be owned by the current user. On POSIX file systems it is created,
+     *   or restricted, to owner-only permissions so other users can not plant a library in it.
+     * </p>
+     * @param resource the classpath resource of the library
+     * @param cacheRoot the directory under which the library is extracted
+     * @return the path of the extracted library
+     * @throws IOException if the resource could not be read or extracted
+     */
+    static Path extractLibrary(final String resource, final Path cacheRoot) throws IOException {
+
+        final String filename = resource.substring(resource.lastIndexOf('/') + 1);
+        final String digest = readBundledChecksum(resource);
+        ensurePrivateDirectory(cacheRoot);
+        if(digest != null) {
+            final Path cached = cacheRoot.resolve(digest).resolve(filename);
+            if(matchesDigest(cached,digest)) {
+                return cached;
+            }
+        }
+
+        final Path tmpfile = Files.createTempFile(cacheRoot,filename,".tmp");
+        try {
+            final String computed = copyResource(resource,tmpfile);
+            if(digest != null && !digest.equals(computed)) {
+                throw new IOException("Checksum mismatch for bundled native library " + resource);
+            }
+
+            final Path targetdir = Files.createDirectories(cacheRoot.resolve(computed));
+            final Path target = targetdir.resolve(filename);
+            if(matchesDigest(target,computed)) {
+                return target;
+            }
+            moveIntoPlace(tmpfile,target);
+            return target;
+        }finally {
+            Files.deleteIfExists(tmpfile);
+        }
+    }
+
+    private static void ensurePrivateDirectory(final Path dir) throws IOException {
+
+        final boolean posix = dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if(!Files.exists(dir,LinkOption.NOFOLLOW_LINKS)) {
+            final Path parent = dir.toAbsolutePath().getParent();
+            if(parent != null) {
+                Files.createDirectories(parent);
+            }
+            try {
+                if(posix) {
+                    Files.createDirectory(dir,PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+                }else {
+                    Files.createDirectory(dir);
+                }
+            }catch(FileAlreadyExistsException e) {
+                // created concurrently, verified below
+            }
+        }
+
+        if(!Files.isDirectory(dir,LinkOption.NOFOLLOW_LINKS)) {
+            throw new IOException("Native library cache is not a directory: " + dir);
+        }
+        final UserPrincipal user = dir.getFileSystem().getUserPrincipalLookupService()
+            .lookupPrincipalByName(System.getProperty("user.name"));
+        if(!user.equals(Files.getOwner(dir,LinkOption.NOFOLLOW_LINKS))) {
+            throw new IOException("Native library cache is not owned by the current user: " + dir);
+        }
+        if(posix) {
+            final PosixFileAttributeView view = Files.getFileAttributeView(dir,PosixFileAttributeView.class,LinkOption.NOFOLLOW_LINKS);
+            if(!OWNER_ONLY.containsAll(view.readAttributes().permissions())) {
+                view.setPermissions(OWNER_ONLY);
+            }
+        }
+    }
+
+    private static boolean matchesDigest(final Path file, final String digest) throws IOException {
+
+        if(!Files.isRegularFile(file,LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        final MessageDigest md = newDigest();
+        try(InputStream in = Files.newInputStream(file)) {
+            final byte [] buffer = new byte[BUFFER_SIZE];
+            int read = 0;
+            while((read = in.read(buffer)) != -1) {
+                md.update(buffer,0,read);
+            }
+        }
+        return digest.equals(toHex(md.digest()));
+    }
+
+    private static void moveIntoPlace(final Path source, final Path target) throws IOException {
+
+        try {
+            Files.move(source,target,StandardCopyOption.ATOMIC_MOVE);
+        }catch(AtomicMoveNotSupportedException e) {
+            Files.move(source,target,StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String copyResource(final String resource, final Path destination) throws IOException {
+
+        final MessageDigest digest = newDigest();
+        try(InputStream in = openResource(resource);
+            DigestInputStream din = new DigestInputStream(in,digest);
+            OutputStream out = Files.newOutputStream(destination)) {
+
+            final byte [] buffer = new byte[BUFFER_SIZE];
+            int read = 0;
+            while((read = din.read(buffer)) != -1) {
+                out.write(buffer,0,read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String readBundledChecksum(final String resource) throws IOException {
+
+        final InputStream in = NativeLibraryLoader.class.getClassLoader().getResourceAsStream(resource + CHECKSUM_EXTENSION);
+        if(in == null) {
+            return null;
+        }
+        try(InputStream checksumstream = in) {
+            // the checksum file may be followed by a file name (sha256sum format)
+            final String content = new String(checksumstream.readAllBytes(),StandardCharsets.US_ASCII).trim();
+            final String [] parts = content.split("\\s+");
+            if(parts.length == 0 || !parts[0].matches("[0-9a-fA-F]{64}")) {
+                return null;
+            }
+            return parts[0].toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static InputStream openResource(final String resource) throws IOException {
+
+        final InputStream in = NativeLibraryLoader.class.getClassLoader().getResourceAsStream(resource);
+        if(in == null) {
+            throw new IOException("Native library resource not found: " + resource);
+        }
+        return in;
+    }
+
+    private static MessageDigest newDigest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        }catch(NoSuchAlgorithmException e) {
+            throw new IOException("Message digest algorithm unavailable: " + DIGEST_ALGORITHM,e);
+        }
+    }
+
+    private static String toHex(final byte [] bytes) {
+
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for(byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF,16));
+            sb.append(Character.forDigit(b & 0xF,16));
+        }
+        return sb.toString();
+    }
+
+    private static String os() {
+
+        final String name = System.getProperty("os.name","").toLowerCase(Locale.ROOT);
+        if(name.startsWith("linux")) {
+            return "linux";
+        }else if(name.startsWith("mac") || name.startsWith("darwin")) {
+            return "osx";
+        }else if(name.startsWith("windows")) {
+            return "windows";
+        }
+        return name.replaceAll("[^a-z0-9]+","");
+    }
+
+    private static String arch() {
+
+        final String arch = System.getProperty("os.arch","").toLowerCase(Locale.ROOT);
+        switch(arch) {
+            case "amd64":
+            case "x86_64":
+            case "x64":
+                return "x86_64";
+            case "aarch64":
+            case "arm64":
+                return "aarch64";
+            default:
+                return arch.replaceAll("[^a-z0-9_]+","");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.warmup;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a {@link io.jans.cedarling.bridge.Cedarling#warmUp(WarmUpSpec)} call
+ * <p>
+ *  Failed authorization calls do not abort a warm up. They are counted and reported through <br/>
+ *  {@link #getErrors()}, as a request rejected by the engine still warms up the code paths it went through.
+ * </p>
+ */
+public class WarmUpResult {
+
+    private final boolean stabilized;
+    private final int batches;
+    private final long requests;
+    private final long errors;
+    private final Duration elapsed;
+    private final Duration firstBatchP99;
+    private final Duration lastBatchP99;
+
+    WarmUpResult(boolean stabilized, int batches, long requests, long errors,
+        Duration elapsed, Duration firstBatchP99, Duration lastBatchP99) {
+
+        this.stabilized = stabilized;
+        this.batches = batches;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.firstBatchP99 = firstBatchP99;
+        this.lastBatchP99 = lastBatchP99;
+    }
+
+    /**
+     * Tells whether latency stabilized before the time budget ran out
+     * @return {@code true} if latency stabilized. {@code false} otherwise
+     */
+    public boolean isStabilized() {
+
+        return stabilized;
+    }
+
+    /**
+     * Gets the number of batches replayed
+     * @return the number of batches
+     */
+    public int getBatches() {
+
+        return batches;
+    }
+
+    /**
+     * Gets the total number of authorization calls made
+     * @return the number of calls
+     */
+    public long getRequests() {
+
+        return requests;
+    }
+
+    /**
+     * Gets the number of authorization calls which failed with an error
+     * @return the number of failed calls
+     */
+    public long getErrors() {
+
+        return errors;
+    }
+
+    /**
+     * Gets the time taken by the warm up
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+
+        return elapsed;
+    }
+
+    /**
+     * Gets the p99 latency of the first batch, i.e. the cold latency
+     * @return the first batch's p99 latency
+     */
+    public Duration getFirstBatchP99() {
+
+        return firstBatchP99;
+    }
+
+    /**
+     * Gets the p99 latency of the last batch
+     * @return the last batch's p99 latency
+     */
+    public Duration getLastBatchP99() {
+
+        return lastBatchP99;
+    }
+}
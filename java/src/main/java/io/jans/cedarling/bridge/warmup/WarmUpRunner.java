@@ -0,0 +1,122 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.warmup;
+
+import io.jans.cedarling.bridge.Cedarling;
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replays the requests described by a {@link WarmUpSpec} until latency stabilizes
+ * <p>
+ *  Calls are issued round-robin over the expanded request list so every request, and therefore <br/>
+ *  every action, is exercised once per batch when the batch size allows it.
+ * </p>
+ */
+public class WarmUpRunner {
+
+    private final WarmUpSpec spec;
+
+    /**
+     * Constructor
+     * @param spec the warm up specification
+     */
+    public WarmUpRunner(final WarmUpSpec spec) {
+
+        this.spec = spec;
+    }
+
+    /**
+     * Warms up the specified cedarling instance
+     * @param cedarling the instance to warm up
+     * @return the outcome of the warm up
+     */
+    public WarmUpResult run(final Cedarling cedarling) {
+
+        List<Call> calls = new ArrayList<>();
+        for(AuthorizeRequest request : spec.expandSignedRequests()) {
+            calls.add(() -> cedarling.authorize(request));
+        }
+        for(AuthorizeRequestUnsigned request : spec.expandUnsignedRequests()) {
+            calls.add(() -> cedarling.authorizeUnsigned(request));
+        }
+        return run(calls);
+    }
+
+    WarmUpResult run(final List<Call> calls) {
+
+        final long start = System.nanoTime();
+        final long deadline = start + spec.getTimeBudget().toNanos();
+        final long [] latencies = new long[spec.getBatchSize()];
+
+        int batches = 0;
+        int stablestreak = 0;
+        long requests = 0;
+        long errors = 0;
+        long firstp99 = 0;
+        long lastp99 = 0;
+        boolean stabilized = false;
+        int next = 0;
+
+        do {
+            for(int i = 0; i < latencies.length; i++) {
+                final Call call = calls.get(next);
+                next = (next + 1) % calls.size();
+                final long callstart = System.nanoTime();
+                try {
+                    call.invoke();
+                }catch(Exception e) {
+                    errors++;
+                }
+                latencies[i] = System.nanoTime() - callstart;
+            }
+            requests += latencies.length;
+
+            final long p99 = p99(latencies);
+            if(batches == 0) {
+                firstp99 = p99;
+            }else if(withinTolerance(lastp99,p99)) {
+                stablestreak++;
+            }else {
+                stablestreak = 0;
+            }
+            lastp99 = p99;
+            batches++;
+
+            stabilized = stablestreak >= spec.getStableBatches() && batches >= spec.getMinBatches();
+        }while(!stabilized && System.nanoTime() < deadline);
+
+        return new WarmUpResult(stabilized,batches,requests,errors,
+            Duration.ofNanos(System.nanoTime() - start),Duration.ofNanos(firstp99),Duration.ofNanos(lastp99));
+    }
+
+    private boolean withinTolerance(final long previous, final long current) {
+
+        if(previous == 0) {
+            return current == 0;
+        }
+        return Math.abs(current - previous) <= spec.getTolerance() * previous;
+    }
+
+    static long p99(final long [] latencies) {
+
+        final long [] sorted = Arrays.copyOf(latencies,latencies.length);
+        Arrays.sort(sorted);
+        final int index = (int) Math.ceil(0.99 * sorted.length) - 1;
+        return sorted[Math.max(index,0)];
+    }
+
+    @FunctionalInterface
+    interface Call {
+        void invoke() throws Exception;
+    }
+}
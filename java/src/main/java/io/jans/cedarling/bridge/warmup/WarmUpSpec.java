@@ -0,0 +1,335 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.warmup;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.util.Constraints;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes how a {@link io.jans.cedarling.bridge.Cedarling} instance should be warmed up
+ * <p>
+ *  A warm up replays a set of authorization requests against a freshly created instance until <br/>
+ *  the observed latency stabilizes or the time budget runs out. The replayed requests are:
+ * </p>
+ * <ul>
+ *  <li>
+ *      The signed and unsigned requests supplied to the spec, as is.
+ *  </li>
+ *  <li>
+ *      For each supplied request and each action registered with {@link WarmUpSpec.Builder#action(String)}, <br/>
+ *      a synthetic copy of the request with its action replaced. Registering every action found in the <br/>
+ *      policy store makes sure every policy is evaluated at least once during the warm up.
+ *  </li>
+ * </ul>
+ * <p>
+ *  Requests are replayed in batches of {@link #getBatchSize()} calls. Latency is considered stable once <br/>
+ *  the p99 latency of {@link #getStableBatches()} consecutive batches differs from the previous batch's <br/>
+ *  by no more than {@link #getTolerance()} (relative). Specs are created using the {@link WarmUpSpec.Builder Builder}.
+ * </p>
+ */
+public class WarmUpSpec {
+
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(10);
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final int DEFAULT_STABLE_BATCHES = 3;
+    private static final int DEFAULT_MIN_BATCHES = 2;
+    private static final double DEFAULT_TOLERANCE = 0.10;
+
+    private final List<AuthorizeRequest> signedRequests;
+    private final List<AuthorizeRequestUnsigned> unsignedRequests;
+    private final Set<String> actions;
+    private Duration timeBudget;
+    private int batchSize;
+    private int stableBatches;
+    private int minBatches;
+    private double tolerance;
+
+    private WarmUpSpec() {
+
+        signedRequests = new ArrayList<>();
+        unsignedRequests = new ArrayList<>();
+        actions = new LinkedHashSet<>();
+        timeBudget = DEFAULT_TIME_BUDGET;
+        batchSize = DEFAULT_BATCH_SIZE;
+        stableBatches = DEFAULT_STABLE_BATCHES;
+        minBatches = DEFAULT_MIN_BATCHES;
+        tolerance = DEFAULT_TOLERANCE;
+    }
+
+    /**
+     * Gets the signed requests supplied to the spec
+     * @return the signed requests
+     */
+    public List<AuthorizeRequest> getSignedRequests() {
+
+        return Collections.unmodifiableList(signedRequests);
+    }
+
+    /**
+     * Gets the unsigned requests supplied to the spec
+     * @return the unsigned requests
+     */
+    public List<AuthorizeRequestUnsigned> getUnsignedRequests() {
+
+        return Collections.unmodifiableList(unsignedRequests);
+    }
+
+    /**
+     * Gets the actions for which synthetic requests are generated
+     * @return the actions
+     */
+    public Set<String> getActions() {
+
+        return Collections.unmodifiableSet(actions);
+    }
+
+    /**
+     * Gets the maximum amount of time the warm up may take
+     * @return the time budget
+     */
+    public Duration getTimeBudget() {
+
+        return timeBudget;
+    }
+
+    /**
+     * Gets the number of calls making up a measurement batch
+     * @return the batch size
+     */
+    public int getBatchSize() {
+
+        return batchSize;
+    }
+
+    /**
+     * Gets the number of consecutive stable batches required to consider latency stable
+     * @return the number of stable batches
+     */
+    public int getStableBatches() {
+
+        return stableBatches;
+    }
+
+    /**
+     * Gets the minimum number of batches replayed, regardless of stability
+     * @return the minimum number of batches
+     */
+    public int getMinBatches() {
+
+        return minBatches;
+    }
+
+    /**
+     * Gets the maximum relative p99 change between two batches for them to be considered stable
+     * @return the tolerance, e.g. {@code 0.1} for 10%
+     */
+    public double getTolerance() {
+
+        return tolerance;
+    }
+
+    /**
+     * Gets the signed requests to replay, including the synthetic per-action copies
+     * @return the signed requests to replay
+     */
+    public List<AuthorizeRequest> expandSignedRequests() {
+
+        List<AuthorizeRequest> ret = new ArrayList<>(signedRequests);
+        for(AuthorizeRequest request : signedRequests) {
+            for(String action : actions) {
+                if(action.equals(request.getAction())) {
+                    continue;
+                }
+                ret.add(AuthorizeRequest.builder()
+                    .tokens(new HashMap<>(request.getTokens()))
+                    .action(action)
+                    .resource(request.getResource())
+                    .context(request.getContext())
+                    .build());
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the unsigned requests to replay, including the synthetic per-action copies
+     * @return the unsigned requests to replay
+     */
+    public List<AuthorizeRequestUnsigned> expandUnsignedRequests() {
+
+        List<AuthorizeRequestUnsigned> ret = new ArrayList<>(unsignedRequests);
+        for(AuthorizeRequestUnsigned request : unsignedRequests) {
+            for(String action : actions) {
+                if(action.equals(request.getAction())) {
+                    continue;
+                }
+                AuthorizeRequestUnsigned copy = new AuthorizeRequestUnsigned();
+                copy.setPrincipals(new ArrayList<>(request.getPrincipals()));
+                copy.setAction(action);
+                copy.setResource(request.getResource());
+                copy.setContext(request.getContext());
+                ret.add(copy);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a {@link WarmUpSpec} builder
+     * @return an instance of the builder
+     */
+    public static Builder builder() {
+
+        return new Builder();
+    }
+
+    /**
+     * Builder to facilitate the creation of {@link WarmUpSpec} objects
+     */
+    public static class Builder {
+
+        private final WarmUpSpec spec_;
+
+        private Builder() {
+
+            spec_ = new WarmUpSpec();
+        }
+
+        /**
+         * Adds a signed request to replay during the warm up
+         * @param request the signed request
+         * @return the current builder instance
+         */
+        public Builder signedRequest(final AuthorizeRequest request) {
+
+            Constraints.ensureNotNull(request,"Signed request cannot be null");
+            spec_.signedRequests.add(request);
+            return this;
+        }
+
+        /**
+         * Adds an unsigned request to replay during the warm up
+         * @param request the unsigned request
+         * @return the current builder instance
+         */
+        public Builder unsignedRequest(final AuthorizeRequestUnsigned request) {
+
+            Constraints.ensureNotNull(request,"Unsigned request cannot be null");
+            spec_.unsignedRequests.add(request);
+            return this;
+        }
+
+        /**
+         * Adds an action for which synthetic copies of the supplied requests are generated
+         * @param action the action, e.g. Jans::Action::&quot;Update&quot;
+         * @return the current builder instance
+         */
+        public Builder action(final String action) {
+
+            Constraints.ensureNotNull(action,"Action cannot be null");
+            spec_.actions.add(action);
+            return this;
+        }
+
+        /**
+         * Adds several actions at once. See {@link #action(String)}
+         * @param actions the actions
+         * @return the current builder instance
+         */
+        public Builder actions(final List<String> actions) {
+
+            for(String action : actions) {
+                action(action);
+            }
+            return this;
+        }
+
+        /**
+         * Specifies the maximum amount of time the warm up may take
+         * @param timeBudget the time budget
+         * @return the current builder instance
+         */
+        public Builder timeBudget(final Duration timeBudget) {
+
+            spec_.timeBudget = timeBudget;
+            return this;
+        }
+
+        /**
+         * Specifies the number of calls making up a measurement batch
+         * @param batchSize the batch size
+         * @return the current builder instance
+         */
+        public Builder batchSize(final int batchSize) {
+
+            spec_.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the number of consecutive stable batches required to consider latency stable
+         * @param stableBatches the number of stable batches
+         * @return the current builder instance
+         */
+        public Builder stableBatches(final int stableBatches) {
+
+            spec_.stableBatches = stableBatches;
+            return this;
+        }
+
+        /**
+         * Specifies the minimum number of batches replayed, regardless of stability
+         * @param minBatches the minimum number of batches
+         * @return the current builder instance
+         */
+        public Builder minBatches(final int minBatches) {
+
+            spec_.minBatches = minBatches;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum relative p99 change between two batches for them to be considered stable
+         * @param tolerance the tolerance, e.g. {@code 0.1} for 10%
+         * @return the current builder instance
+         */
+        public Builder tolerance(final double tolerance) {
+
+            spec_.tolerance = tolerance;
+            return this;
+        }
+
+        /**
+         * Builds the warm up spec after performing basic health checks
+         * @return the warm up spec
+         * @throws IllegalArgumentException if the spec is in an invalid state
+         */
+        public WarmUpSpec build() throws IllegalArgumentException {
+
+            Constraints.ensureNotNull(spec_.timeBudget,"Time budget cannot be null");
+            if(spec_.signedRequests.isEmpty() && spec_.unsignedRequests.isEmpty()) {
+                throw new IllegalArgumentException("At least one signed or unsigned request is required");
+            }
+            if(spec_.batchSize <= 0 || spec_.stableBatches <= 0 || spec_.minBatches < 0) {
+                throw new IllegalArgumentException("Batch size and stable batches must be positive");
+            }
+            if(spec_.tolerance < 0) {
+                throw new IllegalArgumentException("Tolerance cannot be negative");
+            }
+            return spec_;
+        }
+    }
+}
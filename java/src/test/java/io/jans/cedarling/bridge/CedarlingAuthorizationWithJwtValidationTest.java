@@ -9,8 +9,11 @@ import io.jans.cedarling.bridge.authz.Context;
 import io.jans.cedarling.bridge.authz.EntityData;
 import io.jans.cedarling.bridge.config.AuthorizationConfiguration;
 import io.jans.cedarling.bridge.config.BootstrapConfiguration;
+import io.jans.cedarling.bridge.config.CedarlingConfigurationError;
 import io.jans.cedarling.bridge.config.EntityBuilderConfiguration;
+import io.jans.cedarling.bridge.config.JwksRotationConfiguration;
 import io.jans.cedarling.bridge.config.JsonRule;
+import io.jans.cedarling.bridge.config.JwtConfiguration;
 import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
 import io.jans.cedarling.bridge.util.CedarlingAuthzTestData;
 import io.jans.cedarling.bridge.util.crypto.RSAKeyPair;
@@ -20,8 +23,11 @@ import io.jans.cedarling.bridge.util.jwt.impl.HMACSignatureJwtGenerator;
 import io.jans.cedarling.bridge.util.jwt.impl.RSASignatureJwtGenerator;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.json.JSONObject;
@@ -32,9 +38,13 @@ import org.junit.jupiter.api.BeforeAll;
 
 
 
-public class CedarlingAuthorizationWithJwtValidationTest {
+public class CedarlingAuthorizationWithJwtValidationTest extends CedarlingBaseTest {
     
     private static final String TEST_SIGNATURE_ALGORITHM = "RS256";
+    private static final String TRUSTED_ISSUER = "https://test.jans.org";
+    private static final String UNTRUSTED_ISSUER = "https://untrusted.example.org";
+    private static final String OTHER_TRUSTED_ISSUER = "https://other.jans.org";
+    private static final long EXPIRES_AT = 4102444800L; // 2100-01-01T00:00:00Z
 
     private static final String POLICY_PERMIT_AUTHZ_DATA_FILE = "authz-data/with-jwt-validation/policy_permit.json";
     private static final String POLICY_DENY_AUTHZ_DATA_FILE = "authz-data/with-jwt-validation/policy_deny.json";
@@ -44,6 +54,7 @@ public class CedarlingAuthorizationWithJwtValidationTest {
     private static CedarlingAuthzTestData POLICY_DENY_AUTHZ_DATA = null;
 
     private static String GENERATED_JWKS = null;
+    private static JwtGenerator JWT_GENERATOR = null;
 
     @BeforeAll
     public static final void setupTestResources() throws Exception {
@@ -56,7 +67,234 @@ public class CedarlingAuthorizationWithJwtValidationTest {
         POLICY_PERMIT_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(POLICY_PERMIT_AUTHZ_DATA_FILE), jwt_gen);
         POLICY_DENY_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(POLICY_DENY_AUTHZ_DATA_FILE), jwt_gen);
         GENERATED_JWKS = jwks.getJwksAsString();
+        JWT_GENERATOR = jwt_gen;
     }
 
-}
+    private BootstrapConfiguration getSessionBootstrapConfiguration() throws Exception {
+
+        JwtConfiguration jwt_config = new JwtConfiguration()
+            .setJwks(GENERATED_JWKS)
+            .setJwtCheckSignValidation(true)
+            .setJwtCheckStatusValidation(false)
+            .allowAllAlgorithms();
+        return getBaseBootstrapConfigurationBuilder()
+            .policyStoreConfiguration(PolicyStoreConfiguration.fromYamlFile(new File(TEST_FILES_DIR,POLICY_STORE_OK_YAML_FILE)))
+            .jwtConfiguration(jwt_config)
+            .build();
+    }
+
+    private static JSONObject accessTokenClaims(final String issuer) {
+
+        JSONObject claims = new JSONObject();
+        claims.put("iss",issuer);
+        claims.put("sub","boG8dfc5MKTn37o7gsdCeyqL8LpWQtgoO41m1KZwdq0");
+        claims.put("client_id","5b4487c4-8db1-409d-a653-f907b8094039");
+        claims.put("org_id","some_long_id");
+        claims.put("exp",EXPIRES_AT);
+        return claims;
+    }
+
+    private static Map<String,String> sessionTokens(final JSONObject accessTokenClaims) throws Exception {
+
+        return Map.of("access_token",JWT_GENERATOR.generate(accessTokenClaims.toString()));
+    }
+
+    @Test
+    public void tokenSessionShouldOpenWithTokensOfATrustedIssuer() throws Exception {
+
+        try(Cedarling cedarling = new Cedarling(getSessionBootstrapConfiguration())) {
+
+            TokenSession session = cedarling.openSession(sessionTokens(accessTokenClaims(TRUSTED_ISSUER)));
+            try {
+                assertEquals(EXPIRES_AT,session.getExpiresAt().orElseThrow().getEpochSecond());
+            }finally {
+                session.close();
+            }
+        }
+    }
+
+    @Test
+    public void tokenSessionShouldRejectTokensWithoutExpiry() throws Exception {
+
+        JSONObject claims = accessTokenClaims(TRUSTED_ISSUER);
+        claims.remove("exp");
+        try(Cedarling cedarling = new Cedarling(getSessionBootstrapConfiguration())) {
+
+            Map<String,String> tokens = sessionTokens(claims);
+            assertThrows(CedarlingError.class,() -> cedarling.openSession(tokens));
+        }
+    }
+
+    @Test
+    public void tokenSessionShouldRejectTokensNotValidYet() throws Exception {
+
+        JSONObject claims = accessTokenClaims(TRUSTED_ISSUER);
+        claims.put("nbf",System.currentTimeMillis() / 1000 + 3600);
+        try(Cedarling cedarling = new Cedarling(getSessionBootstrapConfiguration())) {
+
+            Map<String,String> tokens = sessionTokens(claims);
+            assertThrows(CedarlingError.class,() -> cedarling.openSession(tokens));
+        }
+    }
+
+    @Test
+    public void tokenSessionShouldRejectTokensOfAnUntrustedIssuer() throws Exception {
+
+        try(Cedarling cedarling = new Cedarling(getSessionBootstrapConfiguration())) {
+
+            Map<String,String> tokens = sessionTokens(accessTokenClaims(UNTRUSTED_ISSUER));
+            assertThrows(CedarlingError.class,() -> cedarling.openSession(tokens));
+        }
+    }
+
+
+    @Test
+    public void rotatedKeysShouldBeUsedWithoutRebuildingTheEngine() throws Exception {
+
+        RSAKeyPair rotated_key_pair = RSAKeyPair.generate(RSAKeyPair.KEY_SIZE_2048_BITS);
+        Jwks rotated_jwks = new Jwks();
+        rotated_jwks.addRSAPublicKey(UUID.randomUUID().toString(),rotated_key_pair.getPublicKey());
+        JwtGenerator rotated_jwt_gen = new RSASignatureJwtGenerator(TEST_SIGNATURE_ALGORITHM,rotated_key_pair.getPrivateKey());
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration().setOverlap(Duration.ZERO));
+        try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            Map<String,String> tokens = sessionTokens(accessTokenClaims(TRUSTED_ISSUER));
+            cedarling.openSession(tokens).close();
+
+            long memory = cedarling.getNativeMemoryUsage();
+            cedarling.updateJwks(rotated_jwks.getJwksAsString());
+            assertThrows(CedarlingError.class,() -> cedarling.openSession(tokens));
+            cedarling.openSession(Map.of("access_token",rotated_jwt_gen.generate(accessTokenClaims(TRUSTED_ISSUER).toString()))).close();
+            // a second engine would roughly double the instance's memory
+            if(Cedarling.isNativeMemoryAccounted()) {
+                assertTrue(cedarling.getNativeMemoryUsage() < 2 * memory);
+            }
+        }
+    }
+
+    @Test
+    public void tenantsShouldUseTheRotatedKeys() throws Exception {
+
+        RSAKeyPair rotated_key_pair = RSAKeyPair.generate(RSAKeyPair.KEY_SIZE_2048_BITS);
+        Jwks rotated_jwks = new Jwks();
+        rotated_jwks.addRSAPublicKey(UUID.randomUUID().toString(),rotated_key_pair.getPublicKey());
+        JwtGenerator rotated_jwt_gen = new RSASignatureJwtGenerator(TEST_SIGNATURE_ALGORITHM,rotated_key_pair.getPrivateKey());
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration().setOverlap(Duration.ZERO));
+        try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
 
+            cedarling.registerTenant("tenant-a",PolicyStoreConfiguration.fromYamlFile(new File(TEST_FILES_DIR,POLICY_STORE_OK_YAML_FILE)));
+            AuthorizeRequest signed_with_old_key = tenantRequest(JWT_GENERATOR,TRUSTED_ISSUER);
+            AuthorizeRequest signed_with_rotated_key = tenantRequest(rotated_jwt_gen,TRUSTED_ISSUER);
+            assertTrue(isTokenRejection(cedarling,"tenant-a",signed_with_rotated_key));
+            assertFalse(isTokenRejection(cedarling,"tenant-a",signed_with_old_key));
+
+            cedarling.updateJwks(rotated_jwks.getJwksAsString());
+            assertTrue(isTokenRejection(cedarling,"tenant-a",signed_with_old_key));
+            assertFalse(isTokenRejection(cedarling,"tenant-a",signed_with_rotated_key));
+        }
+    }
+
+    @Test
+    public void tenantsShouldTrustTheIssuersOfTheirOwnPolicyStore() throws Exception {
+
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration());
+        try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            cedarling.registerTenant("tenant-a",PolicyStoreConfiguration.fromYamlString(POLICY_STORE_OK_YAML_DATA));
+            cedarling.registerTenant("tenant-b",PolicyStoreConfiguration.fromYamlString(
+                POLICY_STORE_OK_YAML_DATA.replace(TRUSTED_ISSUER,OTHER_TRUSTED_ISSUER)));
+            AuthorizeRequest issued_by_a = tenantRequest(JWT_GENERATOR,TRUSTED_ISSUER);
+            AuthorizeRequest issued_by_b = tenantRequest(JWT_GENERATOR,OTHER_TRUSTED_ISSUER);
+            assertFalse(isTokenRejection(cedarling,"tenant-a",issued_by_a));
+            assertTrue(isTokenRejection(cedarling,"tenant-a",issued_by_b));
+            assertFalse(isTokenRejection(cedarling,"tenant-b",issued_by_b));
+            assertTrue(isTokenRejection(cedarling,"tenant-b",issued_by_a));
+        }
+    }
+
+    private static AuthorizeRequest tenantRequest(final JwtGenerator generator, final String issuer) throws Exception {
+
+        AuthorizeRequest template = POLICY_PERMIT_AUTHZ_DATA.toAuthorizeRequest();
+        return AuthorizeRequest.builder()
+            .accessToken(generator.generate(accessTokenClaims(issuer).toString()))
+            .action(template.getAction())
+            .resource(template.getResource())
+            .context(template.getContext())
+            .build();
+    }
+
+    private static boolean isTokenRejection(final Cedarling cedarling, final String tenantId, final AuthorizeRequest request) {
+
+        try {
+            cedarling.authorize(tenantId,request);
+            return false;
+        }catch(CedarlingError e) {
+            return e.getMessage() != null && e.getMessage().contains("Token rejected");
+        }
+    }
+
+    @Test
+    public void jwksRotationShouldRequireAJwks() throws Exception {
+
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration());
+        bootstrap_config.getJwtConfiguration().setJwks(null);
+        assertThrows(CedarlingConfigurationError.class,() -> new Cedarling(bootstrap_config));
+    }
+
+    @Test
+    public void jwksRotationShouldRefuseLockServerPolicyStores() throws Exception {
+
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration());
+        try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            PolicyStoreConfiguration lock_store = PolicyStoreConfiguration.fromLockmasterStoreId("some_store_id");
+            assertThrows(CedarlingConfigurationError.class,() -> cedarling.registerTenant("tenant-a",lock_store));
+        }
+        bootstrap_config.setPolicyStoreConfiguration(PolicyStoreConfiguration.fromLockmasterStoreId("some_store_id"));
+        assertThrows(CedarlingConfigurationError.class,() -> new Cedarling(bootstrap_config));
+    }
+
+    @Test
+    public void jwksShouldNotBeUpdatedWithoutRotationConfiguration() throws Exception {
+
+        try(Cedarling cedarling = new Cedarling(getSessionBootstrapConfiguration())) {
+
+            assertThrows(CedarlingConfigurationError.class,() -> cedarling.updateJwks(GENERATED_JWKS));
+        }
+    }
+
+    @Test
+    public void unclosedInstanceWithJwksRotationShouldBeReleased() throws Exception {
+
+        WeakReference<Cedarling> instance = new WeakReference<>(newRotatedInstance());
+        for(int i = 0; i < 100 && (instance.get() != null || jwksThreadsAlive()); i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertNull(instance.get());
+        assertFalse(jwksThreadsAlive());
+    }
+
+    private Cedarling newRotatedInstance() throws Exception {
+
+        Jwks rotated_jwks = new Jwks();
+        rotated_jwks.addRSAPublicKey(UUID.randomUUID().toString(),RSAKeyPair.generate(RSAKeyPair.KEY_SIZE_2048_BITS).getPublicKey());
+        BootstrapConfiguration bootstrap_config = getSessionBootstrapConfiguration()
+            .setJwksRotationConfiguration(new JwksRotationConfiguration().setOverlap(Duration.ofHours(1)));
+        Cedarling cedarling = new Cedarling(bootstrap_config);
+        // schedules the expiry of the replaced keys
+        cedarling.updateJwks(rotated_jwks.getJwksAsString());
+        return cedarling;
+    }
+
+    private static boolean jwksThreadsAlive() {
+
+        return Thread.getAllStackTraces().keySet().stream()
+            .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith("cedarling4j-jwks"));
+    }
+}
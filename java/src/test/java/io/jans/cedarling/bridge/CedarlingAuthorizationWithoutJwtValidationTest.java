@@ -33,9 +33,13 @@ public class CedarlingAuthorizationWithoutJwtValidationTest extends CedarlingBas
     private static final String SIGNATURE_ALGORITHM_TO_USE = "HS256";
     private static final String POLICY_PERMIT_AUTHZ_DATA_FILE = "authz-data/without-jwt-validation/policy_permit.json";
     private static final String POLICY_DENY_AUTHZ_DATA_FILE = "authz-data/without-jwt-validation/policy_deny.json";
+    private static final String SESSION_PERMIT_AUTHZ_DATA_FILE = "authz-data/without-jwt-validation/session_permit.json";
+    private static final String SESSION_DENY_AUTHZ_DATA_FILE = "authz-data/without-jwt-validation/session_deny.json";
     private static HMACSha256SecretKey HMAC_SIGNATURE_KEY = null;
     private static CedarlingAuthzTestData POLICY_PERMIT_AUTHZ_DATA = null;
     private static CedarlingAuthzTestData POLICY_DENY_AUTHZ_DATA = null;
+    private static CedarlingAuthzTestData SESSION_PERMIT_AUTHZ_DATA = null;
+    private static CedarlingAuthzTestData SESSION_DENY_AUTHZ_DATA = null;
 
     @BeforeAll
     public static final void setupTestResources() throws Exception {
@@ -44,6 +48,9 @@ public class CedarlingAuthorizationWithoutJwtValidationTest extends CedarlingBas
         JwtGenerator unsigned_jwt_gen = new HMACSignatureJwtGenerator(SIGNATURE_ALGORITHM_TO_USE, HMAC_SIGNATURE_KEY.getSecretKey());
         POLICY_PERMIT_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(POLICY_PERMIT_AUTHZ_DATA_FILE), unsigned_jwt_gen);
         POLICY_DENY_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(POLICY_DENY_AUTHZ_DATA_FILE), unsigned_jwt_gen);
+        // sessions refuse expired tokens, their fixtures only differ by the expiry of their tokens
+        SESSION_PERMIT_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(SESSION_PERMIT_AUTHZ_DATA_FILE), unsigned_jwt_gen);
+        SESSION_DENY_AUTHZ_DATA = CedarlingAuthzTestData.fromResourceFile(new File(SESSION_DENY_AUTHZ_DATA_FILE), unsigned_jwt_gen);
     }
 
     private BootstrapConfiguration getDefaultBootstrapConfiguration() throws Exception  {
@@ -91,4 +98,44 @@ public class CedarlingAuthorizationWithoutJwtValidationTest extends CedarlingBas
             assertFalse(result.isAllowed());
         }
     }
+
+    @Test
+    public void tokenSessionShouldReusePreparedPrincipals() throws Exception {
+
+        BootstrapConfiguration bootstrap_config  = getDefaultBootstrapConfiguration();
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            AuthorizeRequest request = SESSION_PERMIT_AUTHZ_DATA.toAuthorizeRequest();
+            TokenSession session = cedarling.openSession(request.getTokens());
+            try {
+                for(int i = 0; i < 3; i++) {
+                    AuthorizeResult result = cedarling.authorize(session,request.getAction(),request.getResource(),request.getContext());
+                    assertTrue(result.isAllowed());
+                }
+                assertFalse(session.isExpired());
+            }finally {
+                session.close();
+            }
+            assertThrows(CedarlingError.class,() -> cedarling.authorize(session,request.getAction(),request.getResource(),request.getContext()));
+        }
+    }
+
+    @Test
+    public void tokenSessionShouldDecideAsSignedRequests() throws Exception {
+
+        BootstrapConfiguration bootstrap_config  = getDefaultBootstrapConfiguration();
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            for(CedarlingAuthzTestData data : new CedarlingAuthzTestData [] {SESSION_PERMIT_AUTHZ_DATA,SESSION_DENY_AUTHZ_DATA}) {
+                AuthorizeRequest request = data.toAuthorizeRequest();
+                AuthorizeResult expected = cedarling.authorize(request);
+                try (TokenSession session = cedarling.openSession(request.getTokens())) {
+                    AuthorizeResult result = cedarling.authorize(session,request.getAction(),request.getResource(),request.getContext());
+                    assertEquals(expected.isAllowed(),result.isAllowed());
+                }
+            }
+            assertTrue(cedarling.authorize(SESSION_PERMIT_AUTHZ_DATA.toAuthorizeRequest()).isAllowed());
+            assertFalse(cedarling.authorize(SESSION_DENY_AUTHZ_DATA.toAuthorizeRequest()).isAllowed());
+        }
+    }
 }
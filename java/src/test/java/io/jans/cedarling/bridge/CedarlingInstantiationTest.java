@@ -15,7 +15,11 @@ import io.jans.cedarling.bridge.config.EntityBuilderConfiguration;
 import io.jans.cedarling.bridge.config.JwtConfiguration;
 import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
@@ -142,6 +146,41 @@ public class CedarlingInstantiationTest extends CedarlingBaseTest {
         }
     }
 
+    @Test
+    public void shouldSucceedWhenPolicyStoreIsAYamlResource() throws Exception {
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder().build();
+        bootstrapconfig.setPolicyStoreConfiguration(PolicyStoreConfiguration.fromYamlResource(POLICY_STORE_OK_YAML_FILE));
+        try(Cedarling cedarling = new Cedarling(bootstrapconfig)) {
+
+        }
+    }
+
+    @Test
+    public void shouldSucceedWhenPolicyStoreIsAJsonStream() throws Exception {
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder().build();
+        try(InputStream in = new ByteArrayInputStream(POLICY_STORE_OK_JSON_DATA.getBytes(StandardCharsets.UTF_8))) {
+            bootstrapconfig.setPolicyStoreConfiguration(PolicyStoreConfiguration.fromJsonStream(in));
+        }
+        try(Cedarling cedarling = new Cedarling(bootstrapconfig)) {
+
+        }
+    }
+
+    @Test
+    public void shouldFailWhenPolicyStoreBufferIsNotUtf8() throws Exception {
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder().build();
+        bootstrapconfig.setPolicyStoreConfiguration(PolicyStoreConfiguration.fromJsonBuffer(ByteBuffer.wrap(new byte[] {(byte) 0xc3,(byte) 0x28})));
+        assertThrows(CedarlingConfigurationError.class,() -> {
+
+            try(Cedarling cedarling = new Cedarling(bootstrapconfig)) {
+
+            }
+        });
+    }
+
     @Test
     public void shouldFailWhenPolicyStoreIsEmptyJsonString() throws Exception {
 
@@ -180,5 +219,43 @@ public class CedarlingInstantiationTest extends CedarlingBaseTest {
         });
     }
 
-    
+    @Test
+    public void shouldAllowClosingMoreThanOnce() throws Exception {
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder().build();
+        Cedarling cedarling = new Cedarling(bootstrapconfig);
+        assertEquals(Cedarling.isNativeMemoryAccounted(),cedarling.getNativeMemoryUsage() > 0);
+        cedarling.close();
+        cedarling.close();
+        assertEquals(0,cedarling.getNativeMemoryUsage());
+    }
+
+    @Test
+    public void shouldFailWhenShadowSampleRateIsInvalid() throws Exception {
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder()
+            .shadowConfiguration(new ShadowConfiguration(getBasePolicyStoreConfiguration()).setSampleRate(1.5))
+            .build();
+        assertThrows(CedarlingConfigurationError.class,() -> {
+            try (Cedarling cedarling = new Cedarling(bootstrapconfig)) {
+
+            }
+        });
+    }
+
+    @Test
+    public void shouldProvideShadowReportOnlyWhenShadowIsConfigured() throws Exception {
+
+        try (Cedarling cedarling = new Cedarling(getBaseBootstrapConfigurationBuilder().build())) {
+            assertFalse(cedarling.getShadowReport().isPresent());
+        }
+
+        BootstrapConfiguration bootstrapconfig = getBaseBootstrapConfigurationBuilder()
+            .shadowConfiguration(new ShadowConfiguration(getBasePolicyStoreConfiguration()))
+            .build();
+        try (Cedarling cedarling = new Cedarling(bootstrapconfig)) {
+            assertTrue(cedarling.getShadowReport().isPresent());
+            assertEquals(0,cedarling.getShadowReport().get().getEvaluated());
+        }
+    }
 }
@@ -3,18 +3,29 @@ package io.jans.cedarling.bridge;
 import io.jans.cedarling.bridge.CedarlingBaseTest;
 import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
 import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.authz.CedarlingAuthorizationError;
 import io.jans.cedarling.bridge.authz.CedarEntityMapping;
 import io.jans.cedarling.bridge.authz.Context;
 import io.jans.cedarling.bridge.authz.EntityData;
 import io.jans.cedarling.bridge.config.AuthorizationConfiguration;
 import io.jans.cedarling.bridge.config.BootstrapConfiguration;
+import io.jans.cedarling.bridge.config.CedarlingConfigurationError;
+import io.jans.cedarling.bridge.config.EngineMode;
 import io.jans.cedarling.bridge.config.EntityBuilderConfiguration;
 import io.jans.cedarling.bridge.config.JsonRule;
 import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
+import io.jans.cedarling.bridge.stats.PolicyStatistics;
+import io.jans.cedarling.bridge.stats.TenantMemoryUsage;
+import io.jans.cedarling.bridge.util.generator.PolicyStoreGenerator;
+import io.jans.cedarling.bridge.util.generator.RequestCorpusGenerator;
+import io.jans.cedarling.bridge.util.generator.SyntheticPolicyStore;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.json.JSONObject;
 
@@ -23,7 +34,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
 
 public class CedarlingUnsignedAuthorizationTest extends CedarlingBaseTest {
-    
+
+    private static final long MEMORY_DRIFT_TOLERANCE = 64 * 1024;
 
     @BeforeAll
     public static final void setupTestResources() throws Exception {
@@ -113,4 +125,219 @@ public class CedarlingUnsignedAuthorizationTest extends CedarlingBaseTest {
             assertFalse(result.isAllowed());
         }
     }
+
+    @Test
+    public void policyStatisticsShouldCountDeterminingPolicies() throws Exception {
+
+        BootstrapConfiguration bootstrap_config = getDefaultBootstrapConfiguration();
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            JSONObject principal_attrs = new JSONObject();
+            principal_attrs.put("sub", "some_sub");
+            principal_attrs.put("email","email@email.com");
+            principal_attrs.put("username","some_username");
+            principal_attrs.put("country","US");
+            principal_attrs.put("role","SuperUser");
+
+            EntityData principal = new EntityData(new CedarEntityMapping("some_user", "Jans::User"),principal_attrs.toString());
+
+            JSONObject resource_attrs = new JSONObject();
+            resource_attrs.put("org_id","some_long_id");
+            resource_attrs.put("country","US");
+            EntityData resource = new EntityData(new CedarEntityMapping("random_id", "Jans::Issue"),resource_attrs.toString());
+
+            AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+            request.addPrincipal(principal);
+            request.setAction("Jans::Action::\"Update\"");
+            request.setContext(new Context("{}"));
+            request.setResource(resource);
+            assertTrue(cedarling.authorizeUnsigned(request).isAllowed());
+
+            PolicyStatistics stats = cedarling.resetPolicyStatistics();
+            assertEquals(1,stats.getEvaluatedRequests());
+            assertFalse(stats.getPolicies().isEmpty());
+            stats.getPolicies().values().forEach(p -> assertEquals(1,p.getDeterminingCount()));
+            assertEquals(0,cedarling.policyStatistics().getEvaluatedRequests());
+        }
+    }
+
+    @Test
+    public void authzShouldScaleToGeneratedPolicyStores() throws Exception {
+
+        SyntheticPolicyStore store = new PolicyStoreGenerator(42L)
+            .policies(1000)
+            .entityTypes(8)
+            .attributes(8)
+            .roleDepth(3)
+            .generate();
+        BootstrapConfiguration bootstrap_config = getBaseBootstrapConfigurationBuilder()
+            .policyStoreConfiguration(store.toPolicyStoreConfiguration())
+            .authzConfiguration(getDefaultBootstrapConfiguration().getAuthzConfiguration())
+            .entityBuilderConfiguration(getBaseEntityBuilderConfiguration())
+            .build();
+
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            List<AuthorizeRequestUnsigned> requests = new RequestCorpusGenerator(store,42L).unsignedRequests(200,1);
+            int allowed = 0;
+            for(AuthorizeRequestUnsigned request : requests) {
+                if(cedarling.authorizeUnsigned(request).isAllowed()) {
+                    allowed++;
+                }
+            }
+            assertTrue(allowed > 0);
+            assertEquals(requests.size(),cedarling.policyStatistics().getEvaluatedRequests());
+        }
+    }
+
+    @Test
+    public void nativeMemoryShouldBeStableOverManyAuthorizations() throws Exception {
+
+        SyntheticPolicyStore store = new PolicyStoreGenerator(42L).policies(100).generate();
+        BootstrapConfiguration bootstrap_config = getBaseBootstrapConfigurationBuilder()
+            .policyStoreConfiguration(store.toPolicyStoreConfiguration())
+            .authzConfiguration(getDefaultBootstrapConfiguration().getAuthzConfiguration())
+            .entityBuilderConfiguration(getBaseEntityBuilderConfiguration())
+            .build();
+
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            cedarling.registerTenant("tenant-a",store.toPolicyStoreConfiguration());
+            List<AuthorizeRequestUnsigned> requests = new RequestCorpusGenerator(store,42L).unsignedRequests(50,1);
+            // the first evaluations size the engines' and the statistics' tables
+            authorizeAll(cedarling,requests);
+            long instance_memory = cedarling.getNativeMemoryUsage();
+            long tenant_memory = cedarling.getTenantMemoryUsage("tenant-a").orElseThrow().getEngineMemory();
+
+            for(int i = 0; i < 20; i++) {
+                authorizeAll(cedarling,requests);
+            }
+            // requests and results used to be charged on one side of the scope only, drifting by their size on every call
+            assertTrue(Math.abs(cedarling.getNativeMemoryUsage() - instance_memory) < MEMORY_DRIFT_TOLERANCE);
+            assertTrue(Math.abs(cedarling.getTenantMemoryUsage("tenant-a").orElseThrow().getEngineMemory() - tenant_memory) < MEMORY_DRIFT_TOLERANCE);
+        }
+    }
+
+    private static void authorizeAll(final Cedarling cedarling, final List<AuthorizeRequestUnsigned> requests) throws Exception {
+
+        for(AuthorizeRequestUnsigned request : requests) {
+            cedarling.authorizeUnsigned(request);
+            cedarling.authorizeUnsigned("tenant-a",request);
+        }
+    }
+
+    @Test
+    public void tenantsWithIdenticalPolicyStoresShouldShareAnEngine() throws Exception {
+
+        SyntheticPolicyStore shared_store = new PolicyStoreGenerator(42L).policies(100).generate();
+        SyntheticPolicyStore own_store = new PolicyStoreGenerator(7L).policies(100).generate();
+        BootstrapConfiguration bootstrap_config = getDefaultBootstrapConfiguration();
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            cedarling.registerTenant("tenant-a",shared_store.toPolicyStoreConfiguration());
+            cedarling.registerTenant("tenant-b",shared_store.toPolicyStoreConfiguration());
+            cedarling.registerTenant("tenant-c",own_store.toPolicyStoreConfiguration());
+            assertEquals(3,cedarling.getTenants().size());
+            assertEquals(2,cedarling.getTenantEngineCount());
+
+            for(AuthorizeRequestUnsigned request : new RequestCorpusGenerator(shared_store,42L).unsignedRequests(20,1)) {
+                assertEquals(cedarling.authorizeUnsigned("tenant-a",request).isAllowed(),
+                    cedarling.authorizeUnsigned("tenant-b",request).isAllowed());
+            }
+            for(AuthorizeRequestUnsigned request : new RequestCorpusGenerator(own_store,7L).unsignedRequests(20,1)) {
+                assertNotNull(cedarling.authorizeUnsigned("tenant-c",request));
+            }
+
+            TenantMemoryUsage shared_usage = cedarling.getTenantMemoryUsage("tenant-a").orElseThrow();
+            TenantMemoryUsage own_usage = cedarling.getTenantMemoryUsage("tenant-c").orElseThrow();
+            assertEquals(2,shared_usage.getSharingTenants());
+            assertEquals(1,own_usage.getSharingTenants());
+            assertEquals(Cedarling.isNativeMemoryAccounted(),shared_usage.getEngineMemory() > 0);
+            assertEquals(shared_usage.getEngineMemory(),cedarling.getTenantMemoryUsage("tenant-b").orElseThrow().getEngineMemory());
+
+            assertTrue(cedarling.unregisterTenant("tenant-a"));
+            assertFalse(cedarling.unregisterTenant("tenant-a"));
+            assertEquals(1,cedarling.getTenantMemoryUsage("tenant-b").orElseThrow().getSharingTenants());
+            assertEquals(2,cedarling.getTenantEngineCount());
+            assertTrue(cedarling.getTenantMemoryUsage("tenant-a").isEmpty());
+            AuthorizeRequestUnsigned request = new RequestCorpusGenerator(shared_store,42L).unsignedRequests(1,1).get(0);
+            assertThrows(CedarlingAuthorizationError.class,() -> cedarling.authorizeUnsigned("tenant-a",request));
+        }
+    }
+
+    @Test
+    public void tenantsShouldReloadAChangedPolicyStoreFileWhenRegisteredAgain() throws Exception {
+
+        File policy_store_file = new File(TEST_FILES_DIR,"tenant-policy-store.json");
+        Files.writeString(policy_store_file.toPath(),new PolicyStoreGenerator(42L).policies(100).generate().getJson());
+        try (Cedarling cedarling = new Cedarling(getDefaultBootstrapConfiguration())) {
+
+            cedarling.registerTenant("tenant-a",PolicyStoreConfiguration.fromJsonFile(policy_store_file));
+            cedarling.registerTenant("tenant-b",PolicyStoreConfiguration.fromJsonFile(policy_store_file));
+            assertEquals(2,cedarling.getTenantMemoryUsage("tenant-a").orElseThrow().getSharingTenants());
+
+            Files.writeString(policy_store_file.toPath(),new PolicyStoreGenerator(7L).policies(100).generate().getJson());
+            cedarling.registerTenant("tenant-b",PolicyStoreConfiguration.fromJsonFile(policy_store_file));
+            assertEquals(1,cedarling.getTenantMemoryUsage("tenant-a").orElseThrow().getSharingTenants());
+            assertEquals(1,cedarling.getTenantMemoryUsage("tenant-b").orElseThrow().getSharingTenants());
+        }
+    }
+
+    @Test
+    public void tenantsShouldBeRegisteredInBulk() throws Exception {
+
+        Map<String,PolicyStoreConfiguration> policy_stores = new LinkedHashMap<>();
+        for(long seed = 1; seed <= 4; seed++) {
+            policy_stores.put("tenant-" + seed,new PolicyStoreGenerator(seed).policies(100).generate().toPolicyStoreConfiguration());
+        }
+        policy_stores.put("tenant-5",new PolicyStoreGenerator(1L).policies(100).generate().toPolicyStoreConfiguration());
+        BootstrapConfiguration bootstrap_config = getDefaultBootstrapConfiguration().setStartupThreads(4);
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            cedarling.registerTenants(policy_stores);
+            assertEquals(5,cedarling.getTenants().size());
+            assertEquals(2,cedarling.getTenantMemoryUsage("tenant-1").orElseThrow().getSharingTenants());
+            assertEquals(1,cedarling.getTenantMemoryUsage("tenant-2").orElseThrow().getSharingTenants());
+
+            // an invalid policy store fails the whole registration
+            Map<String,PolicyStoreConfiguration> invalid_stores = new LinkedHashMap<>();
+            invalid_stores.put("tenant-6",new PolicyStoreGenerator(6L).policies(10).generate().toPolicyStoreConfiguration());
+            invalid_stores.put("tenant-7",PolicyStoreConfiguration.fromJsonString("{}"));
+            assertThrows(CedarlingConfigurationError.class,() -> cedarling.registerTenants(invalid_stores));
+            assertEquals(5,cedarling.getTenants().size());
+        }
+    }
+
+    @Test
+    public void noopEngineShouldDenyWithoutEvaluatingPolicies() throws Exception {
+
+        BootstrapConfiguration bootstrap_config = getDefaultBootstrapConfiguration().setEngineMode(EngineMode.NOOP);
+        try (Cedarling cedarling = new Cedarling(bootstrap_config)) {
+
+            JSONObject principal_attrs = new JSONObject();
+            principal_attrs.put("sub", "some_sub");
+            principal_attrs.put("email","email@email.com");
+            principal_attrs.put("username","some_username");
+            principal_attrs.put("country","US");
+            principal_attrs.put("role","SuperUser");
+
+            EntityData principal = new EntityData(new CedarEntityMapping("some_user", "Jans::User"),principal_attrs.toString());
+
+            JSONObject resource_attrs = new JSONObject();
+            resource_attrs.put("org_id","some_long_id");
+            resource_attrs.put("country","US");
+            EntityData resource = new EntityData(new CedarEntityMapping("random_id", "Jans::Issue"),resource_attrs.toString());
+
+            AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+            request.addPrincipal(principal);
+            request.setAction("Jans::Action::\"Update\"");
+            request.setContext(new Context("{}"));
+            request.setResource(resource);
+            AuthorizeResult result = cedarling.authorizeUnsigned(request);
+            assertFalse(result.isAllowed());
+            assertEquals(1,result.getPrincipals().size());
+            assertTrue(result.getPhaseTimings().isPresent());
+            assertEquals(0,cedarling.policyStatistics().getEvaluatedRequests());
+        }
+    }
 }
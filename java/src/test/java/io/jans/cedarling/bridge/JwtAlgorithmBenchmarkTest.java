@@ -0,0 +1,232 @@
+package io.jans.cedarling.bridge;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.config.AuthorizationConfiguration;
+import io.jans.cedarling.bridge.config.BootstrapConfiguration;
+import io.jans.cedarling.bridge.config.JsonRule;
+import io.jans.cedarling.bridge.config.JwtAlgorithm;
+import io.jans.cedarling.bridge.config.JwtConfiguration;
+import io.jans.cedarling.bridge.config.LogConfiguration;
+import io.jans.cedarling.bridge.config.LogLevel;
+import io.jans.cedarling.bridge.config.LogType;
+import io.jans.cedarling.bridge.util.crypto.ECKeyPair;
+import io.jans.cedarling.bridge.util.crypto.Ed25519KeyPair;
+import io.jans.cedarling.bridge.util.crypto.RSAKeyPair;
+import io.jans.cedarling.bridge.util.generator.PolicyStoreGenerator;
+import io.jans.cedarling.bridge.util.generator.RequestCorpusGenerator;
+import io.jans.cedarling.bridge.util.generator.SyntheticPolicyStore;
+import io.jans.cedarling.bridge.util.jwt.Jwks;
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.ECSignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.EdDSASignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.HMACSignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.RSASignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.status.StatusListServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+
+import org.HdrHistogram.Histogram;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Signed authorization throughput and latency for every supported token signing algorithm and key size,
+ * with signature and status validation toggled independently.
+ * Access and id tokens reference a status list served locally by a {@link StatusListServer}, signed with the
+ * algorithm being measured, and the policy store trusts the server's origin as issuer of the tokens.
+ * Run with {@code -Dcedarling4j.benchmarks=true}, the number of measured requests per cell can be set with
+ * {@code -Dcedarling4j.benchmarks.jwt.requests=5000}.
+ * Requests are sent one at a time from a single thread, so the throughput is the inverse of the mean latency.
+ * Tokens are signed before the measurement starts, so signing costs are not accounted for.
+ */
+@EnabledIfSystemProperty(named = "cedarling4j.benchmarks", matches = "true")
+public class JwtAlgorithmBenchmarkTest extends CedarlingBaseTest {
+
+    private static final String REQUESTS_PROPERTY = "cedarling4j.benchmarks.jwt.requests";
+    private static final int DEFAULT_REQUESTS = 2000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int DISTINCT_REQUESTS = 500;
+    private static final String STATUS_LIST = "benchmark";
+    private static final int STATUS_BITS = 1;
+    private static final long STATUS_LIST_TTL = 3600;
+
+    @Test
+    public void measureSignedAuthorizationPerAlgorithm() throws Exception {
+
+        final int requests = Integer.getInteger(REQUESTS_PROPERTY,DEFAULT_REQUESTS);
+        System.out.println(String.format("%-6s %-10s %-9s %-9s %12s %10s %10s %10s %8s",
+            "alg","key","signature","status","req/s","p50(us)","p99(us)","max(us)","errors"));
+        for(Variant variant : variants()) {
+            try(StatusListServer status_lists = new StatusListServer(variant.generator,STATUS_BITS,STATUS_LIST_TTL,DISTINCT_REQUESTS)) {
+                // every token is valid, the list only has to exist
+                status_lists.setStatus(STATUS_LIST,0,0);
+                SyntheticPolicyStore store = new PolicyStoreGenerator(42L)
+                    .policies(100)
+                    .entityTypes(4)
+                    .attributes(4)
+                    .issuer(status_lists.getOrigin())
+                    .generate();
+                List<AuthorizeRequest> corpus = new RequestCorpusGenerator(store,42L)
+                    .statusList(status_lists,STATUS_LIST)
+                    .signedRequests(DISTINCT_REQUESTS,variant.generator);
+                for(boolean signature : new boolean [] {true,false}) {
+                    for(boolean status : new boolean [] {true,false}) {
+                        report(variant,signature,status,measure(variant,signature,status,store,corpus,requests));
+                    }
+                }
+            }
+        }
+    }
+
+    private Cell measure(final Variant variant, boolean signature, boolean status, final SyntheticPolicyStore store,
+        final List<AuthorizeRequest> corpus, int requests) throws Exception {
+
+        JwtConfiguration jwt_config = new JwtConfiguration()
+            .setJwks(variant.jwks)
+            .setJwtCheckSignValidation(signature)
+            .setJwtCheckStatusValidation(status)
+            .addSupportedSignatureAlgorithm(variant.algorithm);
+
+        BootstrapConfiguration bootstrap_config = getBaseBootstrapConfigurationBuilder()
+            .logConfiguration(new LogConfiguration(LogType.OFF,LogLevel.ERROR))
+            .policyStoreConfiguration(store.toPolicyStoreConfiguration())
+            .jwtConfiguration(jwt_config)
+            .authzConfiguration(getBenchmarkAuthzConfiguration())
+            .build();
+
+        Histogram latency = new Histogram(3);
+        long errors = 0;
+        try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
+            for(int i = 0; i < WARMUP_REQUESTS; i++) {
+                try {
+                    cedarling.authorize(corpus.get(i % corpus.size()));
+                }catch(CedarlingError e) {
+                    // counted during the measurement
+                }
+            }
+            final long start = System.nanoTime();
+            for(int i = 0; i < requests; i++) {
+                final long sent = System.nanoTime();
+                try {
+                    cedarling.authorize(corpus.get(i % corpus.size()));
+                }catch(CedarlingError e) {
+                    errors++;
+                }
+                latency.recordValue(System.nanoTime() - sent);
+            }
+            final long elapsed = System.nanoTime() - start;
+            return new Cell(requests * 1e9 / elapsed,latency,errors);
+        }
+    }
+
+    private AuthorizationConfiguration getBenchmarkAuthzConfiguration() throws Exception {
+
+        AuthorizationConfiguration authz_config = getBaseAuthzConfiguration();
+        authz_config.setPrincipalBoolOperator(new JsonRule(DEFAULT_JANS_USER_ALLOW_RULE));
+        return authz_config;
+    }
+
+    private static List<Variant> variants() throws Exception {
+
+        List<Variant> variants = new ArrayList<>();
+        for(String algorithm : new String [] {"HS256","HS384","HS512"}) {
+            variants.add(hmac(algorithm));
+        }
+        for(String algorithm : new String [] {"RS256","RS384","RS512","PS256","PS384","PS512"}) {
+            for(int keysize : new int [] {RSAKeyPair.KEY_SIZE_2048_BITS,RSAKeyPair.KEY_SIZE_3072_BITS,RSAKeyPair.KEY_SIZE_4096_BITS}) {
+                variants.add(rsa(algorithm,keysize));
+            }
+        }
+        variants.add(ec("ES256",ECKeyPair.CURVE_P256,"P-256"));
+        variants.add(ec("ES384",ECKeyPair.CURVE_P384,"P-384"));
+        variants.add(eddsa());
+        return variants;
+    }
+
+    private static Variant hmac(final String algorithm) throws Exception {
+
+        final String keyid = UUID.randomUUID().toString();
+        SecretKey secretkey = KeyGenerator.getInstance("Hmac" + algorithm.replace("HS","SHA")).generateKey();
+        Jwks jwks = new Jwks();
+        jwks.addHMACSecretKey(keyid,algorithm,secretkey);
+        return new Variant(JwtAlgorithm.valueOf(algorithm),(secretkey.getEncoded().length * 8) + " bits",
+            new HMACSignatureJwtGenerator(algorithm,keyid,secretkey),jwks);
+    }
+
+    private static Variant rsa(final String algorithm, int keysize) throws Exception {
+
+        final String keyid = UUID.randomUUID().toString();
+        RSAKeyPair keypair = RSAKeyPair.generate(keysize);
+        Jwks jwks = new Jwks();
+        jwks.addRSAPublicKey(keyid,keypair.getPublicKey());
+        return new Variant(JwtAlgorithm.valueOf(algorithm),"RSA-" + keysize,
+            new RSASignatureJwtGenerator(algorithm,keyid,keypair.getPrivateKey()),jwks);
+    }
+
+    private static Variant ec(final String algorithm, final String curve, final String curvename) throws Exception {
+
+        final String keyid = UUID.randomUUID().toString();
+        ECKeyPair keypair = ECKeyPair.generate(curve);
+        Jwks jwks = new Jwks();
+        jwks.addECPublicKey(keyid,keypair.getPublicKey());
+        return new Variant(JwtAlgorithm.valueOf(algorithm),curvename,
+            new ECSignatureJwtGenerator(algorithm,keyid,keypair.getPrivateKey()),jwks);
+    }
+
+    private static Variant eddsa() throws Exception {
+
+        final String keyid = UUID.randomUUID().toString();
+        Ed25519KeyPair keypair = Ed25519KeyPair.generate();
+        Jwks jwks = new Jwks();
+        jwks.addEd25519PublicKey(keyid,keypair.getRawPublicKey());
+        return new Variant(JwtAlgorithm.EdDSA,"Ed25519",new EdDSASignatureJwtGenerator(keyid,keypair.getPrivateKey()),jwks);
+    }
+
+    private static void report(final Variant variant, boolean signature, boolean status, final Cell cell) {
+
+        System.out.println(String.format("%-6s %-10s %-9s %-9s %12.0f %10.1f %10.1f %10.1f %8d",
+            variant.algorithm,variant.key,signature ? "on" : "off",status ? "on" : "off",cell.throughput,
+            cell.latency.getValueAtPercentile(50) / 1e3,
+            cell.latency.getValueAtPercentile(99) / 1e3,
+            cell.latency.getMaxValue() / 1e3,
+            cell.errors));
+        assertEquals(0,cell.errors,variant.algorithm + " " + variant.key + " requests failed");
+    }
+
+    private static class Variant {
+
+        private final JwtAlgorithm algorithm;
+        private final String key;
+        private final JwtGenerator generator;
+        private final String jwks;
+
+        Variant(final JwtAlgorithm algorithm, final String key, final JwtGenerator generator, final Jwks jwks) {
+
+            this.algorithm = algorithm;
+            this.key = key;
+            this.generator = generator;
+            this.jwks = jwks.getJwksAsString();
+        }
+    }
+
+    private static class Cell {
+
+        private final double throughput;
+        private final Histogram latency;
+        private final long errors;
+
+        Cell(double throughput, final Histogram latency, long errors) {
+
+            this.throughput = throughput;
+            this.latency = latency;
+            this.errors = errors;
+        }
+    }
+}
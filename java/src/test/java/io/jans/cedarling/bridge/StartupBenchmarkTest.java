@@ -0,0 +1,219 @@
+package io.jans.cedarling.bridge;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.authz.PhaseTimings;
+import io.jans.cedarling.bridge.config.AuthorizationConfiguration;
+import io.jans.cedarling.bridge.config.BootstrapConfiguration;
+import io.jans.cedarling.bridge.config.JsonRule;
+import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
+import io.jans.cedarling.bridge.stats.StartupTimings;
+import io.jans.cedarling.bridge.util.generator.PolicyStoreGenerator;
+import io.jans.cedarling.bridge.util.generator.RequestCorpusGenerator;
+import io.jans.cedarling.bridge.util.generator.SyntheticPolicyStore;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Time to first decision of a new cedarling instance, for every policy store source and a range of
+ * generated store sizes. Run with {@code -Dcedarling4j.benchmarks=true}, store sizes can be set with
+ * {@code -Dcedarling4j.benchmarks.startup.sizes=100,1000}.
+ * The lock server source is served by a local stand-in, so network latency is not accounted for.
+ */
+@EnabledIfSystemProperty(named = "cedarling4j.benchmarks", matches = "true")
+public class StartupBenchmarkTest extends CedarlingBaseTest {
+
+    private static final String SIZES_PROPERTY = "cedarling4j.benchmarks.startup.sizes";
+    private static final String DEFAULT_SIZES = "100,1000,10000";
+    private static final int ITERATIONS = 5;
+    private static final String LOCK_SERVER_STORE_PATH = "/policy-store";
+
+    private enum Source { JSON, YAML, FILEJSON, FILEYAML, LOCKMASTER }
+
+    @Test
+    public void measureTimeToFirstDecision() throws Exception {
+
+        System.out.println(String.format("%-10s %7s %12s %12s %12s %12s %14s %12s %12s",
+            "source","size","marshal(ms)","init(ms)","ctor(ms)","first(ms)","to-decision(ms)","engine(KiB)","rss(KiB)"));
+        for(int size : sizes()) {
+            SyntheticPolicyStore store = new PolicyStoreGenerator(42L)
+                .policies(size)
+                .entityTypes(8)
+                .attributes(8)
+                .roleDepth(3)
+                .generate();
+            AuthorizeRequestUnsigned request = new RequestCorpusGenerator(store,42L).unsignedRequests(1,1).get(0);
+            HttpServer lockServer = startLockServer(store.getJson());
+            try {
+                for(Source source : Source.values()) {
+                    PolicyStoreConfiguration psconfig = policyStoreConfiguration(source,store,size,lockServer);
+                    report(source,size,measure(psconfig,request));
+                }
+            }finally {
+                lockServer.stop(0);
+            }
+        }
+    }
+
+    private List<Sample> measure(final PolicyStoreConfiguration psconfig, final AuthorizeRequestUnsigned request) throws Exception {
+
+        List<Sample> samples = new ArrayList<>();
+        for(int i = 0; i < ITERATIONS; i++) {
+            BootstrapConfiguration bootstrap_config = getBaseBootstrapConfigurationBuilder()
+                .policyStoreConfiguration(psconfig)
+                .authzConfiguration(getStartupAuthzConfiguration())
+                .entityBuilderConfiguration(getBaseEntityBuilderConfiguration())
+                .build();
+
+            System.gc();
+            final long rss_before = residentSetSize();
+            final long start = System.nanoTime();
+            try(Cedarling cedarling = new Cedarling(bootstrap_config)) {
+                AuthorizeResult result = cedarling.authorizeUnsigned(request);
+                final long to_decision = System.nanoTime() - start;
+                final long rss_after = residentSetSize();
+                assertNotNull(result);
+
+                StartupTimings timings = cedarling.startupTimings();
+                PhaseTimings first = result.getPhaseTimings().orElse(null);
+                samples.add(new Sample(timings,first == null ? 0 : first.getTotal().toNanos(),to_decision,
+                    (rss_before < 0 || rss_after < 0) ? -1 : rss_after - rss_before));
+            }
+        }
+        return samples;
+    }
+
+    private AuthorizationConfiguration getStartupAuthzConfiguration() throws Exception {
+
+        AuthorizationConfiguration authz_config = getBaseAuthzConfiguration();
+        authz_config.setPrincipalBoolOperator(new JsonRule(DEFAULT_JANS_USER_ALLOW_RULE));
+        return authz_config;
+    }
+
+    private PolicyStoreConfiguration policyStoreConfiguration(final Source source, final SyntheticPolicyStore store, int size,
+        final HttpServer lockServer) throws Exception {
+
+        switch(source) {
+            case JSON:
+                return PolicyStoreConfiguration.fromJsonString(store.getJson());
+            case YAML:
+                return PolicyStoreConfiguration.fromYamlString(store.getYaml());
+            case FILEJSON:
+                return PolicyStoreConfiguration.fromJsonFile(writeStore("startup-" + size + ".json",store.getJson()));
+            case FILEYAML:
+                return PolicyStoreConfiguration.fromYamlFile(writeStore("startup-" + size + ".yaml",store.getYaml()));
+            case LOCKMASTER:
+                InetSocketAddress address = lockServer.getAddress();
+                return PolicyStoreConfiguration.fromLockmasterStoreId(
+                    "http://" + address.getHostString() + ":" + address.getPort() + LOCK_SERVER_STORE_PATH);
+            default:
+                throw new IllegalArgumentException("Unsupported policy store source " + source);
+        }
+    }
+
+    private File writeStore(final String name, final String content) throws Exception {
+
+        Path path = new File(new File(TEST_FILES_DIR,POLICY_STORES_DIR_NAME),name).toPath();
+        Files.write(path,content.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+
+    private static HttpServer startLockServer(final String json) throws Exception {
+
+        final byte [] body = json.getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),0),0);
+        server.createContext(LOCK_SERVER_STORE_PATH,exchange -> {
+            exchange.getResponseHeaders().add("Content-Type","application/json");
+            exchange.sendResponseHeaders(200,body.length);
+            try(OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static List<Integer> sizes() {
+
+        return Arrays.stream(System.getProperty(SIZES_PROPERTY,DEFAULT_SIZES).split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the resident set size of the process in KiB, or -1 if it can't be read
+     */
+    private static long residentSetSize() {
+
+        try {
+            for(String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if(line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]",""));
+                }
+            }
+        }catch(Exception e) {
+            // not on linux
+        }
+        return -1;
+    }
+
+    private static void report(final Source source, int size, final List<Sample> samples) {
+
+        System.out.println(String.format("%-10s %7d %12.2f %12.2f %12.2f %12.2f %14.2f %12d %12d",
+            source,size,
+            millis(median(samples,s -> s.timings.getMarshalling().toNanos())),
+            millis(median(samples,s -> s.timings.getInitialization().toNanos())),
+            millis(median(samples,s -> s.timings.getConstruction().toNanos())),
+            millis(median(samples,s -> s.firstAuthorizeNanos)),
+            millis(median(samples,s -> s.toDecisionNanos)),
+            median(samples,s -> s.timings.getEngineMemory()) / 1024,
+            median(samples,s -> s.rssDeltaKib)));
+    }
+
+    private static long median(final List<Sample> samples, final ToLongFunction<Sample> value) {
+
+        List<Long> values = samples.stream().map(value::applyAsLong).collect(Collectors.toList());
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+
+    private static double millis(long nanos) {
+
+        return nanos / 1e6;
+    }
+
+    private static class Sample {
+
+        private final StartupTimings timings;
+        private final long firstAuthorizeNanos;
+        private final long toDecisionNanos;
+        private final long rssDeltaKib;
+
+        Sample(final StartupTimings timings, long firstAuthorizeNanos, long toDecisionNanos, long rssDeltaKib) {
+
+            this.timings = timings;
+            this.firstAuthorizeNanos = firstAuthorizeNanos;
+            this.toDecisionNanos = toDecisionNanos;
+            this.rssDeltaKib = rssDeltaKib;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class DeadlinesTest {
+
+    @Test
+    public void shouldReportNoDeadlineWhenUnset() {
+
+        assertEquals(Deadlines.NO_DEADLINE,Deadlines.budgetNanos(null));
+        assertDoesNotThrow(() -> Deadlines.ensureNotExpired(null));
+    }
+
+    @Test
+    public void shouldReportRemainingBudget() {
+
+        long budget = Deadlines.budgetNanos(Instant.now().plus(Duration.ofSeconds(30)));
+        assertTrue(budget > 0 && budget <= Duration.ofSeconds(30).toNanos());
+        assertTrue(Deadlines.budgetNanos(Instant.now().minusSeconds(1)) < 0);
+        assertTrue(Deadlines.budgetNanos(Instant.MAX) < Deadlines.NO_DEADLINE);
+    }
+
+    @Test
+    public void shouldFailWhenDeadlineHasPassed() {
+
+        AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+        request.setDeadline(Instant.now().minusMillis(1));
+        assertThrows(CedarlingTimeoutError.class,() -> Deadlines.ensureNotExpired(request.getDeadline()));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.authz;
+
+import io.jans.cedarling.bridge.authz.CedarlingTokenRejectedError.Reason;
+import io.jans.cedarling.bridge.util.crypto.HMACSha256SecretKey;
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.HMACSignatureJwtGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TokenPreCheckTest {
+
+    private static final long NOW = 1735689600L;
+    private static final TokenPreCheck PRE_CHECK = new TokenPreCheck(Duration.ofSeconds(60));
+    private static JwtGenerator JWT_GENERATOR = null;
+
+    @BeforeAll
+    public static void createGenerator() throws Exception {
+
+        JWT_GENERATOR = new HMACSignatureJwtGenerator("HS256",HMACSha256SecretKey.createInstance().getSecretKey());
+    }
+
+    @Test
+    public void shouldAcceptValidTokens() throws Exception {
+
+        String token = JWT_GENERATOR.generate("{\"sub\":\"some_sub\",\"iat\":" + NOW + ",\"nbf\":" + NOW + ",\"exp\":" + (NOW + 3600) + "}");
+        assertNull(PRE_CHECK.inspect(token,NOW));
+        assertNull(PRE_CHECK.inspect(JWT_GENERATOR.generate("{\"sub\":\"some_sub\"}"),NOW));
+        assertDoesNotThrow(() -> PRE_CHECK.check(Map.of("access_token",token,"id_token",token),NOW));
+    }
+
+    @Test
+    public void shouldRejectExpiredAndNotYetValidTokensBeyondLeeway() throws Exception {
+
+        assertEquals(Reason.EXPIRED,PRE_CHECK.inspect(JWT_GENERATOR.generate("{\"exp\":" + (NOW - 61) + "}"),NOW));
+        assertNull(PRE_CHECK.inspect(JWT_GENERATOR.generate("{\"exp\":" + (NOW - 59) + "}"),NOW));
+        assertEquals(Reason.NOT_YET_VALID,PRE_CHECK.inspect(JWT_GENERATOR.generate("{\"nbf\":" + (NOW + 61) + "}"),NOW));
+        assertNull(PRE_CHECK.inspect(JWT_GENERATOR.generate("{\"nbf\":" + (NOW + 59) + "}"),NOW));
+
+        CedarlingTokenRejectedError error = assertThrows(CedarlingTokenRejectedError.class,
+            () -> PRE_CHECK.check(Map.of("id_token",JWT_GENERATOR.generate("{\"exp\":1}")),NOW));
+        assertEquals("id_token",error.getTokenName());
+        assertEquals(Reason.EXPIRED,error.getReason());
+        assertEquals(0,error.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldOnlyReadTopLevelTimeClaims() throws Exception {
+
+        String payload = "{ \"nested\" : {\"exp\":1, \"list\":[{\"nbf\":9999999999}]}, \"name\":\"a \\\"exp\\\" b\", \"e\\u0078p\": 1, \"exp\" : " + (NOW + 10) + ".5 }";
+        assertNull(PRE_CHECK.inspect(encode("{\"alg\":\"HS256\"}") + "." + encode(payload) + ".c2ln",NOW));
+    }
+
+    @Test
+    public void shouldEvaluateExponentsOfTimeClaims() {
+
+        assertNull(PRE_CHECK.inspect(token("{\"exp\":1.8e9,\"nbf\":1.7E+9}"),NOW));
+        assertEquals(Reason.EXPIRED,PRE_CHECK.inspect(token("{\"exp\":1.7e9}"),1700000061L));
+        assertNull(PRE_CHECK.inspect(token("{\"exp\":17356896e2}"),NOW));
+        assertNull(PRE_CHECK.inspect(token("{\"exp\":1e300}"),NOW));
+        assertEquals(Reason.EXPIRED,PRE_CHECK.inspect(token("{\"exp\":1e-300}"),NOW));
+        assertEquals(Reason.NOT_YET_VALID,PRE_CHECK.inspect(token("{\"nbf\":1.7356897e9}"),NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(token("{\"exp\":1.7e}"),NOW));
+    }
+
+    @Test
+    public void shouldClampLongIntegerTimeClaims() {
+
+        assertNull(PRE_CHECK.inspect(token("{\"exp\":12345678901234567890123}"),NOW));
+        assertEquals(Reason.EXPIRED,PRE_CHECK.inspect(token("{\"exp\":-12345678901234567890123}"),NOW));
+        assertEquals(Reason.NOT_YET_VALID,PRE_CHECK.inspect(token("{\"nbf\":12345678901234567890123}"),NOW));
+        assertNull(PRE_CHECK.inspect(token("{\"exp\":17356896000000000000000e-13}"),NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(token("{\"exp\":1" + "0".repeat(100) + "}"),NOW));
+    }
+
+    @Test
+    public void shouldNotOverflowWithALargeLeeway() {
+
+        TokenPreCheck lenient = new TokenPreCheck(Duration.ofSeconds(Long.MAX_VALUE));
+        assertNull(lenient.inspect(token("{\"exp\":1e30}"),NOW));
+        assertNull(lenient.inspect(token("{\"nbf\":-1e30}"),NOW));
+        assertNull(lenient.inspect(token("{\"exp\":" + Long.MAX_VALUE + ",\"nbf\":" + Long.MIN_VALUE + "}"),NOW));
+    }
+
+    @Test
+    public void shouldRejectMalformedTokens() {
+
+        String header = encode("{\"alg\":\"HS256\"}");
+        String payload = encode("{\"sub\":\"some_sub\"}");
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(null,NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect("",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect("junk",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + payload,NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + ".." + payload,NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + payload + ".sig.extra",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + payload + ".si=",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + payload + "+." + "sig",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(encode("[1,2]") + "." + payload + ".sig",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + encode("{\"sub\":") + ".sig",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + encode("{\"exp\":\"soon\"") + ".sig",NOW));
+        assertEquals(Reason.MALFORMED,PRE_CHECK.inspect(header + "." + encode("{\"sub\":1} trailing") + ".sig",NOW));
+    }
+
+    private static String token(final String payload) {
+
+        return encode("{\"alg\":\"HS256\"}") + "." + encode(payload) + ".c2ln";
+    }
+
+    private static String encode(final String json) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.capture;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.CedarlingAuthorizationError;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+import io.jans.cedarling.bridge.config.TrafficRecordingConfiguration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TrafficReplayTest {
+
+    @Test
+    public void shouldAppendToExistingLog(@TempDir Path tmp) throws Exception {
+
+        Path log = tmp.resolve("traffic.log");
+        record(log,3);
+        record(log,2);
+
+        try(ReplayReader reader = new ReplayReader(log,64)) {
+            int count = 0;
+            while(reader.next() != null) {
+                count++;
+            }
+            assertEquals(5,count);
+        }
+    }
+
+    @Test
+    public void shouldIgnoreIncompleteTrailingRecord(@TempDir Path tmp) throws Exception {
+
+        Path log = tmp.resolve("traffic.log");
+        record(log,2);
+        Files.write(log,new byte[] {0,0,1,0,42},StandardOpenOption.APPEND);
+
+        try(ReplayReader reader = new ReplayReader(log)) {
+            assertNotNull(reader.next());
+            assertNotNull(reader.next());
+            assertNull(reader.next());
+        }
+
+        record(log,1);
+        try(ReplayReader reader = new ReplayReader(log)) {
+            for(int i = 0; i < 3; i++) {
+                assertNotNull(reader.next());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void shouldReplayLogAndReportMismatches(@TempDir Path tmp) throws Exception {
+
+        Path log = tmp.resolve("traffic.log");
+        record(log,100);
+
+        AtomicInteger calls = new AtomicInteger();
+        ReplayResult result;
+        try(ReplayReader reader = new ReplayReader(log,256)) {
+            result = new TrafficReplayer(4,TrafficReplayer.Speed.MAXIMUM).replay(reader,request -> {
+                int call = calls.incrementAndGet();
+                if(call % 10 == 0) {
+                    throw new CedarlingAuthorizationError("failed");
+                }
+                // recorded requests were all allowed
+                return AuthorizeResult.fallback(call % 5 != 0);
+            });
+        }
+
+        assertEquals(100,result.getRequests());
+        assertEquals(10,result.getErrors());
+        assertEquals(10,result.getMismatches());
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.getLatencyPercentile(50).compareTo(result.getMaxLatency()) <= 0);
+    }
+
+    private static void record(final Path log, int count) throws Exception {
+
+        try(TrafficRecorder recorder = new TrafficRecorder(new TrafficRecordingConfiguration(log))) {
+            for(int i = 0; i < count; i++) {
+                recorder.execute(request(i),() -> AuthorizeResult.fallback(true));
+            }
+            recorder.close();
+            assertEquals(count,recorder.getRecordedCount());
+            assertEquals(0,recorder.getDroppedCount());
+        }
+    }
+
+    private static AuthorizeRequestUnsigned request(int index) {
+
+        AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+        request.addPrincipal(new EntityData(new CedarEntityMapping("user-" + index,"Jans::User"),"{}"));
+        request.setAction("Jans::Action::\"Read\"");
+        request.setResource(new EntityData(new CedarEntityMapping("issue-" + index,"Jans::Issue"),"{}"));
+        request.setContext(new Context("{}"));
+        return request;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.authz.CedarlingOverloadError;
+import io.jans.cedarling.bridge.config.ConcurrencyLimitConfiguration;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST_CALL_NANOS = Duration.ofMillis(1).toNanos();
+    private static final long SLOW_CALL_NANOS = Duration.ofMillis(100).toNanos();
+
+    @Test
+    public void shouldRejectCallsBeyondLimit() throws Exception {
+
+        AdaptiveConcurrencyLimiter limiter = newLimiter(2);
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertThrows(CedarlingOverloadError.class,() -> limiter.execute(() -> "unreachable"));
+
+        ConcurrencyLimiterMetrics metrics = limiter.metrics();
+        assertEquals(2,metrics.getInFlight());
+        assertEquals(2,metrics.getAccepted());
+        assertEquals(1,metrics.getRejected());
+    }
+
+    @Test
+    public void shouldDecreaseLimitWhenLatencyExceedsThreshold() {
+
+        AdaptiveConcurrencyLimiter limiter = newLimiter(10);
+        long now = 0;
+        assertTrue(limiter.tryAcquire());
+        limiter.release(SLOW_CALL_NANOS,now += SLOW_CALL_NANOS);
+        assertEquals(9,limiter.metrics().getLimit());
+
+        for(int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(SLOW_CALL_NANOS,now += SLOW_CALL_NANOS);
+        }
+        assertEquals(1,limiter.metrics().getLimit());
+    }
+
+    @Test
+    public void shouldDecreaseLimitOnceForABurstOfSlowCalls() {
+
+        AdaptiveConcurrencyLimiter limiter = newLimiter(10);
+        for(int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        long now = SLOW_CALL_NANOS;
+        for(int i = 0; i < 10; i++) {
+            limiter.release(SLOW_CALL_NANOS,now + i);
+        }
+        assertEquals(9,limiter.metrics().getLimit());
+
+        // a call started after the decrease is still slow
+        assertTrue(limiter.tryAcquire());
+        limiter.release(SLOW_CALL_NANOS,now + 2*SLOW_CALL_NANOS);
+        assertEquals(8,limiter.metrics().getLimit());
+    }
+
+    @Test
+    public void shouldIncreaseLimitOnlyWhenBusy() {
+
+        AdaptiveConcurrencyLimiter limiter = newLimiter(4);
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST_CALL_NANOS);
+        assertEquals(4,limiter.metrics().getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST_CALL_NANOS);
+        assertEquals(5,limiter.metrics().getLimit());
+        assertEquals(2,limiter.metrics().getPeakInFlight());
+    }
+
+    @Test
+    public void shouldRejectMissingLatencyThreshold() {
+
+        assertThrows(IllegalArgumentException.class,() -> new AdaptiveConcurrencyLimiter(4,1,64,null,0.9));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AdaptiveConcurrencyLimiter(new ConcurrencyLimitConfiguration().setLatencyThreshold(null)));
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(final int initialLimit) {
+
+        return new AdaptiveConcurrencyLimiter(initialLimit,1,64,Duration.ofMillis(20),0.9);
+    }
+}
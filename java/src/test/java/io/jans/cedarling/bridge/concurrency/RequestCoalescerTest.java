@@ -0,0 +1,212 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.concurrency;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.CedarlingAuthorizationError;
+import io.jans.cedarling.bridge.authz.CedarlingTimeoutError;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    public void shouldEvaluateConcurrentDuplicatesOnce() throws Exception {
+
+        RequestCoalescer<String,Object> coalescer = new RequestCoalescer<>(4,Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger evaluations = new AtomicInteger();
+        Object result = new Object();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for(int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> coalescer.execute("key",() -> {
+                    evaluations.incrementAndGet();
+                    awaitQuietly(release);
+                    return result;
+                })));
+            }
+            while(coalescer.getCoalescedCount() < CALLERS - 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for(Future<Object> future : futures) {
+                assertSame(result,future.get(10,TimeUnit.SECONDS));
+            }
+        }finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1,evaluations.get());
+    }
+
+    @Test
+    public void shouldPropagateErrorToWaitingCallers() throws Exception {
+
+        RequestCoalescer<String,Object> coalescer = new RequestCoalescer<>(4,Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.execute("key",() -> {
+                awaitQuietly(release);
+                throw new CedarlingAuthorizationError("denied");
+            }));
+            while(!isInflight(coalescer)) {
+                Thread.sleep(1);
+            }
+            Future<Object> follower = executor.submit(() -> coalescer.execute("key",() -> fail("should not evaluate")));
+            while(coalescer.getCoalescedCount() < 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            Exception leadererror = assertThrows(Exception.class,() -> leader.get(10,TimeUnit.SECONDS));
+            Exception followererror = assertThrows(Exception.class,() -> follower.get(10,TimeUnit.SECONDS));
+            assertInstanceOf(CedarlingAuthorizationError.class,leadererror.getCause());
+            assertInstanceOf(CedarlingAuthorizationError.class,followererror.getCause());
+        }finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldEvaluateItselfWhenTheCallTimesOut() throws Exception {
+
+        RequestCoalescer<String,String> coalescer = new RequestCoalescer<>(4,Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.execute("key",() -> {
+                awaitQuietly(release);
+                throw new CedarlingTimeoutError("leader deadline exceeded");
+            }));
+            while(!isInflight(coalescer)) {
+                Thread.sleep(1);
+            }
+            Future<String> follower = executor.submit(() -> coalescer.execute("key",() -> "follower"));
+            while(coalescer.getCoalescedCount() < 1) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            Exception leadererror = assertThrows(Exception.class,() -> leader.get(10,TimeUnit.SECONDS));
+            assertInstanceOf(CedarlingTimeoutError.class,leadererror.getCause());
+            assertEquals("follower",follower.get(10,TimeUnit.SECONDS));
+        }finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldEvaluateItselfWhenWaitExpires() throws Exception {
+
+        RequestCoalescer<String,String> coalescer = new RequestCoalescer<>(1,Duration.ofMillis(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.execute("key",() -> {
+                awaitQuietly(release);
+                return "leader";
+            }));
+            while(!isInflight(coalescer)) {
+                Thread.sleep(1);
+            }
+            assertEquals("follower",coalescer.execute("key",() -> "follower"));
+            assertEquals(1,coalescer.getWaitTimeoutCount());
+            release.countDown();
+            assertEquals("leader",leader.get(10,TimeUnit.SECONDS));
+        }finally {
+            executor.shutdownNow();
+        }
+        assertEquals("again",coalescer.execute("key",() -> "again"));
+    }
+
+    @Test
+    public void shouldBuildSameKeyRegardlessOfTokenOrder() {
+
+        Map<String,String> tokens = new LinkedHashMap<>();
+        tokens.put("access_token","a");
+        tokens.put("id_token","i");
+        tokens.put("userinfo_token","u");
+        Map<String,String> reversed = new LinkedHashMap<>();
+        reversed.put("userinfo_token","u");
+        reversed.put("id_token","i");
+        reversed.put("access_token","a");
+
+        assertEquals(RequestKeys.of(request(tokens,"{}")),RequestKeys.of(request(reversed,"{}")));
+        assertNotEquals(RequestKeys.of(request(tokens,"{}")),RequestKeys.of(request(tokens,"{ }")));
+    }
+
+    @Test
+    public void shouldBuildSameKeyRegardlessOfPrincipalOrder() {
+
+        EntityData user = new EntityData(new CedarEntityMapping("alice","Jans::User"),"{}");
+        EntityData workload = new EntityData(new CedarEntityMapping("client","Jans::Workload"),"{}");
+        EntityData other = new EntityData(new CedarEntityMapping("bob","Jans::User"),"{}");
+
+        assertEquals(RequestKeys.of(unsignedRequest(user,workload)),RequestKeys.of(unsignedRequest(workload,user)));
+        assertNotEquals(RequestKeys.of(unsignedRequest(user,workload)),RequestKeys.of(unsignedRequest(other,workload)));
+        assertNotEquals(RequestKeys.of(unsignedRequest(user,workload)),RequestKeys.of(unsignedRequest(user)));
+    }
+
+    private static AuthorizeRequest request(final Map<String,String> tokens, final String context) {
+
+        return AuthorizeRequest.builder()
+            .tokens(tokens)
+            .action("Jans::Action::\"Update\"")
+            .resource(new EntityData(new CedarEntityMapping("random_id","Jans::Issue"),"{}"))
+            .context(new Context(context))
+            .build();
+    }
+
+    private static AuthorizeRequestUnsigned unsignedRequest(final EntityData... principals) {
+
+        AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+        for(EntityData principal : principals) {
+            request.addPrincipal(principal);
+        }
+        request.setAction("Jans::Action::\"Update\"");
+        request.setResource(new EntityData(new CedarEntityMapping("random_id","Jans::Issue"),"{}"));
+        request.setContext(new Context("{}"));
+        return request;
+    }
+
+    private static boolean isInflight(final RequestCoalescer<String,?> coalescer) {
+
+        return coalescer.inflightCount() > 0;
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+
+        try {
+            latch.await(10,TimeUnit.SECONDS);
+        }catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.config;
+
+import io.jans.cedarling.bridge.util.FileUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class PolicyStoreConfigurationTest {
+
+    private static final String POLICY_STORE_OK_YAML_FILE = "policy-stores/policy-store_ok.yaml";
+
+    @Test
+    public void heapBuffersShouldBeCopiedFromTheirPosition() {
+
+        ByteBuffer heap = ByteBuffer.wrap("--{\"a\":1}--".getBytes(StandardCharsets.UTF_8));
+        heap.position(2).limit(9);
+        PolicyStoreConfiguration config = PolicyStoreConfiguration.fromJsonBuffer(heap);
+
+        assertEquals(PolicyStoreSource.JSON,config.getSource());
+        assertNull(config.getData());
+        assertTrue(config.getDataBuffer().isDirect());
+        assertEquals("{\"a\":1}",content(config.getDataBuffer()));
+        // the caller's buffer is left as is
+        assertEquals(2,heap.position());
+    }
+
+    @Test
+    public void streamsShouldBeReadToTheirEnd() throws Exception {
+
+        byte [] data = new byte[300 * 1024];
+        Arrays.fill(data,(byte) 'x');
+        PolicyStoreConfiguration config = PolicyStoreConfiguration.fromYamlStream(new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int available() {
+                // streams may not know their length
+                return 0;
+            }
+        });
+
+        assertEquals(PolicyStoreSource.YAML,config.getSource());
+        assertEquals(data.length,config.getDataBuffer().capacity());
+        assertEquals(new String(data,StandardCharsets.UTF_8),content(config.getDataBuffer()));
+    }
+
+    @Test
+    public void streamsShouldBeReadIntoABufferOfTheirSize() throws Exception {
+
+        byte [] data = new byte[300 * 1024];
+        Arrays.fill(data,(byte) 'y');
+        for(int available : new int [] {data.length,1024}) {
+            PolicyStoreConfiguration config = PolicyStoreConfiguration.fromJsonStream(new ByteArrayInputStream(data) {
+                @Override
+                public synchronized int available() {
+                    // exact, or short of the stream's length
+                    return Math.min(available,super.available());
+                }
+            });
+
+            assertTrue(config.getDataBuffer().isDirect());
+            assertEquals(data.length,config.getDataBuffer().capacity());
+            assertEquals(new String(data,StandardCharsets.UTF_8),content(config.getDataBuffer()));
+        }
+    }
+
+    @Test
+    public void fileSystemResourcesShouldBeMapped() throws Exception {
+
+        PolicyStoreConfiguration config = PolicyStoreConfiguration.fromYamlResource(POLICY_STORE_OK_YAML_FILE);
+
+        assertTrue(config.getDataBuffer().isDirect());
+        assertEquals(FileUtil.readResourceContent(POLICY_STORE_OK_YAML_FILE),content(config.getDataBuffer()));
+    }
+
+    @Test
+    public void missingResourcesShouldBeReported() {
+
+        assertThrows(FileNotFoundException.class,() -> PolicyStoreConfiguration.fromJsonResource("policy-stores/missing.json"));
+    }
+
+    private static String content(final ByteBuffer buffer) {
+
+        byte [] bytes = new byte[buffer.capacity()];
+        buffer.duplicate().clear().get(bytes);
+        return new String(bytes,StandardCharsets.UTF_8);
+    }
+}
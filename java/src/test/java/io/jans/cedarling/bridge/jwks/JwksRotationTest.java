@@ -0,0 +1,138 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.jwks;
+
+import io.jans.cedarling.bridge.CedarlingError;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JwksRotationTest {
+
+    private static final String JWKS_A = "{\"keys\":[{\"kid\":\"a\"}]}";
+    private static final String JWKS_B = "{\"keys\":[{\"kid\":\"b\"}]}";
+    private static final String JWKS_C = "{\"keys\":[{\"kid\":\"c\"}]}";
+
+    @Test
+    public void shouldRetainPreviousKeysDuringOverlap() throws Exception {
+
+        RecordingApplier applier = new RecordingApplier();
+        try(JwksRotation rotation = new JwksRotation(JWKS_A,Duration.ofMillis(300),applier)) {
+            rotation.update(JWKS_B);
+            assertEquals(new Applied(JWKS_B,List.of(JWKS_A)),applier.next());
+
+            // overlap windows ending apart, so that each retained JWKS is dropped on its own
+            Thread.sleep(100);
+            rotation.update(JWKS_C);
+            assertEquals(new Applied(JWKS_C,List.of(JWKS_B,JWKS_A)),applier.next());
+
+            // each retained JWKS is dropped once its own overlap ends
+            assertEquals(new Applied(JWKS_C,List.of(JWKS_B)),applier.next());
+            assertEquals(new Applied(JWKS_C,Collections.emptyList()),applier.next());
+            assertEquals(2,rotation.getRotationCount());
+        }
+    }
+
+    @Test
+    public void shouldKeepCurrentKeysWhenApplyingFails() throws Exception {
+
+        RecordingApplier applier = new RecordingApplier();
+        try(JwksRotation rotation = new JwksRotation(JWKS_A,Duration.ZERO,applier)) {
+            applier.failing = true;
+            assertThrows(CedarlingError.class,() -> rotation.update(JWKS_B));
+            applier.failing = false;
+            assertEquals(0,rotation.getRotationCount());
+
+            rotation.update(JWKS_A);
+            assertNull(applier.applied.poll(),"the current JWKS must not be applied again");
+            rotation.update(JWKS_C);
+            assertEquals(new Applied(JWKS_C,Collections.emptyList()),applier.next());
+        }
+    }
+
+    @Test
+    public void shouldRotateWhenWatchedFileChanges(@TempDir Path directory) throws Exception {
+
+        Path file = directory.resolve("jwks.json");
+        Files.write(file,JWKS_A.getBytes(StandardCharsets.UTF_8));
+        RecordingApplier applier = new RecordingApplier();
+        try(JwksRotation rotation = new JwksRotation(JwksRotation.readJwks(file),Duration.ZERO,applier)) {
+            rotation.watch(file);
+            Path staged = directory.resolve("jwks.json.tmp");
+            Files.write(staged,JWKS_B.getBytes(StandardCharsets.UTF_8));
+            Files.move(staged,file,StandardCopyOption.REPLACE_EXISTING,StandardCopyOption.ATOMIC_MOVE);
+
+            assertEquals(new Applied(JWKS_B,Collections.emptyList()),applier.next());
+            assertFalse(rotation.getLastFailure().isPresent());
+        }
+    }
+
+    private static class RecordingApplier implements JwksRotation.Applier {
+
+        private final BlockingQueue<Applied> applied = new LinkedBlockingQueue<>();
+        private volatile boolean failing = false;
+
+        @Override
+        public void apply(final String jwks, final List<String> retainedJwks) throws CedarlingError {
+
+            if(failing) {
+                throw new CedarlingError("rejected");
+            }
+            applied.add(new Applied(jwks,retainedJwks));
+        }
+
+        Applied next() throws InterruptedException {
+
+            Applied ret = applied.poll(10,TimeUnit.SECONDS);
+            assertNotNull(ret,"no key set applied");
+            return ret;
+        }
+    }
+
+    private static class Applied {
+
+        private final String jwks;
+        private final List<String> retainedJwks;
+
+        Applied(final String jwks, final List<String> retainedJwks) {
+
+            this.jwks = jwks;
+            this.retainedJwks = List.copyOf(retainedJwks);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+
+            return other instanceof Applied && jwks.equals(((Applied) other).jwks)
+                && retainedJwks.equals(((Applied) other).retainedJwks);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return jwks.hashCode() * 31 + retainedJwks.hashCode();
+        }
+
+        @Override
+        public String toString() {
+
+            return jwks + " + " + retainedJwks;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.jans.cedarling.bridge.loadtest;
+
+import io.jans.cedarling.bridge.authz.AuthorizeResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class LoadGeneratorTest {
+
+    @Test
+    public void shouldSendRequestsAtTheScheduledRate() {
+
+        AtomicLong sent = new AtomicLong();
+        LoadGenerator generator = new LoadGenerator(2,LoadGenerator.Arrivals.CONSTANT,1L);
+        LoadResult result = generator.run(sequence -> { sent.incrementAndGet(); return allow(); },1000,Duration.ofMillis(500));
+
+        assertEquals(500,result.getCompleted());
+        assertEquals(500,sent.get());
+        assertEquals(0,result.getUnsent());
+        assertEquals(0,result.getErrors());
+        assertTrue(result.getAchievedRate() > 900,"achieved rate " + result.getAchievedRate());
+    }
+
+    @Test
+    public void latencyShouldIncludeQueueingWhenTargetFallsBehind() {
+
+        // the target serves 500 requests per second at most, 1000 are scheduled
+        LoadGenerator generator = new LoadGenerator(1,LoadGenerator.Arrivals.CONSTANT,1L);
+        LoadResult result = generator.run(sequence -> { busy(2); return allow(); },1000,Duration.ofMillis(300));
+
+        Duration service = result.getServiceTimePercentile(99);
+        Duration latency = result.getLatencyPercentile(99);
+        assertTrue(service.toMillis() < 50,"service time " + service);
+        assertTrue(latency.compareTo(service.multipliedBy(10)) > 0,"latency " + latency + " vs service time " + service);
+    }
+
+    @Test
+    public void poissonArrivalsShouldBeReproducible() {
+
+        AtomicLong first = new AtomicLong();
+        AtomicLong second = new AtomicLong();
+        new LoadGenerator(2,LoadGenerator.Arrivals.POISSON,7L).run(sequence -> { first.incrementAndGet(); return allow(); },2000,Duration.ofMillis(200));
+        new LoadGenerator(2,LoadGenerator.Arrivals.POISSON,7L).run(sequence -> { second.incrementAndGet(); return allow(); },2000,Duration.ofMillis(200));
+
+        assertEquals(first.get(),second.get());
+        assertTrue(first.get() > 250 && first.get() < 550,"sent " + first.get());
+    }
+
+    @Test
+    public void sweepShouldStopAtTheSaturationKnee() {
+
+        // one thread and 2ms per request: the target saturates above 500 requests per second
+        LoadGenerator generator = new LoadGenerator(1,LoadGenerator.Arrivals.CONSTANT,1L);
+        List<Double> rates = LoadGenerator.geometricRates(100,2,6);
+        LoadSweep sweep = generator.sweep(sequence -> { busy(2); return allow(); },rates,Duration.ofMillis(250));
+
+        assertTrue(sweep.getKnee().isPresent());
+        assertTrue(sweep.getSteps().size() < rates.size());
+        assertTrue(sweep.getKnee().get().getTargetRate() > 200);
+        assertTrue(sweep.getSustainedRate().isPresent());
+        assertTrue(sweep.getSustainedRate().getAsDouble() <= 400);
+    }
+
+    private static AuthorizeResult allow() {
+
+        return AuthorizeResult.fallback(true);
+    }
+
+    private static void busy(long millis) {
+
+        final long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while(System.nanoTime() < until) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.status;
+
+import io.jans.cedarling.bridge.CedarlingError;
+import io.jans.cedarling.bridge.config.StatusListConfiguration;
+import io.jans.cedarling.bridge.util.crypto.HMACSha256SecretKey;
+import io.jans.cedarling.bridge.util.jwt.impl.HMACSignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.status.StatusListServer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Inflater;
+
+import org.json.JSONObject;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StatusListFetcherTest {
+
+    private static final long TTL = 3600;
+
+    private StatusListServer server;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+
+        HMACSignatureJwtGenerator generator = new HMACSignatureJwtGenerator("HS256",HMACSha256SecretKey.createInstance().getSecretKey());
+        server = new StatusListServer(generator,2,TTL,1024);
+    }
+
+    @AfterEach
+    public void stopServer() {
+
+        server.close();
+    }
+
+    @Test
+    public void shouldPrefetchConfiguredLists() throws Exception {
+
+        server.setStatus("a",3,1);
+        RecordingSource source = new RecordingSource();
+        StatusListConfiguration config = new StatusListConfiguration().addStatusListUri(server.getUri("a"));
+        try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+            assertEquals(server.getUri("a"),source.loaded());
+            assertEquals(0,source.status(server.getUri("a"),2));
+            assertEquals(1,source.status(server.getUri("a"),3));
+            assertEquals(Duration.ofSeconds(TTL),source.ttl);
+        }
+    }
+
+    @Test
+    public void shouldFetchPendingListsOnce() throws Exception {
+
+        server.setStatus("b",0,2);
+        RecordingSource source = new RecordingSource();
+        StatusListConfiguration config = new StatusListConfiguration().setDiscoveryInterval(Duration.ofMillis(20));
+        try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+            source.pending.add(server.getUri("b"));
+            source.pending.add(server.getUri("b"));
+            assertEquals(server.getUri("b"),source.loaded());
+            assertEquals(2,source.status(server.getUri("b"),0));
+
+            // a list is refreshed on its own schedule, being referenced again doesn't fetch it again
+            source.pending.add(server.getUri("b"));
+            assertNull(source.loads.poll(200,TimeUnit.MILLISECONDS));
+            assertEquals(1,server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void shouldRetryFailedFetches() throws Exception {
+
+        RecordingSource source = new RecordingSource();
+        StatusListConfiguration config = new StatusListConfiguration()
+            .addStatusListUri(server.getUri("c"))
+            .setRetryDelay(Duration.ofMillis(50));
+        try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+            assertEquals(server.getUri("c"),source.failures.poll(5,TimeUnit.SECONDS));
+
+            server.setStatus("c",1,3);
+            assertEquals(server.getUri("c"),source.loaded());
+            assertEquals(3,source.status(server.getUri("c"),1));
+        }
+    }
+
+    @Test
+    public void shouldNotDiscoverMoreListsThanTheMaximum() throws Exception {
+
+        server.setStatus("d",0,1);
+        server.setStatus("e",0,1);
+        RecordingSource source = new RecordingSource();
+        StatusListConfiguration config = new StatusListConfiguration()
+            .setDiscoveryInterval(Duration.ofMillis(20))
+            .setMaxDiscoveredLists(1);
+        try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+            source.pending.add(server.getUri("d"));
+            source.pending.add(server.getUri("e"));
+            assertEquals(server.getUri("d"),source.loaded());
+            assertNull(source.loads.poll(200,TimeUnit.MILLISECONDS));
+            assertEquals(1,server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void shouldGiveUpDiscoveredListsAfterFailedFetches() throws Exception {
+
+        RecordingSource source = new RecordingSource();
+        StatusListConfiguration config = new StatusListConfiguration()
+            .setDiscoveryInterval(Duration.ofMillis(20))
+            .setRetryDelay(Duration.ofMillis(20))
+            .setMaxFetchAttempts(2);
+        try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+            source.pending.add(server.getUri("f"));
+            assertEquals(server.getUri("f"),source.failures.poll(5,TimeUnit.SECONDS));
+            assertEquals(server.getUri("f"),source.failures.poll(5,TimeUnit.SECONDS));
+            assertEquals(server.getUri("f"),source.releases.poll(5,TimeUnit.SECONDS));
+
+            // a list given up isn't fetched again until the idle timeout elapses, even if referenced again
+            source.pending.add(server.getUri("f"));
+            assertNull(source.failures.poll(200,TimeUnit.MILLISECONDS));
+            assertEquals(2,server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void shouldDropDiscoveredListsNoTokenReferences() throws Exception {
+
+        HMACSignatureJwtGenerator generator = new HMACSignatureJwtGenerator("HS256",HMACSha256SecretKey.createInstance().getSecretKey());
+        try(StatusListServer refreshed = new StatusListServer(generator,2,0,1024)) {
+            refreshed.setStatus("g",0,1);
+            RecordingSource source = new RecordingSource();
+            StatusListConfiguration config = new StatusListConfiguration()
+                .setDiscoveryInterval(Duration.ofMillis(20))
+                .setDefaultRefresh(Duration.ofMillis(50));
+            try(StatusListFetcher fetcher = new StatusListFetcher(config,source)) {
+                source.pending.add(refreshed.getUri("g"));
+                assertEquals(refreshed.getUri("g"),source.loaded());
+                assertEquals(refreshed.getUri("g"),source.loaded());
+
+                source.unused = true;
+                assertEquals(refreshed.getUri("g"),source.releases.poll(5,TimeUnit.SECONDS));
+                source.loads.clear();
+                assertNull(source.loads.poll(200,TimeUnit.MILLISECONDS));
+            }
+        }
+    }
+
+    /**
+     * Stands for the native instance, decoding the lists without verifying their tokens
+     */
+    private static class RecordingSource implements StatusListFetcher.Source {
+
+        final BlockingQueue<String> pending = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> loads = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> failures = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> releases = new LinkedBlockingQueue<>();
+        final Map<String,byte []> lists = new ConcurrentHashMap<>();
+        volatile int bits;
+        volatile Duration ttl;
+        /** whether lists are reported unused when the fetcher asks to release them */
+        volatile boolean unused;
+
+        @Override
+        public List<String> pending() {
+
+            List<String> ret = new ArrayList<>();
+            pending.drainTo(ret);
+            return ret;
+        }
+
+        @Override
+        public Duration load(final String uri, final String token) throws CedarlingError {
+
+            JSONObject claims = new JSONObject(new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]),StandardCharsets.UTF_8));
+            JSONObject statuslist = claims.getJSONObject("status_list");
+            bits = statuslist.getInt("bits");
+            ttl = Duration.ofSeconds(claims.getLong("ttl"));
+            lists.put(uri,inflate(Base64.getUrlDecoder().decode(statuslist.getString("lst"))));
+            loads.add(uri);
+            return ttl;
+        }
+
+        @Override
+        public void failed(final String uri) {
+
+            failures.add(uri);
+        }
+
+        @Override
+        public boolean release(final String uri, final Duration idle) {
+
+            if(!idle.isZero() && !unused) {
+                return false;
+            }
+            lists.remove(uri);
+            releases.add(uri);
+            return true;
+        }
+
+        String loaded() throws InterruptedException {
+
+            return loads.poll(5,TimeUnit.SECONDS);
+        }
+
+        int status(final String uri, final int idx) {
+
+            int bit = idx * bits;
+            return (lists.get(uri)[bit / 8] >> (bit % 8)) & ((1 << bits) - 1);
+        }
+
+        private static byte [] inflate(final byte [] data) throws CedarlingError {
+
+            Inflater inflater = new Inflater();
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte [] buffer = new byte[4096];
+            try {
+                while(!inflater.finished()) {
+                    out.write(buffer,0,inflater.inflate(buffer));
+                }
+            }catch(Exception e) {
+                throw new CedarlingError("Invalid status list. " + e.getMessage());
+            }finally {
+                inflater.end();
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NativeLibraryLoaderTest {
+
+    private static final String DUMMY_LIBRARY_RESOURCE = "native-test/dummy-library.bin";
+    private static final String DUMMY_LIBRARY_SHA256 = "43a9bcc6efd403169b782be42b3a02f088e44c4c8123a20fe5f2a69565fec684";
+
+    @TempDir
+    File cacheDir;
+
+    @Test
+    public void shouldExtractLibraryIntoContentHashedDirectory() throws Exception {
+
+        Path extracted = NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,cacheDir.toPath());
+        assertEquals(DUMMY_LIBRARY_SHA256,extracted.getParent().getFileName().toString());
+        assertEquals("dummy-library.bin",extracted.getFileName().toString());
+        assertEquals(FileUtil.readResourceContent(DUMMY_LIBRARY_RESOURCE),Files.readString(extracted));
+    }
+
+    @Test
+    public void shouldReuseAlreadyExtractedLibrary() throws Exception {
+
+        Path first = NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,cacheDir.toPath());
+        FileTime marker = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(first,marker);
+
+        Path second = NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,cacheDir.toPath());
+        assertEquals(first,second);
+        assertEquals(marker,Files.getLastModifiedTime(second));
+        try(var entries = Files.list(cacheDir.toPath())) {
+            assertEquals(1,entries.count());
+        }
+    }
+
+    @Test
+    public void shouldReplaceATamperedCachedLibrary() throws Exception {
+
+        Path first = NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,cacheDir.toPath());
+        Files.writeString(first,"tampered");
+
+        Path second = NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,cacheDir.toPath());
+        assertEquals(first,second);
+        assertEquals(FileUtil.readResourceContent(DUMMY_LIBRARY_RESOURCE),Files.readString(second));
+    }
+
+    @Test
+    public void shouldRestrictTheCacheDirectoryToItsOwner() throws Exception {
+
+        Path root = cacheDir.toPath();
+        assumeTrue(root.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Files.setPosixFilePermissions(root,PosixFilePermissions.fromString("rwxrwxrwx"));
+
+        NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,root.resolve("cache"));
+        NativeLibraryLoader.extractLibrary(DUMMY_LIBRARY_RESOURCE,root);
+        assertEquals("rwx------",PosixFilePermissions.toString(Files.getPosixFilePermissions(root.resolve("cache"))));
+        assertEquals("rwx------",PosixFilePermissions.toString(Files.getPosixFilePermissions(root)));
+    }
+
+    @Test
+    public void shouldDefaultToAPerUserCacheDirectory() {
+
+        assumeTrue(System.getProperty(NativeLibraryLoader.CACHE_DIR_PROPERTY) == null);
+        String name = NativeLibraryLoader.cacheDirectory().getFileName().toString();
+        assertTrue(name.startsWith("cedarling4j-native-"));
+        assertNotEquals("cedarling4j-native-",name);
+    }
+
+    @Test
+    public void shouldResolvePlatformSpecificResource() {
+
+        String resource = NativeLibraryLoader.bundledLibraryResource("cedarling4j");
+        assertTrue(resource.startsWith("native/" + NativeLibraryLoader.platform() + "/"));
+        assertTrue(resource.endsWith(System.mapLibraryName("cedarling4j")));
+    }
+}
@@ -0,0 +1,41 @@
+package io.jans.cedarling.bridge.util.crypto;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+public class ECKeyPair {
+
+    public static final String CURVE_P256 = "secp256r1";
+    public static final String CURVE_P384 = "secp384r1";
+    public static final String CURVE_P521 = "secp521r1";
+
+    private static final String EC_ALGORITHM_NAME = "EC";
+
+    private final KeyPair keyPair;
+
+    private ECKeyPair(KeyPair keyPair) {
+
+        this.keyPair = keyPair;
+    }
+
+    public ECPrivateKey getPrivateKey() {
+
+        return (ECPrivateKey) keyPair.getPrivate();
+    }
+
+    public ECPublicKey getPublicKey() {
+
+        return (ECPublicKey) keyPair.getPublic();
+    }
+
+    public static ECKeyPair generate(String curve) throws Exception {
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(EC_ALGORITHM_NAME);
+        generator.initialize(new ECGenParameterSpec(curve));
+        KeyPair keypair = generator.generateKeyPair();
+        return new ECKeyPair(keypair);
+    }
+}
@@ -0,0 +1,46 @@
+package io.jans.cedarling.bridge.util.crypto;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Arrays;
+
+public class Ed25519KeyPair {
+
+    public static final String ED25519_ALGORITHM_NAME = "Ed25519";
+
+    private static final int RAW_PUBLIC_KEY_SIZE = 32;
+
+    private final KeyPair keyPair;
+
+    private Ed25519KeyPair(KeyPair keyPair) {
+
+        this.keyPair = keyPair;
+    }
+
+    public PrivateKey getPrivateKey() {
+
+        return keyPair.getPrivate();
+    }
+
+    public PublicKey getPublicKey() {
+
+        return keyPair.getPublic();
+    }
+
+    /**
+     * @return the 32 bytes public key, as carried by the {@code x} member of an OKP JWK
+     */
+    public byte [] getRawPublicKey() {
+
+        // the X.509 encoding of an Ed25519 key ends with the raw key
+        byte [] encoded = keyPair.getPublic().getEncoded();
+        return Arrays.copyOfRange(encoded,encoded.length - RAW_PUBLIC_KEY_SIZE,encoded.length);
+    }
+
+    public static Ed25519KeyPair generate() throws Exception {
+
+        return new Ed25519KeyPair(KeyPairGenerator.getInstance(ED25519_ALGORITHM_NAME).generateKeyPair());
+    }
+}
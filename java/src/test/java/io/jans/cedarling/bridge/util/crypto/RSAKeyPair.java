@@ -9,6 +9,7 @@ public class RSAKeyPair {
     
     public static final int KEY_SIZE_1024_BITS = 1024;
     public static final int KEY_SIZE_2048_BITS = 2048;
+    public static final int KEY_SIZE_3072_BITS = 3072;
     public static final int KEY_SIZE_4096_BITS = 4096; 
 
     private static final String RSA_ALGORITHM_NAME = "RSA";
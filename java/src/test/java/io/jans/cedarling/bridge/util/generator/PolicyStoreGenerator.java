@@ -0,0 +1,405 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Generates valid cedarling policy stores of arbitrary size for scale testing
+ * <p>
+ *  The generated store keeps the trusted issuer, token metadata and token entities of
+ *  {@code policy-store_ok.yaml}, so the token fixtures and entity builder settings of the test suite
+ *  apply to it unchanged. On top of that it declares {@link #entityTypes(int)} resource types carrying
+ *  {@link #attributes(int)} string attributes each, {@link #actions(int)} actions, and a role hierarchy
+ *  {@link #roleDepth(int)} levels deep, and fills it with a mix of attribute, role and workload based
+ *  {@code permit} policies plus a few {@code forbid} ones.
+ * </p>
+ * <p>
+ *  The output only depends on the settings and the seed, so a store can be regenerated identically
+ *  from the parameters a test or benchmark logged.
+ * </p>
+ */
+public class PolicyStoreGenerator {
+
+    private static final String NAMESPACE = "Jans";
+    private static final String POLICY_STORE_ID = "5f0d1e2a3b4c5d6e7f8091a2b3c4d5e6f7a8b9c0d1e2";
+    private static final String CLIENT_ID = "5b4487c4-8db1-409d-a653-f907b8094039";
+    private static final String DEFAULT_ISSUER = "https://test.jans.org";
+    private static final String OPENID_CONFIGURATION_PATH = "/.well-known/openid-configuration";
+    private static final String [] COUNTRIES = {"US","FR","DE","BR","NG","IN","JP"};
+    private static final int ORG_COUNT = 8;
+    private static final int ROLES_PER_LEVEL = 4;
+
+    private final long seed;
+    private int policies = 100;
+    private int entityTypes = 4;
+    private int attributes = 4;
+    private int actions = 4;
+    private int roleDepth = 1;
+    private int valueCardinality = 16;
+    private String issuer = DEFAULT_ISSUER;
+
+    public PolicyStoreGenerator(long seed) {
+
+        this.seed = seed;
+    }
+
+    public PolicyStoreGenerator policies(int policies) {
+
+        this.policies = requirePositive(policies,"policies");
+        return this;
+    }
+
+    public PolicyStoreGenerator entityTypes(int entityTypes) {
+
+        this.entityTypes = requirePositive(entityTypes,"entityTypes");
+        return this;
+    }
+
+    public PolicyStoreGenerator attributes(int attributes) {
+
+        this.attributes = requirePositive(attributes,"attributes");
+        return this;
+    }
+
+    public PolicyStoreGenerator actions(int actions) {
+
+        this.actions = requirePositive(actions,"actions");
+        return this;
+    }
+
+    /**
+     * Number of levels of the role hierarchy. Each role of a level is a member of one role
+     * of the level above. A depth of 1 means flat roles
+     */
+    public PolicyStoreGenerator roleDepth(int roleDepth) {
+
+        this.roleDepth = requirePositive(roleDepth,"roleDepth");
+        return this;
+    }
+
+    /**
+     * Number of distinct values each resource attribute takes. Lower values make more policies
+     * match a given request
+     */
+    public PolicyStoreGenerator valueCardinality(int valueCardinality) {
+
+        this.valueCardinality = requirePositive(valueCardinality,"valueCardinality");
+        return this;
+    }
+
+    /**
+     * Base uri of the trusted issuer, which tokens must have as {@code iss} claim. Token status lists
+     * are trusted when served from its origin. Defaults to the issuer of {@code policy-store_ok.yaml}
+     */
+    public PolicyStoreGenerator issuer(final String issuer) {
+
+        if(issuer == null) {
+            throw new IllegalArgumentException("issuer cannot be null");
+        }
+        this.issuer = issuer;
+        return this;
+    }
+
+    public SyntheticPolicyStore generate() {
+
+        final Random random = new Random(seed);
+
+        final List<String> actionNames = new ArrayList<>();
+        for(int i = 0; i < actions; i++) {
+            actionNames.add("Act" + i);
+        }
+        final List<String> resourceNames = new ArrayList<>();
+        for(int i = 0; i < entityTypes; i++) {
+            resourceNames.add("Res" + i);
+        }
+        final List<List<String>> roleLevels = new ArrayList<>();
+        for(int level = 0; level < roleDepth; level++) {
+            final List<String> roles = new ArrayList<>();
+            for(int i = 0; i < ROLES_PER_LEVEL; i++) {
+                roles.add("Role_" + level + "_" + i);
+            }
+            roleLevels.add(roles);
+        }
+        final List<String> orgIds = new ArrayList<>();
+        for(int i = 0; i < ORG_COUNT; i++) {
+            orgIds.add("org-" + i);
+        }
+
+        final Map<String,Object> policyMap = new LinkedHashMap<>();
+        for(int i = 0; i < policies; i++) {
+            policyMap.put(policyId(i),policy(i,nextPolicy(random,actionNames,resourceNames,roleLevels,orgIds)));
+        }
+
+        final Map<String,Object> store = new LinkedHashMap<>();
+        store.put("cedar_version","v4.0.0");
+        store.put("name",NAMESPACE);
+        store.put("description","Synthetic policy store (seed " + seed + ")");
+        store.put("trusted_issuers",trustedIssuers(issuer));
+        store.put("policies",policyMap);
+        store.put("schema",content(schema(actionNames,resourceNames)));
+        if(roleDepth > 1) {
+            store.put("default_entities",roleHierarchy(roleLevels));
+        }
+        final Map<String,Object> root = new LinkedHashMap<>();
+        root.put("cedar_version","v4.0.0");
+        root.put("policy_stores",Map.of(POLICY_STORE_ID,store));
+
+        final List<String> qualifiedActions = new ArrayList<>();
+        for(String action : actionNames) {
+            qualifiedActions.add(NAMESPACE + "::Action::\"" + action + "\"");
+        }
+        final List<String> qualifiedResources = new ArrayList<>();
+        for(String resource : resourceNames) {
+            qualifiedResources.add(NAMESPACE + "::" + resource);
+        }
+        final StringBuilder yaml = new StringBuilder();
+        renderYaml(root,0,yaml);
+        return new SyntheticPolicyStore(yaml.toString(),new JSONObject(root).toString(),issuer,policies,qualifiedActions,qualifiedResources,
+            attributes,valueCardinality,List.of(COUNTRIES),orgIds,roleLevels.get(roleDepth - 1));
+    }
+
+    private String nextPolicy(final Random random, final List<String> actionNames, final List<String> resourceNames,
+        final List<List<String>> roleLevels, final List<String> orgIds) {
+
+        final String action = NAMESPACE + "::Action::\"" + pick(random,actionNames) + "\"";
+        final String resource = NAMESPACE + "::" + pick(random,resourceNames);
+        final String attribute = SyntheticPolicyStore.attributeName(random.nextInt(attributes));
+        final String value = SyntheticPolicyStore.attributeValue(random.nextInt(valueCardinality));
+        final int kind = random.nextInt(100);
+
+        if(kind < 45) {
+            return "permit(\n" +
+                "    principal is " + NAMESPACE + "::User,\n" +
+                "    action == " + action + ",\n" +
+                "    resource is " + resource + "\n" +
+                ")when{\n" +
+                "    principal.country == resource.country &&\n" +
+                "    resource." + attribute + " == \"" + value + "\"\n" +
+                "};";
+        }else if(kind < 70) {
+            // any level of the hierarchy, so deeper hierarchies actually get traversed
+            final List<String> level = roleLevels.get(random.nextInt(roleLevels.size()));
+            return "permit(\n" +
+                "    principal in " + NAMESPACE + "::Role::\"" + pick(random,level) + "\",\n" +
+                "    action == " + action + ",\n" +
+                "    resource is " + resource + "\n" +
+                ")when{\n" +
+                "    resource." + attribute + " == \"" + value + "\"\n" +
+                "};";
+        }else if(kind < 90) {
+            return "permit(\n" +
+                "    principal is " + NAMESPACE + "::Workload,\n" +
+                "    action == " + action + ",\n" +
+                "    resource is " + resource + "\n" +
+                ")when{\n" +
+                "    principal.access_token.org_id == resource.org_id &&\n" +
+                "    resource." + attribute + " == \"" + value + "\"\n" +
+                "};";
+        }
+        return "forbid(\n" +
+            "    principal is " + NAMESPACE + "::Workload,\n" +
+            "    action == " + action + ",\n" +
+            "    resource is " + resource + "\n" +
+            ")when{\n" +
+            "    resource.org_id == \"" + pick(random,orgIds) + "\" &&\n" +
+            "    resource." + attribute + " == \"" + value + "\"\n" +
+            "};";
+    }
+
+    private static Map<String,Object> trustedIssuers(final String issuerUri) {
+
+        final Map<String,Object> access = new LinkedHashMap<>();
+        access.put("entity_type_name","Jans::Access_token");
+        access.put("workload_id","client_id");
+        access.put("principal_mapping",List.of("Jans::Workload"));
+        final Map<String,Object> id = new LinkedHashMap<>();
+        id.put("entity_type_name","Jans::Id_token");
+        id.put("principal_mapping",List.of("Jans::User"));
+        final Map<String,Object> userinfo = new LinkedHashMap<>();
+        userinfo.put("entity_type_name","Jans::Userinfo_token");
+        userinfo.put("user_id","sub");
+        userinfo.put("principal_mapping",List.of("Jans::User"));
+        final Map<String,Object> metadata = new LinkedHashMap<>();
+        metadata.put("access_token",access);
+        metadata.put("id_token",id);
+        metadata.put("userinfo_token",userinfo);
+
+        final Map<String,Object> issuer = new LinkedHashMap<>();
+        issuer.put("name","Jans");
+        issuer.put("description","A Test IDP");
+        issuer.put("openid_configuration_endpoint",issuerUri + OPENID_CONFIGURATION_PATH);
+        issuer.put("token_metadata",metadata);
+        return Map.of("Jans123123",issuer);
+    }
+
+    private static Map<String,Object> policy(int index, final String body) {
+
+        final Map<String,Object> policy = new LinkedHashMap<>();
+        policy.put("cedar_version","v4.0.0");
+        policy.put("description","synthetic policy " + index);
+        policy.put("creation_date","2025-01-01T00:00:00.000000");
+        policy.put("policy_content",content(body));
+        return policy;
+    }
+
+    private static Map<String,Object> content(final String body) {
+
+        final Map<String,Object> content = new LinkedHashMap<>();
+        content.put("encoding","none");
+        content.put("content_type","cedar");
+        content.put("body",body);
+        return content;
+    }
+
+    private String schema(final List<String> actionNames, final List<String> resourceNames) {
+
+        final StringBuilder attrs = new StringBuilder("\"country\": String, \"org_id\": String");
+        for(int i = 0; i < attributes; i++) {
+            attrs.append(", \"").append(SyntheticPolicyStore.attributeName(i)).append("\": String");
+        }
+
+        final StringBuilder schema = new StringBuilder();
+        schema.append("namespace ").append(NAMESPACE).append(" {\n");
+        schema.append("  type Url = {\"host\": String, \"path\": String, \"protocol\": String};\n");
+        for(String resource : resourceNames) {
+            schema.append("  entity ").append(resource).append(" = {").append(attrs).append("};\n");
+        }
+        schema.append("  entity Role in [Role];\n");
+        schema.append("  entity TrustedIssuer = {\"issuer_entity_id\": Url};\n");
+        schema.append("  entity User in [Role] = {\n");
+        schema.append("    sub?: String,\n");
+        schema.append("    role?: String,\n");
+        schema.append("    email: String,\n");
+        schema.append("    username: String,\n");
+        schema.append("    country: String,\n");
+        schema.append("    id_token?: Id_token,\n");
+        schema.append("    userinfo_token?: Userinfo_token,\n");
+        schema.append("  };\n");
+        schema.append("  entity Workload = {\n");
+        schema.append("    iss: Jans::TrustedIssuer,\n");
+        schema.append("    aud?: String,\n");
+        schema.append("    client_id?: String,\n");
+        schema.append("    name: String,\n");
+        schema.append("    access_token: Access_token,\n");
+        schema.append("  };\n");
+        schema.append("  entity Access_token = {\n");
+        schema.append("    iss: Jans::TrustedIssuer,\n");
+        schema.append("    jti: String,\n");
+        schema.append("    client_id: String,\n");
+        schema.append("    org_id: String,\n");
+        schema.append("  };\n");
+        schema.append("  entity Id_token = {\n");
+        schema.append("    iss: Jans::TrustedIssuer,\n");
+        schema.append("    sub: String,\n");
+        schema.append("    aud: Set<String>,\n");
+        schema.append("  };\n");
+        schema.append("  entity Userinfo_token  = {\n");
+        schema.append("    iss: Jans::TrustedIssuer,\n");
+        schema.append("    jti: String,\n");
+        schema.append("  };\n");
+        schema.append("  type Context = {\n");
+        schema.append("    user?: User,\n");
+        schema.append("    workload?: Workload,\n");
+        schema.append("    access_token?: Access_token,\n");
+        schema.append("    id_token?: Id_token,\n");
+        schema.append("    userinfo_token?: Userinfo_token,\n");
+        schema.append("  };\n");
+        for(String action : actionNames) {
+            schema.append("  action \"").append(action).append("\" appliesTo {\n");
+            schema.append("    principal: [Workload, User, Role],\n");
+            schema.append("    resource: [").append(String.join(", ",resourceNames)).append("],\n");
+            schema.append("    context: Context\n");
+            schema.append("  };\n");
+        }
+        schema.append("}");
+        return schema.toString();
+    }
+
+    private static Map<String,Object> roleHierarchy(final List<List<String>> roleLevels) {
+
+        // the parent links of the hierarchy are shipped as default entities,
+        // each one a base64 encoded cedar entity json
+        final Map<String,Object> entities = new LinkedHashMap<>();
+        for(int level = 1; level < roleLevels.size(); level++) {
+            final List<String> parents = roleLevels.get(level - 1);
+            final List<String> roles = roleLevels.get(level);
+            for(int i = 0; i < roles.size(); i++) {
+                final JSONObject entity = new JSONObject();
+                entity.put("uid",uid("Role",roles.get(i)));
+                entity.put("attrs",new JSONObject());
+                entity.put("parents",new JSONArray().put(uid("Role",parents.get(i % parents.size()))));
+                entities.put(roles.get(i),Base64.getEncoder().encodeToString(entity.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return entities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void renderYaml(final Map<String,Object> map, int indent, final StringBuilder yaml) {
+
+        final String prefix = " ".repeat(indent);
+        for(Map.Entry<String,Object> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            yaml.append(prefix).append(entry.getKey()).append(":");
+            if(value instanceof Map) {
+                yaml.append("\n");
+                renderYaml((Map<String,Object>) value,indent + 2,yaml);
+            }else if(value instanceof List) {
+                yaml.append("\n");
+                for(Object item : (List<Object>) value) {
+                    yaml.append(prefix).append("  - ").append(JSONObject.quote(item.toString())).append("\n");
+                }
+            }else if(value.toString().contains("\n")) {
+                yaml.append(" |-\n");
+                for(String line : value.toString().split("\n")) {
+                    yaml.append(prefix).append("  ").append(line).append("\n");
+                }
+            }else {
+                // json strings are valid yaml double quoted scalars
+                yaml.append(" ").append(JSONObject.quote(value.toString())).append("\n");
+            }
+        }
+    }
+
+    private static JSONObject uid(final String type, final String id) {
+
+        return new JSONObject().put("type",NAMESPACE + "::" + type).put("id",id);
+    }
+
+    static String policyId(int index) {
+
+        return String.format("%040x",index + 1L);
+    }
+
+    static String clientId() {
+
+        return CLIENT_ID;
+    }
+
+    private static <T> T pick(final Random random, final List<T> values) {
+
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static int requirePositive(int value, final String name) {
+
+        if(value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return value;
+    }
+}
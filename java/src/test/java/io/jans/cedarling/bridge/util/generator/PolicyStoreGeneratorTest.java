@@ -0,0 +1,80 @@
+package io.jans.cedarling.bridge.util.generator;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.EntityData;
+
+import java.util.List;
+
+import org.json.JSONObject;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class PolicyStoreGeneratorTest {
+
+    @Test
+    public void sameSeedShouldGenerateSamePolicyStore() {
+
+        SyntheticPolicyStore first = new PolicyStoreGenerator(7L).policies(250).roleDepth(3).generate();
+        SyntheticPolicyStore second = new PolicyStoreGenerator(7L).policies(250).roleDepth(3).generate();
+        SyntheticPolicyStore other = new PolicyStoreGenerator(8L).policies(250).roleDepth(3).generate();
+
+        assertEquals(first.getYaml(),second.getYaml());
+        assertNotEquals(first.getYaml(),other.getYaml());
+    }
+
+    @Test
+    public void generatedPolicyStoreShouldHonourSettings() {
+
+        SyntheticPolicyStore store = new PolicyStoreGenerator(1L)
+            .policies(300)
+            .entityTypes(5)
+            .attributes(6)
+            .actions(3)
+            .roleDepth(2)
+            .generate();
+
+        String yaml = store.getYaml();
+        assertEquals(300,countOccurrences(yaml,"policy_content:"));
+        assertEquals(5,store.getResourceTypes().size());
+        assertEquals(3,countOccurrences(yaml,"appliesTo"));
+        assertTrue(yaml.contains("\"attr5\": String"));
+        assertFalse(yaml.contains("\"attr6\": String"));
+        assertTrue(yaml.contains("default_entities:"));
+        assertTrue(store.getLeafRoles().stream().allMatch(r -> r.startsWith("Role_1_")));
+        assertFalse(new PolicyStoreGenerator(1L).generate().getYaml().contains("default_entities:"));
+    }
+
+    @Test
+    public void requestCorpusShouldBeReproducibleAndMatchStoreVocabulary() {
+
+        SyntheticPolicyStore store = new PolicyStoreGenerator(3L).attributes(2).generate();
+        List<AuthorizeRequestUnsigned> first = new RequestCorpusGenerator(store,11L).unsignedRequests(50,3);
+        List<AuthorizeRequestUnsigned> second = new RequestCorpusGenerator(store,11L).unsignedRequests(50,3);
+
+        assertEquals(50,first.size());
+        for(int i = 0; i < first.size(); i++) {
+            AuthorizeRequestUnsigned a = first.get(i);
+            AuthorizeRequestUnsigned b = second.get(i);
+            assertEquals(3,a.getPrincipals().size());
+            assertEquals(a.getAction(),b.getAction());
+            assertEquals(a.getResource().getAttributes(),b.getResource().getAttributes());
+            assertTrue(store.getActions().contains(a.getAction()));
+            assertTrue(store.getResourceTypes().contains(a.getResource().getCedarMapping().getEntityType()));
+            for(EntityData principal : a.getPrincipals()) {
+                JSONObject attrs = new JSONObject(principal.getAttributes());
+                assertTrue(store.getLeafRoles().contains(attrs.getString("role")));
+                assertTrue(store.getCountries().contains(attrs.getString("country")));
+            }
+        }
+    }
+
+    private static int countOccurrences(final String text, final String token) {
+
+        int count = 0;
+        for(int i = text.indexOf(token); i >= 0; i = text.indexOf(token,i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.generator;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequest;
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+import io.jans.cedarling.bridge.util.status.StatusListServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Generates authorization requests matching a {@link SyntheticPolicyStore}
+ * <p>
+ *  Actions, resource types, attribute values, countries, organizations and roles are drawn
+ *  from the store's vocabulary, so a realistic share of the requests is permitted.
+ *  Signed requests carry access, id and userinfo tokens issued by the store's trusted issuer,
+ *  signed with the supplied {@link JwtGenerator}. Token timestamps are fixed, so the claims
+ *  (and, for deterministic signature algorithms, the tokens) only depend on the seed.
+ *  Once {@link #statusList(StatusListServer,String)} is set, access and id tokens reference a status list.
+ * </p>
+ */
+public class RequestCorpusGenerator {
+
+    private static final long ISSUED_AT = 1735689600L; // 2025-01-01T00:00:00Z
+    private static final long EXPIRES_AT = 4102444800L; // 2100-01-01T00:00:00Z
+
+    private final SyntheticPolicyStore store;
+    private final Random random;
+    private int sequence;
+    private StatusListServer statusListServer;
+    private String statusList;
+
+    public RequestCorpusGenerator(final SyntheticPolicyStore store, long seed) {
+
+        this.store = store;
+        this.random = new Random(seed);
+        this.sequence = 0;
+    }
+
+    /**
+     * Makes the access and id tokens of signed requests reference the given status list, the tokens of the
+     * n-th request at index n, so the list must hold as many entries as requests are generated
+     */
+    public RequestCorpusGenerator statusList(final StatusListServer server, final String name) {
+
+        this.statusListServer = server;
+        this.statusList = name;
+        return this;
+    }
+
+    public List<AuthorizeRequestUnsigned> unsignedRequests(int count, int principalsPerRequest) {
+
+        final List<AuthorizeRequestUnsigned> requests = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            final AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+            for(int p = 0; p < principalsPerRequest; p++) {
+                final String id = nextId("user");
+                final JSONObject attrs = new JSONObject();
+                attrs.put("sub",id);
+                attrs.put("email",id + "@test.jans.org");
+                attrs.put("username",id);
+                attrs.put("country",pick(store.getCountries()));
+                attrs.put("role",pick(store.getLeafRoles()));
+                request.addPrincipal(new EntityData(new CedarEntityMapping(id,"Jans::User"),attrs.toString()));
+            }
+            request.setAction(pick(store.getActions()));
+            request.setResource(nextResource());
+            request.setContext(new Context("{}"));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    public List<AuthorizeRequest> signedRequests(int count, final JwtGenerator generator) throws Exception {
+
+        final List<AuthorizeRequest> requests = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            final String sub = nextId("sub");
+            final String country = pick(store.getCountries());
+            final String orgId = pick(store.getOrgIds());
+            final String clientId = PolicyStoreGenerator.clientId();
+
+            final JSONObject access = new JSONObject();
+            access.put("sub",sub);
+            access.put("iss",store.getIssuer());
+            access.put("token_type","Bearer");
+            access.put("client_id",clientId);
+            access.put("aud",clientId);
+            access.put("scope",new JSONArray().put("openid").put("profile"));
+            access.put("org_id",orgId);
+            access.put("iat",ISSUED_AT);
+            access.put("exp",EXPIRES_AT);
+            access.put("jti",nextId("access"));
+            access.put("name",sub);
+
+            final JSONObject id = new JSONObject();
+            id.put("sub",sub);
+            id.put("iss",store.getIssuer());
+            id.put("aud",clientId);
+            id.put("amr","pwd");
+            id.put("username",sub);
+            id.put("country",country);
+            id.put("iat",ISSUED_AT);
+            id.put("exp",EXPIRES_AT);
+            id.put("jti",nextId("id"));
+            if(statusListServer != null) {
+                access.put("status",statusListServer.statusClaim(statusList,i));
+                id.put("status",statusListServer.statusClaim(statusList,i));
+            }
+
+            final JSONObject userinfo = new JSONObject();
+            userinfo.put("sub",sub);
+            userinfo.put("iss",store.getIssuer());
+            userinfo.put("client_id",clientId);
+            userinfo.put("aud",clientId);
+            userinfo.put("username",sub);
+            userinfo.put("email",sub + "@test.jans.org");
+            userinfo.put("country",country);
+            userinfo.put("role",pick(store.getLeafRoles()));
+            userinfo.put("jti",nextId("userinfo"));
+
+            requests.add(AuthorizeRequest.builder()
+                .accessToken(generator.generate(access.toString()))
+                .idToken(generator.generate(id.toString()))
+                .userInfoToken(generator.generate(userinfo.toString()))
+                .action(pick(store.getActions()))
+                .resource(nextResource())
+                .context(new Context("{}"))
+                .build());
+        }
+        return requests;
+    }
+
+    private EntityData nextResource() {
+
+        final JSONObject attrs = new JSONObject();
+        attrs.put("country",pick(store.getCountries()));
+        attrs.put("org_id",pick(store.getOrgIds()));
+        for(int i = 0; i < store.getAttributeCount(); i++) {
+            attrs.put(SyntheticPolicyStore.attributeName(i),
+                SyntheticPolicyStore.attributeValue(random.nextInt(store.getValueCardinality())));
+        }
+        return new EntityData(new CedarEntityMapping(nextId("resource"),pick(store.getResourceTypes())),attrs.toString());
+    }
+
+    private String nextId(final String prefix) {
+
+        return prefix + "-" + (sequence++);
+    }
+
+    private <T> T pick(final List<T> values) {
+
+        return values.get(random.nextInt(values.size()));
+    }
+}
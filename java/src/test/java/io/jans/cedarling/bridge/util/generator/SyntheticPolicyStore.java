@@ -0,0 +1,130 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.generator;
+
+import io.jans.cedarling.bridge.config.PolicyStoreConfiguration;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Policy store produced by a {@link PolicyStoreGenerator}, along with the vocabulary
+ * ({@code Jans::} actions, resource types, roles ...) request corpora must be drawn from
+ */
+public class SyntheticPolicyStore {
+
+    private final String yaml;
+    private final String json;
+    private final String issuer;
+    private final int policyCount;
+    private final List<String> actions;
+    private final List<String> resourceTypes;
+    private final int attributeCount;
+    private final int valueCardinality;
+    private final List<String> countries;
+    private final List<String> orgIds;
+    private final List<String> leafRoles;
+
+    SyntheticPolicyStore(final String yaml, final String json, final String issuer, int policyCount, final List<String> actions, final List<String> resourceTypes,
+        int attributeCount, int valueCardinality, final List<String> countries, final List<String> orgIds,
+        final List<String> leafRoles) {
+
+        this.yaml = yaml;
+        this.json = json;
+        this.issuer = issuer;
+        this.policyCount = policyCount;
+        this.actions = Collections.unmodifiableList(actions);
+        this.resourceTypes = Collections.unmodifiableList(resourceTypes);
+        this.attributeCount = attributeCount;
+        this.valueCardinality = valueCardinality;
+        this.countries = Collections.unmodifiableList(countries);
+        this.orgIds = Collections.unmodifiableList(orgIds);
+        this.leafRoles = Collections.unmodifiableList(leafRoles);
+    }
+
+    public String getYaml() {
+
+        return yaml;
+    }
+
+    public String getJson() {
+
+        return json;
+    }
+
+    public PolicyStoreConfiguration toPolicyStoreConfiguration() {
+
+        return PolicyStoreConfiguration.fromYamlString(yaml);
+    }
+
+    /**
+     * @return the base uri of the store's trusted issuer, e.g. {@code https://test.jans.org}
+     */
+    public String getIssuer() {
+
+        return issuer;
+    }
+
+    public int getPolicyCount() {
+
+        return policyCount;
+    }
+
+    /**
+     * @return fully qualified action uids, e.g. {@code Jans::Action::"Act0"}
+     */
+    public List<String> getActions() {
+
+        return actions;
+    }
+
+    /**
+     * @return fully qualified resource entity types, e.g. {@code Jans::Res0}
+     */
+    public List<String> getResourceTypes() {
+
+        return resourceTypes;
+    }
+
+    public int getAttributeCount() {
+
+        return attributeCount;
+    }
+
+    public int getValueCardinality() {
+
+        return valueCardinality;
+    }
+
+    public List<String> getCountries() {
+
+        return countries;
+    }
+
+    public List<String> getOrgIds() {
+
+        return orgIds;
+    }
+
+    /**
+     * @return the ids of the roles at the bottom of the role hierarchy, the ones principals are assigned to
+     */
+    public List<String> getLeafRoles() {
+
+        return leafRoles;
+    }
+
+    static String attributeName(int index) {
+
+        return "attr" + index;
+    }
+
+    static String attributeValue(int index) {
+
+        return "v" + index;
+    }
+}
@@ -10,9 +10,11 @@ import io.jans.cedarling.bridge.util.crypto.HMACSha256SecretKey;
 
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.jwk.*;
+import com.nimbusds.jose.util.Base64URL;
 
 import org.json.JSONObject;
 
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Date;
 
@@ -44,6 +46,40 @@ public class Jwks {
         keys.put(entry);
     }
 
+    public void addHMACSecretKey(final String keyId, final String algorithm, SecretKey secretkey) {
+
+        JWK jwk = new OctetSequenceKey.Builder(secretkey)
+            .keyID(keyId)
+            .algorithm(JWSAlgorithm.parse(algorithm))
+            .issueTime(new Date())
+            .build();
+
+        JSONObject entry = new JSONObject(jwk.toJSONString());
+        keys.put(entry);
+    }
+
+    public void addECPublicKey(final String keyId, ECPublicKey publicKey) {
+
+        JWK jwk = new ECKey.Builder(Curve.forECParameterSpec(publicKey.getParams()),publicKey)
+            .keyUse(KeyUse.SIGNATURE)
+            .keyID(keyId)
+            .issueTime(new Date())
+            .build();
+        JSONObject entry = new JSONObject(jwk.toJSONString());
+        keys.put(entry);
+    }
+
+    public void addEd25519PublicKey(final String keyId, byte [] rawPublicKey) {
+
+        JWK jwk = new OctetKeyPair.Builder(Curve.Ed25519,Base64URL.encode(rawPublicKey))
+            .keyUse(KeyUse.SIGNATURE)
+            .keyID(keyId)
+            .issueTime(new Date())
+            .build();
+        JSONObject entry = new JSONObject(jwk.toJSONString());
+        keys.put(entry);
+    }
+
     public void addRSAPublicKey(final String keyId, RSAPublicKey publicKey) {
 
         JWK jwk = new RSAKey.Builder(publicKey)
@@ -0,0 +1,56 @@
+package io.jans.cedarling.bridge.util.jwt;
+
+import io.jans.cedarling.bridge.util.crypto.ECKeyPair;
+import io.jans.cedarling.bridge.util.crypto.Ed25519KeyPair;
+import io.jans.cedarling.bridge.util.jwt.impl.ECSignatureJwtGenerator;
+import io.jans.cedarling.bridge.util.jwt.impl.EdDSASignatureJwtGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Signature;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jwt.SignedJWT;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class JwtGeneratorTest {
+
+    private static final String CLAIMS = "{\"sub\":\"some_sub\",\"iss\":\"https://test.jans.org\"}";
+
+    @Test
+    public void ecSignedTokensShouldVerify() throws Exception {
+
+        ECKeyPair keypair = ECKeyPair.generate(ECKeyPair.CURVE_P384);
+        SignedJWT jwt = SignedJWT.parse(new ECSignatureJwtGenerator("ES384","key-1",keypair.getPrivateKey()).generate(CLAIMS));
+
+        assertEquals(JWSAlgorithm.ES384,jwt.getHeader().getAlgorithm());
+        assertEquals("key-1",jwt.getHeader().getKeyID());
+        assertTrue(jwt.verify(new ECDSAVerifier(keypair.getPublicKey())));
+    }
+
+    @Test
+    public void eddsaSignedTokensShouldVerifyAgainstTheirJwk() throws Exception {
+
+        Ed25519KeyPair keypair = Ed25519KeyPair.generate();
+        Jwks jwks = new Jwks();
+        jwks.addEd25519PublicKey("key-1",keypair.getRawPublicKey());
+        OctetKeyPair jwk = (OctetKeyPair) JWKSet.parse(jwks.getJwksAsString()).getKeyByKeyId("key-1");
+        assertEquals(Curve.Ed25519,jwk.getCurve());
+
+        String token = new EdDSASignatureJwtGenerator("key-1",keypair.getPrivateKey()).generate(CLAIMS);
+        SignedJWT jwt = SignedJWT.parse(token);
+        assertEquals(JWSAlgorithm.EdDSA,jwt.getHeader().getAlgorithm());
+        assertEquals("some_sub",jwt.getJWTClaimsSet().getSubject());
+
+        Signature signature = Signature.getInstance(Ed25519KeyPair.ED25519_ALGORITHM_NAME);
+        signature.initVerify(keypair.getPublicKey());
+        signature.update(token.substring(0,token.lastIndexOf('.')).getBytes(StandardCharsets.US_ASCII));
+        assertTrue(signature.verify(jwt.getSignature().decode()));
+        assertArrayEquals(keypair.getRawPublicKey(),jwk.getX().decode());
+    }
+}
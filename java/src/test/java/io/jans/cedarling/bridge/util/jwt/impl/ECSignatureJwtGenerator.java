@@ -0,0 +1,39 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.jwt.impl;
+
+import java.security.interfaces.ECPrivateKey;
+
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+
+import com.nimbusds.jwt.*;
+import com.nimbusds.jose.*;
+import com.nimbusds.jose.crypto.*;
+
+public class ECSignatureJwtGenerator implements JwtGenerator {
+
+    private final JWSSigner signer;
+    private final String keyId;
+    private final JWSAlgorithm signingAlgorithm;
+
+    public ECSignatureJwtGenerator(String signingAlgorithm, String keyId, ECPrivateKey privateKey) throws Exception {
+
+        signer = new ECDSASigner(privateKey);
+        this.keyId = keyId;
+        this.signingAlgorithm = JWSAlgorithm.parse(signingAlgorithm);
+    }
+
+    @Override
+    public String generate(String claims) throws Exception {
+
+        JWSHeader header = new JWSHeader.Builder(signingAlgorithm).keyID(keyId).build();
+        SignedJWT signedjwt = new SignedJWT(header,JWTClaimsSet.parse(claims));
+        signedjwt.sign(signer);
+
+        return signedjwt.serialize();
+    }
+}
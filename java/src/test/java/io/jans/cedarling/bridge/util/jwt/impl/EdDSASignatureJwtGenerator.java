@@ -0,0 +1,46 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.jwt.impl;
+
+import io.jans.cedarling.bridge.util.crypto.Ed25519KeyPair;
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.security.Signature;
+
+import com.nimbusds.jose.*;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.*;
+
+/**
+ * Signs tokens with Ed25519 through the JDK's own provider, as nimbus' Ed25519 signer requires Google Tink
+ */
+public class EdDSASignatureJwtGenerator implements JwtGenerator {
+
+    private final String keyId;
+    private final PrivateKey privateKey;
+
+    public EdDSASignatureJwtGenerator(String keyId, PrivateKey privateKey) {
+
+        this.keyId = keyId;
+        this.privateKey = privateKey;
+    }
+
+    @Override
+    public String generate(String claims) throws Exception {
+
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.EdDSA).keyID(keyId).build();
+        String signinginput = header.toBase64URL() + "." + Base64URL.encode(JWTClaimsSet.parse(claims).toString());
+
+        Signature signature = Signature.getInstance(Ed25519KeyPair.ED25519_ALGORITHM_NAME);
+        signature.initSign(privateKey);
+        signature.update(signinginput.getBytes(StandardCharsets.US_ASCII));
+
+        return signinginput + "." + Base64URL.encode(signature.sign());
+    }
+}
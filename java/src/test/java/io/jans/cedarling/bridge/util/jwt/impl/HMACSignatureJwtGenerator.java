@@ -19,16 +19,22 @@ public class HMACSignatureJwtGenerator implements JwtGenerator {
     
     private final JWSAlgorithm signingAlgorithm;
     private final MACSigner signer;
+    private final String keyId;
 
     public HMACSignatureJwtGenerator(String signingAlgorithm,SecretKey secretKey) throws Exception {
+        this(signingAlgorithm,null,secretKey);
+    }
+
+    public HMACSignatureJwtGenerator(String signingAlgorithm,String keyId,SecretKey secretKey) throws Exception {
         this.signingAlgorithm = JWSAlgorithm.parse(signingAlgorithm);
         this.signer = new MACSigner(secretKey.getEncoded());
+        this.keyId = keyId;
     }
 
     @Override
     public String generate(String value) throws Exception {
 
-        JWSHeader header = new JWSHeader(signingAlgorithm);
+        JWSHeader header = new JWSHeader.Builder(signingAlgorithm).keyID(keyId).build();
         SignedJWT signedjwt = new SignedJWT(header,JWTClaimsSet.parse(value));
         signedjwt.sign(signer);
         return signedjwt.serialize();
@@ -0,0 +1,149 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.util.status;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.jans.cedarling.bridge.util.jwt.JwtGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import org.json.JSONObject;
+
+/**
+ * Local stand-in for a token status list endpoint, serving signed status list tokens
+ * from {@code http://127.0.0.1:<port>/statuslists/<name>}. Lists not created by {@link #setStatus(String,int,int)} are not found.
+ */
+public class StatusListServer implements Closeable {
+
+    private static final String CONTEXT_PATH = "/statuslists/";
+
+    private final HttpServer server;
+    private final JwtGenerator generator;
+    private final int bits;
+    private final long ttl;
+    private final int size;
+    private final Map<String,byte []> lists = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    public StatusListServer(final JwtGenerator generator, final int bits, final long ttl, final int size) throws IOException {
+
+        this.generator = generator;
+        this.bits = bits;
+        this.ttl = ttl;
+        this.size = size;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),0),0);
+        this.server.createContext(CONTEXT_PATH,this::handle);
+        this.server.start();
+    }
+
+    public String getUri(final String name) {
+
+        return getOrigin() + CONTEXT_PATH + name;
+    }
+
+    /**
+     * @return the origin lists are served from, {@code http://127.0.0.1:<port>}, which must be a trusted
+     *  issuer of the policy store for the lists tokens reference to be fetched
+     */
+    public String getOrigin() {
+
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setStatus(final String name, final int idx, final int status) {
+
+        final byte [] list = lists.computeIfAbsent(name,n -> new byte[(size * bits + 7) / 8]);
+        synchronized(list) {
+            final int bit = idx * bits;
+            final int mask = ((1 << bits) - 1) << (bit % 8);
+            list[bit / 8] = (byte) ((list[bit / 8] & ~mask) | ((status << (bit % 8)) & mask));
+        }
+    }
+
+    public JSONObject statusClaim(final String name, final int idx) {
+
+        return new JSONObject().put("status_list",new JSONObject().put("idx",idx).put("uri",getUri(name)));
+    }
+
+    public int getRequestCount() {
+
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+
+        requests.incrementAndGet();
+        final String name = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length());
+        final byte [] list = lists.get(name);
+        if(list == null) {
+            exchange.sendResponseHeaders(404,-1);
+            exchange.close();
+            return;
+        }
+        final byte [] body;
+        try {
+            body = generator.generate(token(name,list).toString()).getBytes(StandardCharsets.UTF_8);
+        }catch(Exception e) {
+            exchange.sendResponseHeaders(500,-1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type","application/statuslist+jwt");
+        exchange.sendResponseHeaders(200,body.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private JSONObject token(final String name, final byte [] list) {
+
+        final byte [] compressed;
+        synchronized(list) {
+            compressed = deflate(list);
+        }
+        return new JSONObject()
+            .put("sub",getUri(name))
+            .put("iat",System.currentTimeMillis() / 1000)
+            .put("ttl",ttl)
+            .put("status_list",new JSONObject()
+                .put("bits",bits)
+                .put("lst",Base64.getUrlEncoder().withoutPadding().encodeToString(compressed)));
+    }
+
+    private static byte [] deflate(final byte [] data) {
+
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(data);
+        deflater.finish();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte [] buffer = new byte[4096];
+        while(!deflater.finished()) {
+            out.write(buffer,0,deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+}
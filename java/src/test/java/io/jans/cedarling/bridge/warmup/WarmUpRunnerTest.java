@@ -0,0 +1,95 @@
+/*
+ * Janssen Project software is available under the Apache License (2004). See http://www.apache.org/licenses/ for full text.
+ *
+ * Copyright (c) 2025, Janssen Project
+ */
+
+package io.jans.cedarling.bridge.warmup;
+
+import io.jans.cedarling.bridge.authz.AuthorizeRequestUnsigned;
+import io.jans.cedarling.bridge.authz.CedarEntityMapping;
+import io.jans.cedarling.bridge.authz.Context;
+import io.jans.cedarling.bridge.authz.EntityData;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class WarmUpRunnerTest {
+
+    private static final String UPDATE_ACTION = "Jans::Action::\"Update\"";
+    private static final String READ_ACTION = "Jans::Action::\"Read\"";
+    private static final String DELETE_ACTION = "Jans::Action::\"Delete\"";
+
+    @Test
+    public void shouldGenerateRequestPerAction() {
+
+        WarmUpSpec spec = WarmUpSpec.builder()
+            .unsignedRequest(unsignedRequest(UPDATE_ACTION))
+            .actions(List.of(UPDATE_ACTION,READ_ACTION,DELETE_ACTION))
+            .build();
+
+        List<AuthorizeRequestUnsigned> requests = spec.expandUnsignedRequests();
+        assertEquals(3,requests.size());
+        assertEquals(UPDATE_ACTION,requests.get(0).getAction());
+        assertEquals(READ_ACTION,requests.get(1).getAction());
+        assertEquals(DELETE_ACTION,requests.get(2).getAction());
+        assertSame(requests.get(0).getResource(),requests.get(2).getResource());
+    }
+
+    @Test
+    public void shouldStopOnceLatencyStabilizes() {
+
+        WarmUpSpec spec = WarmUpSpec.builder()
+            .unsignedRequest(unsignedRequest(UPDATE_ACTION))
+            .batchSize(20)
+            .stableBatches(2)
+            .tolerance(10.0)
+            .timeBudget(Duration.ofSeconds(30))
+            .build();
+
+        AtomicLong invocations = new AtomicLong();
+        WarmUpRunner.Call failing = () -> {
+            invocations.incrementAndGet();
+            throw new IllegalStateException("rejected");
+        };
+        WarmUpRunner.Call succeeding = () -> invocations.incrementAndGet();
+
+        WarmUpResult result = new WarmUpRunner(spec).run(List.of(failing,succeeding));
+        assertTrue(result.isStabilized());
+        assertEquals(3,result.getBatches());
+        assertEquals(60,result.getRequests());
+        assertEquals(invocations.get(),result.getRequests());
+        assertEquals(30,result.getErrors());
+    }
+
+    @Test
+    public void shouldStopWhenTimeBudgetRunsOut() {
+
+        WarmUpSpec spec = WarmUpSpec.builder()
+            .unsignedRequest(unsignedRequest(UPDATE_ACTION))
+            .batchSize(10)
+            .tolerance(0.0)
+            .stableBatches(Integer.MAX_VALUE)
+            .timeBudget(Duration.ofMillis(50))
+            .build();
+
+        WarmUpResult result = new WarmUpRunner(spec).run(List.of(() -> Thread.sleep(1)));
+        assertFalse(result.isStabilized());
+        assertTrue(result.getBatches() >= 1);
+        assertTrue(result.getElapsed().compareTo(Duration.ofMillis(50)) >= 0);
+    }
+
+    private static AuthorizeRequestUnsigned unsignedRequest(final String action) {
+
+        AuthorizeRequestUnsigned request = new AuthorizeRequestUnsigned();
+        request.addPrincipal(new EntityData(new CedarEntityMapping("some_user","Jans::User"),"{}"));
+        request.setAction(action);
+        request.setResource(new EntityData(new CedarEntityMapping("random_id","Jans::Issue"),"{}"));
+        request.setContext(new Context("{}"));
+        return request;
+    }
+}
@@ -0,0 +1,226 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Benchmarks of the JNI bridge's own costs, isolated from the cedar engine.
+//!
+//! The benchmarks run against an embedded JVM, which needs the compiled java wrapper
+//! classes. Build them first (`mvn -B compile` in `java/`), then run
+//! `cargo bench --features bench`. The class path defaults to `../java/target/classes`
+//! and can be overridden with the `CEDARLING4J_CLASSPATH` environment variable.
+
+use cedarling4j::bench::*;
+use criterion::{black_box,criterion_group,criterion_main,BenchmarkId,Criterion};
+use jni::{InitArgsBuilder,JNIEnv,JNIVersion,JavaVM};
+use jni::objects::{JObject,JValue};
+
+use std::sync::OnceLock;
+
+const DEFAULT_CLASSPATH: &str = "../java/target/classes";
+const TOKEN: &str = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.\
+eyJzdWIiOiJib0c4ZGZjNU1LVG4zN283Z3NkQ2V5cUw4THBXUXRnb080MW0xS1pXZHEwIiwiaXNzIjoiaHR0cHM6Ly90ZXN0LmphbnMub3JnIn0.\
+c2lnbmF0dXJlLW5vdC12ZXJpZmllZC1ieS10aGUtYnJpZGdl";
+
+fn jvm() -> &'static JavaVM {
+
+    static JVM: OnceLock<JavaVM> = OnceLock::new();
+    JVM.get_or_init(|| {
+        let classpath = std::env::var("CEDARLING4J_CLASSPATH").unwrap_or_else(|_| DEFAULT_CLASSPATH.to_string());
+        let args = InitArgsBuilder::new()
+            .version(JNIVersion::V8)
+            .option(format!("-Djava.class.path={}",classpath))
+            .build()
+            .expect("invalid JVM arguments");
+        let jvm = JavaVM::new(args).expect("unable to create the embedded JVM");
+        {
+            let mut env = jvm.attach_current_thread_permanently().expect("unable to attach to the JVM");
+            init_jni_cache(&mut env).expect("unable to initialize the bridge's JNI cache");
+        }
+        jvm
+    })
+}
+
+fn attributes_json(count: usize) -> String {
+
+    let mut attrs = serde_json::Map::new();
+    attrs.insert("org_id".to_string(),serde_json::Value::from("some_long_id"));
+    attrs.insert("country".to_string(),serde_json::Value::from("US"));
+    for i in 0..count {
+        attrs.insert(format!("attr{}",i),serde_json::Value::from(format!("value-{}",i)));
+    }
+    serde_json::Value::Object(attrs).to_string()
+}
+
+fn context_json(count: usize) -> String {
+
+    let mut ctx = serde_json::Map::new();
+    for i in 0..count {
+        ctx.insert(format!("key{}",i),serde_json::json!({"ip": "10.0.0.1", "tags": ["a","b"], "n": i}));
+    }
+    serde_json::Value::Object(ctx).to_string()
+}
+
+fn new_entity_data<'local>(env: &mut JNIEnv<'local>, id: &str, entity_type: &str, attributes: &str) -> JObject<'local> {
+
+    let id = env.new_string(id).unwrap();
+    let entity_type = env.new_string(entity_type).unwrap();
+    let mapping = env.new_object(
+        "io/jans/cedarling/bridge/authz/CedarEntityMapping",
+        "(Ljava/lang/String;Ljava/lang/String;)V",
+        &[JValue::Object(&id),JValue::Object(&entity_type)]
+    ).unwrap();
+    let attributes = env.new_string(attributes).unwrap();
+    env.new_object(
+        "io/jans/cedarling/bridge/authz/EntityData",
+        "(Lio/jans/cedarling/bridge/authz/CedarEntityMapping;Ljava/lang/String;)V",
+        &[JValue::Object(&mapping),JValue::Object(&attributes)]
+    ).unwrap()
+}
+
+fn new_authorize_request<'local>(env: &mut JNIEnv<'local>, attribute_count: usize, context_keys: usize) -> JObject<'local> {
+
+    const BUILDER: &str = "Lio/jans/cedarling/bridge/authz/AuthorizeRequest$Builder;";
+
+    let resource = new_entity_data(env,"random_id","Jans::Issue",&attributes_json(attribute_count));
+    let context_data = env.new_string(context_json(context_keys)).unwrap();
+    let context = env.new_object(
+        "io/jans/cedarling/bridge/authz/Context",
+        "(Ljava/lang/String;)V",
+        &[JValue::Object(&context_data)]
+    ).unwrap();
+
+    let mut builder = env.call_static_method(
+        "io/jans/cedarling/bridge/authz/AuthorizeRequest",
+        "builder",
+        &format!("(){}",BUILDER),
+        &[]
+    ).unwrap().l().unwrap();
+    for name in ["access_token","id_token","userinfo_token"] {
+        let name = env.new_string(name).unwrap();
+        let value = env.new_string(TOKEN).unwrap();
+        builder = env.call_method(&builder,"token",&format!("(Ljava/lang/String;Ljava/lang/String;){}",BUILDER),
+            &[JValue::Object(&name),JValue::Object(&value)]).unwrap().l().unwrap();
+    }
+    let action = env.new_string("Jans::Action::\"Update\"").unwrap();
+    builder = env.call_method(&builder,"action",&format!("(Ljava/lang/String;){}",BUILDER),
+        &[JValue::Object(&action)]).unwrap().l().unwrap();
+    builder = env.call_method(&builder,"resource",&format!("(Lio/jans/cedarling/bridge/authz/EntityData;){}",BUILDER),
+        &[JValue::Object(&resource)]).unwrap().l().unwrap();
+    builder = env.call_method(&builder,"context",&format!("(Lio/jans/cedarling/bridge/authz/Context;){}",BUILDER),
+        &[JValue::Object(&context)]).unwrap().l().unwrap();
+    env.call_method(&builder,"build","()Lio/jans/cedarling/bridge/authz/AuthorizeRequest;",&[]).unwrap().l().unwrap()
+}
+
+fn bench_request_conversion(c: &mut Criterion) {
+
+    let mut env = jvm().get_env().unwrap();
+    let mut group = c.benchmark_group("request_conversion");
+    for attribute_count in [2usize,32] {
+        let request = new_authorize_request(&mut env,attribute_count,4);
+        group.bench_with_input(BenchmarkId::new("authorize_request",attribute_count),&request,|b,request| {
+            b.iter(|| {
+                env.with_local_frame(16,|env| {
+                    black_box(convert_authorize_request(env,request).unwrap());
+                    Ok::<(),jni::errors::Error>(())
+                }).unwrap()
+            })
+        });
+    }
+    for attribute_count in [2usize,32,256] {
+        let entity = new_entity_data(&mut env,"random_id","Jans::Issue",&attributes_json(attribute_count));
+        group.bench_with_input(BenchmarkId::new("entity_data",attribute_count),&entity,|b,entity| {
+            b.iter(|| {
+                env.with_local_frame(16,|env| {
+                    black_box(convert_entity_data(env,entity).unwrap());
+                    Ok::<(),jni::errors::Error>(())
+                }).unwrap()
+            })
+        });
+    }
+    group.finish();
+}
+
+fn bench_json_parsing(c: &mut Criterion) {
+
+    let mut group = c.benchmark_group("json_parsing");
+    for count in [2usize,32,256] {
+        let attributes = attributes_json(count);
+        group.bench_with_input(BenchmarkId::new("attributes",count),&attributes,|b,attributes| {
+            b.iter(|| black_box(parse_attributes(attributes).unwrap()))
+        });
+        let context = context_json(count);
+        group.bench_with_input(BenchmarkId::new("context",count),&context,|b,context| {
+            b.iter(|| black_box(parse_context(context).unwrap()))
+        });
+    }
+    group.finish();
+}
+
+fn bench_jni_cache(c: &mut Criterion) {
+
+    let mut env = jvm().get_env().unwrap();
+    let fixture = CacheFixture::new(
+        &mut env,
+        "io/jans/cedarling/bridge/authz/AuthorizeRequest",
+        "getDeadlineBudgetNanos",
+        "()J"
+    ).unwrap();
+    let mut group = c.benchmark_group("jni_cache");
+    group.bench_function("instance_method",|b| {
+        b.iter(|| black_box(fixture.lookup_method().unwrap()))
+    });
+    group.bench_function("class",|b| {
+        b.iter(|| {
+            env.with_local_frame(4,|env| {
+                black_box(fixture.lookup_class(env).unwrap());
+                Ok::<(),jni::errors::Error>(())
+            }).unwrap()
+        })
+    });
+    group.finish();
+}
+
+fn bench_result_construction(c: &mut Criterion) {
+
+    let mut env = jvm().get_env().unwrap();
+    let mut group = c.benchmark_group("result_construction");
+    for principals in [1usize,8] {
+        let result = authorize_result_fixture(principals,2);
+        group.bench_with_input(BenchmarkId::new("authorize_result",principals),&result,|b,result| {
+            b.iter(|| {
+                env.with_local_frame(64,|env| {
+                    black_box(authorize_result_to_java(env,result).unwrap());
+                    Ok::<(),jni::errors::Error>(())
+                }).unwrap()
+            })
+        });
+    }
+    group.finish();
+}
+
+fn bench_token_verification(c: &mut Criterion) {
+
+    let mut group = c.benchmark_group("token_verification");
+    for (issuers,keys_per_issuer) in [(4usize,15usize),(8,32)] {
+        let fixture = KeyStoreFixture::new(issuers,keys_per_issuer).unwrap();
+        let keys = issuers * keys_per_issuer;
+        let mut next = 0usize;
+        group.bench_with_input(BenchmarkId::new("decoding_jwk",keys),&fixture,|b,fixture| {
+            b.iter(|| {
+                next = (next + 1) % fixture.token_count();
+                black_box(fixture.verify_decoding_jwk(next).unwrap())
+            })
+        });
+        group.bench_with_input(BenchmarkId::new("key_store",keys),&fixture,|b,fixture| {
+            b.iter(|| {
+                next = (next + 1) % fixture.token_count();
+                black_box(fixture.verify_with_key_store(next).unwrap())
+            })
+        });
+    }
+    group.finish();
+}
+
+criterion_group!(benches,bench_request_conversion,bench_json_parsing,bench_jni_cache,bench_result_construction,bench_token_verification);
+criterion_main!(benches);
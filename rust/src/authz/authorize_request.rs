@@ -13,7 +13,7 @@ use jni::sys::{jvalue};
 
 use std::collections::{HashMap};
 use std::sync::{Mutex,LazyLock};
-use super::{JavaContext,JavaEntityData};
+use super::{Deadline,JavaContext,JavaEntityData};
 
 const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/authz/AuthorizeRequest";
 
@@ -27,6 +27,8 @@ const JAVA_METHOD_NAME_GET_RESOURCE: &str = "getResource";
 const JAVA_METHOD_SIG_GET_RESOURCE: &str = "()Lio/jans/cedarling/bridge/authz/EntityData;";
 const JAVA_METHOD_NAME_GET_CONTEXT: &str = "getContext";
 const JAVA_METHOD_SIG_GET_CONTEXT: &str = "()Lio/jans/cedarling/bridge/authz/Context;";
+const JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS: &str = "getDeadlineBudgetNanos";
+const JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS: &str = "()J";
 
 static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
 
@@ -37,7 +39,8 @@ pub (crate) struct JavaAuthorizeRequest <'local> {
     get_token_names_method: JMethodID,
     get_action_method: JMethodID,
     get_resource_method: JMethodID,
-    get_context_method: JMethodID
+    get_context_method: JMethodID,
+    get_deadline_budget_nanos_method: JMethodID
 }
 
 impl <'local> JavaAuthorizeRequest <'local> {
@@ -86,6 +89,13 @@ impl <'local> JavaAuthorizeRequest <'local> {
             JAVA_CLS_NAME,
             JAVA_METHOD_NAME_GET_CONTEXT,
             JAVA_METHOD_SIG_GET_CONTEXT
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS,
+            JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS
         )
     }
 
@@ -130,6 +140,12 @@ impl <'local> JavaAuthorizeRequest <'local> {
             JAVA_METHOD_NAME_GET_CONTEXT,
             JAVA_METHOD_SIG_GET_CONTEXT
         );
+
+        let get_deadline_budget_nanos_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS,
+            JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS
+        );
        
         Ok (
             Some ( JavaAuthorizeRequest {
@@ -138,7 +154,8 @@ impl <'local> JavaAuthorizeRequest <'local> {
                 get_token_names_method: cache.get_instance_method(&get_token_names_key)?,
                 get_action_method: cache.get_instance_method(&get_action_key)?,
                 get_resource_method: cache.get_instance_method(&get_resource_key)?,
-                get_context_method: cache.get_instance_method(&get_context_key)?
+                get_context_method: cache.get_instance_method(&get_context_key)?,
+                get_deadline_budget_nanos_method: cache.get_instance_method(&get_deadline_budget_nanos_key)?
             })
         )
     }
@@ -167,6 +184,18 @@ impl <'local> JavaAuthorizeRequest <'local> {
         })
     }
 
+    /// Reads the request's deadline. This should happen first, as the deadline is
+    /// handed over as the budget left at the time it's read
+    pub fn deadline (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<Deadline> {
+
+        let method: &JMethodID = &self.get_deadline_budget_nanos_method;
+        let budget_nanos = call_jni_long_method(env,&self.jobj,method,&[])?;
+        Ok(Deadline::from_budget_nanos(budget_nanos))
+    }
+
     fn get_tokens (
         &self,
         env: &mut JNIEnv<'local>
@@ -11,7 +11,7 @@ use jni::JNIEnv;
 use jni::objects::{JMethodID,JObject};
 
 use std::sync::{Mutex,LazyLock};
-use super::{JavaContext,JavaEntityData};
+use super::{Deadline,JavaContext,JavaEntityData};
 
 const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/authz/AuthorizeRequestUnsigned";
 
@@ -23,6 +23,8 @@ const JAVA_METHOD_NAME_GET_RESOURCE: &str = "getResource";
 const JAVA_METHOD_SIG_GET_RESOURCE: &str = "()Lio/jans/cedarling/bridge/authz/EntityData;";
 const JAVA_METHOD_NAME_GET_CONTEXT: &str = "getContext";
 const JAVA_METHOD_SIG_GET_CONTEXT: &str = "()Lio/jans/cedarling/bridge/authz/Context;";
+const JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS: &str = "getDeadlineBudgetNanos";
+const JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS: &str = "()J";
 
 
 static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
@@ -33,7 +35,8 @@ pub (crate) struct JavaAuthorizeRequestUnsigned <'local> {
     get_principals_method: JMethodID,
     get_action_method: JMethodID,
     get_resource_method: JMethodID,
-    get_context_method: JMethodID
+    get_context_method: JMethodID,
+    get_deadline_budget_nanos_method: JMethodID
 }
 
 impl <'local> JavaAuthorizeRequestUnsigned <'local> {
@@ -75,6 +78,13 @@ impl <'local> JavaAuthorizeRequestUnsigned <'local> {
             JAVA_CLS_NAME,
             JAVA_METHOD_NAME_GET_CONTEXT,
             JAVA_METHOD_SIG_GET_CONTEXT
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS,
+            JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS
         )
     }
 
@@ -112,6 +122,12 @@ impl <'local> JavaAuthorizeRequestUnsigned <'local> {
             JAVA_METHOD_NAME_GET_CONTEXT,
             JAVA_METHOD_SIG_GET_CONTEXT
         );
+
+        let get_deadline_budget_nanos_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DEADLINE_BUDGET_NANOS,
+            JAVA_METHOD_SIG_GET_DEADLINE_BUDGET_NANOS
+        );
        
         Ok (
             Some (JavaAuthorizeRequestUnsigned {
@@ -120,6 +136,7 @@ impl <'local> JavaAuthorizeRequestUnsigned <'local> {
                 get_action_method: cache.get_instance_method(&get_action_key)?,
                 get_resource_method: cache.get_instance_method(&get_resource_key)?,
                 get_context_method: cache.get_instance_method(&get_context_key)?,
+                get_deadline_budget_nanos_method: cache.get_instance_method(&get_deadline_budget_nanos_key)?
             })
         )
     }
@@ -148,6 +165,18 @@ impl <'local> JavaAuthorizeRequestUnsigned <'local> {
         })
     }
 
+    /// Reads the request's deadline. This should happen first, as the deadline is
+    /// handed over as the budget left at the time it's read
+    pub fn deadline (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<Deadline> {
+
+        let method: &JMethodID = &self.get_deadline_budget_nanos_method;
+        let budget_nanos = call_jni_long_method(env,&self.jobj,method,&[])?;
+        Ok(Deadline::from_budget_nanos(budget_nanos))
+    }
+
     fn get_cedarling_principals (
         &self, 
         env: &mut JNIEnv<'local>
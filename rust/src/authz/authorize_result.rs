@@ -13,6 +13,7 @@ use jni::objects::{JClass,JMethodID,JObject};
 use jni::sys::{jvalue};
 
 use std::sync::{Mutex,LazyLock};
+use std::time::Duration;
 
 
 const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/authz/AuthorizeResult";
@@ -35,17 +36,30 @@ const JAVA_METHOD_SIG_SET_DECISION: &str =  "(Z)V";
 const JAVA_METHOD_NAME_SET_REQUEST_ID: &str = "setRequestId";
 const JAVA_METHOD_SIG_SET_REQUEST_ID: &str =  "(Ljava/lang/String;)V";
 
+const JAVA_METHOD_NAME_SET_PHASE_TIMINGS: &str = "setPhaseTimings";
+const JAVA_METHOD_SIG_SET_PHASE_TIMINGS: &str =  "(JJJ)V";
+
 static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
 
+/// Time an authorization request spent in each phase of its native processing
+#[derive(Clone,Copy,Default)]
+pub (crate) struct PhaseTimings {
+    pub marshalling: Duration,
+    pub waiting: Duration,
+    pub evaluation: Duration
+}
+
 pub (crate) struct JavaAuthorizeResult <'r> {
 
     authz_result: &'r AuthorizeResult,
+    phase_timings: Option<PhaseTimings>,
     ctor_method: JMethodID,
     set_workload_method: JMethodID,
     set_person_method: JMethodID,
     add_principal_method: JMethodID,
     set_decision_method: JMethodID,
-    set_request_id_method: JMethodID
+    set_request_id_method: JMethodID,
+    set_phase_timings_method: JMethodID
 }
 
 impl <'r> JavaAuthorizeResult <'r> {
@@ -101,6 +115,13 @@ impl <'r> JavaAuthorizeResult <'r> {
             JAVA_CLS_NAME,
             JAVA_METHOD_NAME_SET_REQUEST_ID,
             JAVA_METHOD_SIG_SET_REQUEST_ID
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_PHASE_TIMINGS,
+            JAVA_METHOD_SIG_SET_PHASE_TIMINGS
         )
     }
 
@@ -146,16 +167,33 @@ impl <'r> JavaAuthorizeResult <'r> {
             JAVA_METHOD_SIG_SET_REQUEST_ID
         );
 
+        let set_phase_timings_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_PHASE_TIMINGS,
+            JAVA_METHOD_SIG_SET_PHASE_TIMINGS
+        );
+
         Ok(JavaAuthorizeResult {
             authz_result: authz_result,
+            phase_timings: None,
             ctor_method: cache.get_instance_method(&ctor_key)?,
             set_workload_method: cache.get_instance_method(&set_workload_key)?,
             set_person_method: cache.get_instance_method(&set_person_key)?,
             add_principal_method: cache.get_instance_method(&add_principal_key)?,
             set_decision_method: cache.get_instance_method(&set_decision_key)?,
-            set_request_id_method: cache.get_instance_method(&set_request_id_key)?
+            set_request_id_method: cache.get_instance_method(&set_request_id_key)?,
+            set_phase_timings_method: cache.get_instance_method(&set_phase_timings_key)?
         })
     }
+
+    pub fn with_phase_timings(
+        mut self,
+        phase_timings: PhaseTimings
+    ) -> Self {
+
+        self.phase_timings = Some(phase_timings);
+        self
+    }
     
     pub fn as_java_object<'local> (
         &self,
@@ -171,6 +209,7 @@ impl <'r> JavaAuthorizeResult <'r> {
         self.set_principals(env,&obj)?;
         self.set_request_id(env,&obj)?;
         self.set_decision(env,&obj)?;
+        self.set_phase_timings(env,&obj)?;
         
         Ok(obj)
     }
@@ -253,4 +292,23 @@ impl <'r> JavaAuthorizeResult <'r> {
         call_jni_void_method(env,ar_obj,method,&args)
     }
 
+    fn set_phase_timings <'local> (
+        &self,
+        env: &mut JNIEnv<'local>,
+        ar_obj: &JObject<'local>
+    ) -> Result<()> {
+
+        let timings = match &self.phase_timings {
+            Some(val) => val,
+            None => return Ok(())
+        };
+        let nanos = |d: Duration| i64::try_from(d.as_nanos()).unwrap_or(i64::MAX);
+        let args: [jvalue;3] = [
+            jvalue{ j: nanos(timings.marshalling) },
+            jvalue{ j: nanos(timings.waiting) },
+            jvalue{ j: nanos(timings.evaluation) }
+        ];
+        let method: &JMethodID = &self.set_phase_timings_method;
+        call_jni_void_method(env,ar_obj,method,&args)
+    }
 }
\ No newline at end of file
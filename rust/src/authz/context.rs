@@ -71,12 +71,7 @@ impl <'local> JavaContext<'local> {
     ) -> Result<serde_json::Value> {
 
         let data: String = require_some(self.get_data(env)?,JAVA_CLS_NAME,"data")?;
-        serde_json::from_str::<'_,serde_json::Value>(&data).map_err(|e| {
-            CedarlingBridgeError::JsonError {
-                additional_description: "Parsing authz request context data failed".to_string(),
-                json_err: e
-            }
-        })
+        parse_context_data(&data)
     }
 
     fn get_data (
@@ -88,4 +83,16 @@ impl <'local> JavaContext<'local> {
         let data_obj = call_jni_object_method(env,&self.jobj,method,&[])?;
         java_string_to_native_string(env,&data_obj)
     }
-}
\ No newline at end of file
+}
+
+pub (crate) fn parse_context_data (
+    data: &str
+) -> Result<serde_json::Value> {
+
+    serde_json::from_str::<'_,serde_json::Value>(data).map_err(|e| {
+        CedarlingBridgeError::JsonError {
+            additional_description: "Parsing authz request context data failed".to_string(),
+            json_err: e
+        }
+    })
+}
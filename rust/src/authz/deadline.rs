@@ -0,0 +1,41 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use crate::{Result,CedarlingBridgeError};
+use std::time::{Duration,Instant};
+
+/// Budget value the java side uses for requests without a deadline (`Deadlines.NO_DEADLINE`)
+const NO_DEADLINE_BUDGET: i64 = i64::MAX;
+
+/// Deadline of an authorization request, anchored to the monotonic clock
+pub (crate) struct Deadline {
+    expires_at: Option<Instant>
+}
+
+impl Deadline {
+
+    pub fn from_budget_nanos(budget_nanos: i64) -> Self {
+
+        let now = Instant::now();
+        let expires_at = if budget_nanos == NO_DEADLINE_BUDGET {
+            None
+        } else if budget_nanos <= 0 {
+            Some(now)
+        } else {
+            now.checked_add(Duration::from_nanos(budget_nanos as u64))
+        };
+        Deadline { expires_at }
+    }
+
+    /// Fails with `CedarlingBridgeError::DeadlineExceeded` if the deadline has passed.
+    /// `phase` names the point of the evaluation the check is made at
+    pub fn check(&self, phase: &'static str) -> Result<()> {
+
+        match self.expires_at {
+            Some(expires_at) if Instant::now() >= expires_at => Err(CedarlingBridgeError::DeadlineExceeded{ phase }),
+            _ => Ok(())
+        }
+    }
+}
@@ -106,12 +106,7 @@ impl <'local> JavaEntityData <'local> {
         };
         let attributes: AttrType = {
             let attr_str = require_some(self.get_attributes(env)?,JAVA_CLS_NAME,"attributes")?;
-            serde_json::from_str::<'_,AttrType>(&attr_str).map_err(|e|{
-                CedarlingBridgeError::JsonError {
-                    additional_description: "Parsing authz request attributes failed".to_string(),
-                    json_err: e
-                }
-            })?
+            parse_attributes(&attr_str)?
         };
         Ok(EntityData {
             cedar_mapping: cedar_mapping,
@@ -140,4 +135,16 @@ impl <'local> JavaEntityData <'local> {
         let attrs_obj = call_jni_object_method(env,&self.jobj,method,&[])?;
         java_string_to_native_string(env,&attrs_obj)
     }
-}
\ No newline at end of file
+}
+
+pub (crate) fn parse_attributes (
+    attr_str: &str
+) -> Result<AttrType> {
+
+    serde_json::from_str::<'_,AttrType>(attr_str).map_err(|e|{
+        CedarlingBridgeError::JsonError {
+            additional_description: "Parsing authz request attributes failed".to_string(),
+            json_err: e
+        }
+    })
+}
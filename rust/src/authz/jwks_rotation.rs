@@ -0,0 +1,59 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Key sets used while a JWKS rotates: the new keys, along with the previous keys
+//! still trusted during the rotation's overlap window.
+
+use crate::{Result,CedarlingBridgeError};
+use serde_json::Value;
+
+use std::collections::HashSet;
+
+const KEYS_MEMBER: &str = "keys";
+const KID_MEMBER: &str = "kid";
+
+/// Merges a JWKS with the keys retained from the previous ones, most recent first.
+/// A retained key whose `kid` is already in the merged set is dropped: the most recent key takes precedence
+pub (crate) fn merge_jwks(jwks: &str, retained: &[String]) -> Result<String> {
+
+    if retained.is_empty() {
+        return Ok(jwks.to_string());
+    }
+    let mut merged = parse_jwks(jwks,"new")?;
+    let keys = merged.get_mut(KEYS_MEMBER).and_then(Value::as_array_mut).ok_or_else(|| invalid_jwks("new"))?;
+    let mut kids: HashSet<String> = keys.iter()
+        .filter_map(|key| key.get(KID_MEMBER).and_then(Value::as_str).map(str::to_string))
+        .collect();
+    for previous in retained {
+        let previous = parse_jwks(previous,"retained")?;
+        for key in previous.get(KEYS_MEMBER).and_then(Value::as_array).into_iter().flatten() {
+            let fresh = match key.get(KID_MEMBER).and_then(Value::as_str) {
+                Some(kid) => kids.insert(kid.to_string()),
+                None => true
+            };
+            if fresh {
+                keys.push(key.clone());
+            }
+        }
+    }
+    Ok(merged.to_string())
+}
+
+fn parse_jwks(jwks: &str, which: &str) -> Result<Value> {
+
+    let value: Value = serde_json::from_str(jwks).map_err(|e| CedarlingBridgeError::JsonError {
+        additional_description: format!("Parsing the {} JWKS failed",which),
+        json_err: e
+    })?;
+    if !value.get(KEYS_MEMBER).is_some_and(Value::is_array) {
+        return Err(invalid_jwks(which));
+    }
+    Ok(value)
+}
+
+fn invalid_jwks(which: &str) -> CedarlingBridgeError {
+
+    CedarlingBridgeError::GenericError(format!("The {} JWKS has no `keys` array",which))
+}
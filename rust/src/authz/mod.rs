@@ -8,14 +8,31 @@ pub (crate) mod authorize_request_unsigned;
 pub (crate) mod authorize_result;
 pub (crate) mod cedar_entity_mapping;
 pub (crate) mod context;
+pub (crate) mod deadline;
 pub (crate) mod entity_data;
+pub (crate) mod jwks_rotation;
+pub (crate) mod negative_cache;
+pub (crate) mod status_list;
+pub (crate) mod tenants;
+pub (crate) mod trusted_issuers;
+pub (crate) mod verification_keys;
+pub (crate) mod noop;
+pub (crate) mod token_session;
 
 pub (crate) use authorize_request::JavaAuthorizeRequest as JavaAuthorizeRequest;
 pub (crate) use authorize_request_unsigned::JavaAuthorizeRequestUnsigned as JavaAuthorizeRequestUnsigned;
 pub (crate) use authorize_result::JavaAuthorizeResult as JavaAuthorizeResult;
+pub (crate) use authorize_result::PhaseTimings as PhaseTimings;
 pub (crate) use context::JavaContext as JavaContext;
+pub (crate) use deadline::Deadline as Deadline;
 pub (crate) use entity_data::JavaEntityData as JavaEntityData;
 pub (crate) use cedar_entity_mapping::JavaCedarEntityMapping as JavaCedarEntityMapping;
+pub (crate) use negative_cache::NegativeCache as NegativeCache;
+pub (crate) use status_list::StatusListCache as StatusListCache;
+pub (crate) use tenants::TenantRegistry as TenantRegistry;
+pub (crate) use token_session::SessionPreparer as SessionPreparer;
+pub (crate) use verification_keys::VerificationKeyStore as VerificationKeyStore;
+pub (crate) use token_session::TokenSession as TokenSession;
 
 use jni::JNIEnv;
 use crate::{Result};
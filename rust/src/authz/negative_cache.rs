@@ -0,0 +1,136 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Bounded cache of recently rejected token sets, so that retries with the same
+//! tokens fail before the engine verifies their signatures again.
+
+use cedarling::AuthorizeError;
+
+use std::collections::{HashMap,VecDeque};
+use std::collections::hash_map::RandomState;
+use std::hash::BuildHasher;
+use std::time::{Duration,Instant};
+
+struct Rejection {
+    reason: String,
+    expires: Instant
+}
+
+#[derive(Clone,Copy,Default)]
+pub (crate) struct NegativeCacheCounters {
+    pub hits: u64,
+    pub insertions: u64,
+    pub evictions: u64,
+    pub size: u64
+}
+
+pub (crate) struct NegativeCache {
+    ttl: Duration,
+    capacity: usize,
+    // keyed with random keys, so that digests can't be chosen to collide with a legitimate token set
+    hasher: RandomState,
+    entries: HashMap<u64,Rejection>,
+    // insertion order, entries may have been refreshed since
+    order: VecDeque<(u64,Instant)>,
+    counters: NegativeCacheCounters
+}
+
+impl NegativeCache {
+
+    pub fn new(ttl: Duration, capacity: usize) -> NegativeCache {
+
+        NegativeCache {
+            ttl: ttl,
+            capacity: capacity.max(1),
+            hasher: RandomState::new(),
+            entries: HashMap::new(),
+            order: VecDeque::new(),
+            counters: NegativeCacheCounters::default()
+        }
+    }
+
+    /// Order independent digest of a request's tokens
+    pub fn digest(&self, tokens: &HashMap<String,String>) -> u64 {
+
+        tokens.iter().fold(0u64,|acc,(name,token)| acc.wrapping_add(self.hasher.hash_one((name,token))))
+    }
+
+    /// Gets the reason a token set was recently rejected for, if it was
+    pub fn check(&mut self, digest: u64, now: Instant) -> Option<String> {
+
+        match self.entries.get(&digest) {
+            Some(rejection) if rejection.expires > now => {
+                self.counters.hits += 1;
+                Some(rejection.reason.clone())
+            },
+            Some(_) => {
+                self.entries.remove(&digest);
+                None
+            },
+            None => None
+        }
+    }
+
+    /// Records a token set's rejection, if the engine rejected the request because of its tokens
+    pub fn record(&mut self, digest: u64, err: &AuthorizeError, now: Instant) {
+
+        if is_token_rejection(err) {
+            self.record_rejection(digest,err.to_string(),now);
+        }
+    }
+
+    /// Records a token set rejected before reaching the engine
+    pub fn record_rejection(&mut self, digest: u64, reason: String, now: Instant) {
+
+        self.purge(now);
+        while self.entries.len() >= self.capacity {
+            match self.order.pop_front() {
+                Some((oldest,expires)) => {
+                    if self.entries.get(&oldest).is_some_and(|r| r.expires == expires) {
+                        self.entries.remove(&oldest);
+                        self.counters.evictions += 1;
+                    }
+                },
+                None => break
+            }
+        }
+        let expires = now + self.ttl;
+        self.entries.insert(digest,Rejection { reason, expires });
+        self.order.push_back((digest,expires));
+        self.counters.insertions += 1;
+    }
+
+    /// Forgets every rejected token set, counters are kept
+    pub fn clear(&mut self) {
+
+        self.entries.clear();
+        self.order.clear();
+    }
+
+    pub fn counters(&self) -> NegativeCacheCounters {
+
+        NegativeCacheCounters { size: self.entries.len() as u64, ..self.counters }
+    }
+
+    fn purge(&mut self, now: Instant) {
+
+        while let Some(&(digest,expires)) = self.order.front() {
+            if expires > now {
+                break;
+            }
+            self.order.pop_front();
+            if self.entries.get(&digest).is_some_and(|r| r.expires == expires) {
+                self.entries.remove(&digest);
+            }
+        }
+    }
+}
+
+/// Only token validation failures (invalid signature, untrusted issuer, expired token ...) are cached:
+/// other failures depend on the rest of the request
+fn is_token_rejection(err: &AuthorizeError) -> bool {
+
+    matches!(err,AuthorizeError::ProcessTokens(_))
+}
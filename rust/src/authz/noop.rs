@@ -0,0 +1,61 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use cedar_policy::{Decision,PolicyId,Response};
+use cedarling::{AuthorizeResult,Request,RequestUnsigned};
+
+use std::collections::{HashMap,HashSet};
+use std::sync::atomic::{AtomicU64,Ordering};
+
+static NOOP_REQUEST_COUNTER: AtomicU64 = AtomicU64::new(0);
+
+/// Synthetic result of a signed request evaluated by the noop engine.
+/// Shaped like a real result (workload and person responses), always a deny
+pub (crate) fn noop_authorize_result (
+    _request: &Request
+) -> AuthorizeResult {
+
+    AuthorizeResult {
+        workload: Some(synthetic_response(HashSet::new())),
+        person: Some(synthetic_response(HashSet::new())),
+        principals: HashMap::new(),
+        decision: false,
+        request_id: next_request_id()
+    }
+}
+
+/// Synthetic result of an unsigned request evaluated by the noop engine.
+/// Holds one response per principal of the request, always a deny
+pub (crate) fn noop_authorize_unsigned_result (
+    request: &RequestUnsigned
+) -> AuthorizeResult {
+
+    let principals: HashMap<String,Response> = request.principals.iter()
+        .map(|p| {
+            let uid = format!("{}::\"{}\"",p.cedar_mapping.entity_type,p.cedar_mapping.id);
+            (uid,synthetic_response(HashSet::new()))
+        })
+        .collect();
+
+    AuthorizeResult {
+        workload: None,
+        person: None,
+        principals: principals,
+        decision: false,
+        request_id: next_request_id()
+    }
+}
+
+pub (crate) fn synthetic_response (
+    reason: HashSet<PolicyId>
+) -> Response {
+
+    Response::new(Decision::Deny,reason,Default::default())
+}
+
+fn next_request_id() -> String {
+
+    format!("noop-{}",NOOP_REQUEST_COUNTER.fetch_add(1,Ordering::Relaxed))
+}
@@ -0,0 +1,216 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Token status lists (IETF OAuth Token Status List). Lists are fetched in the background
+//! by the java side, then held as the bitsets they're published as, so that checking a
+//! token's status costs a map lookup and a bit test. Lists referenced by tokens are only
+//! queued for fetching when their origin is trusted, and the queue is bounded.
+
+use base64::Engine;
+use base64::engine::general_purpose::URL_SAFE_NO_PAD;
+use flate2::read::ZlibDecoder;
+use crate::{Result,CedarlingBridgeError};
+
+use std::collections::{HashMap,HashSet};
+use std::io::Read;
+use std::sync::{Mutex,MutexGuard,RwLock};
+use std::sync::atomic::{AtomicI64,AtomicU64,Ordering};
+use std::time::{Duration,Instant,SystemTime,UNIX_EPOCH};
+
+const STATUS_VALID: u8 = 0x00;
+/// status of tokens whose index is past the end of their list
+const STATUS_OUT_OF_RANGE: u8 = 0xff;
+/// inflated lists larger than this are rejected
+const MAX_LIST_BYTES: u64 = 16 * 1024 * 1024;
+/// lists referenced by tokens past this many, while the java side hasn't taken them yet, are not queued
+const MAX_PENDING_LISTS: usize = 256;
+
+type Claims = serde_json::Map<String,serde_json::Value>;
+
+/// A token's status, as found in its status list
+pub (crate) enum TokenStatus {
+    Valid,
+    Rejected(u8),
+    /// the list is not loaded yet, or it expired
+    Unknown
+}
+
+struct StatusList {
+    bits: u8,
+    statuses: Vec<u8>,
+    loaded_at: Instant,
+    ttl: Option<Duration>,
+    /// `exp` of the status list token, in seconds since the epoch
+    expires_at: Option<i64>,
+    /// last lookup of a token in the list, in seconds since the epoch
+    last_used: AtomicI64
+}
+
+impl StatusList {
+
+    fn status(&self, idx: u64) -> u8 {
+
+        let bit = idx.saturating_mul(self.bits as u64);
+        match usize::try_from(bit / 8).ok().and_then(|byte| self.statuses.get(byte)) {
+            // statuses are packed starting from the least significant bits
+            Some(byte) => (byte >> (bit % 8)) & (((1u16 << self.bits) - 1) as u8),
+            None => STATUS_OUT_OF_RANGE
+        }
+    }
+
+    fn is_stale(&self, now: Instant) -> bool {
+
+        self.ttl.is_some_and(|ttl| now.duration_since(self.loaded_at) > ttl)
+    }
+}
+
+#[derive(Clone,Copy,Default)]
+pub (crate) struct StatusListCounters {
+    pub lists: u64,
+    /// lists whose ttl elapsed without being refreshed
+    pub stale: u64,
+    pub oldest_age: Duration,
+    pub lookups: u64,
+    pub rejections: u64,
+    pub misses: u64,
+    pub loads: u64,
+    pub fetch_failures: u64
+}
+
+#[derive(Default)]
+pub (crate) struct StatusListCache {
+    lists: RwLock<HashMap<String,StatusList>>,
+    /// lists referenced by tokens but not loaded, for the java side to fetch
+    pending: Mutex<HashSet<String>>,
+    lookups: AtomicU64,
+    rejections: AtomicU64,
+    misses: AtomicU64,
+    loads: AtomicU64,
+    fetch_failures: AtomicU64
+}
+
+impl StatusListCache {
+
+    /// Gets the status of the token at index `idx` of list `uri`. A list not loaded is queued for the java
+    /// side to fetch when `discoverable`, i.e. served from a trusted origin
+    pub fn status(&self, uri: &str, idx: u64, now_epoch: i64, discoverable: bool) -> TokenStatus {
+
+        self.lookups.fetch_add(1,Ordering::Relaxed);
+        let status = {
+            let lists = self.lists.read().unwrap_or_else(|poisoned| poisoned.into_inner());
+            lists.get(uri)
+                .filter(|list| list.expires_at.map_or(true,|exp| exp > now_epoch))
+                .map(|list| {
+                    list.last_used.store(now_epoch,Ordering::Relaxed);
+                    list.status(idx)
+                })
+        };
+        match status {
+            Some(STATUS_VALID) => TokenStatus::Valid,
+            Some(status) => {
+                self.rejections.fetch_add(1,Ordering::Relaxed);
+                TokenStatus::Rejected(status)
+            },
+            None => {
+                self.misses.fetch_add(1,Ordering::Relaxed);
+                let mut pending = self.pending();
+                if discoverable && pending.len() < MAX_PENDING_LISTS {
+                    pending.insert(uri.to_string());
+                }
+                TokenStatus::Unknown
+            }
+        }
+    }
+
+    /// Parses a status list token's claims and stores the list, replacing the previous one
+    /// Returns the list's ttl, if it has one
+    pub fn load(&self, uri: &str, claims: &Claims) -> Result<Option<Duration>> {
+
+        let status_list = claims.get("status_list").and_then(|v| v.as_object())
+            .ok_or_else(|| status_list_error(uri,"the token has no `status_list` claim"))?;
+        let bits = match status_list.get("bits").and_then(|v| v.as_u64()) {
+            Some(bits @ (1 | 2 | 4 | 8)) => bits as u8,
+            _ => return Err(status_list_error(uri,"`bits` must be 1, 2, 4 or 8"))
+        };
+        let compressed = status_list.get("lst").and_then(|v| v.as_str())
+            .ok_or_else(|| status_list_error(uri,"the status list has no `lst` member"))
+            .and_then(|lst| URL_SAFE_NO_PAD.decode(lst.trim_end_matches('='))
+                .map_err(|e| status_list_error(uri,&format!("`lst` is not base64url encoded. {}",e))))?;
+        let mut statuses = Vec::new();
+        ZlibDecoder::new(compressed.as_slice()).take(MAX_LIST_BYTES + 1).read_to_end(&mut statuses)
+            .map_err(|e| status_list_error(uri,&format!("`lst` can't be inflated. {}",e)))?;
+        if statuses.len() as u64 > MAX_LIST_BYTES {
+            return Err(status_list_error(uri,"the status list is too large"));
+        }
+
+        let ttl = claims.get("ttl").and_then(|v| v.as_u64()).map(Duration::from_secs);
+        let now_epoch = SystemTime::now().duration_since(UNIX_EPOCH).map_or(0,|elapsed| elapsed.as_secs() as i64);
+        let mut lists = self.lists.write().unwrap_or_else(|poisoned| poisoned.into_inner());
+        // a refresh doesn't count as a use
+        let last_used = lists.get(uri).map_or(now_epoch,|previous| previous.last_used.load(Ordering::Relaxed));
+        let list = StatusList {
+            bits: bits,
+            statuses: statuses,
+            loaded_at: Instant::now(),
+            ttl: ttl,
+            expires_at: claims.get("exp").and_then(|v| v.as_i64()),
+            last_used: AtomicI64::new(last_used)
+        };
+        lists.insert(uri.to_string(),list);
+        drop(lists);
+        self.pending().remove(uri);
+        self.loads.fetch_add(1,Ordering::Relaxed);
+        Ok(ttl)
+    }
+
+    /// Drops list `uri` if no token was looked up in it for `idle`. Returns `true` if it was dropped
+    pub fn release_unused(&self, uri: &str, idle: Duration, now_epoch: i64) -> bool {
+
+        let mut lists = self.lists.write().unwrap_or_else(|poisoned| poisoned.into_inner());
+        let unused = lists.get(uri)
+            .is_some_and(|list| now_epoch.saturating_sub(list.last_used.load(Ordering::Relaxed)) >= idle.as_secs() as i64);
+        if unused {
+            lists.remove(uri);
+        }
+        unused
+    }
+
+    pub fn fetch_failed(&self) {
+
+        self.fetch_failures.fetch_add(1,Ordering::Relaxed);
+    }
+
+    /// Takes the lists waiting to be fetched
+    pub fn take_pending(&self) -> Vec<String> {
+
+        self.pending().drain().collect()
+    }
+
+    pub fn counters(&self) -> StatusListCounters {
+
+        let now = Instant::now();
+        let lists = self.lists.read().unwrap_or_else(|poisoned| poisoned.into_inner());
+        StatusListCounters {
+            lists: lists.len() as u64,
+            stale: lists.values().filter(|list| list.is_stale(now)).count() as u64,
+            oldest_age: lists.values().map(|list| now.duration_since(list.loaded_at)).max().unwrap_or_default(),
+            lookups: self.lookups.load(Ordering::Relaxed),
+            rejections: self.rejections.load(Ordering::Relaxed),
+            misses: self.misses.load(Ordering::Relaxed),
+            loads: self.loads.load(Ordering::Relaxed),
+            fetch_failures: self.fetch_failures.load(Ordering::Relaxed)
+        }
+    }
+
+    fn pending(&self) -> MutexGuard<'_,HashSet<String>> {
+
+        self.pending.lock().unwrap_or_else(|poisoned| poisoned.into_inner())
+    }
+}
+
+fn status_list_error(uri: &str, message: &str) -> CedarlingBridgeError {
+
+    CedarlingBridgeError::GenericError(format!("Invalid status list `{}`: {}",uri,message))
+}
@@ -0,0 +1,226 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Tenants hosted by a cedarling instance, each routed to the engine built from its policy store.
+//! Tenants registering identical policy stores share a single engine, so that schemas and policies
+//! common to many tenants are parsed and held once. Each distinct policy store still gets an engine of
+//! its own, with its own runtime, so an instance hosting many small distinct stores holds as many engines.
+//! When the bridge verifies tokens for the engines, each engine keeps the issuers its policy store trusts.
+
+use cedarling::{BootstrapConfig,PolicyStoreSource};
+use cedarling::blocking::Cedarling;
+use crate::{Result,CedarlingBridgeError};
+use crate::authz::trusted_issuers::TrustedIssuers;
+use crate::memory::MemoryCounter;
+
+use sha2::{Digest,Sha256};
+use std::collections::{HashMap,HashSet};
+use std::sync::{Arc,Mutex,MutexGuard,Weak};
+use std::sync::atomic::{AtomicUsize,Ordering};
+
+#[derive(Clone,Copy,PartialEq,Eq,Hash)]
+enum PolicyStoreFormat {
+    Json,
+    Yaml
+}
+
+/// Identifies the policy stores engines can be shared for, by content
+#[derive(Clone,Copy,PartialEq,Eq,Hash)]
+pub (crate) struct PolicyStoreKey {
+    format: PolicyStoreFormat,
+    digest: [u8;32]
+}
+
+impl PolicyStoreKey {
+
+    /// Keys a policy store on its content. A policy store file is read here and handed to the engine as data,
+    /// so that the engine is built from the very content it is keyed on and a file changed since is loaded
+    /// again when registered again. Lock server policy stores are fetched by the engine and never shared
+    pub fn of(source: &mut PolicyStoreSource) -> Result<Option<PolicyStoreKey>> {
+
+        let read = |path: &std::path::Path| std::fs::read_to_string(path)
+            .map_err(|e| CedarlingBridgeError::GenericError(format!("Could not read policy store `{}`. {}",path.display(),e)));
+        match source {
+            PolicyStoreSource::FileJson(path) => *source = PolicyStoreSource::Json(read(path)?),
+            PolicyStoreSource::FileYaml(path) => *source = PolicyStoreSource::Yaml(read(path)?),
+            _ => {}
+        }
+        Ok(match source {
+            PolicyStoreSource::Json(data) => Some(PolicyStoreKey::digest(PolicyStoreFormat::Json,data)),
+            PolicyStoreSource::Yaml(data) => Some(PolicyStoreKey::digest(PolicyStoreFormat::Yaml,data)),
+            _ => None
+        })
+    }
+
+    fn digest(format: PolicyStoreFormat, data: &str) -> PolicyStoreKey {
+
+        PolicyStoreKey { format, digest: Sha256::digest(data.as_bytes()).into() }
+    }
+}
+
+/// An engine serving one or more tenants, and the native memory it holds
+pub (crate) struct TenantEngine {
+    cedarling: Mutex<Cedarling>,
+    memory: Arc<MemoryCounter>,
+    /// issuers of the tokens the bridge verifies for the engine, see `SessionPreparer::verify_for`
+    trusted_issuers: Option<TrustedIssuers>
+}
+
+impl TenantEngine {
+
+    /// Builds an engine, charging what it retains to its own counter. When `verifies_tokens`, the engine is
+    /// built without keys and the issuers trusted by its policy store are kept to verify its tokens with
+    pub fn new(config: &BootstrapConfig, verifies_tokens: bool) -> Result<TenantEngine> {
+
+        let memory = Arc::new(MemoryCounter::default());
+        let (cedarling,trusted_issuers) = {
+            let _scope = memory.enter();
+            let trusted_issuers = if verifies_tokens {
+                Some(TrustedIssuers::of(&config.policy_store_config.source)?.ok_or_else(|| CedarlingBridgeError::GenericError(
+                    "The trusted issuers of a Lock server policy store are not known to the bridge verifying tokens".to_string()))?)
+            } else {
+                None
+            };
+            let cedarling = Cedarling::new(config).map_err(|e| { CedarlingBridgeError::GenericError(e.to_string())})?;
+            (cedarling,trusted_issuers)
+        };
+        Ok(TenantEngine { cedarling: Mutex::new(cedarling), memory, trusted_issuers })
+    }
+
+    /// Gets the engine, held for the duration of an evaluation. Tenants sharing it are evaluated one at a time
+    pub fn cedarling(&self) -> MutexGuard<'_,Cedarling> {
+
+        self.cedarling.lock().unwrap_or_else(|poisoned| poisoned.into_inner())
+    }
+
+    pub fn memory(&self) -> &Arc<MemoryCounter> {
+
+        &self.memory
+    }
+
+    pub fn trusted_issuers(&self) -> Option<&TrustedIssuers> {
+
+        self.trusted_issuers.as_ref()
+    }
+}
+
+/// Builds the engines of several policy stores, spreading them over `threads` threads.
+/// Each engine is built on a single thread, as the engine parses and validates a policy store sequentially
+pub (crate) fn build_engines(configs: &[&BootstrapConfig], threads: usize, verifies_tokens: bool) -> Vec<Result<TenantEngine>> {
+
+    let build = |config: &BootstrapConfig| TenantEngine::new(config,verifies_tokens);
+    let threads = threads.clamp(1,configs.len().max(1));
+    if threads == 1 {
+        return configs.iter().map(|config| build(config)).collect();
+    }
+
+    let next = AtomicUsize::new(0);
+    let results: Vec<Mutex<Option<Result<TenantEngine>>>> = configs.iter().map(|_| Mutex::new(None)).collect();
+    std::thread::scope(|scope| {
+        for _ in 0..threads {
+            scope.spawn(|| loop {
+                // workers take the next policy store until none is left, so that large stores don't hold up the others
+                let i = next.fetch_add(1,Ordering::Relaxed);
+                if i >= configs.len() {
+                    break;
+                }
+                let engine = build(configs[i]);
+                *results[i].lock().unwrap_or_else(|poisoned| poisoned.into_inner()) = Some(engine);
+            });
+        }
+    });
+    results.into_iter()
+        .map(|result| result.into_inner().unwrap_or_else(|poisoned| poisoned.into_inner())
+            .unwrap_or_else(|| Err(CedarlingBridgeError::GenericError("Engine build did not complete".to_string()))))
+        .collect()
+}
+
+#[derive(Clone,Copy)]
+pub (crate) struct TenantMemoryUsage {
+    /// bytes held by the tenant's engine
+    pub engine: i64,
+    /// number of tenants the engine serves, the tenant included
+    pub tenants: u64
+}
+
+#[derive(Default)]
+pub (crate) struct TenantRegistry {
+    tenants: HashMap<String,(Arc<TenantEngine>,Option<PolicyStoreKey>)>,
+    /// engines by policy store, for tenants registering a store already loaded
+    engines: HashMap<PolicyStoreKey,Weak<TenantEngine>>
+}
+
+impl TenantRegistry {
+
+    /// Gets the engine already built for a policy store
+    pub fn shared_engine(&self, key: &PolicyStoreKey) -> Option<Arc<TenantEngine>> {
+
+        self.engines.get(key).and_then(Weak::upgrade)
+    }
+
+    /// Registers a tenant, replacing its previous registration. When an engine was built for the same
+    /// policy store meanwhile, the tenant uses it and `engine` is returned for the caller to release.
+    /// The replaced engine is returned as well, if no other tenant uses it
+    pub fn register(&mut self, tenant_id: &str, key: Option<PolicyStoreKey>, engine: Arc<TenantEngine>) -> Vec<Arc<TenantEngine>> {
+
+        let mut released = Vec::new();
+        let engine = match key.as_ref().and_then(|key| self.shared_engine(key)) {
+            Some(shared) if !Arc::ptr_eq(&shared,&engine) => {
+                released.push(engine);
+                shared
+            },
+            _ => engine
+        };
+        if let Some(key) = &key {
+            self.engines.insert(key.clone(),Arc::downgrade(&engine));
+        }
+        if let Some((previous,_)) = self.tenants.insert(tenant_id.to_string(),(engine,key)) {
+            released.push(previous);
+        }
+        self.purge();
+        released
+    }
+
+    /// Unregisters a tenant. Returns its engine for the caller to release, `None` if the tenant is unknown
+    pub fn unregister(&mut self, tenant_id: &str) -> Option<Arc<TenantEngine>> {
+
+        let (engine,_) = self.tenants.remove(tenant_id)?;
+        self.purge();
+        Some(engine)
+    }
+
+    pub fn engine(&self, tenant_id: &str) -> Option<Arc<TenantEngine>> {
+
+        self.tenants.get(tenant_id).map(|(engine,_)| engine.clone())
+    }
+
+    pub fn memory_usage(&self, tenant_id: &str) -> Option<TenantMemoryUsage> {
+
+        let (engine,key) = self.tenants.get(tenant_id)?;
+        let tenants = match key {
+            Some(_) => self.tenants.values().filter(|(other,_)| Arc::ptr_eq(other,engine)).count() as u64,
+            None => 1
+        };
+        Some(TenantMemoryUsage { engine: engine.memory().retained(), tenants })
+    }
+
+    /// Number of distinct engines serving the registered tenants, each with its own runtime
+    pub fn engine_count(&self) -> usize {
+
+        self.tenants.values().map(|(engine,_)| Arc::as_ptr(engine)).collect::<HashSet<_>>().len()
+    }
+
+    pub fn tenant_ids(&self) -> Vec<String> {
+
+        self.tenants.keys().cloned().collect()
+    }
+
+    /// Forgets the policy stores whose engine was released. An engine still alive, e.g. evaluating
+    /// a request of a tenant just unregistered, can still be shared
+    fn purge(&mut self) {
+
+        self.engines.retain(|_,engine| engine.strong_count() > 0);
+    }
+}
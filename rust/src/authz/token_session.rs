@@ -0,0 +1,288 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Token sessions: signed tokens validated and decoded once, and the principals
+//! derived from them, reused by every authorization made on the session's behalf.
+
+use cedarling::{BootstrapConfig,CedarEntityMapping,EntityData,PolicyStoreSource};
+use jsonwebtoken::{Algorithm,DecodingKey,Validation};
+use jsonwebtoken::jwk::JwkSet;
+use crate::{Result,CedarlingBridgeError};
+use crate::authz::status_list::{StatusListCache,TokenStatus};
+use crate::authz::trusted_issuers::{LazyTrustedIssuers,TrustedIssuers};
+use crate::authz::verification_keys::VerificationKeyStore;
+
+use std::collections::{HashMap,HashSet};
+use std::sync::Arc;
+use std::time::{Duration,SystemTime,UNIX_EPOCH};
+
+const ACCESS_TOKEN: &str = "access_token";
+const ID_TOKEN: &str = "id_token";
+const USERINFO_TOKEN: &str = "userinfo_token";
+/// clock skew tolerated on `exp` and `nbf`, jsonwebtoken's default which the engine validates tokens with
+const TOKEN_LEEWAY_SECONDS: u64 = 60;
+
+type Claims = serde_json::Map<String,serde_json::Value>;
+
+/// Principals prepared from a session's tokens
+pub (crate) struct TokenSession {
+    pub principals: Vec<EntityData>,
+    /// expiry of the earliest expiring token, in seconds since the epoch
+    pub expires_at: Option<i64>
+}
+
+/// The parts of a cedarling instance's configuration sessions are prepared with
+pub (crate) struct SessionPreparer {
+    keys: Option<VerificationKeyStore>,
+    sig_validation: bool,
+    status_validation: bool,
+    status_lists: Arc<StatusListCache>,
+    /// issuers session tokens may come from, unknown until read and when the policy store is served by a Lock server
+    trusted_issuers: Arc<LazyTrustedIssuers>,
+    algorithms: HashSet<Algorithm>,
+    user_entity_type: Option<String>,
+    workload_entity_type: Option<String>,
+    /// placeholder key, when signatures are not validated
+    insecure_key: DecodingKey
+}
+
+impl SessionPreparer {
+
+    /// Builds a preparer from an instance's configuration. The policy store's trusted issuers are not read,
+    /// see `read_trusted_issuers`
+    pub fn new(config: &BootstrapConfig, status_lists: Arc<StatusListCache>) -> Result<SessionPreparer> {
+
+        let keys = match &config.jwt_config.jwks {
+            Some(jwks) => Some(parse_keys(jwks)?),
+            None => None
+        };
+        let builder = &config.entity_builder_config;
+        Ok(SessionPreparer {
+            keys: keys,
+            sig_validation: config.jwt_config.jwt_sig_validation,
+            status_validation: config.jwt_config.jwt_status_validation,
+            status_lists: status_lists,
+            trusted_issuers: Arc::new(LazyTrustedIssuers::default()),
+            algorithms: config.jwt_config.signature_algorithms_supported.clone(),
+            user_entity_type: builder.build_user.then(|| builder.entity_names.user.clone()),
+            workload_entity_type: builder.build_workload.then(|| builder.entity_names.workload.clone()),
+            insecure_key: DecodingKey::from_secret(&[])
+        })
+    }
+
+    /// Gets a preparer trusting the keys of another JWKS, everything else being kept
+    pub fn with_jwks(&self, jwks: &str) -> Result<SessionPreparer> {
+
+        Ok(SessionPreparer {
+            keys: Some(parse_keys(jwks)?),
+            sig_validation: self.sig_validation,
+            status_validation: self.status_validation,
+            status_lists: self.status_lists.clone(),
+            trusted_issuers: self.trusted_issuers.clone(),
+            algorithms: self.algorithms.clone(),
+            user_entity_type: self.user_entity_type.clone(),
+            workload_entity_type: self.workload_entity_type.clone(),
+            insecure_key: DecodingKey::from_secret(&[])
+        })
+    }
+
+    /// Tells whether the policy store's trusted issuers were read, which sessions and `verify` require
+    pub fn knows_trusted_issuers(&self) -> bool {
+
+        self.trusted_issuers.is_read()
+    }
+
+    /// Reads the trusted issuers of the instance's policy store, unless they were read already.
+    /// They are shared by the preparers of the instance's successive JWKS
+    pub fn read_trusted_issuers(&self, source: &PolicyStoreSource) -> Result<()> {
+
+        self.trusted_issuers.read(source)
+    }
+
+    /// Validates the tokens of a request the way session tokens are, for engines built without keys.
+    /// Their status is left to the engine
+    pub fn verify(&self, tokens: &HashMap<String,String>) -> Result<()> {
+
+        self.verify_for(tokens,self.trusted_issuers.get())
+    }
+
+    /// Validates the tokens of a request evaluated against another policy store than the instance's, e.g. a
+    /// tenant's, with this preparer's keys. Tokens must come from the issuers that policy store trusts
+    pub fn verify_for(&self, tokens: &HashMap<String,String>, trusted_issuers: Option<&TrustedIssuers>) -> Result<()> {
+
+        for (name,token) in tokens {
+            self.decode_session_token(name,token,trusted_issuers).map_err(|e| match e {
+                CedarlingBridgeError::TokenSessionError(reason) => CedarlingBridgeError::TokenRejected(reason),
+                other => other
+            })?;
+        }
+        Ok(())
+    }
+
+    pub fn prepare(&self, tokens: &HashMap<String,String>) -> Result<TokenSession> {
+
+        let mut decoded: HashMap<&str,Claims> = HashMap::new();
+        let mut expires_at: Option<i64> = None;
+        for (name,token) in tokens {
+            let claims = self.decode_session_token(name,token,self.trusted_issuers.get())?;
+            if self.status_validation {
+                self.check_status(name,&claims)?;
+            }
+            if let Some(exp) = claims.get("exp").and_then(serde_json::Value::as_i64) {
+                expires_at = Some(expires_at.map_or(exp,|current| current.min(exp)));
+            }
+            decoded.insert(name.as_str(),claims);
+        }
+
+        let mut principals = Vec::new();
+        if let (Some(entity_type),Some(access)) = (&self.workload_entity_type,decoded.get(ACCESS_TOKEN)) {
+            let id = claim_as_id(access,&["client_id","aud"]).ok_or_else(|| session_error(
+                "the access token has no `client_id` claim to identify the workload".to_string()))?;
+            principals.push(principal(entity_type,id,access.clone()));
+        }
+        if let Some(entity_type) = &self.user_entity_type {
+            // userinfo claims complement, and take precedence over, the id token's
+            let mut user: Option<Claims> = None;
+            for name in [ID_TOKEN,USERINFO_TOKEN] {
+                if let Some(claims) = decoded.get(name) {
+                    user.get_or_insert_with(Claims::new).extend(claims.clone());
+                }
+            }
+            if let Some(user) = user {
+                let id = claim_as_id(&user,&["sub"]).ok_or_else(|| session_error(
+                    "the user tokens have no `sub` claim to identify the user".to_string()))?;
+                principals.push(principal(entity_type,id,user));
+            }
+        }
+        if principals.is_empty() {
+            return Err(session_error("no principal can be derived from the session tokens".to_string()));
+        }
+        Ok(TokenSession { principals, expires_at })
+    }
+
+    /// Validates a status list token, fetched from `uri`, and stores its list
+    pub fn load_status_list(&self, uri: &str, token: &str) -> Result<Option<Duration>> {
+
+        let claims = self.decode("status list token",token,false)?;
+        if claims.get("sub").and_then(serde_json::Value::as_str) != Some(uri) {
+            return Err(session_error(format!("the status list token fetched from `{}` has another subject",uri)));
+        }
+        self.status_lists.load(uri,&claims)
+    }
+
+    /// Checks a token's status, when it references a status list
+    fn check_status(&self, name: &str, claims: &Claims) -> Result<()> {
+
+        let reference = match claims.get("status").and_then(|status| status.get("status_list")) {
+            Some(reference) => reference,
+            None => return Ok(())
+        };
+        let (idx,uri) = match (reference.get("idx").and_then(serde_json::Value::as_u64),reference.get("uri").and_then(serde_json::Value::as_str)) {
+            (Some(idx),Some(uri)) => (idx,uri),
+            _ => return Err(session_error(format!("`{}` has a malformed `status` claim",name)))
+        };
+        let now = SystemTime::now().duration_since(UNIX_EPOCH).map_or(0,|elapsed| elapsed.as_secs() as i64);
+        // lists other than the configured ones are only fetched from trusted issuers, as the uri comes from the token
+        let discoverable = self.trusted_issuers.get().is_some_and(|trusted_issuers| trusted_issuers.serves(uri));
+        match self.status_lists.status(uri,idx,now,discoverable) {
+            TokenStatus::Valid => Ok(()),
+            TokenStatus::Rejected(status) => Err(session_error(format!("`{}` is not valid anymore, its status is 0x{:02x}",name,status))),
+            TokenStatus::Unknown if discoverable => Err(session_error(format!("the status list of `{}` is not available yet",name))),
+            TokenStatus::Unknown => Err(session_error(format!(
+                "the status list of `{}` is not available, and is neither configured nor served by a trusted issuer",name)))
+        }
+    }
+
+    /// Decodes a session token with the checks `authorize` applies. With signature validation, the token
+    /// must expire and come from a trusted issuer. Without, no claim is required, as by the engine, but
+    /// the issuer is still checked when the policy store's trusted issuers are known
+    fn decode_session_token(&self, name: &str, token: &str, trusted_issuers: Option<&TrustedIssuers>) -> Result<Claims> {
+
+        let claims = self.decode(name,token,self.sig_validation)?;
+        let trusted_issuers = match (trusted_issuers,self.sig_validation) {
+            (Some(trusted_issuers),_) => trusted_issuers,
+            (None,true) => return Err(session_error(
+                "the trusted issuers of the policy store are not known, as for policy stores served by a Lock server".to_string())),
+            (None,false) => return Ok(claims)
+        };
+        match claims.get("iss").and_then(serde_json::Value::as_str) {
+            Some(iss) if trusted_issuers.contains(iss) => Ok(claims),
+            Some(iss) => Err(session_error(format!("`{}` is issued by `{}`, which is not a trusted issuer",name,iss))),
+            None => Err(session_error(format!("`{}` has no `iss` claim",name)))
+        }
+    }
+
+    /// Decodes a token, verifying its signature when signature validation is on. An expired token, or a token
+    /// not valid yet, is rejected, and `validate_claims` requires the token to have `exp` and `iss` claims
+    fn decode(&self, name: &str, token: &str, validate_claims: bool) -> Result<Claims> {
+
+        let header = jsonwebtoken::decode_header(token).map_err(|e| invalid_token(name,e))?;
+        let (key,mut validation) = if self.sig_validation {
+            if !self.algorithms.contains(&header.alg) {
+                return Err(session_error(format!("`{}` is signed with unsupported algorithm {:?}",name,header.alg)));
+            }
+            let keys = self.keys.as_ref().ok_or_else(|| session_error(
+                "signature validation requires the JWT configuration to hold a JWKS".to_string()))?;
+            let key = keys.find(header.kid.as_deref(),header.alg)
+                .ok_or_else(|| session_error(format!("no key of the JWKS matches `{}`",name)))?;
+            (key,Validation::new(header.alg))
+        } else {
+            let mut validation = Validation::new(header.alg);
+            validation.insecure_disable_signature_validation();
+            (&self.insecure_key,validation)
+        };
+        if validate_claims {
+            validation.set_required_spec_claims(&["exp","iss"]);
+        } else {
+            validation.required_spec_claims.clear();
+        }
+        validation.validate_aud = false;
+        validation.validate_nbf = true;
+        validation.leeway = TOKEN_LEEWAY_SECONDS;
+
+        jsonwebtoken::decode::<Claims>(token,key,&validation)
+            .map(|data| data.claims)
+            .map_err(|e| invalid_token(name,e))
+    }
+}
+
+fn parse_keys(jwks: &str) -> Result<VerificationKeyStore> {
+
+    let jwks = serde_json::from_str::<JwkSet>(jwks).map_err(|e| CedarlingBridgeError::JsonError {
+        additional_description: "Parsing the JWKS for token validation failed".to_string(),
+        json_err: e
+    })?;
+    Ok(VerificationKeyStore::new(&jwks))
+}
+
+fn principal(entity_type: &str, id: String, claims: Claims) -> EntityData {
+
+    EntityData {
+        cedar_mapping: CedarEntityMapping {
+            id: id,
+            entity_type: entity_type.to_string()
+        },
+        attributes: claims.into_iter().collect()
+    }
+}
+
+fn claim_as_id(claims: &Claims, names: &[&str]) -> Option<String> {
+
+    names.iter().find_map(|name| match claims.get(*name) {
+        Some(serde_json::Value::String(value)) => Some(value.clone()),
+        Some(serde_json::Value::Array(values)) => values.first().and_then(|v| v.as_str()).map(str::to_string),
+        _ => None
+    })
+}
+
+fn invalid_token(name: &str, err: jsonwebtoken::errors::Error) -> CedarlingBridgeError {
+
+    session_error(format!("`{}` is invalid. {}",name,err))
+}
+
+fn session_error(message: String) -> CedarlingBridgeError {
+
+    CedarlingBridgeError::TokenSessionError(message)
+}
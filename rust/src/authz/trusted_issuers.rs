@@ -0,0 +1,147 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Issuers trusted by a policy store. An issuer is identified, as in the `iss` claim of the tokens
+//! it issues, by the base of the OpenID configuration endpoint it's declared with. Resources such as
+//! token status lists are trusted when served from the origin of a trusted issuer.
+//!
+//! Only the trusted issuers are deserialized, the rest of the policy store is skipped without being
+//! held, and they are read when first needed rather than along with the engine.
+
+use cedarling::PolicyStoreSource;
+use crate::{Result,CedarlingBridgeError};
+
+use serde::Deserialize;
+use std::collections::{HashMap,HashSet};
+use std::path::Path;
+use std::sync::OnceLock;
+use url::Url;
+
+const OPENID_CONFIGURATION_PATH: &str = "/.well-known/openid-configuration";
+
+/// The parts of a policy store declaring trusted issuers, at its top level and in each store it bundles
+#[derive(Deserialize)]
+struct StoreIssuers {
+    trusted_issuers: Option<HashMap<String,IssuerEndpoint>>,
+    policy_stores: Option<HashMap<String,BundledStoreIssuers>>
+}
+
+#[derive(Deserialize)]
+struct BundledStoreIssuers {
+    trusted_issuers: Option<HashMap<String,IssuerEndpoint>>
+}
+
+#[derive(Deserialize)]
+struct IssuerEndpoint {
+    openid_configuration_endpoint: Option<String>
+}
+
+pub (crate) struct TrustedIssuers {
+    issuers: HashSet<String>,
+    /// scheme, host and port of the issuers
+    origins: HashSet<String>
+}
+
+impl TrustedIssuers {
+
+    /// Reads the trusted issuers of a policy store, from its top level and from each store it bundles.
+    /// Returns `None` for policy stores served by a Lock server, which are only known to the engine
+    pub fn of(source: &PolicyStoreSource) -> Result<Option<TrustedIssuers>> {
+
+        let store = match source {
+            PolicyStoreSource::Json(data) => parse_json(data)?,
+            PolicyStoreSource::Yaml(data) => parse_yaml(data)?,
+            PolicyStoreSource::FileJson(path) => parse_json(&read(path)?)?,
+            PolicyStoreSource::FileYaml(path) => parse_yaml(&read(path)?)?,
+            #[allow(unreachable_patterns)]
+            _ => return Ok(None)
+        };
+
+        let bundled = store.policy_stores.into_iter().flat_map(HashMap::into_values).filter_map(|bundled| bundled.trusted_issuers);
+        let issuers = store.trusted_issuers.into_iter().chain(bundled)
+            .flat_map(HashMap::into_values)
+            .filter_map(|issuer| issuer.openid_configuration_endpoint)
+            .map(|endpoint| normalize(endpoint.strip_suffix(OPENID_CONFIGURATION_PATH).unwrap_or(&endpoint)).to_string())
+            .collect::<HashSet<String>>();
+        let origins = issuers.iter().filter_map(|issuer| origin(issuer)).collect();
+        Ok(Some(TrustedIssuers { issuers, origins }))
+    }
+
+    pub fn contains(&self, iss: &str) -> bool {
+
+        self.issuers.contains(normalize(iss))
+    }
+
+    /// Tells whether `uri` is served from the origin of a trusted issuer
+    pub fn serves(&self, uri: &str) -> bool {
+
+        origin(uri).is_some_and(|origin| self.origins.contains(&origin))
+    }
+}
+
+/// The trusted issuers of an instance's policy store, read once when first needed: an instance which
+/// never opens a session nor verifies tokens for its engine never reads them
+#[derive(Default)]
+pub (crate) struct LazyTrustedIssuers {
+    issuers: OnceLock<Option<TrustedIssuers>>
+}
+
+impl LazyTrustedIssuers {
+
+    /// Gets the trusted issuers if they were read. `None` as well for policy stores served by a Lock server
+    pub fn get(&self) -> Option<&TrustedIssuers> {
+
+        self.issuers.get().and_then(Option::as_ref)
+    }
+
+    pub fn is_read(&self) -> bool {
+
+        self.issuers.get().is_some()
+    }
+
+    /// Reads the trusted issuers from the policy store, unless they were read already. A failed read is
+    /// not kept, the next call tries again
+    pub fn read(&self, source: &PolicyStoreSource) -> Result<()> {
+
+        if !self.is_read() {
+            let issuers = TrustedIssuers::of(source)?;
+            let _ = self.issuers.set(issuers);
+        }
+        Ok(())
+    }
+}
+
+fn origin(uri: &str) -> Option<String> {
+
+    Url::parse(uri).ok()
+        .map(|url| url.origin())
+        .filter(|origin| origin.is_tuple())
+        .map(|origin| origin.ascii_serialization())
+}
+
+fn normalize(issuer: &str) -> &str {
+
+    issuer.trim_end_matches('/')
+}
+
+fn read(path: &Path) -> Result<String> {
+
+    std::fs::read_to_string(path).map_err(|e| CedarlingBridgeError::GenericError(
+        format!("Could not read the trusted issuers of policy store `{}`. {}",path.display(),e)))
+}
+
+fn parse_json(data: &str) -> Result<StoreIssuers> {
+
+    serde_json::from_str(data).map_err(|e| CedarlingBridgeError::JsonError {
+        additional_description: "Parsing the policy store's trusted issuers failed".to_string(),
+        json_err: e
+    })
+}
+
+fn parse_yaml(data: &str) -> Result<StoreIssuers> {
+
+    serde_yaml_ng::from_str(data).map_err(|e| CedarlingBridgeError::GenericError(
+        format!("Parsing the policy store's trusted issuers failed. {}",e)))
+}
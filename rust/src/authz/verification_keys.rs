@@ -0,0 +1,114 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Verification keys decoded once from a JWKS, and indexed by key id and algorithm,
+//! so that verifying a token takes a lookup and the signature check, without decoding JWKs again.
+
+use jsonwebtoken::{Algorithm,DecodingKey};
+use jsonwebtoken::jwk::{AlgorithmParameters,EllipticCurve,Jwk,JwkSet,KeyAlgorithm,PublicKeyUse};
+
+use std::collections::HashMap;
+use std::sync::Arc;
+
+type Keys = Vec<(Algorithm,Arc<DecodingKey>)>;
+
+const RSA_ALGORITHMS: [Algorithm; 6] = [
+    Algorithm::RS256,Algorithm::RS384,Algorithm::RS512,
+    Algorithm::PS256,Algorithm::PS384,Algorithm::PS512
+];
+const HMAC_ALGORITHMS: [Algorithm; 3] = [Algorithm::HS256,Algorithm::HS384,Algorithm::HS512];
+
+pub (crate) struct VerificationKeyStore {
+    by_kid: HashMap<String,Keys>,
+    /// keys of a JWKS holding a single key, used for tokens without a `kid`
+    sole: Keys
+}
+
+impl VerificationKeyStore {
+
+    /// Decodes the signature verification keys of a JWKS.
+    /// Encryption keys and keys which can't be decoded are skipped, tokens referring to them fail to verify
+    pub fn new(jwks: &JwkSet) -> VerificationKeyStore {
+
+        let mut by_kid: HashMap<String,Keys> = HashMap::new();
+        let mut unnamed: Keys = Vec::new();
+        for jwk in &jwks.keys {
+            let algorithms = algorithms(jwk);
+            let key = match DecodingKey::from_jwk(jwk) {
+                Ok(key) if !algorithms.is_empty() && is_signature_key(jwk) => Arc::new(key),
+                _ => continue
+            };
+            let keys = match &jwk.common.key_id {
+                Some(kid) => by_kid.entry(kid.clone()).or_default(),
+                None => &mut unnamed
+            };
+            for alg in algorithms {
+                // the first key of the set wins, as with `JwkSet::find`
+                if !keys.iter().any(|(existing,_)| *existing == alg) {
+                    keys.push((alg,key.clone()));
+                }
+            }
+        }
+        let sole = if jwks.keys.len() == 1 {
+            by_kid.values().next().cloned().unwrap_or(unnamed)
+        } else {
+            Vec::new()
+        };
+        VerificationKeyStore { by_kid, sole }
+    }
+
+    /// Finds the key verifying tokens with the given key id and algorithm
+    pub fn find(&self, kid: Option<&str>, alg: Algorithm) -> Option<&DecodingKey> {
+
+        let keys = match kid {
+            Some(kid) => self.by_kid.get(kid)?,
+            None => &self.sole
+        };
+        keys.iter().find(|(key_alg,_)| *key_alg == alg).map(|(_,key)| key.as_ref())
+    }
+}
+
+fn is_signature_key(jwk: &Jwk) -> bool {
+
+    !matches!(jwk.common.public_key_use,Some(PublicKeyUse::Encryption))
+}
+
+/// The algorithms a JWK verifies: its `alg` if it has one, the algorithms of its key type otherwise
+fn algorithms(jwk: &Jwk) -> Vec<Algorithm> {
+
+    if let Some(alg) = &jwk.common.key_algorithm {
+        return signature_algorithm(alg).into_iter().collect();
+    }
+    match &jwk.algorithm {
+        AlgorithmParameters::RSA(_) => RSA_ALGORITHMS.to_vec(),
+        AlgorithmParameters::OctetKey(_) => HMAC_ALGORITHMS.to_vec(),
+        AlgorithmParameters::OctetKeyPair(_) => vec![Algorithm::EdDSA],
+        AlgorithmParameters::EllipticCurve(params) => match params.curve {
+            EllipticCurve::P256 => vec![Algorithm::ES256],
+            EllipticCurve::P384 => vec![Algorithm::ES384],
+            _ => Vec::new()
+        }
+    }
+}
+
+fn signature_algorithm(alg: &KeyAlgorithm) -> Option<Algorithm> {
+
+    match alg {
+        KeyAlgorithm::HS256 => Some(Algorithm::HS256),
+        KeyAlgorithm::HS384 => Some(Algorithm::HS384),
+        KeyAlgorithm::HS512 => Some(Algorithm::HS512),
+        KeyAlgorithm::ES256 => Some(Algorithm::ES256),
+        KeyAlgorithm::ES384 => Some(Algorithm::ES384),
+        KeyAlgorithm::RS256 => Some(Algorithm::RS256),
+        KeyAlgorithm::RS384 => Some(Algorithm::RS384),
+        KeyAlgorithm::RS512 => Some(Algorithm::RS512),
+        KeyAlgorithm::PS256 => Some(Algorithm::PS256),
+        KeyAlgorithm::PS384 => Some(Algorithm::PS384),
+        KeyAlgorithm::PS512 => Some(Algorithm::PS512),
+        KeyAlgorithm::EdDSA => Some(Algorithm::EdDSA),
+        // encryption algorithms
+        _ => None
+    }
+}
@@ -0,0 +1,245 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Entry points used by the benchmarks under `benches/`.
+//!
+//! The bridge's types are crate private. This module exposes the handful of
+//! operations the benchmarks measure, so they can be driven from an embedded
+//! JVM without going through a cedarling instance. Only built with the `bench` feature.
+
+use cedar_policy::{PolicyId,Response};
+use cedarling::{AuthorizeResult,EntityData,Request};
+use jni::JNIEnv;
+use jsonwebtoken::{Algorithm,DecodingKey,EncodingKey,Header,Validation};
+use jsonwebtoken::jwk::JwkSet;
+use jni::objects::{JClass,JMethodID,JObject};
+
+use std::collections::{HashMap,HashSet};
+
+use crate::authz::{JavaAuthorizeRequest,JavaAuthorizeResult,JavaEntityData,PhaseTimings,VerificationKeyStore};
+use crate::jni::JniCache;
+
+pub type BenchResult<T> = core::result::Result<T,String>;
+
+/// Fills the bridge's JNI caches, as `Cedarling.initJniCache()` does
+pub fn init_jni_cache<'local> (
+    env: &mut JNIEnv<'local>
+) -> BenchResult<()> {
+
+    crate::cedarling::init_cache(env,JClass::from(JObject::null())).map_err(|e| e.to_string())
+}
+
+/// Converts a java `AuthorizeRequest` into a cedarling request
+pub fn convert_authorize_request<'local> (
+    env: &mut JNIEnv<'local>,
+    request_obj: &JObject<'local>
+) -> BenchResult<Request> {
+
+    let request = JavaAuthorizeRequest::new(local_alias(request_obj))
+        .map_err(|e| e.to_string())?
+        .ok_or_else(|| "null authorization request".to_string())?;
+    request.as_cedarling_authz_request(env).map_err(|e| e.to_string())
+}
+
+/// Converts a java `EntityData` into a cedarling entity
+pub fn convert_entity_data<'local> (
+    env: &mut JNIEnv<'local>,
+    entity_obj: &JObject<'local>
+) -> BenchResult<EntityData> {
+
+    let entity = JavaEntityData::new(local_alias(entity_obj))
+        .map_err(|e| e.to_string())?
+        .ok_or_else(|| "null entity data".to_string())?;
+    entity.as_cedarling_entity_data(env).map_err(|e| e.to_string())
+}
+
+/// Parses entity attributes the way entity conversion does
+pub fn parse_attributes (
+    attributes: &str
+) -> BenchResult<HashMap<String,serde_json::Value>> {
+
+    crate::authz::entity_data::parse_attributes(attributes).map_err(|e| e.to_string())
+}
+
+/// Parses request context data the way request conversion does
+pub fn parse_context (
+    data: &str
+) -> BenchResult<serde_json::Value> {
+
+    crate::authz::context::parse_context_data(data).map_err(|e| e.to_string())
+}
+
+/// A standalone JNI cache holding a single class and instance method
+pub struct CacheFixture {
+    cache: JniCache,
+    class: String,
+    method: String,
+    signature: String
+}
+
+impl CacheFixture {
+
+    pub fn new<'local> (
+        env: &mut JNIEnv<'local>,
+        class: &str,
+        method: &str,
+        signature: &str
+    ) -> BenchResult<CacheFixture> {
+
+        let mut cache = JniCache::new();
+        cache.add_class(env,class).map_err(|e| e.to_string())?;
+        cache.add_instance_method(env,class,method,signature).map_err(|e| e.to_string())?;
+        Ok(CacheFixture {
+            cache: cache,
+            class: class.to_string(),
+            method: method.to_string(),
+            signature: signature.to_string()
+        })
+    }
+
+    pub fn lookup_method (
+        &self
+    ) -> BenchResult<JMethodID> {
+
+        let key = (self.class.as_str(),self.method.as_str(),self.signature.as_str());
+        self.cache.get_instance_method(&key).map_err(|e| e.to_string())
+    }
+
+    pub fn lookup_class<'local> (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> BenchResult<JClass<'local>> {
+
+        self.cache.get_class(env,&self.class).map_err(|e| e.to_string())
+    }
+}
+
+/// Builds an authorization result with the specified number of principals,
+/// each determined by `policies_per_principal` policies
+pub fn authorize_result_fixture (
+    principals: usize,
+    policies_per_principal: usize
+) -> AuthorizeResult {
+
+    let response = || {
+        let reason: HashSet<PolicyId> = (0..policies_per_principal)
+            .map(|i| PolicyId::new(format!("{:040x}",i + 1)))
+            .collect();
+        crate::authz::noop::synthetic_response(reason)
+    };
+    let principals: HashMap<String,Response> = (0..principals)
+        .map(|i| (format!("Jans::User{}",i),response()))
+        .collect();
+
+    AuthorizeResult {
+        workload: Some(response()),
+        person: Some(response()),
+        principals: principals,
+        decision: false,
+        request_id: "0193f1e2-6c3a-7d2e-9b1a-5f6e7d8c9b0a".to_string()
+    }
+}
+
+/// Converts an authorization result into a java `AuthorizeResult`
+pub fn authorize_result_to_java<'local> (
+    env: &mut JNIEnv<'local>,
+    result: &AuthorizeResult
+) -> BenchResult<JObject<'local>> {
+
+    JavaAuthorizeResult::new(result)
+        .map(|r| r.with_phase_timings(PhaseTimings::default()))
+        .and_then(|r| r.as_java_object(env))
+        .map_err(|e| e.to_string())
+}
+
+/// Tokens signed by several issuers, each with its own keys, and the JWKS holding all of the keys
+pub struct KeyStoreFixture {
+    jwks: JwkSet,
+    store: VerificationKeyStore,
+    tokens: Vec<String>
+}
+
+impl KeyStoreFixture {
+
+    /// Creates `issuers` issuers with `keys_per_issuer` HMAC keys each, and a token per key
+    pub fn new (
+        issuers: usize,
+        keys_per_issuer: usize
+    ) -> BenchResult<KeyStoreFixture> {
+
+        let mut keys = Vec::new();
+        let mut tokens = Vec::new();
+        for issuer in 0..issuers {
+            for index in 0..keys_per_issuer {
+                let kid = format!("issuer{}-key{}",issuer,index);
+                // 43 base64url characters, ending with a character free of padding bits: a 32 bytes secret
+                let secret = format!("{:a>42}A",format!("issuer{}key{}",issuer,index));
+                keys.push(serde_json::json!({"kty": "oct","kid": kid,"alg": "HS256","k": secret}));
+
+                let header = Header { kid: Some(kid), ..Header::new(Algorithm::HS256) };
+                let claims = serde_json::json!({"iss": format!("https://issuer{}.example.org",issuer),"sub": "some_user"});
+                let key = EncodingKey::from_base64_secret(&format!("{}=",secret)).map_err(|e| e.to_string())?;
+                tokens.push(jsonwebtoken::encode(&header,&claims,&key).map_err(|e| e.to_string())?);
+            }
+        }
+        let jwks: JwkSet = serde_json::from_value(serde_json::json!({"keys": keys})).map_err(|e| e.to_string())?;
+        let store = VerificationKeyStore::new(&jwks);
+        Ok(KeyStoreFixture { jwks, store, tokens })
+    }
+
+    pub fn token_count(&self) -> usize {
+
+        self.tokens.len()
+    }
+
+    /// Verifies a token by finding its JWK in the set and decoding it, as every verification did before keys were decoded once
+    pub fn verify_decoding_jwk (
+        &self,
+        index: usize
+    ) -> BenchResult<serde_json::Value> {
+
+        let token = &self.tokens[index];
+        let header = jsonwebtoken::decode_header(token).map_err(|e| e.to_string())?;
+        let jwk = header.kid.as_deref().and_then(|kid| self.jwks.find(kid)).ok_or_else(|| "no matching key".to_string())?;
+        let key = DecodingKey::from_jwk(jwk).map_err(|e| e.to_string())?;
+        verify(token,&key,header.alg)
+    }
+
+    /// Verifies a token with the key decoded once, as token sessions do
+    pub fn verify_with_key_store (
+        &self,
+        index: usize
+    ) -> BenchResult<serde_json::Value> {
+
+        let token = &self.tokens[index];
+        let header = jsonwebtoken::decode_header(token).map_err(|e| e.to_string())?;
+        let key = self.store.find(header.kid.as_deref(),header.alg).ok_or_else(|| "no matching key".to_string())?;
+        verify(token,key,header.alg)
+    }
+}
+
+fn verify (
+    token: &str,
+    key: &DecodingKey,
+    alg: Algorithm
+) -> BenchResult<serde_json::Value> {
+
+    let mut validation = Validation::new(alg);
+    validation.required_spec_claims.clear();
+    validation.validate_exp = false;
+    validation.validate_aud = false;
+    jsonwebtoken::decode::<serde_json::Value>(token,key,&validation)
+        .map(|data| data.claims)
+        .map_err(|e| e.to_string())
+}
+
+fn local_alias<'local> (
+    obj: &JObject<'local>
+) -> JObject<'local> {
+
+    // the wrappers take ownership of the reference they wrap, but never delete it.
+    // aliasing the caller's reference avoids creating a local reference per iteration
+    unsafe { JObject::from_raw(obj.as_raw()) }
+}
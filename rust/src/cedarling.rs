@@ -3,18 +3,49 @@
 //
 // Copyright (c) 2025, Gluu, Inc.
 
-use cedarling::{BootstrapConfig,Request,RequestUnsigned};
+use cedarling::{AuthorizeResult,BootstrapConfig,Request,RequestUnsigned};
 use cedarling::blocking::Cedarling;
 use jni::JNIEnv;
-use jni::objects::{JClass,JObject};
-use jni::sys::{jobject};
+use jni::objects::{JClass,JObject,JObjectArray};
+use jni::sys::{jboolean,jdouble,jint,jlong,jobject,JNI_FALSE,JNI_TRUE};
 use crate::{Result,CedarlingBridgeError};
 use crate::jni::util::*;
-use crate::config::{JavaBootstrapConfig};
-use crate::authz::{JavaAuthorizeRequest,JavaAuthorizeRequestUnsigned,JavaAuthorizeResult};
-use std::sync::{MutexGuard};
+use crate::config::{JavaBootstrapConfig,JavaPolicyStoreConfig};
+use crate::authz::{Deadline,JavaAuthorizeRequest,JavaAuthorizeRequestUnsigned,JavaAuthorizeResult,NegativeCache,PhaseTimings,SessionPreparer,StatusListCache,TenantRegistry,TokenSession};
+use crate::authz::tenants::{build_engines,PolicyStoreKey,TenantEngine};
+use crate::authz::jwks_rotation::merge_jwks;
+use crate::authz::noop::{noop_authorize_result,noop_authorize_unsigned_result};
+use crate::memory::{self,MemoryCounter};
+use crate::shadow::{JavaShadowReport,ShadowEvaluator,ShadowRequest};
+use crate::stats::{JavaNegativeCacheStatistics,JavaPolicyStatistics,JavaStartupTimings,JavaStatusListStatistics,JavaTenantMemoryUsage,PolicyStats,StartupTimings};
+use std::collections::HashMap;
+use std::sync::{Arc,Mutex,MutexGuard};
+use std::time::{Duration,Instant,SystemTime,UNIX_EPOCH};
 
 const CEDARLING_INTERNAL_REF_FIELD: &str = "cedarlingRef";
+const TOKEN_SESSION_REF_FIELD: &str = "sessionRef";
+const TENANT_CONFIG_LOCAL_FRAME_CAPACITY: i32 = 64;
+
+/// Native state owned by a java `Cedarling` object, referenced through its `cedarlingRef` field
+pub (crate) struct CedarlingInstance {
+    cedarling: Cedarling,
+    memory: Arc<MemoryCounter>,
+    shadow: Option<ShadowEvaluator>,
+    policy_stats: PolicyStats,
+    /// skips token validation and policy evaluation, see `EngineMode.NOOP`
+    noop: bool,
+    startup: StartupTimings,
+    sessions: Arc<SessionPreparer>,
+    /// token signatures are verified by the bridge with the keys of `sessions`, the engines being built
+    /// without keys, so that a JWKS rotation swaps keys rather than engines. See `JwksRotationConfiguration`
+    verifies_tokens: bool,
+    /// recently rejected token sets, see `NegativeCacheConfiguration`
+    negative_cache: Option<NegativeCache>,
+    /// token status lists checked by sessions, kept across JWKS rotations
+    status_lists: Arc<StatusListCache>,
+    /// tenants routed to their own policy store, see `Cedarling#registerTenant`
+    tenants: TenantRegistry
+}
 
 #[no_mangle]
 pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_initJniCache<'local> (
@@ -31,10 +62,13 @@ pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_initJniCache<'loc
 pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_createNativeCedarling<'local> (
     mut env: JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
-    config_obj: JObject<'local>
+    config_obj: JObject<'local>,
+    noop_engine: jboolean,
+    startup_threads: jint,
+    rotating_jwks: jboolean
 ) -> () {
    
-    match new_cedarling_instance(&mut env,cedarling_obj,config_obj) {
+    match new_cedarling_instance(&mut env,cedarling_obj,config_obj,noop_engine == JNI_TRUE,startup_threads.max(1) as usize,rotating_jwks == JNI_TRUE) {
         Ok(_) => (),
         Err(err) => {
             let errmsg = format!("Could not create rust cedarling instance. {}",err.to_string());
@@ -44,53 +78,499 @@ pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_createNativeCedar
 }
 
 #[no_mangle]
-pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_authorize<'local> (
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorize<'local> (
     mut env: JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
     request_obj: JObject<'local>
 ) -> jobject {
     
-    match cedarling_authorize(&mut env, cedarling_obj,request_obj) {
+    memory::charged_call(|charge_to| match cedarling_authorize(&mut env,cedarling_obj,request_obj,charge_to) {
         Ok(ret) => ret.into_raw(),
         Err(err) => {
             let errmsg = format!("Cedarling authorization failed. {}",err.to_string());
-            let _ = throw_cedarling_authorization_error(&mut env,&errmsg);
+            let _ = throw_authorization_failure(&mut env,&err,&errmsg);
             JObject::null().into_raw()
         }
-    }
+    })
 }
 
 #[no_mangle]
-pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_authorizeUnsigned<'local> (
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeUnsigned<'local> (
     mut env: JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
     unsigned_request_obj: JObject<'local>
 ) -> jobject {
 
-    match cedarling_authorize_unsigned(&mut env, cedarling_obj, unsigned_request_obj) {
+    memory::charged_call(|charge_to| match cedarling_authorize_unsigned(&mut env,cedarling_obj,unsigned_request_obj,None,charge_to) {
         Ok(ret) => ret.into_raw(),
         Err(err) => {
             let errmsg = format!("Cedarling unsigned authorization failed. {}",err.to_string());
-            let _ = throw_cedarling_authorization_error(&mut env,&errmsg);
+            let _ = throw_authorization_failure(&mut env,&err,&errmsg);
+            JObject::null().into_raw()
+        }
+    })
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_releaseNativeCedarling<'local> (
+    _env: JNIEnv<'local>,
+    _cls_cedarling: JClass<'local>,
+    cedarling_ref: jlong
+) -> () {
+
+    // the java side guarantees no authorization call is in flight and that
+    // a given reference is released only once (see Cedarling#close)
+    if cedarling_ref != 0 {
+        drop(unsafe { Box::from_raw(cedarling_ref as *mut Mutex<CedarlingInstance>) });
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_openNativeSession<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    session_obj: JObject<'local>,
+    token_names: JObjectArray<'local>,
+    tokens: JObjectArray<'local>,
+    policy_store_obj: JObject<'local>
+) -> jlong {
+
+    match open_session(&mut env,cedarling_obj,session_obj,token_names,tokens,policy_store_obj) {
+        Ok(expires_at) => expires_at,
+        Err(err) => {
+            let errmsg = format!("Could not open token session. {}",err.to_string());
+            let _ = match err {
+                CedarlingBridgeError::TokenSessionError(_) => throw_cedarling_authorization_error(&mut env,&errmsg),
+                _ => throw_cedarling_error(&mut env,&errmsg)
+            };
+            0
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeSession<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    session_obj: JObject<'local>,
+    unsigned_request_obj: JObject<'local>
+) -> jobject {
+
+    memory::charged_call(|charge_to| match cedarling_authorize_unsigned(&mut env,cedarling_obj,unsigned_request_obj,Some(&session_obj),charge_to) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Session authorization failed. {}",err.to_string());
+            let _ = throw_authorization_failure(&mut env,&err,&errmsg);
             JObject::null().into_raw()
         }
+    })
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_releaseNativeSession<'local> (
+    _env: JNIEnv<'local>,
+    _cls_cedarling: JClass<'local>,
+    session_ref: jlong
+) -> () {
+
+    // the java side guarantees no authorization call is in flight on the session and that
+    // a given reference is released only once (see TokenSession#close)
+    if session_ref != 0 {
+        drop(unsafe { Box::from_raw(session_ref as *mut Mutex<TokenSession>) });
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeMemoryUsage<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jlong {
+
+    match cedarling_memory_usage(&mut env,cedarling_obj) {
+        Ok(ret) => ret,
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling native memory usage. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            0
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_attachNativeShadow<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    config_obj: JObject<'local>,
+    sample_rate: jdouble,
+    max_samples: jint,
+    queue_capacity: jint
+) -> () {
+
+    match attach_shadow(&mut env,cedarling_obj,config_obj,sample_rate,max_samples,queue_capacity) {
+        Ok(_) => (),
+        Err(err) => {
+            let errmsg = format!("Could not create shadow cedarling instance. {}",err.to_string());
+            let _ = throw_cedarling_configuration_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_rotateNativeJwks<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    jwks_obj: JObject<'local>,
+    retained_jwks_obj: JObjectArray<'local>
+) -> () {
+
+    match rotate_jwks(&mut env,cedarling_obj,jwks_obj,retained_jwks_obj) {
+        Ok(_) => (),
+        Err(err) => {
+            let errmsg = format!("Could not rotate the cedarling JWKS. {}",err.to_string());
+            let _ = throw_cedarling_configuration_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeLoadStatusList<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    uri_obj: JObject<'local>,
+    token_obj: JObject<'local>
+) -> jlong {
+
+    match load_status_list(&mut env,cedarling_obj,uri_obj,token_obj) {
+        Ok(ttl) => ttl,
+        Err(err) => {
+            let errmsg = format!("Could not load token status list. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            -1
+        }
     }
 }
 
 #[no_mangle]
-pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_cleanupCedarling<'local> (
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeReleaseStatusList<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    uri_obj: JObject<'local>,
+    idle_seconds: jlong
+) -> jboolean {
+
+    match release_status_list(&mut env,cedarling_obj,uri_obj,idle_seconds) {
+        Ok(true) => JNI_TRUE,
+        Ok(false) => JNI_FALSE,
+        Err(err) => {
+            let errmsg = format!("Could not release token status list. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JNI_FALSE
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeStatusListFetchFailed<'local> (
     mut env: JNIEnv<'local>,
     cedarling_obj: JObject<'local>
 ) -> () {
 
-    let _ = cedarling_cleanup(&mut env,cedarling_obj).or_else(|e| {
-        let errstr = format!("Could not release cedarling rust resources. {}",e.to_string());
-        throw_cedarling_error(&mut env,&errstr)
-    });
+    match status_lists(&mut env,&cedarling_obj) {
+        Ok(status_lists) => status_lists.fetch_failed(),
+        Err(err) => {
+            let errmsg = format!("Could not record status list fetch failure. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativePendingStatusLists<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jobject {
+
+    match pending_status_lists(&mut env,cedarling_obj) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get pending token status lists. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeStatusListStatistics<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jobject {
+
+    let ret = status_lists(&mut env,&cedarling_obj)
+        .and_then(|status_lists| JavaStatusListStatistics::new(status_lists.counters()))
+        .and_then(|stats| stats.as_java_object(&mut env));
+    match ret {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get token status list statistics. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
 }
 
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_registerNativeTenant<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    config_obj: JObject<'local>
+) -> () {
 
-fn init_cache<'local> (
+    match register_tenant(&mut env,cedarling_obj,tenant_id_obj,config_obj) {
+        Ok(_) => (),
+        Err(err) => {
+            let errmsg = format!("Could not register tenant. {}",err.to_string());
+            let _ = throw_cedarling_configuration_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_registerNativeTenants<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_ids_obj: JObjectArray<'local>,
+    configs_obj: JObjectArray<'local>,
+    startup_threads: jint
+) -> () {
+
+    match register_tenants(&mut env,cedarling_obj,tenant_ids_obj,configs_obj,startup_threads.max(1) as usize) {
+        Ok(_) => (),
+        Err(err) => {
+            let errmsg = format!("Could not register tenants. {}",err.to_string());
+            let _ = throw_cedarling_configuration_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_unregisterNativeTenant<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>
+) -> jboolean {
+
+    match unregister_tenant(&mut env,cedarling_obj,tenant_id_obj) {
+        Ok(true) => JNI_TRUE,
+        Ok(false) => JNI_FALSE,
+        Err(err) => {
+            let errmsg = format!("Could not unregister tenant. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JNI_FALSE
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeTenants<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jobject {
+
+    match cedarling_tenants(&mut env,cedarling_obj) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling tenants. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeTenantEngineCount<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jint {
+
+    match tenant_engine_count(&mut env,cedarling_obj) {
+        Ok(count) => count,
+        Err(err) => {
+            let errmsg = format!("Could not get the number of tenant engines. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            0
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeTenantMemoryUsage<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>
+) -> jobject {
+
+    match tenant_memory_usage(&mut env,cedarling_obj,tenant_id_obj) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get tenant native memory usage. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeTenant<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    request_obj: JObject<'local>
+) -> jobject {
+
+    memory::charged_call(|charge_to| match tenant_authorize(&mut env,cedarling_obj,tenant_id_obj,request_obj,charge_to) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Tenant authorization failed. {}",err.to_string());
+            let _ = throw_authorization_failure(&mut env,&err,&errmsg);
+            JObject::null().into_raw()
+        }
+    })
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeAuthorizeTenantUnsigned<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    unsigned_request_obj: JObject<'local>
+) -> jobject {
+
+    memory::charged_call(|charge_to| match tenant_authorize_unsigned(&mut env,cedarling_obj,tenant_id_obj,unsigned_request_obj,charge_to) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Tenant unsigned authorization failed. {}",err.to_string());
+            let _ = throw_authorization_failure(&mut env,&err,&errmsg);
+            JObject::null().into_raw()
+        }
+    })
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_configureNativeNegativeCache<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    ttl_millis: jlong,
+    max_entries: jint
+) -> () {
+
+    match configure_negative_cache(&mut env,cedarling_obj,ttl_millis,max_entries) {
+        Ok(_) => (),
+        Err(err) => {
+            let errmsg = format!("Could not configure the negative token cache. {}",err.to_string());
+            let _ = throw_cedarling_configuration_error(&mut env,&errmsg);
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeNegativeCacheStatistics<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jobject {
+
+    match cedarling_negative_cache_statistics(&mut env,cedarling_obj) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling negative cache statistics. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeShadowReport<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> jobject {
+
+    match cedarling_shadow_report(&mut env,cedarling_obj) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling shadow report. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativePolicyStatistics<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    reset: jboolean
+) -> jobject {
+
+    match cedarling_policy_statistics(&mut env,cedarling_obj,reset == JNI_TRUE) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling policy statistics. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeStartupTimings<'local> (
+    mut env: JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    construction_nanos: jlong
+) -> jobject {
+
+    match cedarling_startup_timings(&mut env,cedarling_obj,construction_nanos) {
+        Ok(ret) => ret.into_raw(),
+        Err(err) => {
+            let errmsg = format!("Could not get cedarling startup timings. {}",err.to_string());
+            let _ = throw_cedarling_error(&mut env,&errmsg);
+            JObject::null().into_raw()
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeMemoryAccounted<'local> (
+    _env: JNIEnv<'local>,
+    _cls_cedarling: JClass<'local>
+) -> jboolean {
+
+    if memory::ACCOUNTED { JNI_TRUE } else { JNI_FALSE }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_io_jans_cedarling_bridge_Cedarling_nativeTotalMemoryUsage<'local> (
+    _env: JNIEnv<'local>,
+    _cls_cedarling: JClass<'local>
+) -> jlong {
+
+    memory::total_allocated()
+}
+
+fn throw_authorization_failure<'local> (
+    env: &mut JNIEnv<'local>,
+    err: &CedarlingBridgeError,
+    errmsg: &str
+) -> Result<()> {
+
+    match err {
+        CedarlingBridgeError::DeadlineExceeded{..} => throw_cedarling_timeout_error(env,errmsg),
+        _ => throw_cedarling_authorization_error(env,errmsg)
+    }
+}
+
+pub (crate) fn init_cache<'local> (
     env: &mut JNIEnv<'local>,
     _cedarling_cls: JClass<'local>
 ) -> Result<()> {
@@ -98,78 +578,730 @@ fn init_cache<'local> (
     crate::jni::jni_cache_init(env)?;
     crate::config::jni_cache_init(env)?;
     crate::authz::jni_cache_init(env)?;
-    crate::cedar_policy::jni_cache_init(env)
+    crate::cedar_policy::jni_cache_init(env)?;
+    crate::shadow::jni_cache_init(env)?;
+    crate::stats::jni_cache_init(env)
 }
 
 fn new_cedarling_instance<'local> (
     env: &mut JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
-    config_obj: JObject<'local>
+    config_obj: JObject<'local>,
+    noop: bool,
+    startup_threads: usize,
+    rotating_jwks: bool
 ) -> Result<()> {
 
     let jbootstrap_config_wrapper: JavaBootstrapConfig = JavaBootstrapConfig::new(config_obj)?
         .ok_or_else( || CedarlingBridgeError::GenericError("Java BootstrapConfiguration cannot be null".to_string()) )?;
     
-    let bootstrap_config: BootstrapConfig = jbootstrap_config_wrapper.as_cedarling_boostrap_config(env)?;
+    let marshalling_start = Instant::now();
+    let mut bootstrap_config: BootstrapConfig = jbootstrap_config_wrapper.as_cedarling_boostrap_config(env)?;
+    let marshalling = marshalling_start.elapsed();
     
-    let cedarling = Cedarling::new(&bootstrap_config).map_err(|e| { CedarlingBridgeError::GenericError(e.to_string())})?;
+    let status_lists = Arc::new(StatusListCache::default());
+    let memory = Arc::new(MemoryCounter::default());
+    let verifies_tokens = rotating_jwks && bootstrap_config.jwt_config.jwt_sig_validation;
+    let initialization_start = Instant::now();
+    let build_sessions = |config: &BootstrapConfig| -> Result<Arc<SessionPreparer>> {
+        Ok(Arc::new(SessionPreparer::new(config,status_lists.clone())?))
+    };
+    let build_cedarling = |config: &BootstrapConfig| -> Result<Cedarling> {
+        let _scope = memory.enter();
+        Cedarling::new(config).map_err(|e| { CedarlingBridgeError::GenericError(e.to_string())})
+    };
+    let (cedarling,sessions) = if verifies_tokens {
+        // every request is checked against the trusted issuers, they are read upfront
+        let sessions = build_sessions(&bootstrap_config).and_then(|sessions| {
+            sessions.read_trusted_issuers(&bootstrap_config.policy_store_config.source)?;
+            Ok(sessions)
+        });
+        without_keys(&mut bootstrap_config);
+        (build_cedarling(&bootstrap_config),sessions)
+    } else if startup_threads > 1 {
+        // session keys are decoded while the engine parses the policy store
+        let config = &bootstrap_config;
+        std::thread::scope(|scope| {
+            let sessions = scope.spawn(|| build_sessions(config));
+            let cedarling = build_cedarling(config);
+            let sessions = sessions.join()
+                .unwrap_or_else(|_| Err(CedarlingBridgeError::GenericError("Session key decoding panicked".to_string())));
+            (cedarling,sessions)
+        })
+    } else {
+        (build_cedarling(&bootstrap_config),build_sessions(&bootstrap_config))
+    };
+    let (cedarling,sessions) = (cedarling?,sessions?);
+    let startup = StartupTimings {
+        marshalling: marshalling,
+        initialization: initialization_start.elapsed(),
+        memory: memory.retained()
+    };
+
+    let instance = CedarlingInstance { cedarling, memory, shadow: None, policy_stats: PolicyStats::default(), noop, startup, sessions, verifies_tokens, negative_cache: None, status_lists, tenants: TenantRegistry::default() };
+    Ok( unsafe { env.set_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD,instance)? } )
+}
+
+fn open_session<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    session_obj: JObject<'local>,
+    token_names: JObjectArray<'local>,
+    tokens: JObjectArray<'local>,
+    policy_store_obj: JObject<'local>
+) -> Result<jlong> {
+
+    let mut session_tokens: HashMap<String,String> = HashMap::new();
+    let count = env.get_array_length(&token_names)?;
+    for i in 0..count {
+        let name_obj = env.get_object_array_element(&token_names,i)?;
+        let token_obj = env.get_object_array_element(&tokens,i)?;
+        let name = require_some(java_string_to_native_string(env,&name_obj)?,"TokenSession","tokenName")?;
+        let token = require_some(java_string_to_native_string(env,&token_obj)?,"TokenSession","token")?;
+        session_tokens.insert(name,token);
+    }
+
+    let sessions: Arc<SessionPreparer> = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        guard.sessions.clone()
+    };
+    // the trusted issuers are only needed by sessions, the policy store is read for them on the first one
+    if !sessions.knows_trusted_issuers() {
+        let policy_store_config = JavaPolicyStoreConfig::new(policy_store_obj)?
+            .ok_or_else( || CedarlingBridgeError::GenericError("Java PolicyStoreConfiguration cannot be null".to_string()) )?
+            .as_cedarling_policy_store_config(env)?;
+        sessions.read_trusted_issuers(&policy_store_config.source)?;
+    }
+    // tokens are validated without holding the instance
+    let session = sessions.prepare(&session_tokens)?;
+    let expires_at = session.expires_at.unwrap_or(i64::MAX);
+    unsafe { env.set_rust_field(&session_obj,TOKEN_SESSION_REF_FIELD,session)? };
+    Ok(expires_at)
+}
+
+fn attach_shadow<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    config_obj: JObject<'local>,
+    sample_rate: jdouble,
+    max_samples: jint,
+    queue_capacity: jint
+) -> Result<()> {
+
+    let jbootstrap_config_wrapper: JavaBootstrapConfig = JavaBootstrapConfig::new(config_obj)?
+        .ok_or_else( || CedarlingBridgeError::GenericError("Java shadow BootstrapConfiguration cannot be null".to_string()) )?;
+    let mut bootstrap_config: BootstrapConfig = jbootstrap_config_wrapper.as_cedarling_boostrap_config(env)?;
+
+    let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    let instance: &mut CedarlingInstance = &mut guard;
+    if instance.verifies_tokens {
+        without_keys(&mut bootstrap_config);
+    }
+    let shadow_cedarling = {
+        let _scope = instance.memory.enter();
+        Cedarling::new(&bootstrap_config).map_err(|e| { CedarlingBridgeError::GenericError(e.to_string())})?
+    };
+
+    instance.shadow = Some(ShadowEvaluator::start(
+        shadow_cedarling,
+        instance.memory.clone(),
+        sample_rate,
+        max_samples.max(1) as usize,
+        queue_capacity.max(1) as usize
+    )?);
+    Ok(())
+}
+
+/// Decodes the new JWKS, merged with the retained keys if any, without holding the instance, then swaps
+/// the keys tokens are verified with. Engines are left as is, they hold no keys when the JWKS rotates
+fn rotate_jwks<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    jwks_obj: JObject<'local>,
+    retained_jwks_obj: JObjectArray<'local>
+) -> Result<()> {
+
+    let jwks = require_some(java_string_to_native_string(env,&jwks_obj)?,"Cedarling","jwks")?;
+    let mut retained_jwks: Vec<String> = Vec::new();
+    let count = env.get_array_length(&retained_jwks_obj)?;
+    for i in 0..count {
+        let retained_obj = env.get_object_array_element(&retained_jwks_obj,i)?;
+        retained_jwks.push(require_some(java_string_to_native_string(env,&retained_obj)?,"Cedarling","retainedJwks")?);
+        env.delete_local_ref(retained_obj)?;
+    }
+    let jwks = merge_jwks(&jwks,&retained_jwks)?;
+
+    let (memory,current): (Arc<MemoryCounter>,Arc<SessionPreparer>) = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        (guard.memory.clone(),guard.sessions.clone())
+    };
+    let _scope = memory.enter();
+    let sessions = Arc::new(current.with_jwks(&jwks)?);
+
+    let previous = {
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        let instance: &mut CedarlingInstance = &mut guard;
+        // token sets rejected for an unknown key may be valid now
+        if let Some(cache) = &mut instance.negative_cache {
+            cache.clear();
+        }
+        std::mem::replace(&mut instance.sessions,sessions)
+    };
+    // the previous keys are released once the instance is available again
+    drop(previous);
+    drop(current);
+    Ok(())
+}
+
+/// Turns off signature validation in an engine's configuration, for engines whose tokens the bridge verifies
+fn without_keys(config: &mut BootstrapConfig) {
+
+    config.jwt_config.jwt_sig_validation = false;
+    config.jwt_config.jwks = None;
+}
+
+fn status_lists<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: &JObject<'local>
+) -> Result<Arc<StatusListCache>> {
+
+    let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    Ok(guard.status_lists.clone())
+}
+
+/// Validates a status list token and stores its list. Returns the list's ttl in seconds, `-1` if it has none
+fn load_status_list<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    uri_obj: JObject<'local>,
+    token_obj: JObject<'local>
+) -> Result<jlong> {
+
+    let uri = require_some(java_string_to_native_string(env,&uri_obj)?,"Cedarling","uri")?;
+    let token = require_some(java_string_to_native_string(env,&token_obj)?,"Cedarling","token")?;
+    let (memory,sessions): (Arc<MemoryCounter>,Arc<SessionPreparer>) = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        (guard.memory.clone(),guard.sessions.clone())
+    };
+    // the token is validated and the list inflated without holding the instance
+    let _scope = memory.enter();
+    let ttl = sessions.load_status_list(&uri,&token)?;
+    Ok(ttl.map_or(-1,|ttl| i64::try_from(ttl.as_secs()).unwrap_or(i64::MAX)))
+}
+
+/// Drops a status list no token was checked against for `idle_seconds`, so that it's not refreshed anymore
+fn release_status_list<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    uri_obj: JObject<'local>,
+    idle_seconds: jlong
+) -> Result<bool> {
+
+    let uri = require_some(java_string_to_native_string(env,&uri_obj)?,"Cedarling","uri")?;
+    let now = SystemTime::now().duration_since(UNIX_EPOCH).map_or(0,|elapsed| elapsed.as_secs() as i64);
+    let idle = Duration::from_secs(u64::try_from(idle_seconds).unwrap_or(0));
+    Ok(status_lists(env,&cedarling_obj)?.release_unused(&uri,idle,now))
+}
+
+fn pending_status_lists<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> Result<JObject<'local>> {
+
+    let pending = status_lists(env,&cedarling_obj)?.take_pending();
+    let ret = env.new_object_array(pending.len() as i32,"java/lang/String",JObject::null())?;
+    for (i,uri) in pending.iter().enumerate() {
+        let uri_obj = env.new_string(uri)?;
+        env.set_object_array_element(&ret,i as i32,&uri_obj)?;
+        env.delete_local_ref(uri_obj)?;
+    }
+    Ok(JObject::from(ret))
+}
+
+/// Builds the tenant's engine without holding the instance, unless an engine was built for the same
+/// policy store already, then routes the tenant to it
+fn register_tenant<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    config_obj: JObject<'local>
+) -> Result<()> {
+
+    let tenant_id = require_some(java_string_to_native_string(env,&tenant_id_obj)?,"Cedarling","tenantId")?;
+    let jbootstrap_config_wrapper: JavaBootstrapConfig = JavaBootstrapConfig::new(config_obj)?
+        .ok_or_else( || CedarlingBridgeError::GenericError("Java tenant BootstrapConfiguration cannot be null".to_string()) )?;
+    let mut bootstrap_config: BootstrapConfig = jbootstrap_config_wrapper.as_cedarling_boostrap_config(env)?;
+    let key = PolicyStoreKey::of(&mut bootstrap_config.policy_store_config.source)?;
+
+    let (shared,verifies_tokens) = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        (key.as_ref().and_then(|key| guard.tenants.shared_engine(key)),guard.verifies_tokens)
+    };
+    if verifies_tokens {
+        without_keys(&mut bootstrap_config);
+    }
+    let engine = match shared {
+        Some(engine) => engine,
+        None => Arc::new(TenantEngine::new(&bootstrap_config,verifies_tokens)?)
+    };
+
+    let released = {
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        guard.tenants.register(&tenant_id,key,engine)
+    };
+    // engines no tenant uses anymore are released once the instance is available again
+    drop(released);
+    Ok(())
+}
+
+/// Builds the engines of the tenants' distinct policy stores across the startup threads, without holding
+/// the instance, then routes the tenants to them. No tenant is registered if an engine can't be built
+fn register_tenants<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_ids_obj: JObjectArray<'local>,
+    configs_obj: JObjectArray<'local>,
+    startup_threads: usize
+) -> Result<()> {
+
+    let count = env.get_array_length(&tenant_ids_obj)?;
+    let mut tenants: Vec<(String,Option<PolicyStoreKey>,BootstrapConfig)> = Vec::with_capacity(count as usize);
+    for i in 0..count {
+        // every local reference created while marshalling a tenant's configuration is released with its frame
+        let tenant = env.with_local_frame(TENANT_CONFIG_LOCAL_FRAME_CAPACITY,|env| -> Result<(String,Option<PolicyStoreKey>,BootstrapConfig)> {
+            let tenant_id_obj = env.get_object_array_element(&tenant_ids_obj,i)?;
+            let tenant_id = require_some(java_string_to_native_string(env,&tenant_id_obj)?,"Cedarling","tenantId")?;
+            let config_obj = env.get_object_array_element(&configs_obj,i)?;
+            let jbootstrap_config_wrapper: JavaBootstrapConfig = JavaBootstrapConfig::new(config_obj)?
+                .ok_or_else( || CedarlingBridgeError::GenericError("Java tenant BootstrapConfiguration cannot be null".to_string()) )?;
+            let mut bootstrap_config: BootstrapConfig = jbootstrap_config_wrapper.as_cedarling_boostrap_config(env)?;
+            let key = PolicyStoreKey::of(&mut bootstrap_config.policy_store_config.source)?;
+            Ok((tenant_id,key,bootstrap_config))
+        })?;
+        tenants.push(tenant);
+    }
+
+    // an engine is built once per distinct policy store not loaded already
+    let (mut engines,verifies_tokens): (Vec<Option<Arc<TenantEngine>>>,bool) = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        (tenants.iter().map(|(_,key,_)| key.as_ref().and_then(|key| guard.tenants.shared_engine(key))).collect(),guard.verifies_tokens)
+    };
+    if verifies_tokens {
+        tenants.iter_mut().for_each(|(_,_,config)| without_keys(config));
+    }
+    let mut builds: Vec<usize> = Vec::new();
+    let mut first_by_key: HashMap<&PolicyStoreKey,usize> = HashMap::new();
+    let mut same_as: Vec<Option<usize>> = vec![None; tenants.len()];
+    for (i,(_,key,_)) in tenants.iter().enumerate() {
+        if engines[i].is_some() {
+            continue;
+        }
+        match key.as_ref().and_then(|key| first_by_key.get(key)) {
+            Some(first) => same_as[i] = Some(*first),
+            None => {
+                if let Some(key) = key {
+                    first_by_key.insert(key,i);
+                }
+                builds.push(i);
+            }
+        }
+    }
+    let configs: Vec<&BootstrapConfig> = builds.iter().map(|i| &tenants[*i].2).collect();
+    for (i,engine) in builds.iter().zip(build_engines(&configs,startup_threads,verifies_tokens)) {
+        let engine = engine.map_err(|e| CedarlingBridgeError::GenericError(format!("tenant `{}`: {}",tenants[*i].0,e)))?;
+        engines[*i] = Some(Arc::new(engine));
+    }
+    for i in 0..tenants.len() {
+        if let Some(first) = same_as[i] {
+            engines[i] = engines[first].clone();
+        }
+    }
+
+    let released: Vec<Arc<TenantEngine>> = {
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        tenants.into_iter().zip(engines)
+            .filter_map(|((tenant_id,key,_),engine)| engine.map(|engine| guard.tenants.register(&tenant_id,key,engine)))
+            .flatten()
+            .collect()
+    };
+    drop(released);
+    Ok(())
+}
+
+fn unregister_tenant<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>
+) -> Result<bool> {
 
-    Ok( unsafe { env.set_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD,cedarling)? } )
+    let tenant_id = require_some(java_string_to_native_string(env,&tenant_id_obj)?,"Cedarling","tenantId")?;
+    let released = {
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        guard.tenants.unregister(&tenant_id)
+    };
+    Ok(released.is_some())
 }
 
-fn cedarling_cleanup<'local> (
+fn cedarling_tenants<'local> (
     env: &mut JNIEnv<'local>,
     cedarling_obj: JObject<'local>
+) -> Result<JObject<'local>> {
+
+    let tenant_ids = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        guard.tenants.tenant_ids()
+    };
+    let ret = env.new_object_array(tenant_ids.len() as i32,"java/lang/String",JObject::null())?;
+    for (i,tenant_id) in tenant_ids.iter().enumerate() {
+        let tenant_id_obj = env.new_string(tenant_id)?;
+        env.set_object_array_element(&ret,i as i32,&tenant_id_obj)?;
+        env.delete_local_ref(tenant_id_obj)?;
+    }
+    Ok(JObject::from(ret))
+}
+
+fn tenant_engine_count<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> Result<jint> {
+
+    let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    Ok(guard.tenants.engine_count() as jint)
+}
+
+fn tenant_memory_usage<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>
+) -> Result<JObject<'local>> {
+
+    let tenant_id = require_some(java_string_to_native_string(env,&tenant_id_obj)?,"Cedarling","tenantId")?;
+    let usage = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        match guard.tenants.memory_usage(&tenant_id) {
+            Some(usage) => usage,
+            None => return Ok(JObject::null())
+        }
+    };
+    JavaTenantMemoryUsage::new(usage)?.as_java_object(env)
+}
+
+/// Gets a tenant's engine, along with the keys its tokens are verified with when the engine holds none.
+/// The issuers of those tokens are the ones the engine's policy store trusts
+fn tenant_engine<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: &JObject<'local>,
+    tenant_id_obj: &JObject<'local>
+) -> Result<(Arc<TenantEngine>,Option<Arc<SessionPreparer>>)> {
+
+    let tenant_id = require_some(java_string_to_native_string(env,tenant_id_obj)?,"Cedarling","tenantId")?;
+    let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    let engine = guard.tenants.engine(&tenant_id).ok_or_else(|| CedarlingBridgeError::UnknownTenant(tenant_id))?;
+    Ok((engine,guard.verifies_tokens.then(|| guard.sessions.clone())))
+}
+
+/// Evaluates a request against a tenant's engine. The instance is only held to find the engine,
+/// so that requests of tenants with distinct policy stores are evaluated concurrently. The call
+/// is charged to the tenant's engine
+fn tenant_authorize<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    request_obj: JObject<'local>,
+    charge_to: &mut Option<Arc<MemoryCounter>>
+) -> Result<JObject<'local>> {
+
+    let marshalling_started = Instant::now();
+    let (deadline,request): (Deadline,Request) = {
+        let request_wrapper = JavaAuthorizeRequest::new(request_obj)?.ok_or_else(
+            || CedarlingBridgeError::GenericError("Java authz request cannot be null".to_string()) 
+        )?;
+        let deadline = request_wrapper.deadline(env)?;
+        (deadline,request_wrapper.as_cedarling_authz_request(env)?)
+    };
+    let marshalling = marshalling_started.elapsed();
+    deadline.check("while marshalling the request")?;
+
+    let waiting_started = Instant::now();
+    let (engine,sessions) = tenant_engine(env,&cedarling_obj,&tenant_id_obj)?;
+    *charge_to = Some(engine.memory().clone());
+    let (authz_result,phase_timings) = {
+        let cedarling = engine.cedarling();
+        let waiting = waiting_started.elapsed();
+        deadline.check("while waiting for the cedarling instance")?;
+        let started = Instant::now();
+        if let Some(sessions) = &sessions {
+            sessions.verify_for(&request.tokens,engine.trusted_issuers())?;
+        }
+        let result = cedarling.authorize(request)?;
+        (result,PhaseTimings { marshalling, waiting, evaluation: started.elapsed() })
+    };
+
+    JavaAuthorizeResult::new(&authz_result)?.with_phase_timings(phase_timings).as_java_object(env)
+}
+
+fn tenant_authorize_unsigned<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    tenant_id_obj: JObject<'local>,
+    unsigned_request_obj: JObject<'local>,
+    charge_to: &mut Option<Arc<MemoryCounter>>
+) -> Result<JObject<'local>> {
+
+    let marshalling_started = Instant::now();
+    let (deadline,request): (Deadline,RequestUnsigned) = {
+        let request_wrapper = JavaAuthorizeRequestUnsigned::new(unsigned_request_obj)?.ok_or_else(
+            || CedarlingBridgeError::GenericError("Java unsigned authz request cannot be null".to_string()) 
+        )?;
+        let deadline = request_wrapper.deadline(env)?;
+        (deadline,request_wrapper.as_cedarling_authz_request_unsigned(env)?)
+    };
+    let marshalling = marshalling_started.elapsed();
+    deadline.check("while marshalling the request")?;
+
+    let waiting_started = Instant::now();
+    let (engine,_) = tenant_engine(env,&cedarling_obj,&tenant_id_obj)?;
+    *charge_to = Some(engine.memory().clone());
+    let (authz_result,phase_timings) = {
+        let cedarling = engine.cedarling();
+        let waiting = waiting_started.elapsed();
+        deadline.check("while waiting for the cedarling instance")?;
+        let started = Instant::now();
+        let result = cedarling.authorize_unsigned(request)?;
+        (result,PhaseTimings { marshalling, waiting, evaluation: started.elapsed() })
+    };
+
+    JavaAuthorizeResult::new(&authz_result)?.with_phase_timings(phase_timings).as_java_object(env)
+}
+
+fn configure_negative_cache<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    ttl_millis: jlong,
+    max_entries: jint
 ) -> Result<()> {
 
-    match unsafe { env.take_rust_field::<&JObject<'_>,&str,Cedarling>(&cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)  } {
-        Ok(_) => Ok(()),
-        Err(err) => Err(CedarlingBridgeError::GenericError(err.to_string()))
+    let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    let instance: &mut CedarlingInstance = &mut guard;
+    let _scope = instance.memory.enter();
+    instance.negative_cache = Some(NegativeCache::new(
+        Duration::from_millis(ttl_millis.max(1) as u64),
+        max_entries.max(1) as usize
+    ));
+    Ok(())
+}
+
+fn cedarling_negative_cache_statistics<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> Result<JObject<'local>> {
+
+    let counters = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        match &guard.negative_cache {
+            Some(cache) => cache.counters(),
+            None => return Ok(JObject::null())
+        }
+    };
+    JavaNegativeCacheStatistics::new(counters)?.as_java_object(env)
+}
+
+fn cedarling_shadow_report<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> Result<JObject<'local>> {
+
+    let snapshot = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        match &guard.shadow {
+            Some(shadow) => shadow.snapshot(),
+            None => return Ok(JObject::null())
+        }
+    };
+    JavaShadowReport::new(&snapshot)?.as_java_object(env)
+}
+
+fn cedarling_startup_timings<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    construction_nanos: jlong
+) -> Result<JObject<'local>> {
+
+    let startup: StartupTimings = {
+        let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        guard.startup
+    };
+    JavaStartupTimings::new(startup,construction_nanos)?.as_java_object(env)
+}
+
+fn cedarling_policy_statistics<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>,
+    reset: bool
+) -> Result<JObject<'local>> {
+
+    let (memory,snapshot): (Arc<MemoryCounter>,PolicyStats) = {
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        let instance: &mut CedarlingInstance = &mut guard;
+        let snapshot = if reset {
+            std::mem::take(&mut instance.policy_stats)
+        } else {
+            instance.policy_stats.clone()
+        };
+        (instance.memory.clone(),snapshot)
+    };
+    let ret = JavaPolicyStatistics::new(&snapshot).and_then(|stats| stats.as_java_object(env));
+    if reset {
+        // the counters taken from the instance were charged to it
+        let _scope = memory.enter();
+        drop(snapshot);
     }
+    ret
 }
 
+fn cedarling_memory_usage<'local> (
+    env: &mut JNIEnv<'local>,
+    cedarling_obj: JObject<'local>
+) -> Result<jlong> {
+
+    let guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+    Ok(guard.memory.retained())
+}
+
+/// Evaluates a request against the instance's engine. The call is charged to the instance
 fn cedarling_authorize<'local> (
     env: &mut JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
-    request_obj: JObject<'local>
+    request_obj: JObject<'local>,
+    charge_to: &mut Option<Arc<MemoryCounter>>
 ) -> Result<JObject<'local>> {
 
-    let request: Request = {
+    let marshalling_started = Instant::now();
+    let (deadline,request): (Deadline,Request) = {
         let request_wrapper = JavaAuthorizeRequest::new(request_obj)?.ok_or_else(
             || CedarlingBridgeError::GenericError("Java authz request cannot be null".to_string()) 
         )?;
-        request_wrapper.as_cedarling_authz_request(env)?
+        let deadline = request_wrapper.deadline(env)?;
+        (deadline,request_wrapper.as_cedarling_authz_request(env)?)
     };
+    let marshalling = marshalling_started.elapsed();
+    deadline.check("while marshalling the request")?;
 
-    let authz_result = {
+    let waiting_started = Instant::now();
+    let (authz_result,phase_timings) = {
 
-        let mut guard: MutexGuard<'_,Cedarling> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
-        let cedarling: &mut Cedarling = &mut guard;
-        cedarling.authorize(request)?
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        let waiting = waiting_started.elapsed();
+        deadline.check("while waiting for the cedarling instance")?;
+        let instance: &mut CedarlingInstance = &mut guard;
+        *charge_to = Some(instance.memory.clone());
+        if instance.noop {
+            let started = Instant::now();
+            let result = noop_authorize_result(&request);
+            (result,PhaseTimings { marshalling, waiting, evaluation: started.elapsed() })
+        } else {
+            let shadow_request = match &instance.shadow {
+                Some(shadow) if shadow.should_sample() => Some(ShadowRequest::Signed(request.clone())),
+                _ => None
+            };
+            let digest = match &mut instance.negative_cache {
+                Some(cache) => {
+                    let digest = cache.digest(&request.tokens);
+                    if let Some(reason) = cache.check(digest,Instant::now()) {
+                        return Err(CedarlingBridgeError::NegativeCacheHit(reason));
+                    }
+                    Some(digest)
+                },
+                None => None
+            };
+            let started = Instant::now();
+            if instance.verifies_tokens {
+                if let Err(err) = instance.sessions.verify(&request.tokens) {
+                    if let (Some(cache),Some(digest)) = (&mut instance.negative_cache,digest) {
+                        cache.record_rejection(digest,err.to_string(),Instant::now());
+                    }
+                    return Err(err);
+                }
+            }
+            let result = match instance.cedarling.authorize(request) {
+                Ok(result) => result,
+                Err(err) => {
+                    if let (Some(cache),Some(digest)) = (&mut instance.negative_cache,digest) {
+                        cache.record(digest,&err,Instant::now());
+                    }
+                    return Err(err.into());
+                }
+            };
+            let elapsed = started.elapsed();
+            instance.policy_stats.record(&result,elapsed);
+            submit_to_shadow(instance,shadow_request,&result,elapsed);
+            (result,PhaseTimings { marshalling, waiting, evaluation: elapsed })
+        }
     };
-    
-    JavaAuthorizeResult::new(&authz_result)?.as_java_object(env)
+
+    JavaAuthorizeResult::new(&authz_result)?.with_phase_timings(phase_timings).as_java_object(env)
 }
 
 fn cedarling_authorize_unsigned<'local> (
     env: &mut JNIEnv<'local>,
     cedarling_obj: JObject<'local>,
-    unsigned_request_obj: JObject<'local>
+    unsigned_request_obj: JObject<'local>,
+    session_obj: Option<&JObject<'local>>,
+    charge_to: &mut Option<Arc<MemoryCounter>>
 ) -> Result<JObject<'local>> {
 
-    let request: RequestUnsigned = {
+    let marshalling_started = Instant::now();
+    let (deadline,mut request): (Deadline,RequestUnsigned) = {
         let request_wrapper = JavaAuthorizeRequestUnsigned::new(unsigned_request_obj)?.ok_or_else(
             || CedarlingBridgeError::GenericError("Java unsigned authz request cannot be null".to_string()) 
         )?;
-        request_wrapper.as_cedarling_authz_request_unsigned(env)?
+        let deadline = request_wrapper.deadline(env)?;
+        (deadline,request_wrapper.as_cedarling_authz_request_unsigned(env)?)
     };
+    if let Some(session_obj) = session_obj {
+        let session: MutexGuard<'_,TokenSession> = unsafe { env.get_rust_field(session_obj,TOKEN_SESSION_REF_FIELD)? };
+        request.principals = session.principals.clone();
+    }
+    let marshalling = marshalling_started.elapsed();
+    deadline.check("while marshalling the request")?;
 
-    let authz_result = {
+    let waiting_started = Instant::now();
+    let (authz_result,phase_timings) = {
 
-        let mut guard: MutexGuard<'_,Cedarling> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
-        let cedarling: &mut Cedarling = &mut guard;
-        cedarling.authorize_unsigned(request)?
+        let mut guard: MutexGuard<'_,CedarlingInstance> = unsafe { env.get_rust_field(cedarling_obj,CEDARLING_INTERNAL_REF_FIELD)? };
+        let waiting = waiting_started.elapsed();
+        deadline.check("while waiting for the cedarling instance")?;
+        let instance: &mut CedarlingInstance = &mut guard;
+        *charge_to = Some(instance.memory.clone());
+        if instance.noop {
+            let started = Instant::now();
+            let result = noop_authorize_unsigned_result(&request);
+            (result,PhaseTimings { marshalling, waiting, evaluation: started.elapsed() })
+        } else {
+            let shadow_request = match &instance.shadow {
+                Some(shadow) if shadow.should_sample() => Some(ShadowRequest::Unsigned(request.clone())),
+                _ => None
+            };
+            let started = Instant::now();
+            let result = instance.cedarling.authorize_unsigned(request)?;
+            let elapsed = started.elapsed();
+            instance.policy_stats.record(&result,elapsed);
+            submit_to_shadow(instance,shadow_request,&result,elapsed);
+            (result,PhaseTimings { marshalling, waiting, evaluation: elapsed })
+        }
     };
 
-    JavaAuthorizeResult::new(&authz_result)?.as_java_object(env)
-}
\ No newline at end of file
+    JavaAuthorizeResult::new(&authz_result)?.with_phase_timings(phase_timings).as_java_object(env)
+}
+
+fn submit_to_shadow(
+    instance: &CedarlingInstance,
+    shadow_request: Option<ShadowRequest>,
+    primary_result: &AuthorizeResult,
+    primary_latency: Duration
+) {
+
+    if let (Some(shadow),Some(request)) = (&instance.shadow,shadow_request) {
+        shadow.submit(request,&primary_result.request_id,primary_result.decision,primary_latency);
+    }
+}
@@ -9,7 +9,7 @@ use jni::objects::{JMethodID,JObject};
 use crate::{Result,CedarlingBridgeError};
 use crate::jni::{JniCache,JavaFile};
 use crate::config::{JavaPolicyStoreSource};
-use crate::jni::util::{call_jni_object_method,call_jni_string_method,require_some};
+use crate::jni::util::{call_jni_object_method,call_jni_string_method,direct_buffer_to_native_string,require_some};
 
 use std::path::{Path,PathBuf};
 use std::sync::{Mutex,LazyLock};
@@ -22,13 +22,16 @@ const JAVA_METHOD_NAME_GET_DATA: &str = "getData";
 const JAVA_METHOD_SIG_GET_DATA: &str = "()Ljava/lang/String;";
 const JAVA_METHOD_NAME_GET_DATA_PATH: &str = "getDataPath";
 const JAVA_METHOD_SIG_GET_DATA_PATH: &str = "()Ljava/io/File;";
+const JAVA_METHOD_NAME_GET_DATA_BUFFER: &str = "getDataBuffer";
+const JAVA_METHOD_SIG_GET_DATA_BUFFER: &str = "()Ljava/nio/ByteBuffer;";
 
 
 pub (crate) struct JavaPolicyStoreConfig <'local> {
     jobj: JObject<'local>,
     get_source_method: JMethodID,
     get_data_method: JMethodID,
-    get_data_path_method: JMethodID
+    get_data_path_method: JMethodID,
+    get_data_buffer_method: JMethodID
 }
 
 static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
@@ -62,6 +65,13 @@ impl <'local> JavaPolicyStoreConfig <'local> {
             JAVA_CLS_NAME,
             JAVA_METHOD_NAME_GET_DATA_PATH,
             JAVA_METHOD_SIG_GET_DATA_PATH
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DATA_BUFFER,
+            JAVA_METHOD_SIG_GET_DATA_BUFFER
         )
     }
 
@@ -94,12 +104,19 @@ impl <'local> JavaPolicyStoreConfig <'local> {
             JAVA_METHOD_SIG_GET_DATA_PATH
         );
 
+        let get_data_buffer_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_GET_DATA_BUFFER,
+            JAVA_METHOD_SIG_GET_DATA_BUFFER
+        );
+
         Ok (
             Some( JavaPolicyStoreConfig {
                 jobj: jobj,
                 get_source_method: cache.get_instance_method(&get_source_key)?,
                 get_data_method: cache.get_instance_method(&get_data_key)?,
-                get_data_path_method: cache.get_instance_method(&get_data_path_key)?
+                get_data_path_method: cache.get_instance_method(&get_data_path_key)?,
+                get_data_buffer_method: cache.get_instance_method(&get_data_buffer_key)?
             })
         )
     }
@@ -110,7 +127,11 @@ impl <'local> JavaPolicyStoreConfig <'local> {
     ) -> Result<PolicyStoreConfig> {
 
         let policy_store_source = { require_some(self.get_source(env)?,JAVA_CLS_NAME,"source")? };
-        let opt_data = self.get_data(env)?;
+        // buffer backed stores are read straight from the buffer, without going through a java string
+        let opt_data = match self.get_data(env)? {
+            Some(data) => Some(data),
+            None => self.get_data_buffer(env)?
+        };
         let opt_data_path = self.get_data_path(env)?;
 
         let data_fn = || -> Result<String> { require_some(opt_data,JAVA_CLS_NAME,"source") };
@@ -149,6 +170,16 @@ impl <'local> JavaPolicyStoreConfig <'local> {
         call_jni_string_method(env,&self.jobj,method,&[])
     }
 
+    fn get_data_buffer (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<Option<String>> {
+
+        let method: &JMethodID = &self.get_data_buffer_method;
+        let buffer_obj = call_jni_object_method(env,&self.jobj,method,&[])?;
+        direct_buffer_to_native_string(env,&buffer_obj)
+    }
+
     fn get_data_path (
         &self,
         env: &mut JNIEnv<'local>
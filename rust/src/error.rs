@@ -39,5 +39,20 @@ pub (crate) enum CedarlingBridgeError {
     CacheMutexError(#[from] std::sync::PoisonError<std::sync::MutexGuard<'static,crate::jni::JniCache>>),
 
     #[error(transparent)]
-    UrlParseError(#[from] url::ParseError)
+    UrlParseError(#[from] url::ParseError),
+
+    #[error("Authorization request deadline exceeded {phase}")]
+    DeadlineExceeded{ phase: &'static str },
+
+    #[error("Token session cannot be opened: {0}")]
+    TokenSessionError(String),
+
+    #[error("Token rejected: {0}")]
+    TokenRejected(String),
+
+    #[error("Tokens recently rejected: {0}")]
+    NegativeCacheHit(String),
+
+    #[error("Tenant `{0}` is not registered")]
+    UnknownTenant(String)
 }
\ No newline at end of file
@@ -6,7 +6,7 @@
 use crate::{Result,CedarlingBridgeError};
 use crate::jni::{JniCache};
 use jni::JNIEnv;
-use jni::objects::{JClass,JMethodID,JObject,JStaticFieldID,JString};
+use jni::objects::{JByteBuffer,JClass,JMethodID,JObject,JStaticFieldID,JString};
 use jni::signature::{JavaType,ReturnType,Primitive};
 use jni::sys::{jint,jlong,jvalue};
 use std::sync::{Mutex,LazyLock};
@@ -14,6 +14,7 @@ use std::sync::{Mutex,LazyLock};
 const CEDARLING_ERROR_CLSNAME: &str = "io/jans/cedarling/bridge/config/CedarlingError";
 const CEDARLING_CONFIGURATION_ERROR_CLSNAME: &str = "io/jans/cedarling/bridge/config/CedarlingConfigurationError";
 const CEDARLING_AUTHORIZATION_ERROR_CLSNAME: &str = "io/jans/cedarling/bridge/authz/CedarlingAuthorizationError";
+const CEDARLING_TIMEOUT_ERROR_CLSNAME: &str = "io/jans/cedarling/bridge/authz/CedarlingTimeoutError";
 const JAVA_OBJECT_CLSNAME: &str = "java/lang/Object";
 const JAVA_OBJECT_METHOD_NAME_TO_STRING: &str = "toString";
 
@@ -167,6 +168,27 @@ pub (crate) fn java_string_to_native_string<'local> (
     Ok(Some(str))
 }
 
+/// Copies the content of a direct `ByteBuffer`, from its start to its capacity, into a native string.
+/// The bytes must be UTF-8 encoded
+pub (crate) fn direct_buffer_to_native_string<'local> (
+    env: &mut JNIEnv<'local>,
+    buffer: &JObject<'local>
+) -> Result<Option<String>> {
+
+    if buffer.is_null() {
+
+        return Ok(None)
+    }
+
+    let buffer_obj = unsafe { JByteBuffer::from_raw(buffer.as_raw()) };
+    let address = env.get_direct_buffer_address(&buffer_obj)?;
+    let capacity = env.get_direct_buffer_capacity(&buffer_obj)?;
+    let bytes: &[u8] = if capacity == 0 { &[] } else { unsafe { std::slice::from_raw_parts(address,capacity) } };
+    let str = std::str::from_utf8(bytes)
+        .map_err(|e| CedarlingBridgeError::GenericError(format!("Buffer content is not UTF-8 encoded. {}",e)))?;
+    Ok(Some(str.to_owned()))
+}
+
 pub (crate) fn call_jni_method_to_string<'local> (
     env: &mut JNIEnv<'local>,
     obj: &JObject<'local>
@@ -219,6 +241,13 @@ pub (crate) fn throw_cedarling_authorization_error<'local> (
     Ok(env.throw_new(CEDARLING_AUTHORIZATION_ERROR_CLSNAME,message)?)
 }
 
+pub (crate) fn throw_cedarling_timeout_error<'local> (
+    env: &mut JNIEnv<'local>,
+    message: &str
+) -> Result<()> {
+    Ok(env.throw_new(CEDARLING_TIMEOUT_ERROR_CLSNAME,message)?)
+}
+
 
 pub (crate) fn require_some<T> (
     val: Option<T>,
@@ -9,6 +9,15 @@ pub (crate) mod cedarling;
 pub (crate) mod jni;
 pub (crate) mod error;
 pub (crate) mod cedar_policy;
+pub (crate) mod memory;
+pub (crate) mod shadow;
+pub (crate) mod stats;
+#[cfg(feature = "bench")]
+pub mod bench;
 
 pub (crate) use error::CedarlingBridgeError as CedarlingBridgeError;
 pub (crate) type Result<T> = core::result::Result<T,CedarlingBridgeError>;
+
+#[cfg(feature = "memory-accounting")]
+#[global_allocator]
+static GLOBAL_ALLOCATOR: memory::CountingAllocator = memory::CountingAllocator;
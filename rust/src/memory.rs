@@ -0,0 +1,149 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+//! Native memory accounting
+//!
+//! Accounting is opt-in, with the `memory-accounting` feature, as it puts a thread local lookup and an update
+//! of a shared counter on every allocation. Without it, the library allocates with the system allocator and
+//! every counter reads `0`.
+//!
+//! With it, every allocation made by the library goes through [`CountingAllocator`], which keeps a
+//! process wide byte count and, when a [`MemoryScope`] is active on the current thread,
+//! charges the allocation to the scope's [`MemoryCounter`]. Cedarling instances enter their
+//! counter's scope while building and while evaluating requests, so the counter tracks the
+//! bytes the instance retained (engine, policy store, in-memory logs).
+//! Allocations made by threads the engine spawns internally are only reflected in the
+//! process wide count. Authorization calls are charged with [`charged_call`], so that what a
+//! call allocates and releases, the request it marshalled included, cancels out.
+
+#[cfg(feature = "memory-accounting")]
+use std::alloc::{GlobalAlloc,Layout,System};
+use std::cell::Cell;
+use std::marker::PhantomData;
+use std::ptr;
+use std::sync::Arc;
+use std::sync::atomic::{AtomicI64,Ordering};
+
+/// Whether the library was built with memory accounting
+pub (crate) const ACCOUNTED: bool = cfg!(feature = "memory-accounting");
+
+static TOTAL_ALLOCATED: AtomicI64 = AtomicI64::new(0);
+
+thread_local! {
+    static CURRENT_COUNTER: Cell<*const AtomicI64> = const { Cell::new(ptr::null()) };
+}
+
+#[cfg(feature = "memory-accounting")]
+pub (crate) struct CountingAllocator;
+
+#[cfg(feature = "memory-accounting")]
+unsafe impl GlobalAlloc for CountingAllocator {
+
+    unsafe fn alloc(&self, layout: Layout) -> *mut u8 {
+
+        let ret = System.alloc(layout);
+        if !ret.is_null() {
+            record(layout.size() as i64);
+        }
+        ret
+    }
+
+    unsafe fn alloc_zeroed(&self, layout: Layout) -> *mut u8 {
+
+        let ret = System.alloc_zeroed(layout);
+        if !ret.is_null() {
+            record(layout.size() as i64);
+        }
+        ret
+    }
+
+    unsafe fn dealloc(&self, ptr: *mut u8, layout: Layout) {
+
+        System.dealloc(ptr,layout);
+        record(-(layout.size() as i64));
+    }
+
+    unsafe fn realloc(&self, ptr: *mut u8, layout: Layout, new_size: usize) -> *mut u8 {
+
+        let ret = System.realloc(ptr,layout,new_size);
+        if !ret.is_null() {
+            record(new_size as i64 - layout.size() as i64);
+        }
+        ret
+    }
+}
+
+#[cfg(feature = "memory-accounting")]
+fn record(delta: i64) {
+
+    TOTAL_ALLOCATED.fetch_add(delta,Ordering::Relaxed);
+    // try_with: the thread local may already be gone while the thread is being torn down
+    let _ = CURRENT_COUNTER.try_with(|current| {
+        let counter = current.get();
+        if !counter.is_null() {
+            unsafe { (*counter).fetch_add(delta,Ordering::Relaxed) };
+        }
+    });
+}
+
+/// Bytes currently held by the library, across all instances
+pub (crate) fn total_allocated() -> i64 {
+
+    TOTAL_ALLOCATED.load(Ordering::Relaxed).max(0)
+}
+
+#[derive(Default)]
+pub (crate) struct MemoryCounter {
+    retained: AtomicI64
+}
+
+impl MemoryCounter {
+
+    /// Bytes allocated and not yet released while this counter's scope was active
+    pub fn retained(&self) -> i64 {
+
+        self.retained.load(Ordering::Relaxed).max(0)
+    }
+
+    /// Charges allocations made by the current thread to this counter until the scope is dropped
+    pub fn enter(&self) -> MemoryScope<'_> {
+
+        let counter: *const AtomicI64 = &self.retained;
+        let previous = CURRENT_COUNTER.with(|current| current.replace(counter));
+        MemoryScope { previous, _counter: PhantomData }
+    }
+}
+
+/// Runs a native call in a scope of its own, then charges what the call retained to the counter it designated,
+/// if any. Allocations made and released within the call, e.g. the request marshalled before the counter is
+/// known and released by the engine, or the result converted and released once the counter's owner is released,
+/// cancel out instead of drifting the counter
+pub (crate) fn charged_call<R>(call: impl FnOnce(&mut Option<Arc<MemoryCounter>>) -> R) -> R {
+
+    let counter = MemoryCounter::default();
+    let mut charge_to: Option<Arc<MemoryCounter>> = None;
+    let ret = {
+        let _scope = counter.enter();
+        call(&mut charge_to)
+    };
+    if let Some(charge_to) = charge_to {
+        charge_to.retained.fetch_add(counter.retained.load(Ordering::Relaxed),Ordering::Relaxed);
+    }
+    ret
+}
+
+pub (crate) struct MemoryScope<'a> {
+    previous: *const AtomicI64,
+    _counter: PhantomData<&'a MemoryCounter>
+}
+
+impl Drop for MemoryScope<'_> {
+
+    fn drop(&mut self) {
+
+        let previous = self.previous;
+        let _ = CURRENT_COUNTER.try_with(|current| current.set(previous));
+    }
+}
@@ -0,0 +1,250 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use cedarling::{Request,RequestUnsigned};
+use cedarling::blocking::Cedarling;
+use crate::{Result,CedarlingBridgeError};
+use crate::memory::MemoryCounter;
+use std::collections::VecDeque;
+use std::sync::{Arc,Mutex,MutexGuard};
+use std::sync::atomic::{AtomicBool,AtomicU64,Ordering};
+use std::sync::mpsc::{self,Receiver,SyncSender,TrySendError};
+use std::thread::{self,JoinHandle};
+use std::time::{Duration,Instant};
+
+const SHADOW_THREAD_NAME: &str = "cedarling4j-shadow";
+
+/// Request replayed against the shadow policy store
+pub (crate) enum ShadowRequest {
+    Signed(Request),
+    Unsigned(RequestUnsigned)
+}
+
+struct ShadowJob {
+    request: ShadowRequest,
+    request_id: String,
+    primary_decision: bool,
+    primary_latency: Duration
+}
+
+/// Outcome of a single shadow evaluation
+#[derive(Clone)]
+pub (crate) struct ShadowSample {
+    pub request_id: String,
+    pub primary_decision: bool,
+    pub shadow_decision: Option<bool>,
+    pub primary_nanos: i64,
+    pub shadow_nanos: i64,
+    pub error: Option<String>
+}
+
+/// Point in time copy of a shadow evaluator's counters and most recent samples
+pub (crate) struct ShadowSnapshot {
+    pub sampled: i64,
+    pub evaluated: i64,
+    pub dropped: i64,
+    pub mismatches: i64,
+    pub errors: i64,
+    pub primary_nanos_total: i64,
+    pub shadow_nanos_total: i64,
+    pub samples: Vec<ShadowSample>
+}
+
+struct ShadowStats {
+    evaluated: i64,
+    mismatches: i64,
+    errors: i64,
+    primary_nanos_total: i64,
+    shadow_nanos_total: i64,
+    samples: VecDeque<ShadowSample>,
+    max_samples: usize
+}
+
+impl ShadowStats {
+
+    fn record(&mut self, sample: ShadowSample) {
+
+        self.evaluated += 1;
+        if sample.error.is_some() {
+            self.errors += 1;
+        }
+        if sample.shadow_decision.is_some_and(|decision| decision != sample.primary_decision) {
+            self.mismatches += 1;
+        }
+        self.primary_nanos_total = self.primary_nanos_total.saturating_add(sample.primary_nanos);
+        self.shadow_nanos_total = self.shadow_nanos_total.saturating_add(sample.shadow_nanos);
+        if self.samples.len() == self.max_samples {
+            self.samples.pop_front();
+        }
+        self.samples.push_back(sample);
+    }
+}
+
+/// Evaluates a sample of an instance's authorization requests against a second policy store
+///
+/// Sampled requests are queued to a dedicated thread which owns the shadow engine, so shadow
+/// evaluations never add latency to the primary one. When the queue is full, sampled requests
+/// are dropped rather than waited for. Sampling is deterministic: exactly `floor(n * sample_rate)`
+/// of the first `n` requests are sampled, evenly spread.
+pub (crate) struct ShadowEvaluator {
+    sender: Option<SyncSender<ShadowJob>>,
+    worker: Option<JoinHandle<()>>,
+    closing: Arc<AtomicBool>,
+    stats: Arc<Mutex<ShadowStats>>,
+    sample_rate: f64,
+    calls: AtomicU64,
+    sampled: AtomicU64,
+    dropped: AtomicU64
+}
+
+impl ShadowEvaluator {
+
+    pub fn start(
+        cedarling: Cedarling,
+        memory: Arc<MemoryCounter>,
+        sample_rate: f64,
+        max_samples: usize,
+        queue_capacity: usize
+    ) -> Result<Self> {
+
+        let (sender,receiver) = mpsc::sync_channel::<ShadowJob>(queue_capacity);
+        let closing = Arc::new(AtomicBool::new(false));
+        let stats = Arc::new(Mutex::new(ShadowStats {
+            evaluated: 0,
+            mismatches: 0,
+            errors: 0,
+            primary_nanos_total: 0,
+            shadow_nanos_total: 0,
+            samples: VecDeque::with_capacity(max_samples),
+            max_samples
+        }));
+
+        let worker_closing = closing.clone();
+        let worker_stats = stats.clone();
+        let worker = thread::Builder::new()
+            .name(SHADOW_THREAD_NAME.to_string())
+            .spawn(move || run_worker(cedarling,memory,receiver,worker_closing,worker_stats))
+            .map_err(|e| CedarlingBridgeError::GenericError(format!("Could not start shadow evaluation thread. {}",e)))?;
+
+        Ok(ShadowEvaluator {
+            sender: Some(sender),
+            worker: Some(worker),
+            closing,
+            stats,
+            sample_rate,
+            calls: AtomicU64::new(0),
+            sampled: AtomicU64::new(0),
+            dropped: AtomicU64::new(0)
+        })
+    }
+
+    /// Tells whether the next request should be evaluated against the shadow
+    pub fn should_sample(&self) -> bool {
+
+        let n = self.calls.fetch_add(1,Ordering::Relaxed) as f64;
+        ((n + 1.0) * self.sample_rate).floor() > (n * self.sample_rate).floor()
+    }
+
+    /// Queues a sampled request for shadow evaluation, along with the outcome of its primary evaluation
+    pub fn submit(&self, request: ShadowRequest, request_id: &str, primary_decision: bool, primary_latency: Duration) {
+
+        self.sampled.fetch_add(1,Ordering::Relaxed);
+        let job = ShadowJob {
+            request,
+            request_id: request_id.to_string(),
+            primary_decision,
+            primary_latency
+        };
+        let submitted = match &self.sender {
+            Some(sender) => match sender.try_send(job) {
+                Ok(()) => true,
+                Err(TrySendError::Full(_)) | Err(TrySendError::Disconnected(_)) => false
+            },
+            None => false
+        };
+        if !submitted {
+            self.dropped.fetch_add(1,Ordering::Relaxed);
+        }
+    }
+
+    pub fn snapshot(&self) -> ShadowSnapshot {
+
+        let stats = lock_stats(&self.stats);
+        ShadowSnapshot {
+            sampled: self.sampled.load(Ordering::Relaxed) as i64,
+            evaluated: stats.evaluated,
+            dropped: self.dropped.load(Ordering::Relaxed) as i64,
+            mismatches: stats.mismatches,
+            errors: stats.errors,
+            primary_nanos_total: stats.primary_nanos_total,
+            shadow_nanos_total: stats.shadow_nanos_total,
+            samples: stats.samples.iter().cloned().collect()
+        }
+    }
+}
+
+impl Drop for ShadowEvaluator {
+
+    fn drop(&mut self) {
+
+        // pending jobs are skipped, the worker only finishes the evaluation in progress
+        self.closing.store(true,Ordering::Relaxed);
+        drop(self.sender.take());
+        if let Some(worker) = self.worker.take() {
+            let _ = worker.join();
+        }
+    }
+}
+
+fn run_worker(
+    cedarling: Cedarling,
+    memory: Arc<MemoryCounter>,
+    receiver: Receiver<ShadowJob>,
+    closing: Arc<AtomicBool>,
+    stats: Arc<Mutex<ShadowStats>>
+) {
+
+    // the shadow engine is charged to the instance it shadows, and is dropped within the scope
+    let _scope = memory.enter();
+    let shadow = cedarling;
+
+    for job in receiver.iter() {
+
+        if closing.load(Ordering::Relaxed) {
+            continue;
+        }
+        let started = Instant::now();
+        let outcome = match job.request {
+            ShadowRequest::Signed(request) => shadow.authorize(request),
+            ShadowRequest::Unsigned(request) => shadow.authorize_unsigned(request)
+        };
+        let shadow_nanos = nanos(started.elapsed());
+
+        let (shadow_decision,error) = match outcome {
+            Ok(result) => (Some(result.decision),None),
+            Err(err) => (None,Some(err.to_string()))
+        };
+        lock_stats(&stats).record(ShadowSample {
+            request_id: job.request_id,
+            primary_decision: job.primary_decision,
+            shadow_decision,
+            primary_nanos: nanos(job.primary_latency),
+            shadow_nanos,
+            error
+        });
+    }
+    drop(shadow);
+}
+
+fn lock_stats(stats: &Mutex<ShadowStats>) -> MutexGuard<'_,ShadowStats> {
+
+    // a panic while recording leaves the counters usable
+    stats.lock().unwrap_or_else(|poisoned| poisoned.into_inner())
+}
+
+fn nanos(duration: Duration) -> i64 {
+
+    i64::try_from(duration.as_nanos()).unwrap_or(i64::MAX)
+}
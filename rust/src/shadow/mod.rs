@@ -0,0 +1,21 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+pub (crate) mod evaluator;
+pub (crate) mod shadow_report;
+
+pub (crate) use evaluator::ShadowEvaluator as ShadowEvaluator;
+pub (crate) use evaluator::ShadowRequest as ShadowRequest;
+pub (crate) use shadow_report::JavaShadowReport as JavaShadowReport;
+
+use jni::JNIEnv;
+use crate::{Result};
+
+pub (crate) fn jni_cache_init<'local> (
+    env: &mut JNIEnv<'local>
+) -> Result<()> {
+
+    JavaShadowReport::jni_cache_init(env)
+}
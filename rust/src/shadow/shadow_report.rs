@@ -0,0 +1,171 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use crate::{Result};
+use crate::jni::{JniCache};
+use crate::jni::util::*;
+use crate::shadow::evaluator::{ShadowSample,ShadowSnapshot};
+use jni::JNIEnv;
+use jni::objects::{JClass,JMethodID,JObject};
+use jni::sys::{jvalue};
+
+use std::sync::{Mutex,LazyLock};
+
+const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/shadow/ShadowReport";
+
+const JAVA_CLS_CTOR: &str = "<init>";
+const JAVA_CLS_CTOR_SIG: &str = "()V";
+
+const JAVA_METHOD_NAME_SET_COUNTERS: &str = "setCounters";
+const JAVA_METHOD_SIG_SET_COUNTERS: &str = "(JJJJJJJ)V";
+
+const JAVA_METHOD_NAME_ADD_SAMPLE: &str = "addSample";
+const JAVA_METHOD_SIG_ADD_SAMPLE: &str = "(Ljava/lang/String;ZZZJJLjava/lang/String;)V";
+
+static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
+
+pub (crate) struct JavaShadowReport <'r> {
+
+    snapshot: &'r ShadowSnapshot,
+    ctor_method: JMethodID,
+    set_counters_method: JMethodID,
+    add_sample_method: JMethodID
+}
+
+impl <'r> JavaShadowReport <'r> {
+
+    pub fn jni_cache_init<'local> (
+        env: &mut JNIEnv<'local>
+    ) -> Result<()> {
+
+        let mut cache = LOCAL_JNI_CACHE.lock()?;
+
+        cache.add_class (
+            env,
+            JAVA_CLS_NAME
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_COUNTERS,
+            JAVA_METHOD_SIG_SET_COUNTERS
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_ADD_SAMPLE,
+            JAVA_METHOD_SIG_ADD_SAMPLE
+        )
+    }
+
+    pub fn new (
+        snapshot: &'r ShadowSnapshot
+    ) -> Result<JavaShadowReport<'r>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+
+        let ctor_key = (
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        );
+
+        let set_counters_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_COUNTERS,
+            JAVA_METHOD_SIG_SET_COUNTERS
+        );
+
+        let add_sample_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_ADD_SAMPLE,
+            JAVA_METHOD_SIG_ADD_SAMPLE
+        );
+
+        Ok(JavaShadowReport {
+            snapshot: snapshot,
+            ctor_method: cache.get_instance_method(&ctor_key)?,
+            set_counters_method: cache.get_instance_method(&set_counters_key)?,
+            add_sample_method: cache.get_instance_method(&add_sample_key)?
+        })
+    }
+
+    pub fn as_java_object<'local> (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<JObject<'local>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+        let class: JClass<'local> = cache.get_class(env,JAVA_CLS_NAME)?;
+        let obj = call_jni_object_constructor(env,&class,&self.ctor_method,&[])?;
+
+        self.set_counters(env,&obj)?;
+        for sample in &self.snapshot.samples {
+            self.add_sample(env,&obj,sample)?;
+        }
+
+        Ok(obj)
+    }
+
+    fn set_counters<'local> (
+        &self,
+        env: &mut JNIEnv<'local>,
+        report_obj: &JObject<'local>
+    ) -> Result<()> {
+
+        let s = self.snapshot;
+        let args: [jvalue; 7] = [
+            jvalue{ j: s.sampled },
+            jvalue{ j: s.evaluated },
+            jvalue{ j: s.dropped },
+            jvalue{ j: s.mismatches },
+            jvalue{ j: s.errors },
+            jvalue{ j: s.primary_nanos_total },
+            jvalue{ j: s.shadow_nanos_total }
+        ];
+        call_jni_void_method(env,report_obj,&self.set_counters_method,&args)
+    }
+
+    fn add_sample<'local> (
+        &self,
+        env: &mut JNIEnv<'local>,
+        report_obj: &JObject<'local>,
+        sample: &ShadowSample
+    ) -> Result<()> {
+
+        let request_id_obj: JObject<'local> = env.new_string(&sample.request_id)?.into();
+        let error_obj: JObject<'local> = match &sample.error {
+            Some(err) => env.new_string(err)?.into(),
+            None => JObject::null()
+        };
+
+        let args: [jvalue; 7] = [
+            jvalue{ l: request_id_obj.as_raw() },
+            jvalue{ z: sample.primary_decision as u8 },
+            jvalue{ z: sample.shadow_decision.is_some() as u8 },
+            jvalue{ z: sample.shadow_decision.unwrap_or(false) as u8 },
+            jvalue{ j: sample.primary_nanos },
+            jvalue{ j: sample.shadow_nanos },
+            jvalue{ l: error_obj.as_raw() }
+        ];
+        let ret = call_jni_void_method(env,report_obj,&self.add_sample_method,&args);
+
+        // a report may hold many samples, don't let their strings pile up in the local frame
+        env.delete_local_ref(request_id_obj)?;
+        if !error_obj.is_null() {
+            env.delete_local_ref(error_obj)?;
+        }
+        ret
+    }
+}
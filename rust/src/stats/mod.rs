@@ -0,0 +1,33 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+pub (crate) mod policy_stats;
+pub (crate) mod negative_cache_statistics;
+pub (crate) mod policy_statistics;
+pub (crate) mod startup_timings;
+pub (crate) mod status_list_statistics;
+pub (crate) mod tenant_memory_usage;
+
+pub (crate) use policy_stats::PolicyStats as PolicyStats;
+pub (crate) use negative_cache_statistics::JavaNegativeCacheStatistics as JavaNegativeCacheStatistics;
+pub (crate) use policy_statistics::JavaPolicyStatistics as JavaPolicyStatistics;
+pub (crate) use startup_timings::JavaStartupTimings as JavaStartupTimings;
+pub (crate) use startup_timings::StartupTimings as StartupTimings;
+pub (crate) use status_list_statistics::JavaStatusListStatistics as JavaStatusListStatistics;
+pub (crate) use tenant_memory_usage::JavaTenantMemoryUsage as JavaTenantMemoryUsage;
+
+use jni::JNIEnv;
+use crate::{Result};
+
+pub (crate) fn jni_cache_init<'local> (
+    env: &mut JNIEnv<'local>
+) -> Result<()> {
+
+    JavaNegativeCacheStatistics::jni_cache_init(env)?;
+    JavaPolicyStatistics::jni_cache_init(env)?;
+    JavaStartupTimings::jni_cache_init(env)?;
+    JavaStatusListStatistics::jni_cache_init(env)?;
+    JavaTenantMemoryUsage::jni_cache_init(env)
+}
@@ -0,0 +1,105 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use crate::{Result};
+use crate::authz::negative_cache::NegativeCacheCounters;
+use crate::jni::{JniCache};
+use crate::jni::util::*;
+use jni::JNIEnv;
+use jni::objects::{JClass,JMethodID,JObject};
+use jni::sys::{jvalue};
+
+use std::sync::{Mutex,LazyLock};
+
+const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/stats/NegativeCacheStatistics";
+
+const JAVA_CLS_CTOR: &str = "<init>";
+const JAVA_CLS_CTOR_SIG: &str = "()V";
+
+const JAVA_METHOD_NAME_SET_COUNTERS: &str = "setCounters";
+const JAVA_METHOD_SIG_SET_COUNTERS: &str = "(JJJJ)V";
+
+static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
+
+pub (crate) struct JavaNegativeCacheStatistics {
+
+    counters: NegativeCacheCounters,
+    ctor_method: JMethodID,
+    set_counters_method: JMethodID
+}
+
+impl JavaNegativeCacheStatistics {
+
+    pub fn jni_cache_init<'local> (
+        env: &mut JNIEnv<'local>
+    ) -> Result<()> {
+
+        let mut cache = LOCAL_JNI_CACHE.lock()?;
+
+        cache.add_class (
+            env,
+            JAVA_CLS_NAME
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_COUNTERS,
+            JAVA_METHOD_SIG_SET_COUNTERS
+        )
+    }
+
+    pub fn new (
+        counters: NegativeCacheCounters
+    ) -> Result<JavaNegativeCacheStatistics> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+
+        let ctor_key = (
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        );
+
+        let set_counters_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_COUNTERS,
+            JAVA_METHOD_SIG_SET_COUNTERS
+        );
+
+        Ok(JavaNegativeCacheStatistics {
+            counters: counters,
+            ctor_method: cache.get_instance_method(&ctor_key)?,
+            set_counters_method: cache.get_instance_method(&set_counters_key)?
+        })
+    }
+
+    pub fn as_java_object<'local> (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<JObject<'local>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+        let class: JClass<'local> = cache.get_class(env,JAVA_CLS_NAME)?;
+        let obj = call_jni_object_constructor(env,&class,&self.ctor_method,&[])?;
+
+        let counter = |value: u64| i64::try_from(value).unwrap_or(i64::MAX);
+        let args: [jvalue; 4] = [
+            jvalue{ j: counter(self.counters.hits) },
+            jvalue{ j: counter(self.counters.insertions) },
+            jvalue{ j: counter(self.counters.evictions) },
+            jvalue{ j: counter(self.counters.size) }
+        ];
+        call_jni_void_method(env,&obj,&self.set_counters_method,&args)?;
+        Ok(obj)
+    }
+}
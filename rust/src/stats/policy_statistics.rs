@@ -0,0 +1,145 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use crate::{Result};
+use crate::jni::{JniCache};
+use crate::jni::util::*;
+use crate::stats::policy_stats::{PolicyCounters,PolicyStats};
+use cedar_policy::PolicyId;
+use jni::JNIEnv;
+use jni::objects::{JClass,JMethodID,JObject};
+use jni::sys::{jvalue};
+
+use std::sync::{Mutex,LazyLock};
+
+const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/stats/PolicyStatistics";
+
+const JAVA_CLS_CTOR: &str = "<init>";
+const JAVA_CLS_CTOR_SIG: &str = "()V";
+
+const JAVA_METHOD_NAME_SET_EVALUATED_REQUESTS: &str = "setEvaluatedRequests";
+const JAVA_METHOD_SIG_SET_EVALUATED_REQUESTS: &str = "(J)V";
+
+const JAVA_METHOD_NAME_ADD_POLICY: &str = "addPolicy";
+const JAVA_METHOD_SIG_ADD_POLICY: &str = "(Ljava/lang/String;JJJ)V";
+
+static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
+
+pub (crate) struct JavaPolicyStatistics <'r> {
+
+    stats: &'r PolicyStats,
+    ctor_method: JMethodID,
+    set_evaluated_requests_method: JMethodID,
+    add_policy_method: JMethodID
+}
+
+impl <'r> JavaPolicyStatistics <'r> {
+
+    pub fn jni_cache_init<'local> (
+        env: &mut JNIEnv<'local>
+    ) -> Result<()> {
+
+        let mut cache = LOCAL_JNI_CACHE.lock()?;
+
+        cache.add_class (
+            env,
+            JAVA_CLS_NAME
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_EVALUATED_REQUESTS,
+            JAVA_METHOD_SIG_SET_EVALUATED_REQUESTS
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_ADD_POLICY,
+            JAVA_METHOD_SIG_ADD_POLICY
+        )
+    }
+
+    pub fn new (
+        stats: &'r PolicyStats
+    ) -> Result<JavaPolicyStatistics<'r>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+
+        let ctor_key = (
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        );
+
+        let set_evaluated_requests_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_EVALUATED_REQUESTS,
+            JAVA_METHOD_SIG_SET_EVALUATED_REQUESTS
+        );
+
+        let add_policy_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_ADD_POLICY,
+            JAVA_METHOD_SIG_ADD_POLICY
+        );
+
+        Ok(JavaPolicyStatistics {
+            stats: stats,
+            ctor_method: cache.get_instance_method(&ctor_key)?,
+            set_evaluated_requests_method: cache.get_instance_method(&set_evaluated_requests_key)?,
+            add_policy_method: cache.get_instance_method(&add_policy_key)?
+        })
+    }
+
+    pub fn as_java_object<'local> (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<JObject<'local>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+        let class: JClass<'local> = cache.get_class(env,JAVA_CLS_NAME)?;
+        let obj = call_jni_object_constructor(env,&class,&self.ctor_method,&[])?;
+
+        let args: [jvalue; 1] = [ jvalue{ j: self.stats.evaluated_requests } ];
+        call_jni_void_method(env,&obj,&self.set_evaluated_requests_method,&args)?;
+
+        for (policy_id,counters) in &self.stats.policies {
+            self.add_policy(env,&obj,policy_id,counters)?;
+        }
+
+        Ok(obj)
+    }
+
+    fn add_policy<'local> (
+        &self,
+        env: &mut JNIEnv<'local>,
+        stats_obj: &JObject<'local>,
+        policy_id: &PolicyId,
+        counters: &PolicyCounters
+    ) -> Result<()> {
+
+        let policy_id_obj: JObject<'local> = env.new_string(policy_id.to_string())?.into();
+        let args: [jvalue; 4] = [
+            jvalue{ l: policy_id_obj.as_raw() },
+            jvalue{ j: counters.determining },
+            jvalue{ j: counters.errors },
+            jvalue{ j: counters.attributed_nanos }
+        ];
+        let ret = call_jni_void_method(env,stats_obj,&self.add_policy_method,&args);
+
+        // stores may hold thousands of policies, don't let their ids pile up in the local frame
+        env.delete_local_ref(policy_id_obj)?;
+        ret
+    }
+}
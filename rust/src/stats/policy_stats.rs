@@ -0,0 +1,80 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use cedar_policy::{PolicyId,Response};
+use cedarling::AuthorizeResult;
+use std::collections::HashMap;
+use std::time::Duration;
+
+#[derive(Clone,Default)]
+pub (crate) struct PolicyCounters {
+    pub determining: i64,
+    pub errors: i64,
+    pub attributed_nanos: i64
+}
+
+/// Per policy hit counters of a cedarling instance
+///
+/// A request may be evaluated for several principals. A policy is counted at most once per
+/// request, whatever the number of principal decisions it took part in. The engine doesn't time
+/// policies individually, so each determining policy is attributed the whole evaluation time of
+/// the request.
+#[derive(Clone,Default)]
+pub (crate) struct PolicyStats {
+    pub evaluated_requests: i64,
+    pub policies: HashMap<PolicyId,PolicyCounters>
+}
+
+impl PolicyStats {
+
+    pub fn record(&mut self, result: &AuthorizeResult, elapsed: Duration) {
+
+        let elapsed_nanos = i64::try_from(elapsed.as_nanos()).unwrap_or(i64::MAX);
+        let mut determining: Vec<&PolicyId> = Vec::new();
+        let mut erroring: Vec<&PolicyId> = Vec::new();
+
+        let responses = result.workload.iter()
+            .chain(result.person.iter())
+            .chain(result.principals.values());
+        for response in responses {
+            collect_policies(response,&mut determining,&mut erroring);
+        }
+
+        self.evaluated_requests += 1;
+        for policy_id in determining {
+            let counters = self.counters_mut(policy_id);
+            counters.determining += 1;
+            counters.attributed_nanos = counters.attributed_nanos.saturating_add(elapsed_nanos);
+        }
+        for policy_id in erroring {
+            self.counters_mut(policy_id).errors += 1;
+        }
+    }
+
+    fn counters_mut(&mut self, policy_id: &PolicyId) -> &mut PolicyCounters {
+
+        // lookup first, so the policy id is only cloned the first time it's hit
+        if !self.policies.contains_key(policy_id) {
+            self.policies.insert(policy_id.clone(),PolicyCounters::default());
+        }
+        self.policies.get_mut(policy_id).expect("policy counters were just inserted")
+    }
+}
+
+fn collect_policies<'a>(response: &'a Response, determining: &mut Vec<&'a PolicyId>, erroring: &mut Vec<&'a PolicyId>) {
+
+    let diagnostics = response.diagnostics();
+    for policy_id in diagnostics.reason() {
+        if !determining.contains(&policy_id) {
+            determining.push(policy_id);
+        }
+    }
+    for error in diagnostics.errors() {
+        let policy_id = error.policy_id();
+        if !erroring.contains(&policy_id) {
+            erroring.push(policy_id);
+        }
+    }
+}
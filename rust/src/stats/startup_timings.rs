@@ -0,0 +1,119 @@
+// This software is available under the Apache-2.0 license.
+// See https://www.apache.org/licenses/LICENSE-2.0.txt for full text.
+//
+// Copyright (c) 2025, Gluu, Inc.
+
+use crate::{Result};
+use crate::jni::{JniCache};
+use crate::jni::util::*;
+use jni::JNIEnv;
+use jni::objects::{JClass,JMethodID,JObject};
+use jni::sys::{jvalue};
+
+use std::sync::{Mutex,LazyLock};
+use std::time::Duration;
+
+const JAVA_CLS_NAME: &str = "io/jans/cedarling/bridge/stats/StartupTimings";
+
+const JAVA_CLS_CTOR: &str = "<init>";
+const JAVA_CLS_CTOR_SIG: &str = "()V";
+
+const JAVA_METHOD_NAME_SET_TIMINGS: &str = "setTimings";
+const JAVA_METHOD_SIG_SET_TIMINGS: &str = "(JJJJ)V";
+
+static LOCAL_JNI_CACHE: LazyLock< Mutex<JniCache> > = LazyLock::new(|| Mutex::new(JniCache::new()));
+
+/// Time and memory spent creating a cedarling instance
+#[derive(Clone,Copy,Default)]
+pub (crate) struct StartupTimings {
+    /// conversion of the java bootstrap configuration
+    pub marshalling: Duration,
+    /// engine creation: policy store loading and parsing, schema validation
+    pub initialization: Duration,
+    /// native memory retained by the engine once created
+    pub memory: i64
+}
+
+pub (crate) struct JavaStartupTimings {
+
+    timings: StartupTimings,
+    construction_nanos: i64,
+    ctor_method: JMethodID,
+    set_timings_method: JMethodID
+}
+
+impl JavaStartupTimings {
+
+    pub fn jni_cache_init<'local> (
+        env: &mut JNIEnv<'local>
+    ) -> Result<()> {
+
+        let mut cache = LOCAL_JNI_CACHE.lock()?;
+
+        cache.add_class (
+            env,
+            JAVA_CLS_NAME
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        )?;
+
+        cache.add_instance_method (
+            env,
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_TIMINGS,
+            JAVA_METHOD_SIG_SET_TIMINGS
+        )
+    }
+
+    pub fn new (
+        timings: StartupTimings,
+        construction_nanos: i64
+    ) -> Result<JavaStartupTimings> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+
+        let ctor_key = (
+            JAVA_CLS_NAME,
+            JAVA_CLS_CTOR,
+            JAVA_CLS_CTOR_SIG
+        );
+
+        let set_timings_key = (
+            JAVA_CLS_NAME,
+            JAVA_METHOD_NAME_SET_TIMINGS,
+            JAVA_METHOD_SIG_SET_TIMINGS
+        );
+
+        Ok(JavaStartupTimings {
+            timings: timings,
+            construction_nanos: construction_nanos,
+            ctor_method: cache.get_instance_method(&ctor_key)?,
+            set_timings_method: cache.get_instance_method(&set_timings_key)?
+        })
+    }
+
+    pub fn as_java_object<'local> (
+        &self,
+        env: &mut JNIEnv<'local>
+    ) -> Result<JObject<'local>> {
+
+        let cache = LOCAL_JNI_CACHE.lock()?;
+        let class: JClass<'local> = cache.get_class(env,JAVA_CLS_NAME)?;
+        let obj = call_jni_object_constructor(env,&class,&self.ctor_method,&[])?;
+
+        let nanos = |d: Duration| i64::try_from(d.as_nanos()).unwrap_or(i64::MAX);
+        let args: [jvalue; 4] = [
+            jvalue{ j: nanos(self.timings.marshalling) },
+            jvalue{ j: nanos(self.timings.initialization) },
+            jvalue{ j: self.construction_nanos },
+            jvalue{ j: self.timings.memory }
+        ];
+        call_jni_void_method(env,&obj,&self.set_timings_method,&args)?;
+        Ok(obj)
+    }
+}